@@ -0,0 +1,51 @@
+package de.gemuesehasser.tictactoe.benchmark;
+
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Ein {@link BenchmarkLayout} beschreibt die Form eines Spielfeldes, auf dem die Benchmarks gemessen werden.
+ */
+public enum BenchmarkLayout {
+
+    //<editor-fold desc="VALUES">
+    /** Das klassische 3x3 Spielfeld mit drei Feldern in einer Reihe. */
+    CLASSIC(BoardLayout.CLASSIC),
+    /** Ein 7x7 Spielfeld mit vier Feldern in einer Reihe. */
+    SEVEN_FOUR(new BoardLayout(7, 4)),
+    /** Ein 15x15 Spielfeld mit fünf Feldern in einer Reihe. */
+    FIFTEEN_FIVE(new BoardLayout(15, 5));
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Form des Spielfeldes. */
+    @NotNull
+    private final BoardLayout layout;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt ein neues {@link BenchmarkLayout}.
+     *
+     * @param layout Die Form des Spielfeldes.
+     */
+    BenchmarkLayout(@NotNull final BoardLayout layout) {
+        this.layout = layout;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt die Form des Spielfeldes zurück.
+     *
+     * @return Die Form des Spielfeldes.
+     */
+    @NotNull
+    public BoardLayout getLayout() {
+        return this.layout;
+    }
+
+}
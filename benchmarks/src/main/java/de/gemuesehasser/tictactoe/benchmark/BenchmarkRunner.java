@@ -0,0 +1,63 @@
+package de.gemuesehasser.tictactoe.benchmark;
+
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Startet alle Benchmarks mit dem GC-Profiler, damit neben der Laufzeit auch die Allokationen pro Aufruf gemessen
+ * werden, und schreibt die Ergebnisse als JSON in eine Datei. So lassen sich die Ergebnisse zweier Versionen der
+ * Spiellogik maschinell miteinander vergleichen. Alle JMH-Optionen (z.B. ein Filter auf bestimmte Benchmarks oder
+ * {@code -p layout=CLASSIC}) können zusätzlich übergeben werden.
+ *
+ * <p>Aufruf: {@code mvn -f pom.xml install && mvn -f benchmarks/pom.xml package && java -jar
+ * benchmarks/target/benchmarks.jar [JMH-Optionen]}</p>
+ */
+public final class BenchmarkRunner {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Datei, in die die Ergebnisse geschrieben werden, sofern keine andere Datei übergeben wird. */
+    @NotNull
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Instanzen dieser Klasse werden nicht benötigt.
+     */
+    private BenchmarkRunner() {
+    }
+    //</editor-fold>
+
+
+    //<editor-fold desc="main">
+
+    /**
+     * Startet alle Benchmarks.
+     *
+     * @param args Zusätzliche JMH-Optionen.
+     *
+     * @throws RunnerException            Wenn die Benchmarks nicht ausgeführt werden konnten.
+     * @throws CommandLineOptionException Wenn die übergebenen Optionen ungültig sind.
+     */
+    public static void main(@NotNull final String @NotNull [] args) throws RunnerException, CommandLineOptionException {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+        new Runner(new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(commandLineOptions.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(commandLineOptions.getResult().orElse(DEFAULT_RESULT_FILE))
+                .build()
+        ).run();
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,95 @@
+package de.gemuesehasser.tictactoe.benchmark;
+
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Random;
+
+/**
+ * Eine {@link BoardPosition} beschreibt eine repräsentative Stellung, auf der die Benchmarks gemessen werden. Die
+ * Stellungen werden für jedes {@link BoardLayout} mit einem festen Seed erzeugt, sodass jede Messung auf exakt denselben
+ * Stellungen stattfindet.
+ */
+public enum BoardPosition {
+
+    //<editor-fold desc="VALUES">
+    /** Das leere Spielfeld. */
+    EMPTY {
+        @Override
+        boolean isComplete(@NotNull final GameBoard board) {
+            return true;
+        }
+    },
+    /** Ein Spielfeld, auf dem ungefähr die Hälfte aller Felder belegt ist, ohne dass es einen Gewinner gibt. */
+    MID_GAME {
+        @Override
+        boolean isComplete(@NotNull final GameBoard board) {
+            return board.getMoveCount() >= board.getLayout().getCellCount() / 2;
+        }
+    },
+    /** Ein Spielfeld, auf dem alle Felder bis auf eines belegt sind, ohne dass es einen Gewinner gibt. */
+    NEAR_DRAW {
+        @Override
+        boolean isComplete(@NotNull final GameBoard board) {
+            return board.getMoveCount() >= board.getLayout().getCellCount() - 1;
+        }
+    },
+    /** Ein Spielfeld, auf dem ein Typ gewonnen hat. */
+    WON {
+        @Override
+        boolean isComplete(@NotNull final GameBoard board) {
+            return board.getWinner() != null;
+        }
+    };
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Seed, mit dem alle Stellungen erzeugt werden. */
+    private static final long SEED = 42;
+    //</editor-fold>
+
+
+    /**
+     * Prüft, ob ein Spielfeld bereits dieser Stellung entspricht.
+     *
+     * @param board Das Spielfeld, welches überprüft wird.
+     *
+     * @return Wenn das Spielfeld dieser Stellung entspricht {@code true}, ansonsten {@code false}.
+     */
+    abstract boolean isComplete(@NotNull final GameBoard board);
+
+    /**
+     * Erzeugt diese Stellung auf einem neuen Spielfeld, indem abwechselnd zufällige Felder belegt werden. Solange die
+     * Stellung keinen Gewinner haben soll, werden Züge, die das Spiel gewinnen würden, wieder zurückgenommen.
+     *
+     * @param layout Die Form des Spielfeldes.
+     *
+     * @return Ein neues Spielfeld mit dieser Stellung.
+     */
+    @NotNull
+    public GameBoard create(@NotNull final BoardLayout layout) {
+        final GameBoard board = new GameBoard(layout);
+        final Random random = new Random(SEED);
+        UserType current = UserType.USER;
+        int attempts = 0;
+
+        while (!isComplete(board) && !board.isFull() && attempts++ < layout.getCellCount() * 64) {
+            final int cell = random.nextInt(layout.getCellCount());
+            if (!board.isEmpty(cell)) continue;
+
+            board.place(cell, current);
+            if (board.getWinner() != null && this != WON) {
+                board.remove(cell);
+                continue;
+            }
+
+            current = current.getOpponent();
+        }
+
+        return board;
+    }
+
+}
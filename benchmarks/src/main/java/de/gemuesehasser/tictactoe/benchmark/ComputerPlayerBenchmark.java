@@ -0,0 +1,105 @@
+package de.gemuesehasser.tictactoe.benchmark;
+
+import de.gemuesehasser.tictactoe.ai.ComputerPlayer;
+import de.gemuesehasser.tictactoe.ai.SearchEngine;
+import de.gemuesehasser.tictactoe.ai.TranspositionTable;
+import de.gemuesehasser.tictactoe.constant.ComputerMode;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst die Auswahl des nächsten Zuges durch einen {@link ComputerPlayer} in jedem {@link ComputerMode Modus}. Die Suche
+ * wird dabei auf eine feste Tiefe begrenzt, damit die Messung nicht vom Zeitbudget abhängt. Vor jedem Aufruf wird die
+ * {@link TranspositionTable} geleert, da sonst ab dem zweiten Aufruf fast nur noch Treffer in der Tabelle gemessen
+ * würden.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComputerPlayerBenchmark {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Tiefe, bis zu der im {@link ComputerMode#SEARCH Such-Modus} gesucht wird. */
+    private static final int SEARCH_DEPTH = 3;
+    /** Die Anzahl an Einträgen der {@link TranspositionTable}, die vor jedem Aufruf geleert wird. */
+    private static final int TABLE_ENTRIES = 1 << 16;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Form des Spielfeldes, auf dem gemessen wird. */
+    @Param
+    public BenchmarkLayout layout;
+    /** Die Stellung, auf der gemessen wird. */
+    @Param({"EMPTY", "MID_GAME", "NEAR_DRAW"})
+    public BoardPosition position;
+    /** Der Modus, mit dem der Zug ausgewählt wird. */
+    @Param
+    public ComputerMode mode;
+    /** Das Spielfeld mit der entsprechenden Stellung. */
+    private GameBoard board;
+    /** Die Tabelle der Suche, die vor jedem Aufruf geleert wird. */
+    private TranspositionTable table;
+    /** Die Suche, die der Spieler im {@link ComputerMode#SEARCH Such-Modus} nutzt. */
+    private SearchEngine searchEngine;
+    /** Der Spieler, der den Zug auswählt. */
+    private ComputerPlayer player;
+    //</editor-fold>
+
+
+    /**
+     * Erzeugt das Spielfeld mit der entsprechenden Stellung und den Spieler.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.board = this.position.create(this.layout.getLayout());
+        this.table = new TranspositionTable(TABLE_ENTRIES);
+        this.searchEngine = new SearchEngine(TimeUnit.HOURS.toMillis(1), SEARCH_DEPTH, 1, this.table);
+        this.player = new ComputerPlayer(this.mode, this.searchEngine);
+    }
+
+    /**
+     * Schließt die Suche des Spielers, damit ihre Threads nicht bis zum Ende der Messung bestehen bleiben.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.searchEngine.close();
+    }
+
+    /**
+     * Leert die Tabelle der Suche, damit jeder Aufruf eine vollständige Suche misst.
+     */
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        this.table.clear();
+    }
+
+    /**
+     * Wählt den nächsten Zug für den Computer aus.
+     *
+     * @return Der Index des ausgewählten Feldes.
+     */
+    @Benchmark
+    public int getBestPlacement() {
+        return this.player.getBestPlacement(this.board, UserType.COMPUTER);
+    }
+
+}
@@ -0,0 +1,111 @@
+package de.gemuesehasser.tictactoe.benchmark;
+
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst die Abfragen auf einem {@link GameBoard}, die bei jedem Zug mehrfach aufgerufen werden: das Belegen eines
+ * Feldes inklusive Sieg-Erkennung, die Suche nach einem Feld, mit dem gewonnen werden kann, die Prüfung auf ein
+ * Unentschieden und das Auslesen der Belegung aller Felder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBoardBenchmark {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Form des Spielfeldes, auf dem gemessen wird. */
+    @Param
+    public BenchmarkLayout layout;
+    /** Die Stellung, auf der gemessen wird. */
+    @Param
+    public BoardPosition position;
+    /** Das Spielfeld mit der entsprechenden Stellung. */
+    private GameBoard board;
+    /** Ein freies Feld auf dem Spielfeld bzw. {@code -1}, wenn es keines gibt. */
+    private int emptyCell;
+    //</editor-fold>
+
+
+    /**
+     * Erzeugt das Spielfeld mit der entsprechenden Stellung.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.board = this.position.create(this.layout.getLayout());
+        this.emptyCell = -1;
+
+        for (int cell = 0; cell < this.board.getLayout().getCellCount() && this.emptyCell < 0; cell++) {
+            if (this.board.isEmpty(cell)) this.emptyCell = cell;
+        }
+    }
+
+    /**
+     * Belegt ein freies Feld inklusive Sieg-Erkennung und gibt es anschließend wieder frei.
+     *
+     * @return Der Gewinner nach dem Zug, damit die Sieg-Erkennung nicht wegoptimiert wird.
+     */
+    @Benchmark
+    public UserType placeAndRemove() {
+        if (this.emptyCell < 0) return null;
+
+        this.board.place(this.emptyCell, UserType.COMPUTER);
+        final UserType winner = this.board.getWinner();
+        this.board.remove(this.emptyCell);
+
+        return winner;
+    }
+
+    /**
+     * Sucht für beide Typen ein Feld, mit dem sie mit ihrem nächsten Zug gewinnen können.
+     *
+     * @param blackhole Das {@link Blackhole}, welches die Ergebnisse aufnimmt.
+     */
+    @Benchmark
+    public void getWinIndex(@NotNull final Blackhole blackhole) {
+        blackhole.consume(this.board.getWinIndex(UserType.COMPUTER));
+        blackhole.consume(this.board.getWinIndex(UserType.USER));
+    }
+
+    /**
+     * Prüft, ob das Spiel unentschieden ist.
+     *
+     * @return Ob das Spiel unentschieden ist.
+     */
+    @Benchmark
+    public boolean isIndecisive() {
+        return this.board.isIndecisive();
+    }
+
+    /**
+     * Liest die Belegung aller Felder aus, wie es früher über {@code GameFieldHandler.getField} geschah.
+     *
+     * @param blackhole Das {@link Blackhole}, welches die Ergebnisse aufnimmt.
+     */
+    @Benchmark
+    public void getUserTypeOfAllCells(@NotNull final Blackhole blackhole) {
+        for (int cell = 0; cell < this.board.getLayout().getCellCount(); cell++) {
+            blackhole.consume(this.board.getUserType(cell));
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+package de.gemuesehasser.tictactoe;
+
+import de.gemuesehasser.tictactoe.asset.ImageAsset;
+import de.gemuesehasser.tictactoe.gui.GameGui;
+import de.gemuesehasser.tictactoe.handler.GameFieldHandler;
+import de.gemuesehasser.tictactoe.handler.GameLoop;
+import de.gemuesehasser.tictactoe.metrics.GameMetrics;
+import de.gemuesehasser.tictactoe.object.Computer;
+import de.gemuesehasser.tictactoe.storage.GameRecordLog;
+import de.gemuesehasser.tictactoe.storage.StatisticsStore;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Das {@link DesktopGame} enthält alle Bestandteile des Spiels, die für die Darstellung im Fenster benötigt werden.
+ * Diese sind bewusst von der {@link TicTacToe Main-Klasse} getrennt, da sie AWT und Swing initialisieren, was im
+ * Engine-Modus ohne grafische Oberfläche nicht passieren darf. Alle Bestandteile werden erst erzeugt, sobald zum ersten
+ * Mal auf diese Klasse zugegriffen wird.
+ */
+public final class DesktopGame {
+
+    static {
+        // decode all images in the background while everything else is initialized
+        ImageAsset.preload();
+    }
+
+    //<editor-fold desc="CONSTANTS">
+    /**
+     * Der Name der System-Property, mit der das Spiel beendet wird, sobald das Fenster mit allen Bildern gezeichnet
+     * wurde. Dieser Modus wird beim Bauen genutzt, um ein AppCDS-Archiv für einen schnelleren Start aufzuzeichnen.
+     */
+    @NotNull
+    public static final String STARTUP_TRAINING_PROPERTY_NAME = "tictactoe.startupTraining";
+    /** Mithilfe dieses Handlers werden alle Felder auf dem Spielfeld verwaltet. */
+    @NotNull
+    public static final GameFieldHandler GAME_FIELD_HANDLER = new GameFieldHandler(TicTacToe.BOARD_LAYOUT);
+    /** Der Computer in diesem Spiel, welcher automatisch arbeitet. */
+    @NotNull
+    public static final Computer COMPUTER = new Computer();
+    /** Die Spielschleife, die als einziger Thread den Zustand des Spiels verändert. */
+    @NotNull
+    public static final GameLoop GAME_LOOP = new GameLoop(
+            TicTacToe.BOARD_LAYOUT,
+            COMPUTER.getPlayer(),
+            COMPUTER.getPlaceDelayMillis(),
+            snapshot -> DesktopGame.GAME_GUI.showSnapshot(snapshot),
+            openGameRecordLog(),
+            openStatisticsStore()
+    );
+    /** Die Standard-Schriftart die in dieser Anwendung genutzt wird. */
+    @NotNull
+    public static final Font DEFAULT_FONT = new Font("Arial", Font.PLAIN, 18);
+    /** Das {@link de.gemuesehasser.tictactoe.object.Gui Fenster}, in dem das eigentliche Spiel dargestellt wird. */
+    @NotNull
+    public static final GameGui GAME_GUI = new GameGui();
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Instanzen dieser Klasse werden nicht benötigt.
+     */
+    private DesktopGame() {
+    }
+    //</editor-fold>
+
+
+    /**
+     * Startet die Spielschleife und öffnet das Fenster, in dem das Spiel dargestellt wird.
+     */
+    static void start() {
+        GameMetrics.register();
+        GAME_LOOP.start();
+        GAME_GUI.open();
+
+        if (Boolean.getBoolean(STARTUP_TRAINING_PROPERTY_NAME)) {
+            // the window repaints itself with all images in an event that is posted once they are loaded
+            ImageAsset.preload().whenComplete((ignored, throwable) -> SwingUtilities.invokeLater(
+                    () -> SwingUtilities.invokeLater(() -> {
+                        System.out.println("startup finished after "
+                                + ManagementFactory.getRuntimeMXBean().getUptime() + "ms");
+                        System.exit(0);
+                    })
+            ));
+        }
+    }
+
+    /**
+     * Öffnet das {@link GameRecordLog}, in das jede beendete Runde geschrieben wird. Kann es nicht geöffnet werden, wird
+     * trotzdem gespielt, nur ohne die Runden abzuspeichern.
+     *
+     * @return Das geöffnete {@link GameRecordLog} bzw. {@code null}, wenn es nicht geöffnet werden konnte.
+     */
+    @Nullable
+    private static GameRecordLog openGameRecordLog() {
+        try {
+            return GameRecordLog.openConfigured(TicTacToe.BOARD_LAYOUT);
+        } catch (@NotNull final IOException e) {
+            System.err.println("game records are not saved: " + e.getMessage());
+            return null;
+        }
+    }
+
+
+    /**
+     * Öffnet den {@link StatisticsStore}, in dem jede beendete Runde berücksichtigt wird. Kann er nicht geöffnet
+     * werden, wird trotzdem gespielt, nur ohne die Statistiken abzuspeichern.
+     *
+     * @return Der geöffnete {@link StatisticsStore} bzw. {@code null}, wenn er nicht geöffnet werden konnte.
+     */
+    @Nullable
+    private static StatisticsStore openStatisticsStore() {
+        try {
+            return StatisticsStore.openConfigured();
+        } catch (@NotNull final IOException e) {
+            System.err.println("statistics are not saved: " + e.getMessage());
+            return null;
+        }
+    }
+
+}
@@ -1,55 +1,71 @@
 package de.gemuesehasser.tictactoe;
 
-import de.gemuesehasser.tictactoe.constant.UserType;
-import de.gemuesehasser.tictactoe.gui.GameGui;
-import de.gemuesehasser.tictactoe.handler.GameFieldHandler;
+import de.gemuesehasser.tictactoe.ai.MonteCarloSearch;
+import de.gemuesehasser.tictactoe.engine.EngineProtocol;
+import de.gemuesehasser.tictactoe.gui.UltimateGui;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
 import de.gemuesehasser.tictactoe.object.Computer;
-import lombok.Getter;
-import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
 
-import java.awt.*;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Die Haupt- und Main-Klasse dieser Anwendung. Diese Anwendung stellt ein Tic-Tac-Toe Spiel dar, welches automatisiert
- * durch einen {@link Computer Bot} mit dem Nutzer spielen kann.
+ * durch einen {@link Computer Bot} mit dem Nutzer spielen kann. Alternativ kann die Anwendung ohne grafische Oberfläche
+ * als Engine gestartet werden, die über die Standard-Ein- und Ausgabe gesteuert wird, oder Ultimate Tic-Tac-Toe in
+ * einem eigenen {@link UltimateGui Fenster} spielen. Diese Klasse selbst initialisiert daher weder AWT noch Swing, alle
+ * Bestandteile des klassischen Fensters befinden sich im {@link DesktopGame}.
  */
 public class TicTacToe {
 
     //<editor-fold desc="CONSTANTS">
-    /** Mithilfe dieses Handlers werden alle Felder auf dem Spielfeld verwaltet. */
+    /** Das Argument, mit dem die Anwendung als Engine ohne grafische Oberfläche gestartet wird. */
     @NotNull
-    public static final GameFieldHandler GAME_FIELD_HANDLER = new GameFieldHandler();
-    /** Der Computer in diesem Spiel, welcher automatisch arbeitet. */
+    public static final String ENGINE_ARGUMENT = "--engine";
+    /** Das Argument, mit dem statt des klassischen Spiels Ultimate Tic-Tac-Toe gestartet wird. */
     @NotNull
-    public static final Computer COMPUTER = new Computer();
-    /** Die Standard-Schriftart die in dieser Anwendung genutzt wird. */
+    public static final String ULTIMATE_ARGUMENT = "--ultimate";
+    /** Die Form des Spielfeldes, welche beim Starten mithilfe von System-Properties festgelegt werden kann. */
     @NotNull
-    public static final Font DEFAULT_FONT = new Font("Arial", Font.PLAIN, 18);
-    /** Das {@link de.gemuesehasser.tictactoe.object.Gui Fenster}, in dem das eigentliche Spiel dargestellt wird. */
-    @NotNull
-    public static final GameGui GAME_GUI = new GameGui();
-    //</editor-fold>
-
-
-    //<editor-fold desc="STATIC FIELDS">
-    /** Der Typ des Benutzers, der aktuell an der Reihe ist in diesem Spiel. */
-    @Getter
-    @Setter
-    @NotNull
-    private static UserType currentUserType = UserType.USER;
+    public static final BoardLayout BOARD_LAYOUT = BoardLayout.getConfigured();
     //</editor-fold>
 
 
     //<editor-fold desc="main">
 
     /**
-     * Die Main-Methode dieser Anwendung, die als allererstes von der JRE aufgerufen wird.
+     * Die Main-Methode dieser Anwendung, die als allererstes von der JRE aufgerufen wird. Wird das Argument
+     * {@value #ENGINE_ARGUMENT} übergeben, wird die Anwendung als Engine gestartet, mit {@value #ULTIMATE_ARGUMENT}
+     * wird Ultimate Tic-Tac-Toe gespielt, ansonsten wird das klassische Fenster geöffnet.
      *
      * @param args Die Argumente, die beim Starten der Anwendung von der JRE übergeben werden.
+     *
+     * @throws IOException Wenn im Engine-Modus nicht von der Standard-Eingabe gelesen werden kann.
      */
-    public static void main(@NotNull final String @NotNull [] args) {
-        GAME_GUI.open();
+    public static void main(@NotNull final String @NotNull [] args) throws IOException {
+        if (args.length > 0 && args[0].equals(ENGINE_ARGUMENT)) {
+            // guard against anything initializing a display by accident
+            System.setProperty("java.awt.headless", "true");
+
+            new EngineProtocol(
+                    BOARD_LAYOUT,
+                    new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)),
+                    new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), true)
+            ).run();
+            return;
+        }
+
+        if (args.length > 0 && args[0].equals(ULTIMATE_ARGUMENT)) {
+            new UltimateGui(new MonteCarloSearch()).open();
+            return;
+        }
+
+        DesktopGame.start();
     }
     //</editor-fold>
 
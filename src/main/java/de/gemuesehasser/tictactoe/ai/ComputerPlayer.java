@@ -0,0 +1,169 @@
+package de.gemuesehasser.tictactoe.ai;
+
+import de.gemuesehasser.tictactoe.constant.ComputerMode;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import lombok.Getter;
+import lombok.Setter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Ein {@link ComputerPlayer} ist die {@link Strategy}, die anhand ihres {@link ComputerMode Modus} den günstigsten
+ * Platz für den nächsten Zug eines {@link UserType Typen} auf einem {@link GameBoard Spielfeld} auswählt. Ein
+ * {@link ComputerPlayer} ist dabei vollständig unabhängig von der Darstellung, sodass er sowohl im Fenster als auch
+ * ohne grafische Oberfläche genutzt werden kann.
+ */
+@Getter
+public final class ComputerPlayer implements Strategy {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der {@link ComputerMode Modus}, mit dem dieser Spieler den Platz für seinen nächsten Zug auswählt. */
+    @Setter
+    @NotNull
+    private ComputerMode mode;
+    /** Die Suche, die im {@link ComputerMode#SEARCH Such-Modus} genutzt wird ({@code null}, bis sie benötigt wird). */
+    @Nullable
+    private SearchEngine searchEngine;
+    /** Das Ergebnis der letzten Suche bzw. {@code null}, wenn noch nicht gesucht wurde. */
+    @Nullable
+    private SearchResult lastSearchResult;
+    /** Der Zufallsgenerator, mit dem im heuristischen Modus ein zufälliges Feld ausgewählt wird. */
+    @NotNull
+    private SplittableRandom random = new SplittableRandom();
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link ComputerPlayer} mit einem bestimmten {@link ComputerMode Modus}. Die Suche wird erst
+     * erzeugt, sobald sie im {@link ComputerMode#SEARCH Such-Modus} benötigt wird.
+     *
+     * @param mode Der {@link ComputerMode Modus}, mit dem dieser Spieler den Platz für seinen nächsten Zug auswählt.
+     */
+    public ComputerPlayer(@NotNull final ComputerMode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Erzeugt einen neuen {@link ComputerPlayer} mit einem bestimmten {@link ComputerMode Modus} und einer bestimmten
+     * Suche, die im {@link ComputerMode#SEARCH Such-Modus} genutzt wird.
+     *
+     * @param mode         Der {@link ComputerMode Modus}, mit dem dieser Spieler den Platz für seinen nächsten Zug
+     *                     auswählt.
+     * @param searchEngine Die Suche, die im {@link ComputerMode#SEARCH Such-Modus} genutzt wird.
+     */
+    public ComputerPlayer(@NotNull final ComputerMode mode, @NotNull final SearchEngine searchEngine) {
+        this.mode = mode;
+        this.searchEngine = searchEngine;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt den Namen dieses Spielers zurück, unter dem z.B. seine Statistiken abgespeichert werden. Alle Spieler mit
+     * demselben {@link ComputerMode Modus} teilen sich einen Namen.
+     *
+     * @return Der Name dieses Spielers.
+     */
+    @NotNull
+    @Override
+    public String getName() {
+        return "computer-" + this.mode.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gibt den Index des günstigsten Feldes zum Setzen anhand des aktuellen {@link ComputerMode Modus} zurück.
+     *
+     * @param board    Das Spielfeld, auf dem das günstigste Feld gesucht werden soll.
+     * @param userType Der {@link UserType Typ}, für den das günstigste Feld gesucht werden soll.
+     *
+     * @return Der Index des günstigsten Feldes zum Setzen.
+     */
+    @Override
+    public int getBestPlacement(@NotNull final GameBoard board, @NotNull final UserType userType) {
+        if (this.mode == ComputerMode.PERFECT_PLAY && board.getLayout().isClassic()) {
+            return PerfectPlayTable.getInstance().getBestMove(
+                    (int) board.getBoard(userType),
+                    (int) board.getBoard(userType.getOpponent())
+            );
+        }
+
+        if (this.mode == ComputerMode.PERFECT_PLAY && Tablebase.supports(board.getLayout())) {
+            final Tablebase tablebase = Tablebase.getInstance();
+            final int move = tablebase == null ? -1 : tablebase.getBestMove(
+                    (int) board.getBoard(userType),
+                    (int) board.getBoard(userType.getOpponent())
+            );
+
+            if (move >= 0) return move;
+        }
+
+        if (this.mode == ComputerMode.SEARCH) {
+            if (this.searchEngine == null) this.searchEngine = new SearchEngine();
+
+            this.lastSearchResult = this.searchEngine.search(board, userType);
+            if (this.lastSearchResult.getBestMove() >= 0) return this.lastSearchResult.getBestMove();
+        }
+
+        return getHeuristicPlacement(board, userType);
+    }
+
+    /**
+     * Übernimmt den Zufallsgenerator des neuen Spiels und leert die {@link TranspositionTable} der Suche, damit die
+     * Züge im {@link ComputerMode#SEARCH Such-Modus} (bei fester Tiefe) nicht von vorherigen Spielen abhängen.
+     *
+     * @param random Der Zufallsgenerator, mit dem alle zufälligen Entscheidungen des Spiels getroffen werden.
+     */
+    @Override
+    public void startGame(@NotNull final SplittableRandom random) {
+        this.random = random;
+        if (this.searchEngine != null) this.searchEngine.getTranspositionTable().clear();
+    }
+
+    /**
+     * Schließt die {@link SearchEngine} dieses Spielers, sofern sie bereits erzeugt wurde. Spieler, die sich eine
+     * {@link SearchEngine} teilen, werden nicht geschlossen; stattdessen wird die {@link SearchEngine} selbst
+     * geschlossen, sobald sie nicht mehr benötigt wird.
+     */
+    @Override
+    public void close() {
+        if (this.searchEngine != null) this.searchEngine.close();
+    }
+
+    /**
+     * Gibt den Index des günstigsten Feldes zum Setzen zurück. Dabei wird zuerst überprüft, ob es ein Feld gibt, mit
+     * dem der {@link UserType Typ} gewinnen kann. Wenn es da kein Feld gibt, wird überprüft, ob es ein Feld gibt,
+     * wodurch der Gegenspieler gewinnen kann. Sollte es dieses auch nicht geben, wird das mittlere bzw. ein zufälliges
+     * Feld auf dem Spielfeld zurückgegeben.
+     *
+     * @param board    Das Spielfeld, auf dem das günstigste Feld gesucht werden soll.
+     * @param userType Der {@link UserType Typ}, für den das günstigste Feld gesucht werden soll.
+     *
+     * @return Der Index des günstigsten Feldes zum Setzen.
+     */
+    private int getHeuristicPlacement(@NotNull final GameBoard board, @NotNull final UserType userType) {
+        // check if own type can win
+        final int ownWinIndex = board.getWinIndex(userType);
+
+        if (ownWinIndex >= 0) return ownWinIndex;
+
+        // check if opponent can win
+        final int opponentWinIndex = board.getWinIndex(userType.getOpponent());
+
+        if (opponentWinIndex >= 0) return opponentWinIndex;
+
+        // check middle field
+        final int middleIndex = board.getLayout().getCenterIndex();
+
+        if (board.isEmpty(middleIndex)) return middleIndex;
+
+        // place random
+        return board.getFreeCell(this.random.nextInt(board.getFreeCellCount()));
+    }
+
+}
@@ -0,0 +1,65 @@
+package de.gemuesehasser.tictactoe.ai;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ein {@link MonteCarloResult} ist das Ergebnis einer Suche der {@link MonteCarloSearch}. Neben dem besten Zug enthält
+ * es die Anzahl der zufälligen Partien, die in dieser Suche gespielt wurden, sowie die Anzahl der Partien, die aus der
+ * vorherigen Suche übernommen wurden. Der Durchsatz an Partien pro Sekunde ist dabei die Kennzahl, anhand der sich die
+ * Spielstärke auf einer bestimmten Maschine einschätzen lässt.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public final class MonteCarloResult {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Index des besten Feldes bzw. {@code -1}, wenn es keinen Zug mehr gibt. */
+    private final int bestMove;
+    /** Der Anteil der Punkte (Sieg 1, Unentschieden 0,5) des besten Zuges aus Sicht des Spielers am Zug. */
+    private final double winRate;
+    /** Die Anzahl an zufälligen Partien, die in dieser Suche gespielt wurden. */
+    private final long playouts;
+    /** Die Anzahl an zufälligen Partien, die aus dem Baum der vorherigen Suche übernommen wurden. */
+    private final long reusedPlayouts;
+    /** Die Anzahl aller Knoten im Baum nach dieser Suche. */
+    private final int treeSize;
+    /** Die Dauer der Suche in Nanosekunden. */
+    private final long elapsedNanos;
+    /** Die Anzahl an Threads, auf die die Suche verteilt wurde. */
+    private final int parallelism;
+    //</editor-fold>
+
+
+    /**
+     * Gibt die Anzahl an zufälligen Partien pro Sekunde zurück.
+     *
+     * @return Die Anzahl an zufälligen Partien pro Sekunde.
+     */
+    public long getPlayoutsPerSecond() {
+        return this.elapsedNanos == 0 ? this.playouts : this.playouts * TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+    }
+
+    /**
+     * Gibt eine kurze Zusammenfassung dieser Suche zurück, die im Fenster angezeigt werden kann.
+     *
+     * @return Eine kurze Zusammenfassung dieser Suche.
+     */
+    @NotNull
+    public String getSummary() {
+        return String.format(
+                Locale.GERMANY,
+                "%,d Partien/s | %d Threads | %.0f%% Gewinnchance",
+                getPlayoutsPerSecond(),
+                this.parallelism,
+                this.winRate * 100
+        );
+    }
+
+}
@@ -0,0 +1,496 @@
+package de.gemuesehasser.tictactoe.ai;
+
+import de.gemuesehasser.tictactoe.constant.GameOutcome;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.UltimateBoard;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Die {@link MonteCarloSearch} sucht mithilfe einer Monte-Carlo-Baumsuche den besten Zug auf einem
+ * {@link UltimateBoard}, dessen Zustandsraum für eine vollständige Alpha-Beta-Suche zu groß ist. Jede Iteration wählt
+ * anhand von UCT einen Pfad durch den Baum, erweitert dessen letzten Knoten und spielt von dort eine zufällige Partie
+ * bis zum Ende. Das Ergebnis wird anschließend auf allen Knoten des Pfades verbucht. Der beste Zug ist der Zug an der
+ * Wurzel, der am häufigsten untersucht wurde.
+ *
+ * <p>Alle Threads teilen sich einen Baum. Jeder Knoten wird beim Abstieg sofort als besucht gezählt, das Ergebnis der
+ * Partie aber erst danach verbucht (virtueller Verlust), sodass gleichzeitige Threads unterschiedliche Pfade wählen.
+ * Besuche und Punkte werden ohne Sperren atomar aktualisiert, nur das Erweitern eines Knotens ist synchronisiert.</p>
+ *
+ * <p>Nach jeder Suche bleibt der Baum erhalten. Beginnt die nächste Suche in einer Stellung, die aus der vorherigen
+ * Wurzel durch weitere Züge hervorgegangen ist, wird der entsprechende Teilbaum mit all seinen Partien als neue Wurzel
+ * weiterverwendet.</p>
+ */
+@Getter
+public final class MonteCarloSearch {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Konstante, mit der bei UCT zwischen der Untersuchung neuer und der Vertiefung guter Züge abgewogen wird. */
+    private static final double EXPLORATION = Math.sqrt(2);
+    /** Die Anzahl an Besuchen, ab der ein Knoten erweitert wird. */
+    private static final int EXPANSION_VISITS = 2;
+    /** Die maximale Anzahl an Knoten im Baum, ab der keine Knoten mehr erweitert werden. */
+    private static final int MAX_TREE_SIZE = 1 << 21;
+    /** Die Anzahl an Partien (minus 1), nach denen jeweils überprüft wird, ob das Zeitbudget aufgebraucht ist. */
+    private static final int TIME_CHECK_INTERVAL = 15;
+    /** Die Punkte einer Partie, die der betrachtete Spieler gewonnen hat (ein Unentschieden zählt die Hälfte). */
+    private static final int WIN_POINTS = 2;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Das Zeitbudget pro Zug in Millisekunden. */
+    private final long timeBudgetMillis;
+    /** Der Pool, auf dessen Threads die Partien gespielt werden. */
+    @NotNull
+    private final ForkJoinPool pool;
+    /** Die Quelle, aus der jeder Thread bei jeder Suche seinen eigenen Zufallsgenerator abspaltet. */
+    @Getter(AccessLevel.NONE)
+    @NotNull
+    private final SplittableRandom random = new SplittableRandom();
+    /** Die Anzahl aller Knoten im aktuellen Baum. */
+    @Getter(AccessLevel.NONE)
+    @NotNull
+    private final AtomicInteger treeSize = new AtomicInteger();
+    /** Die Wurzel des Baumes der letzten Suche bzw. {@code null}, wenn noch nicht gesucht wurde. */
+    @Getter(AccessLevel.NONE)
+    @Nullable
+    private Node root;
+    /** Die Stellung an der Wurzel des Baumes der letzten Suche bzw. {@code null}, wenn noch nicht gesucht wurde. */
+    @Getter(AccessLevel.NONE)
+    @Nullable
+    private UltimateBoard rootBoard;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue {@link MonteCarloSearch}, die alle verfügbaren Kerne nutzt und das Zeitbudget aus der
+     * System-Property {@value SearchEngine#TIME_BUDGET_PROPERTY_NAME} bzw.
+     * {@value SearchEngine#DEFAULT_TIME_BUDGET_MILLIS} Millisekunden verwendet.
+     */
+    public MonteCarloSearch() {
+        this(
+                Long.getLong(SearchEngine.TIME_BUDGET_PROPERTY_NAME, SearchEngine.DEFAULT_TIME_BUDGET_MILLIS),
+                Runtime.getRuntime().availableProcessors()
+        );
+    }
+
+    /**
+     * Erzeugt eine neue {@link MonteCarloSearch} mit einem bestimmten Zeitbudget pro Zug und einer bestimmten Anzahl an
+     * Threads.
+     *
+     * @param timeBudgetMillis Das Zeitbudget pro Zug in Millisekunden.
+     * @param parallelism      Die Anzahl an Threads, auf denen die Partien gespielt werden.
+     */
+    public MonteCarloSearch(
+            @Range(from = 0, to = Long.MAX_VALUE) final long timeBudgetMillis,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int parallelism
+    ) {
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+    //</editor-fold>
+
+
+    /**
+     * Sucht innerhalb des Zeitbudgets den besten Zug für den {@link UserType Typen}, der auf einem Spielfeld an der
+     * Reihe ist.
+     *
+     * @param board Das Spielfeld, auf dem der beste Zug gesucht werden soll.
+     *
+     * @return Das Ergebnis der Suche mit dem besten Zug.
+     *
+     * @see #search(UltimateBoard, long)
+     */
+    @NotNull
+    public MonteCarloResult search(@NotNull final UltimateBoard board) {
+        return search(board, this.timeBudgetMillis);
+    }
+
+    /**
+     * Sucht innerhalb eines bestimmten Zeitbudgets den besten Zug für den {@link UserType Typen}, der auf einem
+     * Spielfeld an der Reihe ist. Das übergebene Spielfeld wird dabei nicht verändert. Wird der aufrufende Thread
+     * unterbrochen, endet die Suche vorzeitig mit dem besten Zug der bis dahin gespielten Partien.
+     *
+     * @param board            Das Spielfeld, auf dem der beste Zug gesucht werden soll.
+     * @param timeBudgetMillis Das Zeitbudget dieser Suche in Millisekunden.
+     *
+     * @return Das Ergebnis der Suche mit dem besten Zug.
+     */
+    @NotNull
+    public synchronized MonteCarloResult search(
+            @NotNull final UltimateBoard board,
+            @Range(from = 0, to = Long.MAX_VALUE) final long timeBudgetMillis
+    ) {
+        final long start = System.nanoTime();
+        final long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        final Node reused = findSubtree(board);
+        this.treeSize.set(reused != null ? countNodes(reused) : 1);
+
+        final Node rootNode = reused != null ? reused : new Node(-1);
+        final UltimateBoard searchBoard = new UltimateBoard(board);
+        final long reusedPlayouts = rootNode.visits;
+        this.root = rootNode;
+        this.rootBoard = searchBoard;
+
+        final LongAdder playouts = new LongAdder();
+
+        if (searchBoard.getOutcome() == GameOutcome.IN_PROGRESS) {
+            // the root is expanded up front, so even a search without a single playout returns a legal move
+            expand(rootNode, searchBoard, new int[UltimateBoard.CELL_COUNT]);
+
+            final AtomicBoolean stopped = new AtomicBoolean();
+            final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+
+            for (int i = 0; i < this.pool.getParallelism(); i++) {
+                final SplittableRandom threadRandom = this.random.split();
+                tasks.add(this.pool.submit(
+                        () -> playouts.add(runPlayouts(rootNode, searchBoard, deadline, stopped, threadRandom))
+                ));
+            }
+
+            awaitTasks(tasks, stopped);
+        }
+
+        final Node best = getMostVisitedChild(rootNode);
+        return new MonteCarloResult(
+                best == null ? -1 : best.move,
+                best == null || best.visits == 0 ? 0 : (double) best.score / (WIN_POINTS * best.visits),
+                playouts.sum(),
+                reusedPlayouts,
+                this.treeSize.get(),
+                System.nanoTime() - start,
+                this.pool.getParallelism()
+        );
+    }
+
+    /**
+     * Verwirft den Baum der letzten Suche, sodass die nächste Suche mit einem leeren Baum beginnt.
+     */
+    public synchronized void clear() {
+        this.root = null;
+        this.rootBoard = null;
+        this.treeSize.set(0);
+    }
+
+    /**
+     * Wartet, bis alle Threads ihre Partien beendet haben. Wird der aufrufende Thread dabei unterbrochen, werden alle
+     * Threads gestoppt und es wird trotzdem gewartet, bis sie den Baum nicht mehr verändern.
+     *
+     * @param tasks   Die Aufgaben aller Threads.
+     * @param stopped Das Signal, mit dem alle Threads vorzeitig gestoppt werden.
+     */
+    private static void awaitTasks(
+            @NotNull final List<ForkJoinTask<?>> tasks,
+            @NotNull final AtomicBoolean stopped
+    ) {
+        boolean interrupted = false;
+
+        for (@NotNull final ForkJoinTask<?> task : tasks) {
+            while (true) {
+                try {
+                    task.get();
+                    break;
+                } catch (@NotNull final InterruptedException e) {
+                    interrupted = true;
+                    stopped.set(true);
+                } catch (@NotNull final ExecutionException e) {
+                    throw new IllegalStateException("a playout failed", e.getCause());
+                }
+            }
+        }
+
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Spielt auf einem Thread so lange Partien, bis das Zeitbudget aufgebraucht ist oder die Suche gestoppt wird. Jeder
+     * Thread spielt dabei mindestens eine Partie, auch wenn das Zeitbudget bereits beim Start aufgebraucht ist.
+     *
+     * @param rootNode  Die Wurzel des Baumes.
+     * @param rootBoard Die Stellung an der Wurzel des Baumes.
+     * @param deadline  Der Zeitpunkt (in Nanosekunden), an dem das Zeitbudget aufgebraucht ist.
+     * @param stopped   Das Signal, mit dem die Suche vorzeitig gestoppt wird.
+     * @param random    Der Zufallsgenerator dieses Threads.
+     *
+     * @return Die Anzahl der gespielten Partien.
+     */
+    private long runPlayouts(
+            @NotNull final Node rootNode,
+            @NotNull final UltimateBoard rootBoard,
+            final long deadline,
+            @NotNull final AtomicBoolean stopped,
+            @NotNull final SplittableRandom random
+    ) {
+        final UltimateBoard board = new UltimateBoard();
+        final Node[] path = new Node[UltimateBoard.CELL_COUNT + 1];
+        final int[] moves = new int[UltimateBoard.CELL_COUNT];
+        final UserType rootMover = rootBoard.getTurn();
+        long count = 0;
+
+        while (!stopped.get() && (count == 0 || (count & TIME_CHECK_INTERVAL) != 0 || System.nanoTime() < deadline)) {
+            board.copyFrom(rootBoard);
+
+            // selection: every visit is counted right away, so concurrent threads see it as a loss until it is scored
+            Node node = rootNode;
+            int length = 0;
+            path[length++] = node;
+            Node.VISITS.incrementAndGet(node);
+
+            while (board.getOutcome() == GameOutcome.IN_PROGRESS) {
+                Node[] children = node.children;
+
+                if (children == null) {
+                    if (node.visits < EXPANSION_VISITS || this.treeSize.get() >= MAX_TREE_SIZE) break;
+                    children = expand(node, board, moves);
+                }
+
+                node = selectChild(node, children);
+                board.place(node.move);
+                path[length++] = node;
+                Node.VISITS.incrementAndGet(node);
+            }
+
+            // simulation
+            while (board.getOutcome() == GameOutcome.IN_PROGRESS) {
+                board.place(moves[random.nextInt(board.getLegalMoves(moves))]);
+            }
+
+            // backpropagation: each node is scored for the player who made its move
+            final UserType winner = board.getOutcome().getWinner();
+            for (int i = 1; i < length; i++) {
+                final UserType mover = (i & 1) == 1 ? rootMover : rootMover.getOpponent();
+                final int points = winner == null ? WIN_POINTS / 2 : winner == mover ? WIN_POINTS : 0;
+                if (points != 0) Node.SCORE.addAndGet(path[i], points);
+            }
+
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Erweitert einen Knoten um alle Züge, die in seiner Stellung erlaubt sind. Wurde der Knoten in der Zwischenzeit
+     * bereits von einem anderen Thread erweitert, werden dessen Kinder zurückgegeben.
+     *
+     * @param node  Der Knoten, der erweitert werden soll.
+     * @param board Die Stellung des Knotens.
+     * @param moves Ein Array, in das die erlaubten Züge geschrieben werden können.
+     *
+     * @return Alle Kinder des Knotens.
+     */
+    @NotNull
+    private Node @NotNull [] expand(
+            @NotNull final Node node,
+            @NotNull final UltimateBoard board,
+            final int @NotNull [] moves
+    ) {
+        synchronized (node) {
+            Node[] children = node.children;
+            if (children != null) return children;
+
+            final int count = board.getLegalMoves(moves);
+            children = new Node[count];
+            for (int i = 0; i < count; i++) {
+                children[i] = new Node(moves[i]);
+            }
+
+            this.treeSize.addAndGet(count);
+            node.children = children;
+            return children;
+        }
+    }
+
+    /**
+     * Wählt anhand von UCT das Kind eines Knotens aus, welches als nächstes untersucht wird. Kinder, die noch nie
+     * besucht wurden, werden immer zuerst gewählt.
+     *
+     * @param node     Der Knoten, dessen Kind gewählt wird.
+     * @param children Alle Kinder des Knotens.
+     *
+     * @return Das gewählte Kind.
+     */
+    @NotNull
+    private static Node selectChild(@NotNull final Node node, @NotNull final Node @NotNull [] children) {
+        final double logVisits = Math.log(Math.max(1, node.visits));
+        Node best = children[0];
+        double bestValue = Double.NEGATIVE_INFINITY;
+
+        for (@NotNull final Node child : children) {
+            final int visits = child.visits;
+            if (visits == 0) return child;
+
+            final double value = (double) child.score / (WIN_POINTS * visits)
+                    + EXPLORATION * Math.sqrt(logVisits / visits);
+
+            if (value > bestValue) {
+                bestValue = value;
+                best = child;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Sucht im Baum der letzten Suche den Knoten, der einer bestimmten Stellung entspricht. Das ist nur möglich, wenn
+     * die Stellung aus der Wurzel der letzten Suche durch weitere Züge hervorgegangen ist und diese Züge bereits im
+     * Baum erweitert wurden.
+     *
+     * @param board Die Stellung, für die der Knoten gesucht wird.
+     *
+     * @return Der Knoten der Stellung bzw. {@code null}, wenn der Baum nicht weiterverwendet werden kann.
+     */
+    @Nullable
+    private Node findSubtree(@NotNull final UltimateBoard board) {
+        final UltimateBoard previous = this.rootBoard;
+        Node node = this.root;
+        if (node == null || previous == null || board.getMoveCount() < previous.getMoveCount()) return null;
+
+        // both positions must belong to the same game, including who started it
+        final int played = board.getMoveCount() - previous.getMoveCount();
+        if ((board.getTurn() == previous.getTurn()) != (played % 2 == 0)) return null;
+
+        for (int i = 0; i < previous.getMoveCount(); i++) {
+            if (board.getMove(i) != previous.getMove(i)) return null;
+        }
+
+        for (int i = previous.getMoveCount(); i < board.getMoveCount(); i++) {
+            final Node[] children = node.children;
+            if (children == null) return null;
+
+            Node next = null;
+            for (@NotNull final Node child : children) {
+                if (child.move != board.getMove(i)) continue;
+
+                next = child;
+                break;
+            }
+
+            if (next == null) return null;
+            node = next;
+        }
+
+        return node;
+    }
+
+    /**
+     * Zählt alle Knoten eines Teilbaumes.
+     *
+     * @param node Die Wurzel des Teilbaumes.
+     *
+     * @return Die Anzahl aller Knoten des Teilbaumes, inklusive der Wurzel.
+     */
+    private static int countNodes(@NotNull final Node node) {
+        final Deque<Node> pending = new ArrayDeque<>();
+        pending.push(node);
+        int count = 0;
+
+        while (!pending.isEmpty()) {
+            final Node current = pending.pop();
+            count++;
+
+            final Node[] children = current.children;
+            if (children == null) continue;
+
+            for (@NotNull final Node child : children) {
+                pending.push(child);
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Gibt das Kind eines Knotens zurück, welches am häufigsten besucht wurde.
+     *
+     * @param node Der Knoten, dessen Kinder durchsucht werden.
+     *
+     * @return Das Kind, welches am häufigsten besucht wurde bzw. {@code null}, wenn der Knoten keine Kinder hat.
+     */
+    @Nullable
+    private static Node getMostVisitedChild(@NotNull final Node node) {
+        final Node[] children = node.children;
+        if (children == null) return null;
+
+        Node best = null;
+        for (@NotNull final Node child : children) {
+            if (best == null || child.visits > best.visits) best = child;
+        }
+
+        return best;
+    }
+
+
+    //<editor-fold desc="Node">
+
+    /**
+     * Ein {@link Node} ist ein Knoten im Baum der {@link MonteCarloSearch}, der für einen Zug steht. Besuche und Punkte
+     * werden aus Sicht des Spielers gezählt, der diesen Zug gemacht hat.
+     */
+    private static final class Node {
+
+        //<editor-fold desc="CONSTANTS">
+        /** Der Zugriff, mit dem die Besuche eines Knotens atomar erhöht werden. */
+        @NotNull
+        private static final AtomicIntegerFieldUpdater<Node> VISITS = AtomicIntegerFieldUpdater.newUpdater(
+                Node.class,
+                "visits"
+        );
+        /** Der Zugriff, mit dem die Punkte eines Knotens atomar erhöht werden. */
+        @NotNull
+        private static final AtomicIntegerFieldUpdater<Node> SCORE = AtomicIntegerFieldUpdater.newUpdater(
+                Node.class,
+                "score"
+        );
+        //</editor-fold>
+
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Der Index des Feldes, welches mit diesem Zug belegt wird bzw. {@code -1} an der Wurzel. */
+        private final int move;
+        /** Die Anzahl der Partien, die durch diesen Knoten gespielt wurden oder gerade gespielt werden. */
+        private volatile int visits;
+        /** Die Punkte aller beendeten Partien durch diesen Knoten (Sieg 2, Unentschieden 1). */
+        private volatile int score;
+        /** Alle Kinder dieses Knotens bzw. {@code null}, wenn er noch nicht erweitert wurde. */
+        @Nullable
+        private volatile Node @Nullable [] children;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt einen neuen und noch nicht besuchten {@link Node}.
+         *
+         * @param move Der Index des Feldes, welches mit diesem Zug belegt wird bzw. {@code -1} an der Wurzel.
+         */
+        private Node(final int move) {
+            this.move = move;
+        }
+        //</editor-fold>
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,313 @@
+package de.gemuesehasser.tictactoe.ai;
+
+import de.gemuesehasser.tictactoe.constant.GameValue;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Eine {@link PerfectPlayTable} enthält für jede erreichbare Stellung auf einem 3x3 Spielfeld den besten Zug und den
+ * spieltheoretischen Wert dieser Stellung. Eine Stellung wird dabei immer aus Sicht des Spielers beschrieben, der als
+ * nächstes an der Reihe ist, weshalb die Tabelle unabhängig davon ist, welcher Typ das Spiel begonnen hat.
+ *
+ * <p>Jede Stellung wird als Zahl zur Basis 3 kodiert (0 = frei, 1 = eigener Stein, 2 = gegnerischer Stein), wodurch
+ * die Tabelle aus genau {@value #POSITION_COUNT} Bytes besteht. In jedem Byte sind die unteren 4 Bit der Index des
+ * besten Feldes ({@value #NO_MOVE}, wenn es keinen Zug gibt) und die darüberliegenden 2 Bit der
+ * {@link GameValue Wert} der Stellung.</p>
+ */
+public final class PerfectPlayTable {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Name der Ressource, aus der die beim Bauen erzeugte Tabelle geladen wird. */
+    @NotNull
+    public static final String RESOURCE_NAME = "/perfect-play.table";
+    /** Die Anzahl an Feldern auf dem Spielfeld, für das diese Tabelle berechnet wird. */
+    private static final int CELL_COUNT = 9;
+    /** Die Anzahl aller (auch nicht erreichbaren) Stellungen, also 3 hoch {@link #CELL_COUNT}. */
+    private static final int POSITION_COUNT = 19683;
+    /** Der Index, der in der Tabelle steht, wenn es in einer Stellung keinen Zug mehr gibt. */
+    private static final int NO_MOVE = 0xF;
+    /** Die Bitmaske, mit der der Index des besten Feldes aus einem Eintrag ausgelesen wird. */
+    private static final int MOVE_MASK = 0xF;
+    /** Die Anzahl an Bits, um die der Wert einer Stellung in einem Eintrag verschoben ist. */
+    private static final int VALUE_SHIFT = 4;
+    /** Die Bitmaske aller Felder des Spielfeldes. */
+    private static final int FULL_MASK = (1 << CELL_COUNT) - 1;
+    /** Für jede Bitmaske der Wert zur Basis 3, in der jedes gesetzte Bit als Ziffer 1 dargestellt wird. */
+    @NotNull
+    private static final int @NotNull [] BASE_3 = new int[1 << CELL_COUNT];
+    /** Die Bitmasken aller Linien des klassischen 3x3 Spielfeldes. */
+    @NotNull
+    private static final int @NotNull [] WIN_MASKS = new int[BoardLayout.CLASSIC.getLines().length];
+    //</editor-fold>
+
+
+    static {
+        for (int line = 0; line < WIN_MASKS.length; line++) {
+            for (final int cell : BoardLayout.CLASSIC.getLines()[line]) {
+                WIN_MASKS[line] |= 1 << cell;
+            }
+        }
+
+        for (int mask = 0; mask < BASE_3.length; mask++) {
+            int value = 0;
+            int digit = 1;
+
+            for (int i = 0; i < CELL_COUNT; i++) {
+                if ((mask & (1 << i)) != 0) value += digit;
+                digit *= 3;
+            }
+
+            BASE_3[mask] = value;
+        }
+    }
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Alle Einträge dieser Tabelle, anhand der kodierten Stellung. */
+    @NotNull
+    private final byte @NotNull [] entries;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue {@link PerfectPlayTable} anhand bereits berechneter Einträge.
+     *
+     * @param entries Alle Einträge der Tabelle, anhand der kodierten Stellung.
+     */
+    private PerfectPlayTable(@NotNull final byte @NotNull [] entries) {
+        this.entries = entries;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt den Index des besten Feldes für den Spieler zurück, der als nächstes an der Reihe ist.
+     *
+     * @param moverBoard    Die Bitmaske aller Felder des Spielers, der an der Reihe ist.
+     * @param opponentBoard Die Bitmaske aller Felder des Gegenspielers.
+     *
+     * @return Der Index des besten Feldes bzw. {@code -1}, wenn es in dieser Stellung keinen Zug mehr gibt.
+     */
+    public int getBestMove(final int moverBoard, final int opponentBoard) {
+        final int move = this.entries[getKey(moverBoard, opponentBoard)] & MOVE_MASK;
+        return move == NO_MOVE ? -1 : move;
+    }
+
+    /**
+     * Gibt den spieltheoretischen Wert einer Stellung aus Sicht des Spielers zurück, der als nächstes an der Reihe ist.
+     *
+     * @param moverBoard    Die Bitmaske aller Felder des Spielers, der an der Reihe ist.
+     * @param opponentBoard Die Bitmaske aller Felder des Gegenspielers.
+     *
+     * @return Der spieltheoretische Wert der Stellung.
+     */
+    @NotNull
+    public GameValue getValue(final int moverBoard, final int opponentBoard) {
+        return GameValue.values()[(this.entries[getKey(moverBoard, opponentBoard)] >> VALUE_SHIFT) & 0x3];
+    }
+
+    /**
+     * Schreibt diese Tabelle in einen {@link OutputStream}, sodass sie mit {@link #read(InputStream)} wieder geladen
+     * werden kann.
+     *
+     * @param outputStream Der {@link OutputStream}, in den die Tabelle geschrieben wird.
+     *
+     * @throws IOException Wenn die Tabelle nicht geschrieben werden konnte.
+     */
+    public void write(@NotNull final OutputStream outputStream) throws IOException {
+        outputStream.write(this.entries);
+    }
+
+    //<editor-fold desc="utility">
+
+    /**
+     * Gibt die Tabelle zurück, die beim ersten Aufruf entweder aus der Ressource {@value #RESOURCE_NAME} geladen oder,
+     * wenn diese nicht vorhanden ist, einmalig berechnet wird.
+     *
+     * @return Die Tabelle mit dem besten Zug für jede erreichbare Stellung.
+     */
+    @NotNull
+    public static PerfectPlayTable getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Berechnet eine neue {@link PerfectPlayTable}, indem jede erreichbare Stellung ausgehend vom leeren Spielfeld genau
+     * einmal mithilfe von Negamax bewertet wird.
+     *
+     * @return Die berechnete Tabelle.
+     */
+    @NotNull
+    public static PerfectPlayTable generate() {
+        final byte[] entries = new byte[POSITION_COUNT];
+        final int[] scores = new int[POSITION_COUNT];
+        final boolean[] visited = new boolean[POSITION_COUNT];
+        Arrays.fill(entries, (byte) ((GameValue.DRAW.ordinal() << VALUE_SHIFT) | NO_MOVE));
+
+        solve(0, 0, entries, scores, visited);
+        return new PerfectPlayTable(entries);
+    }
+
+    /**
+     * Liest eine {@link PerfectPlayTable} aus einem {@link InputStream}, die zuvor mit {@link #write(OutputStream)}
+     * geschrieben wurde.
+     *
+     * @param inputStream Der {@link InputStream}, aus dem die Tabelle gelesen wird.
+     *
+     * @return Die gelesene Tabelle.
+     *
+     * @throws IOException Wenn die Tabelle nicht gelesen werden konnte.
+     */
+    @NotNull
+    public static PerfectPlayTable read(@NotNull final InputStream inputStream) throws IOException {
+        final byte[] entries = new byte[POSITION_COUNT];
+        new DataInputStream(inputStream).readFully(entries);
+
+        return new PerfectPlayTable(entries);
+    }
+
+    /**
+     * Bewertet eine Stellung und alle darauf folgenden Stellungen, sofern diese noch nicht bewertet wurden, und trägt
+     * den besten Zug sowie den Wert in die Tabelle ein.
+     *
+     * @param moverBoard    Die Bitmaske aller Felder des Spielers, der an der Reihe ist.
+     * @param opponentBoard Die Bitmaske aller Felder des Gegenspielers.
+     * @param entries       Die Einträge der Tabelle, die gefüllt werden.
+     * @param scores        Die Bewertungen aller bereits bewerteten Stellungen, anhand der kodierten Stellung.
+     * @param visited       Ob eine Stellung bereits bewertet wurde, anhand der kodierten Stellung.
+     *
+     * @return Die Bewertung der Stellung aus Sicht des Spielers, der an der Reihe ist. Ein schnellerer Sieg bzw. eine
+     *      spätere Niederlage werden dabei höher bewertet.
+     */
+    private static int solve(
+            final int moverBoard,
+            final int opponentBoard,
+            @NotNull final byte @NotNull [] entries,
+            @NotNull final int @NotNull [] scores,
+            @NotNull final boolean @NotNull [] visited
+    ) {
+        final int key = getKey(moverBoard, opponentBoard);
+        final int emptyCount = CELL_COUNT - Integer.bitCount(moverBoard | opponentBoard);
+
+        if (visited[key]) return scores[key];
+        visited[key] = true;
+
+        int bestScore = 0;
+        int bestMove = NO_MOVE;
+
+        if (hasWon(opponentBoard)) {
+            bestScore = -(emptyCount + 1);
+        } else if (emptyCount > 0) {
+            bestScore = Integer.MIN_VALUE;
+            final int free = ~(moverBoard | opponentBoard) & FULL_MASK;
+
+            for (int move = 0; move < CELL_COUNT; move++) {
+                if ((free & (1 << move)) == 0) continue;
+
+                final int score = -solve(opponentBoard, moverBoard | (1 << move), entries, scores, visited);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestMove = move;
+                }
+            }
+        }
+
+        final GameValue value = bestScore > 0 ? GameValue.WIN : bestScore < 0 ? GameValue.LOSS : GameValue.DRAW;
+        entries[key] = (byte) ((value.ordinal() << VALUE_SHIFT) | bestMove);
+        scores[key] = bestScore;
+        return bestScore;
+    }
+
+    /**
+     * Kodiert eine Stellung als Zahl zur Basis 3, die als Index in der Tabelle genutzt wird.
+     *
+     * @param moverBoard    Die Bitmaske aller Felder des Spielers, der an der Reihe ist.
+     * @param opponentBoard Die Bitmaske aller Felder des Gegenspielers.
+     *
+     * @return Der Index der Stellung in der Tabelle.
+     */
+    @Range(from = 0, to = POSITION_COUNT - 1)
+    private static int getKey(final int moverBoard, final int opponentBoard) {
+        return BASE_3[moverBoard & FULL_MASK] + 2 * BASE_3[opponentBoard & FULL_MASK];
+    }
+
+    /**
+     * Prüft, ob auf einer Bitmaske eine der Linien des klassischen 3x3 Spielfeldes vollständig belegt ist.
+     *
+     * @param board Die Bitmaske, die überprüft werden soll.
+     *
+     * @return Wenn eine Kombination vollständig belegt ist {@code true}, ansonsten {@code false}.
+     */
+    private static boolean hasWon(final int board) {
+        for (final int mask : WIN_MASKS) {
+            if ((board & mask) == mask) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Berechnet die Tabelle und schreibt sie in die übergebene Datei. Diese Methode wird beim Bauen der Anwendung
+     * aufgerufen, damit die Tabelle als Ressource ausgeliefert werden kann.
+     *
+     * @param args Der Pfad der Datei, in die die Tabelle geschrieben wird.
+     *
+     * @throws IOException Wenn die Tabelle nicht geschrieben werden konnte.
+     */
+    public static void main(@NotNull final String @NotNull [] args) throws IOException {
+        final Path path = Paths.get(args[0]);
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+
+        try (final OutputStream outputStream = Files.newOutputStream(path)) {
+            generate().write(outputStream);
+        }
+    }
+    //</editor-fold>
+
+
+    //<editor-fold desc="InstanceHolder">
+
+    /**
+     * Der {@link InstanceHolder} sorgt dafür, dass die Tabelle erst beim ersten Zugriff geladen bzw. berechnet wird.
+     */
+    private static final class InstanceHolder {
+
+        //<editor-fold desc="CONSTANTS">
+        /** Die Tabelle, die einmalig geladen bzw. berechnet wird. */
+        @NotNull
+        private static final PerfectPlayTable INSTANCE = load();
+        //</editor-fold>
+
+
+        /**
+         * Lädt die Tabelle aus der Ressource {@value #RESOURCE_NAME} bzw. berechnet sie, wenn die Ressource nicht
+         * vorhanden ist.
+         *
+         * @return Die geladene bzw. berechnete Tabelle.
+         */
+        @NotNull
+        private static PerfectPlayTable load() {
+            try (final InputStream inputStream = PerfectPlayTable.class.getResourceAsStream(RESOURCE_NAME)) {
+                if (inputStream != null) return read(inputStream);
+            } catch (@NotNull final IOException ignored) {
+                // the table is generated below if the resource is missing or damaged
+            }
+
+            return generate();
+        }
+    }
+    //</editor-fold>
+
+}
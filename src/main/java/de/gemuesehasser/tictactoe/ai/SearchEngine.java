@@ -0,0 +1,831 @@
+package de.gemuesehasser.tictactoe.ai;
+
+import de.gemuesehasser.tictactoe.constant.BoundType;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Die {@link SearchEngine} sucht mithilfe von Negamax mit Alpha-Beta-Suche den besten Zug auf einem beliebig großen
+ * {@link GameBoard Spielfeld}. Die Suche wird iterativ vertieft, bis das Zeitbudget für einen Zug aufgebraucht ist,
+ * wobei das Ergebnis der letzten vollständig abgeschlossenen Iteration genutzt wird. Die Züge werden anhand der
+ * Belegung der Linien durch das jeweilige Feld sortiert und der beste Zug der vorherigen Iteration wird immer zuerst
+ * untersucht. Nachdem der erste Zug an der Wurzel untersucht wurde, werden alle weiteren Züge an der Wurzel mithilfe
+ * eines {@link ForkJoinPool} auf alle Kerne verteilt.
+ *
+ * <p>Alle Threads teilen sich eine {@link TranspositionTable}, in der jede Stellung in ihrer kanonischen Form abgelegt
+ * wird. Dafür wird für jede der acht Symmetrien des Spielfeldes ein eigener Zobrist-Hash mitgeführt und der kleinste
+ * dieser Hashes als Schlüssel genutzt, sodass gespiegelte und gedrehte Stellungen denselben Eintrag teilen.</p>
+ *
+ * <p>Jeder Thread sucht auf einer eigenen Kopie des Spielfeldes, auf der alle Züge nur gemacht und wieder
+ * zurückgenommen werden. Diese Kopien werden während einer Suche über alle Züge an der Wurzel und alle Iterationen
+ * hinweg wiederverwendet, sodass pro Suche höchstens so viele Kopien erzeugt werden, wie Threads gleichzeitig
+ * suchen.</p>
+ *
+ * <p>Jede {@link SearchEngine} besitzt ihren eigenen {@link ForkJoinPool}, dessen Threads erst durch {@link #close()}
+ * beendet werden. Eine {@link SearchEngine}, die nicht mehr benötigt wird, sollte daher immer geschlossen werden.</p>
+ */
+@Getter
+public final class SearchEngine implements AutoCloseable {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Name der System-Property, mit der das Zeitbudget pro Zug in Millisekunden festgelegt werden kann. */
+    @NotNull
+    public static final String TIME_BUDGET_PROPERTY_NAME = "tictactoe.timeBudget";
+    /** Das Zeitbudget pro Zug in Millisekunden, wenn keines festgelegt wurde. */
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 500;
+    /**
+     * Der Name der System-Property, mit der die maximale Tiefe der Suche in den Simulationen festgelegt werden kann.
+     * Nur mit einer festen Tiefe (und einem ausreichend großen Zeitbudget) hängen die Züge nicht von der Maschine ab.
+     */
+    @NotNull
+    public static final String MAX_DEPTH_PROPERTY_NAME = "tictactoe.searchDepth";
+    /** Die Bewertung einer gewonnenen Stellung, von der die Anzahl an Zügen bis zum Sieg abgezogen wird. */
+    public static final int WIN_SCORE = 1_000_000;
+    /** Eine Bewertung, die größer als jede mögliche Bewertung einer Stellung ist. */
+    private static final int INFINITY = WIN_SCORE + 1;
+    /** Die maximale Anzahl an Feldern, bei der noch alle freien Felder als Zug untersucht werden. */
+    private static final int FULL_WIDTH_CELL_COUNT = 25;
+    /** Der Abstand zu einem belegten Feld, den ein freies Feld auf größeren Spielfeldern höchstens haben darf. */
+    private static final int NEIGHBOURHOOD = 2;
+    /** Die Anzahl an Stellungen (minus 1), nach denen jeweils überprüft wird, ob das Zeitbudget aufgebraucht ist. */
+    private static final int TIME_CHECK_INTERVAL = 1023;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Das Zeitbudget pro Zug in Millisekunden. */
+    private final long timeBudgetMillis;
+    /** Die maximale Tiefe, bis zu der gesucht wird. */
+    private final int maxDepth;
+    /** Der Pool, auf den die Züge an der Wurzel verteilt werden. */
+    @NotNull
+    private final ForkJoinPool pool;
+    /** Die Tabelle, in der sich alle Threads die Ergebnisse bereits untersuchter Stellungen teilen. */
+    @NotNull
+    private final TranspositionTable transpositionTable;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue {@link SearchEngine}, die alle verfügbaren Kerne nutzt und das Zeitbudget aus der
+     * System-Property {@value #TIME_BUDGET_PROPERTY_NAME} bzw. {@value #DEFAULT_TIME_BUDGET_MILLIS} Millisekunden
+     * verwendet.
+     */
+    public SearchEngine() {
+        this(
+                Long.getLong(TIME_BUDGET_PROPERTY_NAME, DEFAULT_TIME_BUDGET_MILLIS),
+                Integer.MAX_VALUE,
+                Runtime.getRuntime().availableProcessors()
+        );
+    }
+
+    /**
+     * Erzeugt eine neue {@link SearchEngine} mit einem bestimmten Zeitbudget pro Zug, einer maximalen Tiefe und einer
+     * bestimmten Anzahl an Threads.
+     *
+     * @param timeBudgetMillis Das Zeitbudget pro Zug in Millisekunden.
+     * @param maxDepth         Die maximale Tiefe, bis zu der gesucht wird.
+     * @param parallelism      Die Anzahl an Threads, auf die die Züge an der Wurzel verteilt werden.
+     */
+    public SearchEngine(
+            @Range(from = 0, to = Long.MAX_VALUE) final long timeBudgetMillis,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int maxDepth,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int parallelism
+    ) {
+        this(timeBudgetMillis, maxDepth, parallelism, new TranspositionTable(TranspositionTable.DEFAULT_ENTRIES));
+    }
+
+    /**
+     * Erzeugt eine neue {@link SearchEngine} mit einem bestimmten Zeitbudget pro Zug, einer maximalen Tiefe, einer
+     * bestimmten Anzahl an Threads und einer bestimmten {@link TranspositionTable}.
+     *
+     * @param timeBudgetMillis   Das Zeitbudget pro Zug in Millisekunden.
+     * @param maxDepth           Die maximale Tiefe, bis zu der gesucht wird.
+     * @param parallelism        Die Anzahl an Threads, auf die die Züge an der Wurzel verteilt werden.
+     * @param transpositionTable Die Tabelle, in der die Ergebnisse bereits untersuchter Stellungen abgelegt werden.
+     */
+    public SearchEngine(
+            @Range(from = 0, to = Long.MAX_VALUE) final long timeBudgetMillis,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int maxDepth,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int parallelism,
+            @NotNull final TranspositionTable transpositionTable
+    ) {
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.maxDepth = maxDepth;
+        this.pool = new ForkJoinPool(parallelism);
+        this.transpositionTable = transpositionTable;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Beendet den {@link ForkJoinPool} dieser {@link SearchEngine}. Eine laufende Suche wird noch abgeschlossen, jede
+     * weitere Suche, die Züge an der Wurzel verteilen müsste, wird danach mit einer
+     * {@link java.util.concurrent.RejectedExecutionException} abgelehnt.
+     */
+    @Override
+    public void close() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Sucht den besten Zug für einen bestimmten {@link UserType Typen} auf einem Spielfeld. Das übergebene Spielfeld
+     * wird dabei nicht verändert. Wird der aufrufende Thread unterbrochen, endet die Suche vorzeitig mit dem besten Zug
+     * der letzten vollständig abgeschlossenen Iteration.
+     *
+     * @param board  Das Spielfeld, auf dem der beste Zug gesucht werden soll.
+     * @param mover  Der {@link UserType Typ}, der an der Reihe ist.
+     *
+     * @return Das Ergebnis der Suche mit dem besten Zug.
+     */
+    @NotNull
+    public SearchResult search(@NotNull final GameBoard board, @NotNull final UserType mover) {
+        return search(board, mover, this.timeBudgetMillis, this.maxDepth, null);
+    }
+
+    /**
+     * Sucht den besten Zug für einen bestimmten {@link UserType Typen} auf einem Spielfeld mit einem eigenen Zeitbudget
+     * und einer eigenen maximalen Tiefe. Das übergebene Spielfeld wird dabei nicht verändert. Nach jeder vollständig
+     * abgeschlossenen Iteration wird das bisherige Ergebnis an einen optionalen Empfänger übergeben.
+     *
+     * @param board            Das Spielfeld, auf dem der beste Zug gesucht werden soll.
+     * @param mover            Der {@link UserType Typ}, der an der Reihe ist.
+     * @param timeBudgetMillis Das Zeitbudget dieser Suche in Millisekunden.
+     * @param maxDepth         Die maximale Tiefe, bis zu der diese Suche sucht.
+     * @param progress         Der Empfänger, an den das Ergebnis jeder abgeschlossenen Iteration (auf dem suchenden
+     *                         Thread) übergeben wird bzw. {@code null}, wenn es keinen gibt.
+     *
+     * @return Das Ergebnis der Suche mit dem besten Zug.
+     */
+    @NotNull
+    public SearchResult search(
+            @NotNull final GameBoard board,
+            @NotNull final UserType mover,
+            @Range(from = 0, to = Long.MAX_VALUE) final long timeBudgetMillis,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int maxDepth,
+            @Nullable final Consumer<SearchResult> progress
+    ) {
+        final long start = System.nanoTime();
+        final SearchContext context = new SearchContext(
+                start + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis),
+                Thread.currentThread()
+        );
+        final Searcher rootSearcher = new Searcher(board, context, this.transpositionTable);
+        this.transpositionTable.newSearch();
+
+        final int rootMoveCount = rootSearcher.generateMoves(0, mover, -1);
+        final int[] rootMoves = new int[rootMoveCount];
+        System.arraycopy(rootSearcher.moves[0], 0, rootMoves, 0, rootMoveCount);
+        context.idleSearchers.offer(rootSearcher);
+
+        if (rootMoveCount <= 1 || board.getWinner() != null) {
+            return new SearchResult(
+                    rootMoveCount == 0 || board.getWinner() != null ? -1 : rootMoves[0],
+                    0,
+                    0,
+                    0,
+                    System.nanoTime() - start,
+                    this.pool.getParallelism()
+            );
+        }
+
+        final int[] rootScores = new int[rootMoveCount];
+        final int emptyCells = board.getLayout().getCellCount() - board.getMoveCount();
+        int bestMove = rootMoves[0];
+        int bestScore = 0;
+        int depthReached = 0;
+
+        for (int depth = 1; depth <= Math.min(maxDepth, emptyCells); depth++) {
+            final int bestIndex = searchRoot(board, mover, rootMoves, rootScores, depth, context);
+            if (context.aborted) break;
+
+            bestMove = rootMoves[bestIndex];
+            bestScore = rootScores[bestIndex];
+            depthReached = depth;
+
+            if (progress != null) {
+                progress.accept(new SearchResult(
+                        bestMove,
+                        bestScore,
+                        depthReached,
+                        context.nodes.sum(),
+                        System.nanoTime() - start,
+                        this.pool.getParallelism()
+                ));
+            }
+
+            if (Math.abs(bestScore) > WIN_SCORE - board.getLayout().getCellCount()) break;
+            sortByScore(rootMoves, rootScores, rootMoveCount);
+        }
+
+        return new SearchResult(
+                bestMove,
+                bestScore,
+                depthReached,
+                context.nodes.sum(),
+                System.nanoTime() - start,
+                this.pool.getParallelism()
+        );
+    }
+
+    /**
+     * Prüft, ob auf einem Spielfeld mit einer bestimmten Form alle freien Felder als Zug untersucht werden. Nur dann ist
+     * eine Suche, die bis zum letzten freien Feld reicht, auch vollständig.
+     *
+     * @param layout Die Form des Spielfeldes.
+     *
+     * @return Wenn alle freien Felder als Zug untersucht werden {@code true}, ansonsten {@code false}.
+     */
+    public static boolean isFullWidth(@NotNull final BoardLayout layout) {
+        return layout.getCellCount() <= FULL_WIDTH_CELL_COUNT;
+    }
+
+    /**
+     * Untersucht alle Züge an der Wurzel bis zu einer bestimmten Tiefe. Der erste Zug wird alleine untersucht, um eine
+     * möglichst gute untere Schranke zu erhalten, alle weiteren Züge werden parallel mit dieser Schranke untersucht.
+     *
+     * @param board      Das Spielfeld, auf dem gesucht wird.
+     * @param mover      Der {@link UserType Typ}, der an der Reihe ist.
+     * @param rootMoves  Alle Züge an der Wurzel.
+     * @param rootScores Die Bewertungen aller Züge an der Wurzel, die durch diese Methode gefüllt werden.
+     * @param depth      Die Tiefe, bis zu der gesucht wird.
+     * @param context    Der Kontext dieser Suche.
+     *
+     * @return Der Index des besten Zuges in den Zügen an der Wurzel.
+     */
+    private int searchRoot(
+            @NotNull final GameBoard board,
+            @NotNull final UserType mover,
+            final int @NotNull [] rootMoves,
+            final int @NotNull [] rootScores,
+            final int depth,
+            @NotNull final SearchContext context
+    ) {
+        rootScores[0] = searchMove(board, context, rootMoves[0], mover, depth, -INFINITY);
+        final AtomicInteger alpha = new AtomicInteger(rootScores[0]);
+
+        final List<RecursiveAction> tasks = new ArrayList<>(rootMoves.length - 1);
+        for (int i = 1; i < rootMoves.length; i++) {
+            final int index = i;
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    final int score = searchMove(board, context, rootMoves[index], mover, depth, alpha.get());
+                    rootScores[index] = score;
+                    alpha.accumulateAndGet(score, Math::max);
+                }
+            });
+        }
+
+        this.pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+
+        int bestIndex = 0;
+        for (int i = 1; i < rootMoves.length; i++) {
+            if (rootScores[i] > rootScores[bestIndex]) bestIndex = i;
+        }
+
+        return bestIndex;
+    }
+
+    /**
+     * Untersucht einen einzelnen Zug an der Wurzel mit einem {@link Searcher}, der gerade von keinem anderen Thread
+     * verwendet wird. Gibt es keinen solchen {@link Searcher}, wird ein neuer erzeugt.
+     *
+     * @param board   Das Spielfeld, auf dem gesucht wird.
+     * @param context Der Kontext dieser Suche.
+     * @param move    Der Index des Feldes, welches belegt wird.
+     * @param mover   Der {@link UserType Typ}, der an der Reihe ist.
+     * @param depth   Die Tiefe, bis zu der gesucht wird.
+     * @param alpha   Die bereits bekannte untere Schranke an der Wurzel.
+     *
+     * @return Die Bewertung des Zuges aus Sicht des Spielers, der an der Reihe ist.
+     */
+    private int searchMove(
+            @NotNull final GameBoard board,
+            @NotNull final SearchContext context,
+            final int move,
+            @NotNull final UserType mover,
+            final int depth,
+            final int alpha
+    ) {
+        final Searcher idle = context.idleSearchers.poll();
+        final Searcher searcher = idle != null ? idle : new Searcher(board, context, this.transpositionTable);
+        final int score = searcher.searchMove(move, mover, depth, alpha);
+
+        context.idleSearchers.offer(searcher);
+        return score;
+    }
+
+    /**
+     * Sortiert die Züge an der Wurzel absteigend anhand ihrer Bewertung, sodass in der nächsten Iteration die besten Züge
+     * zuerst untersucht werden. Bei gleicher Bewertung bleibt die bisherige Reihenfolge erhalten.
+     *
+     * @param moves  Die Züge, die sortiert werden.
+     * @param scores Die Bewertungen der Züge, die mitsortiert werden.
+     * @param count  Die Anzahl der Züge.
+     */
+    private static void sortByScore(final int @NotNull [] moves, final int @NotNull [] scores, final int count) {
+        for (int i = 1; i < count; i++) {
+            final int move = moves[i];
+            final int score = scores[i];
+            int j = i - 1;
+
+            while (j >= 0 && scores[j] < score) {
+                moves[j + 1] = moves[j];
+                scores[j + 1] = scores[j];
+                j--;
+            }
+
+            moves[j + 1] = move;
+            scores[j + 1] = score;
+        }
+    }
+
+
+    //<editor-fold desc="SearchContext">
+
+    /**
+     * Ein {@link SearchContext} enthält alle Informationen, die sich alle Threads während einer Suche teilen.
+     */
+    private static final class SearchContext {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Der Zeitpunkt in Nanosekunden, zu dem die Suche abgebrochen wird. */
+        private final long deadline;
+        /** Der Thread, der die Suche gestartet hat und sie durch eine Unterbrechung vorzeitig abbrechen kann. */
+        @NotNull
+        private final Thread owner;
+        /** Die Anzahl aller untersuchten Stellungen. */
+        @NotNull
+        private final LongAdder nodes = new LongAdder();
+        /** Alle {@link Searcher}, die gerade von keinem Thread verwendet werden. */
+        @NotNull
+        private final Queue<Searcher> idleSearchers = new ConcurrentLinkedQueue<>();
+        /** Ob die Suche abgebrochen wurde, weil das Zeitbudget aufgebraucht ist oder sie unterbrochen wurde. */
+        private volatile boolean aborted;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt einen neuen {@link SearchContext} für eine Suche.
+         *
+         * @param deadline Der Zeitpunkt in Nanosekunden, zu dem die Suche abgebrochen wird.
+         * @param owner    Der Thread, der die Suche gestartet hat.
+         */
+        private SearchContext(final long deadline, @NotNull final Thread owner) {
+            this.deadline = deadline;
+            this.owner = owner;
+        }
+        //</editor-fold>
+
+
+        /**
+         * Prüft, ob das Zeitbudget aufgebraucht ist oder der Thread, der die Suche gestartet hat, unterbrochen wurde und
+         * markiert die Suche in diesem Fall als abgebrochen.
+         *
+         * @return Wenn die Suche abgebrochen wurde {@code true}, ansonsten {@code false}.
+         */
+        private boolean checkAborted() {
+            if (!this.aborted && (System.nanoTime() - this.deadline > 0 || this.owner.isInterrupted())) this.aborted = true;
+            return this.aborted;
+        }
+    }
+    //</editor-fold>
+
+
+    //<editor-fold desc="Searcher">
+
+    /**
+     * Ein {@link Searcher} führt die eigentliche Suche auf einer eigenen Kopie des Spielfeldes aus, sodass mehrere
+     * {@link Searcher} unabhängig voneinander auf verschiedenen Threads suchen können. Die Bewertung der Stellung und die
+     * Nachbarschaft aller Felder werden bei jedem Zug nur für die betroffenen Linien bzw. Felder aktualisiert. Nach
+     * jedem untersuchten Zug an der Wurzel befindet sich die Kopie wieder in der Ausgangsstellung, sodass ein
+     * {@link Searcher} beliebig viele Züge an der Wurzel nacheinander untersuchen kann.
+     */
+    private static final class Searcher {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Die eigene Kopie des Spielfeldes, auf der gesucht wird. */
+        @NotNull
+        private final GameBoard board;
+        /** Die Form des Spielfeldes, auf dem gesucht wird. */
+        @NotNull
+        private final BoardLayout layout;
+        /** Der Kontext der Suche, den sich alle Threads teilen. */
+        @NotNull
+        private final SearchContext context;
+        /** Die Tabelle, die sich alle Threads teilen. */
+        @NotNull
+        private final TranspositionTable table;
+        /** Die Zobrist-Zahlen für alle Felder des Spielfeldes. */
+        @NotNull
+        private final ZobristKeys keys;
+        /** Der Zobrist-Hash der aktuellen Stellung für jede Symmetrie des Spielfeldes. */
+        private final long @NotNull [] hashes = new long[BoardLayout.SYMMETRY_COUNT];
+        /** Die Symmetrie, unter der die aktuelle Stellung ihren kanonischen (kleinsten) Hash besitzt. */
+        private int canonicalSymmetry;
+        /** Die Gewichtung einer Linie anhand der Anzahl an Feldern, die ein Typ alleine auf dieser Linie belegt. */
+        private final int @NotNull [] lineWeights;
+        /** Für jedes Feld die Anzahl an belegten Feldern in seiner Nachbarschaft. */
+        private final int @NotNull [] neighbours;
+        /** Die Züge, die auf jeder Ebene der Suche untersucht werden, wobei jede Ebene erst bei Bedarf erzeugt wird. */
+        private final int @NotNull [] @NotNull [] moves;
+        /** Die Bewertungen der Züge, anhand der die Züge auf jeder Ebene sortiert werden. */
+        private final int @NotNull [] @NotNull [] moveScores;
+        /** Ob auf diesem Spielfeld nur Felder in der Nachbarschaft belegter Felder untersucht werden. */
+        private final boolean restrictToNeighbourhood;
+        /** Die Bewertung der aktuellen Stellung aus Sicht des Nutzers. */
+        private int evaluation;
+        /** Die Anzahl an Stellungen, die noch nicht zum Kontext hinzugefügt wurden. */
+        private long nodes;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt einen neuen {@link Searcher} mit einer eigenen Kopie eines Spielfeldes.
+         *
+         * @param board   Das Spielfeld, welches kopiert wird.
+         * @param context Der Kontext der Suche, den sich alle Threads teilen.
+         * @param table   Die Tabelle, die sich alle Threads teilen.
+         */
+        private Searcher(
+                @NotNull final GameBoard board,
+                @NotNull final SearchContext context,
+                @NotNull final TranspositionTable table
+        ) {
+            this.board = new GameBoard(board);
+            this.layout = board.getLayout();
+            this.context = context;
+            this.table = table;
+            this.keys = ZobristKeys.of(this.layout);
+
+            final int cellCount = this.layout.getCellCount();
+            this.lineWeights = new int[this.layout.getWinLength() + 1];
+            for (int i = 1; i < this.lineWeights.length; i++) {
+                this.lineWeights[i] = 1 << (3 * (i - 1));
+            }
+
+            this.neighbours = new int[cellCount];
+            this.moves = new int[cellCount - board.getMoveCount() + 1][];
+            this.moveScores = new int[this.moves.length][];
+            this.restrictToNeighbourhood = !isFullWidth(this.layout);
+
+            for (int cell = 0; cell < cellCount; cell++) {
+                final UserType userType = this.board.getUserType(cell);
+                if (userType == null) continue;
+
+                updateNeighbours(cell, 1);
+                updateHashes(cell, userType);
+            }
+
+            for (int line = 0; line < this.layout.getLines().length; line++) {
+                this.evaluation += getLineValue(line);
+            }
+        }
+        //</editor-fold>
+
+
+        /**
+         * Untersucht einen einzelnen Zug an der Wurzel.
+         *
+         * @param move  Der Index des Feldes, welches belegt wird.
+         * @param mover Der {@link UserType Typ}, der an der Reihe ist.
+         * @param depth Die Tiefe, bis zu der gesucht wird.
+         * @param alpha Die bereits bekannte untere Schranke an der Wurzel.
+         *
+         * @return Die Bewertung des Zuges aus Sicht des Spielers, der an der Reihe ist. Ist diese nicht größer als
+         *      {@code alpha}, ist sie nur eine obere Schranke.
+         */
+        private int searchMove(final int move, @NotNull final UserType mover, final int depth, final int alpha) {
+            make(move, mover);
+            final int score = -negamax(depth - 1, -INFINITY, -alpha, 1, mover.getOpponent());
+            unmake(move);
+
+            this.context.nodes.add(this.nodes);
+            this.nodes = 0;
+            return score;
+        }
+
+        /**
+         * Bewertet die aktuelle Stellung mithilfe von Negamax mit Alpha-Beta-Suche.
+         *
+         * @param depth Die verbleibende Tiefe.
+         * @param alpha Die untere Schranke.
+         * @param beta  Die obere Schranke.
+         * @param ply   Die Anzahl an Zügen seit der Wurzel.
+         * @param mover Der {@link UserType Typ}, der an der Reihe ist.
+         *
+         * @return Die Bewertung der Stellung aus Sicht des Spielers, der an der Reihe ist.
+         */
+        private int negamax(final int depth, int alpha, int beta, final int ply, @NotNull final UserType mover) {
+            if ((++this.nodes & TIME_CHECK_INTERVAL) == 0 && this.context.checkAborted()) return 0;
+
+            if (this.board.getWinner() != null) return -(WIN_SCORE - ply);
+            if (this.board.isFull()) return 0;
+            if (depth == 0) return mover == UserType.USER ? this.evaluation : -this.evaluation;
+
+            // probe the transposition table with the canonical hash of this position
+            final long hash = getCanonicalHash(mover);
+            final int symmetry = this.canonicalSymmetry;
+            final long entry = this.table.probe(hash);
+            int tableMove = -1;
+
+            if (entry != TranspositionTable.MISS) {
+                if (TranspositionTable.getMove(entry) != TranspositionTable.NO_MOVE) {
+                    tableMove = this.layout.getInverseSymmetries()[symmetry][TranspositionTable.getMove(entry)];
+                }
+
+                if (TranspositionTable.getDepth(entry) >= depth) {
+                    final int score = fromTableScore(TranspositionTable.getScore(entry), ply);
+                    final BoundType bound = TranspositionTable.getBound(entry);
+
+                    if (bound == BoundType.EXACT) return score;
+                    if (bound == BoundType.LOWER && score > alpha) alpha = score;
+                    if (bound == BoundType.UPPER && score < beta) beta = score;
+                    if (alpha >= beta) return score;
+                }
+            }
+
+            final int originalAlpha = alpha;
+            final int moveCount = generateMoves(ply, mover, tableMove);
+            final int[] plyMoves = this.moves[ply];
+            final UserType opponent = mover.getOpponent();
+            int best = -INFINITY;
+            int bestMove = -1;
+
+            for (int i = 0; i < moveCount; i++) {
+                final int move = plyMoves[i];
+
+                make(move, mover);
+                final int score = -negamax(depth - 1, -beta, -alpha, ply + 1, opponent);
+                unmake(move);
+
+                if (this.context.aborted) return 0;
+                if (score > best) {
+                    best = score;
+                    bestMove = move;
+                    if (score > alpha) alpha = score;
+                    if (alpha >= beta) break;
+                }
+            }
+
+            this.table.store(
+                    hash,
+                    depth,
+                    best <= originalAlpha ? BoundType.UPPER : best >= beta ? BoundType.LOWER : BoundType.EXACT,
+                    toTableScore(best, ply),
+                    bestMove < 0 ? TranspositionTable.NO_MOVE : this.layout.getSymmetries()[symmetry][bestMove]
+            );
+
+            return best;
+        }
+
+        /**
+         * Gibt den kanonischen Hash der aktuellen Stellung zurück, also den kleinsten Hash über alle Symmetrien des
+         * Spielfeldes, und merkt sich die Symmetrie, unter der dieser Hash entsteht.
+         *
+         * @param mover Der {@link UserType Typ}, der an der Reihe ist.
+         *
+         * @return Der kanonische Hash der aktuellen Stellung.
+         */
+        private long getCanonicalHash(@NotNull final UserType mover) {
+            int symmetry = 0;
+
+            for (int i = 1; i < this.hashes.length; i++) {
+                if (this.hashes[i] < this.hashes[symmetry]) symmetry = i;
+            }
+
+            this.canonicalSymmetry = symmetry;
+            return this.hashes[symmetry] ^ (mover == UserType.COMPUTER ? this.keys.getSideKey() : 0);
+        }
+
+        /**
+         * Rechnet eine Bewertung für die {@link TranspositionTable} um, sodass ein Sieg nicht relativ zur Wurzel, sondern
+         * relativ zur aktuellen Stellung abgespeichert wird.
+         *
+         * @param score Die Bewertung relativ zur Wurzel.
+         * @param ply   Die Anzahl an Zügen seit der Wurzel.
+         *
+         * @return Die Bewertung relativ zur aktuellen Stellung.
+         */
+        private int toTableScore(final int score, final int ply) {
+            if (score > WIN_SCORE - this.layout.getCellCount()) return score + ply;
+            if (score < -WIN_SCORE + this.layout.getCellCount()) return score - ply;
+            return score;
+        }
+
+        /**
+         * Rechnet eine Bewertung aus der {@link TranspositionTable} wieder so um, dass sie relativ zur Wurzel ist.
+         *
+         * @param score Die Bewertung relativ zur abgespeicherten Stellung.
+         * @param ply   Die Anzahl an Zügen seit der Wurzel.
+         *
+         * @return Die Bewertung relativ zur Wurzel.
+         */
+        private int fromTableScore(final int score, final int ply) {
+            if (score > WIN_SCORE - this.layout.getCellCount()) return score - ply;
+            if (score < -WIN_SCORE + this.layout.getCellCount()) return score + ply;
+            return score;
+        }
+
+        /**
+         * Erzeugt alle Züge auf einer bestimmten Ebene und sortiert diese absteigend anhand der Belegung der Linien, die
+         * durch das jeweilige Feld verlaufen. Züge, mit denen gewonnen oder ein Sieg des Gegners verhindert wird, werden
+         * dabei zuerst untersucht. Ein bekannter bester Zug aus der {@link TranspositionTable} wird noch davor untersucht.
+         *
+         * @param ply       Die Ebene, auf der die Züge erzeugt werden.
+         * @param mover     Der {@link UserType Typ}, der an der Reihe ist.
+         * @param firstMove Der Zug, der zuerst untersucht werden soll bzw. {@code -1}, wenn es keinen solchen Zug gibt.
+         *
+         * @return Die Anzahl der erzeugten Züge.
+         */
+        private int generateMoves(final int ply, @NotNull final UserType mover, final int firstMove) {
+            if (this.moves[ply] == null) {
+                this.moves[ply] = new int[this.layout.getCellCount()];
+                this.moveScores[ply] = new int[this.layout.getCellCount()];
+            }
+
+            final int[] plyMoves = this.moves[ply];
+            final int[] plyScores = this.moveScores[ply];
+            final boolean restrict = this.restrictToNeighbourhood && this.board.getMoveCount() > 0;
+            int count = 0;
+
+            for (int position = 0, free = this.board.getFreeCellCount(); position < free; position++) {
+                final int cell = this.board.getFreeCell(position);
+                if (restrict && this.neighbours[cell] == 0) continue;
+
+                final int score = cell == firstMove ? Integer.MAX_VALUE : getMoveScore(cell, mover);
+                int j = count++;
+
+                // equal scores are ordered by their index, independent of the order of the free cells
+                while (j > 0 && (plyScores[j - 1] < score || plyScores[j - 1] == score && plyMoves[j - 1] > cell)) {
+                    plyMoves[j] = plyMoves[j - 1];
+                    plyScores[j] = plyScores[j - 1];
+                    j--;
+                }
+
+                plyMoves[j] = cell;
+                plyScores[j] = score;
+            }
+
+            if (count == 0 && !this.board.isFull()) {
+                plyMoves[count++] = this.layout.getCenterIndex();
+            }
+
+            return count;
+        }
+
+        /**
+         * Bewertet einen Zug anhand der Belegung aller Linien, die durch das entsprechende Feld verlaufen.
+         *
+         * @param cell  Der Index des Feldes.
+         * @param mover Der {@link UserType Typ}, der an der Reihe ist.
+         *
+         * @return Die Bewertung des Zuges, nach der die Züge sortiert werden.
+         */
+        private int getMoveScore(final int cell, @NotNull final UserType mover) {
+            final int[] ownCounts = this.board.getLineCounts()[mover.ordinal()];
+            final int[] opponentCounts = this.board.getLineCounts()[mover.getOpponent().ordinal()];
+            final int winLength = this.layout.getWinLength();
+            int score = 0;
+
+            for (final int line : this.layout.getCellLines()[cell]) {
+                final int own = ownCounts[line];
+                final int opponent = opponentCounts[line];
+
+                if (opponent == 0) score += own + 1 == winLength ? 1 << 28 : this.lineWeights[own + 1];
+                if (own == 0 && opponent > 0) score += opponent + 1 == winLength ? 1 << 26 : this.lineWeights[opponent];
+            }
+
+            return score;
+        }
+
+        /**
+         * Macht einen Zug und aktualisiert die Bewertung der Stellung und die Nachbarschaft der Felder.
+         *
+         * @param cell  Der Index des Feldes, welches belegt wird.
+         * @param mover Der {@link UserType Typ}, der das Feld belegt.
+         */
+        private void make(final int cell, @NotNull final UserType mover) {
+            final int[] cellLines = this.layout.getCellLines()[cell];
+
+            for (final int line : cellLines) {
+                this.evaluation -= getLineValue(line);
+            }
+
+            this.board.place(cell, mover);
+
+            for (final int line : cellLines) {
+                this.evaluation += getLineValue(line);
+            }
+
+            updateNeighbours(cell, 1);
+            updateHashes(cell, mover);
+        }
+
+        /**
+         * Macht einen Zug wieder rückgängig und aktualisiert die Bewertung der Stellung und die Nachbarschaft der
+         * Felder.
+         *
+         * @param cell Der Index des Feldes, welches wieder freigegeben wird.
+         */
+        private void unmake(final int cell) {
+            final int[] cellLines = this.layout.getCellLines()[cell];
+
+            for (final int line : cellLines) {
+                this.evaluation -= getLineValue(line);
+            }
+
+            final UserType userType = this.board.getUserType(cell);
+            this.board.remove(cell);
+
+            for (final int line : cellLines) {
+                this.evaluation += getLineValue(line);
+            }
+
+            updateNeighbours(cell, -1);
+            if (userType != null) updateHashes(cell, userType);
+        }
+
+        /**
+         * Gibt den Wert einer Linie aus Sicht des Nutzers zurück. Eine Linie ist nur dann etwas wert, wenn sie von genau
+         * einem {@link UserType Typen} belegt ist.
+         *
+         * @param line Der Index der Linie.
+         *
+         * @return Der Wert der Linie aus Sicht des Nutzers.
+         */
+        private int getLineValue(final int line) {
+            final int user = this.board.getLineCounts()[UserType.USER.ordinal()][line];
+            final int computer = this.board.getLineCounts()[UserType.COMPUTER.ordinal()][line];
+
+            if (computer == 0) return this.lineWeights[user];
+            if (user == 0) return -this.lineWeights[computer];
+            return 0;
+        }
+
+        /**
+         * Aktualisiert den Hash der Stellung für jede Symmetrie des Spielfeldes, nachdem ein Feld belegt bzw. wieder
+         * freigegeben wurde. Da die Zahlen per XOR verknüpft werden, sind beide Fälle identisch.
+         *
+         * @param cell     Der Index des Feldes, welches belegt bzw. freigegeben wurde.
+         * @param userType Der {@link UserType Typ}, der das Feld belegt bzw. belegt hat.
+         */
+        private void updateHashes(final int cell, @NotNull final UserType userType) {
+            final int[][] symmetries = this.layout.getSymmetries();
+            final long[][] cellKeys = this.keys.getCellKeys();
+            final int player = userType.ordinal();
+
+            for (int symmetry = 0; symmetry < this.hashes.length; symmetry++) {
+                this.hashes[symmetry] ^= cellKeys[symmetries[symmetry][cell]][player];
+            }
+        }
+
+        /**
+         * Aktualisiert die Anzahl an belegten Feldern in der Nachbarschaft eines Feldes.
+         *
+         * @param cell  Der Index des Feldes, welches belegt bzw. freigegeben wurde.
+         * @param delta Die Veränderung der Anzahl ({@code 1} beim Belegen, {@code -1} beim Freigeben).
+         */
+        private void updateNeighbours(final int cell, final int delta) {
+            final int size = this.layout.getSize();
+            final int row = this.layout.getRow(cell);
+            final int column = this.layout.getColumn(cell);
+
+            for (int r = Math.max(0, row - NEIGHBOURHOOD); r <= Math.min(size - 1, row + NEIGHBOURHOOD); r++) {
+                for (int c = Math.max(0, column - NEIGHBOURHOOD); c <= Math.min(size - 1, column + NEIGHBOURHOOD); c++) {
+                    this.neighbours[this.layout.getIndex(r, c)] += delta;
+                }
+            }
+        }
+    }
+    //</editor-fold>
+
+}
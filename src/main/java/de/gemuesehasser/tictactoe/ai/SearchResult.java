@@ -0,0 +1,62 @@
+package de.gemuesehasser.tictactoe.ai;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ein {@link SearchResult} ist das Ergebnis einer Suche der {@link SearchEngine}. Neben dem besten Zug enthält es
+ * Informationen darüber, wie weit und wie schnell gesucht wurde, damit sich die Spielstärke in Abhängigkeit der
+ * Rechenleistung einschätzen lässt.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public final class SearchResult {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Index des besten Feldes bzw. {@code -1}, wenn es keinen Zug mehr gibt. */
+    private final int bestMove;
+    /** Die Bewertung des besten Zuges aus Sicht des Spielers, der an der Reihe ist. */
+    private final int score;
+    /** Die Tiefe der letzten vollständig abgeschlossenen Iteration. */
+    private final int depth;
+    /** Die Anzahl aller untersuchten Stellungen. */
+    private final long nodes;
+    /** Die Dauer der Suche in Nanosekunden. */
+    private final long elapsedNanos;
+    /** Die Anzahl an Threads, auf die die Suche verteilt wurde. */
+    private final int parallelism;
+    //</editor-fold>
+
+
+    /**
+     * Gibt die Anzahl an untersuchten Stellungen pro Sekunde zurück.
+     *
+     * @return Die Anzahl an untersuchten Stellungen pro Sekunde.
+     */
+    public long getNodesPerSecond() {
+        return this.elapsedNanos == 0 ? this.nodes : this.nodes * TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+    }
+
+    /**
+     * Gibt eine kurze Zusammenfassung dieser Suche zurück, die im Fenster angezeigt werden kann.
+     *
+     * @return Eine kurze Zusammenfassung dieser Suche.
+     */
+    @NotNull
+    public String getSummary() {
+        return String.format(
+                Locale.GERMANY,
+                "Tiefe %d | %,d Knoten/s | %d Threads",
+                this.depth,
+                getNodesPerSecond(),
+                this.parallelism
+        );
+    }
+
+}
@@ -0,0 +1,60 @@
+package de.gemuesehasser.tictactoe.ai;
+
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.SplittableRandom;
+
+/**
+ * Eine {@link Strategy} wählt den Platz für den nächsten Zug eines {@link UserType Typen} auf einem
+ * {@link GameBoard Spielfeld} aus. Eine {@link Strategy} darf einen eigenen Zustand besitzen (z.B. eine Suche mit ihrer
+ * Tabelle) und wird daher immer nur von einem Thread gleichzeitig genutzt. Das übergebene Spielfeld darf während der
+ * Auswahl verändert werden, muss danach aber wieder im selben Zustand sein.
+ *
+ * <p>Damit sich ein Spiel Zug für Zug wiederholen lässt, darf eine {@link Strategy} ausschließlich den Zufallsgenerator
+ * nutzen, den sie zu Beginn jedes Spiels über {@link #startGame(SplittableRandom)} erhält.</p>
+ *
+ * <p>Eine {@link Strategy}, die nicht mehr benötigt wird, wird {@link #close() geschlossen}, damit sie z.B. die Threads
+ * ihrer Suche beenden kann.</p>
+ */
+public interface Strategy extends AutoCloseable {
+
+    /**
+     * Gibt den Namen dieser {@link Strategy} zurück, unter dem z.B. ihre Statistiken oder ihre Wertung abgespeichert
+     * werden.
+     *
+     * @return Der Name dieser {@link Strategy}.
+     */
+    @NotNull
+    String getName();
+
+    /**
+     * Gibt den Index des günstigsten Feldes zum Setzen zurück.
+     *
+     * @param board    Das Spielfeld, auf dem das günstigste Feld gesucht werden soll. Es ist weder gewonnen noch voll.
+     * @param userType Der {@link UserType Typ}, für den das günstigste Feld gesucht werden soll.
+     *
+     * @return Der Index des günstigsten Feldes zum Setzen.
+     */
+    int getBestPlacement(@NotNull GameBoard board, @NotNull UserType userType);
+
+    /**
+     * Bereitet diese {@link Strategy} auf ein neues Spiel vor. Alle zufälligen Entscheidungen des Spiels werden
+     * anschließend mit dem übergebenen Zufallsgenerator getroffen und kein Zustand eines vorherigen Spiels beeinflusst
+     * die Auswahl. Strategien ohne Zufall und ohne Zustand müssen nichts tun.
+     *
+     * @param random Der Zufallsgenerator, mit dem alle zufälligen Entscheidungen des Spiels getroffen werden.
+     */
+    default void startGame(@NotNull final SplittableRandom random) {
+    }
+
+    /**
+     * Gibt alle Ressourcen dieser {@link Strategy} frei. Danach wird sie nicht mehr genutzt. Strategien ohne eigene
+     * Ressourcen müssen nichts tun.
+     */
+    @Override
+    default void close() {
+    }
+
+}
@@ -0,0 +1,535 @@
+package de.gemuesehasser.tictactoe.ai;
+
+import de.gemuesehasser.tictactoe.constant.GameValue;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import de.gemuesehasser.tictactoe.storage.DataDirectory;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Eine {@link Tablebase} enthält für jede Stellung auf einem 4x4 Spielfeld, auf dem vier Felder in einer Reihe für einen
+ * Sieg benötigt werden, den spieltheoretischen Wert und die Anzahl an Halbzügen bis zum Ende des Spiels bei perfektem
+ * Spiel beider Seiten. Anders als die {@link PerfectPlayTable} wird sie nicht beim Starten berechnet, sondern einmalig
+ * mit {@link #generate(Path)} in eine Datei geschrieben, die zur Laufzeit nur lesend in den Speicher abgebildet wird.
+ *
+ * <p>Eine Stellung wird aus Sicht des Spielers beschrieben, der an der Reihe ist, und als {@code (mover << 16) |
+ * opponent} kodiert. Von allen acht symmetrischen Stellungen wird nur diejenige mit dem kleinsten Schlüssel
+ * abgespeichert. Die Datei besteht aus einem Header, allen Schlüsseln in aufsteigender Reihenfolge (je 4 Bytes) und
+ * danach einem Byte je Stellung, in dem die oberen 2 Bit der {@link GameValue Wert} und die unteren 6 Bit die Anzahl
+ * an Halbzügen bis zum Ende sind. Eine Stellung wird mit einer binären Suche über die Schlüssel gefunden.</p>
+ *
+ * <p>Die Tabelle wird rückwärts Schicht für Schicht erzeugt: Zuerst werden alle Stellungen mit 16 belegten Feldern
+ * bewertet, danach alle Stellungen mit 15 belegten Feldern anhand der bereits bewerteten Folgestellungen und so weiter
+ * bis zum leeren Spielfeld.</p>
+ */
+public final class Tablebase {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Form des Spielfeldes, für das diese Tabelle berechnet wird. */
+    @NotNull
+    public static final BoardLayout LAYOUT = new BoardLayout(4, 4);
+    /** Der Name der System-Property, mit der der Pfad der Datei festgelegt werden kann. */
+    @NotNull
+    public static final String PROPERTY_NAME = "tictactoe.tablebase";
+    /** Der Name der Datei im {@link DataDirectory}, wenn kein anderer Pfad festgelegt wurde. */
+    @NotNull
+    public static final String FILE_NAME = "tablebase-4x4.tb";
+    /** Die Kennung, mit der jede Datei beginnt ("TTB1"). */
+    private static final int MAGIC = 0x54544231;
+    /** Die Anzahl an Bytes, die der Header belegt (Kennung und Anzahl an Stellungen). */
+    private static final int HEADER_SIZE = 8;
+    /** Die Anzahl an Feldern auf dem Spielfeld. */
+    private static final int CELL_COUNT = 16;
+    /** Die Bitmaske aller Felder des Spielfeldes. */
+    private static final int FULL_MASK = (1 << CELL_COUNT) - 1;
+    /** Die Anzahl an Bits, um die der Wert einer Stellung in einem Eintrag verschoben ist. */
+    private static final int VALUE_SHIFT = 6;
+    /** Die Bitmaske, mit der die Anzahl an Halbzügen bis zum Ende aus einem Eintrag ausgelesen wird. */
+    private static final int DISTANCE_MASK = (1 << VALUE_SHIFT) - 1;
+    /** Die Bitmasken aller Linien des Spielfeldes. */
+    @NotNull
+    private static final int @NotNull [] WIN_MASKS = new int[LAYOUT.getLines().length];
+    /** Für jede Symmetrie das Abbild jedes möglichen unteren Bytes einer Bitmaske. */
+    @NotNull
+    private static final int @NotNull [] @NotNull [] SYMMETRY_LOW = new int[BoardLayout.SYMMETRY_COUNT][1 << Byte.SIZE];
+    /** Für jede Symmetrie das Abbild jedes möglichen oberen Bytes einer Bitmaske. */
+    @NotNull
+    private static final int @NotNull [] @NotNull [] SYMMETRY_HIGH = new int[BoardLayout.SYMMETRY_COUNT][1 << Byte.SIZE];
+    //</editor-fold>
+
+
+    static {
+        for (int line = 0; line < WIN_MASKS.length; line++) {
+            for (final int cell : LAYOUT.getLines()[line]) {
+                WIN_MASKS[line] |= 1 << cell;
+            }
+        }
+
+        for (int symmetry = 0; symmetry < BoardLayout.SYMMETRY_COUNT; symmetry++) {
+            for (int bits = 0; bits < 1 << Byte.SIZE; bits++) {
+                for (int cell = 0; cell < Byte.SIZE; cell++) {
+                    if ((bits & 1 << cell) == 0) continue;
+
+                    SYMMETRY_LOW[symmetry][bits] |= 1 << LAYOUT.getSymmetries()[symmetry][cell];
+                    SYMMETRY_HIGH[symmetry][bits] |= 1 << LAYOUT.getSymmetries()[symmetry][cell + Byte.SIZE];
+                }
+            }
+        }
+    }
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die nur lesend in den Speicher abgebildete Datei. */
+    @NotNull
+    private final MappedByteBuffer buffer;
+    /** Die Anzahl an Stellungen in dieser Tabelle. */
+    @Getter
+    private final int positionCount;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue {@link Tablebase} anhand einer bereits in den Speicher abgebildeten Datei.
+     *
+     * @param buffer Die nur lesend in den Speicher abgebildete Datei.
+     *
+     * @throws IOException Wenn die Datei keine gültige Tabelle enthält.
+     */
+    private Tablebase(@NotNull final MappedByteBuffer buffer) throws IOException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) throw new IOException("not a tablebase file");
+
+        this.buffer = buffer;
+        this.positionCount = buffer.getInt(Integer.BYTES);
+
+        if (buffer.limit() != HEADER_SIZE + (long) this.positionCount * (Integer.BYTES + 1)) {
+            throw new IOException("tablebase file is truncated");
+        }
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt den spieltheoretischen Wert einer Stellung aus Sicht des Spielers zurück, der an der Reihe ist.
+     *
+     * @param moverBoard    Die Bitmaske aller Felder des Spielers, der an der Reihe ist.
+     * @param opponentBoard Die Bitmaske aller Felder des Gegenspielers.
+     *
+     * @return Der spieltheoretische Wert der Stellung.
+     *
+     * @throws IllegalArgumentException Wenn die Stellung nicht in dieser Tabelle enthalten ist.
+     */
+    @NotNull
+    public GameValue getValue(final int moverBoard, final int opponentBoard) {
+        return GameValue.values()[getEntry(moverBoard, opponentBoard) >>> VALUE_SHIFT];
+    }
+
+    /**
+     * Gibt die Anzahl an Halbzügen zurück, nach denen das Spiel bei perfektem Spiel beider Seiten endet.
+     *
+     * @param moverBoard    Die Bitmaske aller Felder des Spielers, der an der Reihe ist.
+     * @param opponentBoard Die Bitmaske aller Felder des Gegenspielers.
+     *
+     * @return Die Anzahl an Halbzügen bis zum Ende des Spiels.
+     *
+     * @throws IllegalArgumentException Wenn die Stellung nicht in dieser Tabelle enthalten ist.
+     */
+    public int getDistance(final int moverBoard, final int opponentBoard) {
+        return getEntry(moverBoard, opponentBoard) & DISTANCE_MASK;
+    }
+
+    /**
+     * Gibt den Index des besten Feldes für den Spieler zurück, der an der Reihe ist. Dazu wird jede Folgestellung in
+     * der Tabelle nachgeschlagen: Ein Sieg wird so schnell wie möglich erzwungen, eine Niederlage so lange wie möglich
+     * hinausgezögert.
+     *
+     * @param moverBoard    Die Bitmaske aller Felder des Spielers, der an der Reihe ist.
+     * @param opponentBoard Die Bitmaske aller Felder des Gegenspielers.
+     *
+     * @return Der Index des besten Feldes bzw. {@code -1}, wenn das Spiel in dieser Stellung bereits beendet ist oder
+     *      sie nicht in dieser Tabelle enthalten ist.
+     */
+    public int getBestMove(final int moverBoard, final int opponentBoard) {
+        if (hasWon(moverBoard) || hasWon(opponentBoard) || find(getKey(moverBoard, opponentBoard)) < 0) return -1;
+
+        final int free = ~(moverBoard | opponentBoard) & FULL_MASK;
+        int bestMove = -1;
+        int bestScore = Integer.MIN_VALUE;
+
+        for (int move = 0; move < CELL_COUNT; move++) {
+            if ((free & 1 << move) == 0) continue;
+
+            final int score = -getScore(getEntry(opponentBoard, moverBoard | 1 << move));
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+            }
+        }
+
+        return bestMove;
+    }
+
+    /**
+     * Gibt den Eintrag einer Stellung zurück.
+     *
+     * @param moverBoard    Die Bitmaske aller Felder des Spielers, der an der Reihe ist.
+     * @param opponentBoard Die Bitmaske aller Felder des Gegenspielers.
+     *
+     * @return Der Eintrag der Stellung.
+     *
+     * @throws IllegalArgumentException Wenn die Stellung nicht in dieser Tabelle enthalten ist.
+     */
+    private int getEntry(final int moverBoard, final int opponentBoard) {
+        final int index = find(getKey(moverBoard, opponentBoard));
+        if (index < 0) throw new IllegalArgumentException("position is not in the tablebase");
+
+        return this.buffer.get(HEADER_SIZE + this.positionCount * Integer.BYTES + index) & 0xFF;
+    }
+
+    /**
+     * Sucht einen Schlüssel mithilfe einer binären Suche in der abgebildeten Datei.
+     *
+     * @param key Der Schlüssel der Stellung.
+     *
+     * @return Der Index des Schlüssels bzw. {@code -1}, wenn der Schlüssel nicht enthalten ist.
+     */
+    private int find(final int key) {
+        int low = 0;
+        int high = this.positionCount - 1;
+
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int middleKey = this.buffer.getInt(HEADER_SIZE + middle * Integer.BYTES);
+
+            if (middleKey < key) low = middle + 1;
+            else if (middleKey > key) high = middle - 1;
+            else return middle;
+        }
+
+        return -1;
+    }
+
+
+    //<editor-fold desc="utility">
+
+    /**
+     * Prüft, ob diese Tabelle für eine bestimmte Form des Spielfeldes genutzt werden kann.
+     *
+     * @param layout Die Form des Spielfeldes.
+     *
+     * @return Wenn es sich um ein 4x4 Spielfeld mit vier Feldern in einer Reihe handelt {@code true}, ansonsten
+     *      {@code false}.
+     */
+    public static boolean supports(@NotNull final BoardLayout layout) {
+        return layout.getSize() == LAYOUT.getSize() && layout.getWinLength() == LAYOUT.getWinLength();
+    }
+
+    /**
+     * Gibt die Tabelle zurück, die beim ersten Aufruf aus der Datei geöffnet wird, die mithilfe der System-Property
+     * {@value #PROPERTY_NAME} festgelegt wurde bzw. ansonsten aus der Datei {@value #FILE_NAME} im
+     * {@link DataDirectory}.
+     *
+     * @return Die geöffnete Tabelle bzw. {@code null}, wenn die Datei nicht existiert oder nicht gelesen werden kann.
+     */
+    @Nullable
+    public static Tablebase getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Bildet eine Datei, die zuvor mit {@link #generate(Path)} geschrieben wurde, nur lesend in den Speicher ab.
+     *
+     * @param path Der Pfad der Datei.
+     *
+     * @return Die geöffnete Tabelle.
+     *
+     * @throws IOException Wenn die Datei nicht gelesen werden kann oder keine gültige Tabelle enthält.
+     */
+    @NotNull
+    public static Tablebase open(@NotNull final Path path) throws IOException {
+        try (@NotNull final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new Tablebase(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Berechnet die Tabelle Schicht für Schicht rückwärts und schreibt sie in eine Datei. Die Datei wird zuerst unter
+     * einem temporären Namen geschrieben und erst danach an ihren Platz verschoben.
+     *
+     * @param path Der Pfad der Datei, in die die Tabelle geschrieben wird.
+     *
+     * @return Die Anzahl an Stellungen in der Tabelle.
+     *
+     * @throws IOException Wenn die Tabelle nicht geschrieben werden konnte.
+     */
+    public static int generate(@NotNull final Path path) throws IOException {
+        final int[][] keys = new int[CELL_COUNT + 2][];
+        final byte[][] entries = new byte[CELL_COUNT + 2][];
+        keys[CELL_COUNT + 1] = new int[0];
+        entries[CELL_COUNT + 1] = new byte[0];
+
+        int positionCount = 0;
+        for (int stones = CELL_COUNT; stones >= 0; stones--) {
+            final int[] layerKeys = enumerateLayer(stones);
+            final byte[] layerEntries = new byte[layerKeys.length];
+            final int[] nextKeys = keys[stones + 1];
+            final byte[] nextEntries = entries[stones + 1];
+
+            IntStream.range(0, layerKeys.length).parallel().forEach(
+                    index -> layerEntries[index] = (byte) solve(layerKeys[index], nextKeys, nextEntries)
+            );
+
+            keys[stones] = layerKeys;
+            entries[stones] = layerEntries;
+            positionCount += layerKeys.length;
+        }
+
+        // merge all layers into one sorted table, each key followed by its entry in the lowest byte
+        final long[] table = new long[positionCount];
+        int offset = 0;
+        for (int stones = 0; stones <= CELL_COUNT; stones++) {
+            for (int index = 0; index < keys[stones].length; index++) {
+                table[offset++] = (long) keys[stones][index] << Byte.SIZE | entries[stones][index] & 0xFF;
+            }
+        }
+        Arrays.parallelSort(table);
+
+        final Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        if (path.toAbsolutePath().getParent() != null) Files.createDirectories(path.toAbsolutePath().getParent());
+
+        try (@NotNull final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temporaryPath)
+        ))) {
+            output.writeInt(MAGIC);
+            output.writeInt(positionCount);
+
+            for (final long position : table) {
+                output.writeInt((int) (position >> Byte.SIZE));
+            }
+
+            for (final long position : table) {
+                output.writeByte((int) position);
+            }
+        }
+
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return positionCount;
+    }
+
+    /**
+     * Gibt die Schlüssel aller Stellungen mit einer bestimmten Anzahl an belegten Feldern in aufsteigender Reihenfolge
+     * zurück. Der Spieler, der an der Reihe ist, besitzt dabei gleich viele oder einen Stein weniger als sein
+     * Gegenspieler und hat noch keine Linie vollständig belegt. Von symmetrischen Stellungen wird nur diejenige mit dem
+     * kleinsten Schlüssel berücksichtigt.
+     *
+     * @param stones Die Anzahl an belegten Feldern.
+     *
+     * @return Die Schlüssel aller Stellungen dieser Schicht in aufsteigender Reihenfolge.
+     */
+    private static int @NotNull [] enumerateLayer(final int stones) {
+        final int moverStones = stones / 2;
+
+        return IntStream.rangeClosed(0, FULL_MASK)
+                .parallel()
+                .filter(occupied -> Integer.bitCount(occupied) == stones)
+                .flatMap(occupied -> {
+                    final IntStream.Builder builder = IntStream.builder();
+
+                    // iterate over all subsets of the occupied fields as fields of the mover
+                    int moverBoard = occupied;
+                    while (true) {
+                        if (Integer.bitCount(moverBoard) == moverStones && !hasWon(moverBoard)) {
+                            final int key = moverBoard << CELL_COUNT | occupied & ~moverBoard;
+                            if (getKey(moverBoard, occupied & ~moverBoard) == key) builder.add(key);
+                        }
+
+                        if (moverBoard == 0) break;
+                        moverBoard = moverBoard - 1 & occupied;
+                    }
+
+                    return builder.build();
+                })
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * Bewertet eine Stellung anhand der bereits bewerteten Stellungen der nächsten Schicht.
+     *
+     * @param key         Der Schlüssel der Stellung.
+     * @param nextKeys    Die Schlüssel aller Stellungen der nächsten Schicht in aufsteigender Reihenfolge.
+     * @param nextEntries Die Einträge aller Stellungen der nächsten Schicht.
+     *
+     * @return Der Eintrag der Stellung.
+     */
+    private static int solve(
+            final int key,
+            final int @NotNull [] nextKeys,
+            final byte @NotNull [] nextEntries
+    ) {
+        final int moverBoard = key >>> CELL_COUNT;
+        final int opponentBoard = key & FULL_MASK;
+
+        if (hasWon(opponentBoard)) return GameValue.LOSS.ordinal() << VALUE_SHIFT;
+
+        final int free = ~(moverBoard | opponentBoard) & FULL_MASK;
+        if (free == 0) return GameValue.DRAW.ordinal() << VALUE_SHIFT;
+
+        int bestScore = Integer.MIN_VALUE;
+        for (int move = 0; move < CELL_COUNT; move++) {
+            if ((free & 1 << move) == 0) continue;
+
+            final int childIndex = Arrays.binarySearch(nextKeys, getKey(opponentBoard, moverBoard | 1 << move));
+            bestScore = Math.max(bestScore, -getScore(nextEntries[childIndex] & 0xFF));
+        }
+
+        // the distance of this position is one half-move more than the distance of the best following position
+        if (bestScore > 0) return GameValue.WIN.ordinal() << VALUE_SHIFT | CELL_COUNT + 2 - bestScore;
+        if (bestScore < 0) return GameValue.LOSS.ordinal() << VALUE_SHIFT | CELL_COUNT + 2 + bestScore;
+        return GameValue.DRAW.ordinal() << VALUE_SHIFT;
+    }
+
+    /**
+     * Wandelt einen Eintrag in eine Bewertung um, bei der ein schnellerer Sieg bzw. eine spätere Niederlage höher
+     * bewertet werden.
+     *
+     * @param entry Der Eintrag einer Stellung.
+     *
+     * @return Die Bewertung der Stellung aus Sicht des Spielers, der an der Reihe ist.
+     */
+    private static int getScore(final int entry) {
+        final GameValue value = GameValue.values()[entry >>> VALUE_SHIFT];
+        final int distance = entry & DISTANCE_MASK;
+
+        if (value == GameValue.WIN) return CELL_COUNT + 1 - distance;
+        if (value == GameValue.LOSS) return -(CELL_COUNT + 1 - distance);
+        return 0;
+    }
+
+    /**
+     * Gibt den Schlüssel einer Stellung zurück, also den kleinsten Schlüssel aller acht symmetrischen Stellungen.
+     *
+     * @param moverBoard    Die Bitmaske aller Felder des Spielers, der an der Reihe ist.
+     * @param opponentBoard Die Bitmaske aller Felder des Gegenspielers.
+     *
+     * @return Der Schlüssel der Stellung.
+     */
+    private static int getKey(final int moverBoard, final int opponentBoard) {
+        int key = Integer.MAX_VALUE;
+
+        for (int symmetry = 0; symmetry < BoardLayout.SYMMETRY_COUNT; symmetry++) {
+            key = Math.min(key, transform(symmetry, moverBoard) << CELL_COUNT | transform(symmetry, opponentBoard));
+        }
+
+        return key;
+    }
+
+    /**
+     * Bildet eine Bitmaske mithilfe einer Symmetrie ab.
+     *
+     * @param symmetry Die Symmetrie.
+     * @param board    Die Bitmaske, die abgebildet wird.
+     *
+     * @return Die abgebildete Bitmaske.
+     */
+    private static int transform(final int symmetry, final int board) {
+        return SYMMETRY_LOW[symmetry][board & 0xFF] | SYMMETRY_HIGH[symmetry][board >>> Byte.SIZE & 0xFF];
+    }
+
+    /**
+     * Prüft, ob auf einer Bitmaske eine der Linien des Spielfeldes vollständig belegt ist.
+     *
+     * @param board Die Bitmaske, die überprüft werden soll.
+     *
+     * @return Wenn eine Linie vollständig belegt ist {@code true}, ansonsten {@code false}.
+     */
+    private static boolean hasWon(final int board) {
+        for (final int mask : WIN_MASKS) {
+            if ((board & mask) == mask) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Berechnet die Tabelle und schreibt sie in die übergebene Datei.
+     *
+     * @param args Der Pfad der Datei, in die die Tabelle geschrieben wird (optional, ansonsten der konfigurierte Pfad).
+     *
+     * @throws IOException Wenn die Tabelle nicht geschrieben werden konnte.
+     */
+    public static void main(@NotNull final String @NotNull [] args) throws IOException {
+        final Path path = args.length > 0 ? Paths.get(args[0]) : InstanceHolder.getConfiguredPath();
+        final long start = System.nanoTime();
+        final int positionCount = generate(path);
+
+        System.out.println(positionCount + " positions written to " + path + " in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+    }
+    //</editor-fold>
+
+
+    //<editor-fold desc="InstanceHolder">
+
+    /**
+     * Der {@link InstanceHolder} sorgt dafür, dass die Tabelle erst beim ersten Zugriff geöffnet wird.
+     */
+    private static final class InstanceHolder {
+
+        //<editor-fold desc="CONSTANTS">
+        /** Die Tabelle, die einmalig geöffnet wird bzw. {@code null}, wenn sie nicht geöffnet werden kann. */
+        @Nullable
+        private static final Tablebase INSTANCE = load();
+        //</editor-fold>
+
+
+        /**
+         * Gibt den Pfad der Datei zurück, der mithilfe der System-Property {@value #PROPERTY_NAME} festgelegt wurde
+         * bzw. ansonsten den Pfad der Datei {@value #FILE_NAME} im {@link DataDirectory}.
+         *
+         * @return Der Pfad der Datei.
+         */
+        @NotNull
+        private static Path getConfiguredPath() {
+            final String path = System.getProperty(PROPERTY_NAME);
+            return path != null ? Paths.get(path) : DataDirectory.getConfigured().resolve(FILE_NAME);
+        }
+
+        /**
+         * Öffnet die Tabelle aus der konfigurierten Datei.
+         *
+         * @return Die geöffnete Tabelle bzw. {@code null}, wenn die Datei nicht existiert oder nicht gelesen werden
+         *      kann.
+         */
+        @Nullable
+        private static Tablebase load() {
+            final Path path = getConfiguredPath();
+            if (!Files.isRegularFile(path)) return null;
+
+            try {
+                return open(path);
+            } catch (@NotNull final IOException e) {
+                System.err.println("tablebase " + path + " could not be opened: " + e.getMessage());
+                return null;
+            }
+        }
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,425 @@
+package de.gemuesehasser.tictactoe.ai;
+
+import de.gemuesehasser.tictactoe.constant.BoundType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Eine {@link TranspositionTable} speichert die Ergebnisse bereits untersuchter Stellungen, sodass eine Stellung, die
+ * über eine andere Zugfolge erneut erreicht wird, nicht noch einmal untersucht werden muss. Die Tabelle hat eine feste
+ * Größe und kann ohne Sperren von beliebig vielen Threads gleichzeitig gelesen und beschrieben werden.
+ *
+ * <p>Jeder Eintrag besteht aus zwei Zahlen: den gepackten Daten und dem Hash der Stellung, der mit den Daten per XOR
+ * verknüpft wurde. Schreiben zwei Threads gleichzeitig in denselben Eintrag, passen beide Zahlen nicht mehr zueinander
+ * und der Eintrag wird beim Lesen wie ein fremder Eintrag verworfen. Je zwei Einträge bilden einen Bucket: Der erste
+ * Eintrag wird nur durch eine mindestens gleich tiefe Suche oder einen Eintrag aus einer früheren Suche ersetzt, der
+ * zweite Eintrag wird immer ersetzt.</p>
+ *
+ * <p>Die gepackten Daten enthalten (von den niedrigsten Bits an) die Bewertung (24 Bit), den besten Zug (16 Bit), die
+ * Tiefe (8 Bit), den {@link BoundType} (2 Bit), die Generation der Suche (8 Bit) und ein gesetztes Bit, welches einen
+ * belegten Eintrag kennzeichnet.</p>
+ *
+ * <p>Die Auslastung und die Trefferquoten der Tabelle lassen sich über die {@link TranspositionTableMXBean}
+ * auslesen. Die Trefferquoten einer einzelnen Suche ergeben sich aus dem Unterschied zweier {@link Statistics}, die vor
+ * und nach der Suche abgefragt wurden.</p>
+ */
+public final class TranspositionTable implements TranspositionTableMXBean {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an Einträgen, die eine Tabelle standardmäßig besitzt. */
+    public static final int DEFAULT_ENTRIES = 1 << 20;
+    /** Der Wert, der beim Lesen zurückgegeben wird, wenn die Stellung nicht in der Tabelle enthalten ist. */
+    public static final long MISS = 0L;
+    /** Der Wert, der für den besten Zug abgespeichert wird, wenn es keinen gibt. */
+    public static final int NO_MOVE = 0xFFFF;
+    /** Die Anzahl an Einträgen je Bucket. */
+    private static final int BUCKET_SIZE = 2;
+    /** Die Position der Bits, in denen der beste Zug abgespeichert wird. */
+    private static final int MOVE_SHIFT = 24;
+    /** Die Position der Bits, in denen die Tiefe abgespeichert wird. */
+    private static final int DEPTH_SHIFT = 40;
+    /** Die Position der Bits, in denen der {@link BoundType} abgespeichert wird. */
+    private static final int BOUND_SHIFT = 48;
+    /** Die Position der Bits, in denen die Generation abgespeichert wird. */
+    private static final int GENERATION_SHIFT = 50;
+    /** Das Bit, welches einen belegten Eintrag kennzeichnet. */
+    private static final long OCCUPIED = 1L << 58;
+    /** Die größte Tiefe, die abgespeichert werden kann. */
+    private static final int MAX_DEPTH = 0xFF;
+    /** Die größte Bewertung, die abgespeichert werden kann. */
+    private static final int MAX_SCORE = (1 << 23) - 1;
+    /** Die Anzahl an Einträgen, anhand der die {@link #getHashFull() Auslastung} geschätzt wird. */
+    private static final int HASH_FULL_SAMPLE = 1000;
+    /** Alle {@link BoundType BoundTypes}, damit beim Lesen eines Eintrags nicht jedes Mal ein neues Array entsteht. */
+    @NotNull
+    private static final BoundType @NotNull [] BOUND_TYPES = BoundType.values();
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Je Eintrag der mit den Daten verknüpfte Hash und die Daten selbst. */
+    @NotNull
+    private final AtomicLongArray entries;
+    /** Die Maske, mit der aus einem Hash der Index seines Buckets berechnet wird. */
+    private final int bucketMask;
+    /** Die Generation der aktuellen Suche, anhand der veraltete Einträge erkannt werden. */
+    @NotNull
+    private final AtomicInteger generation = new AtomicInteger();
+    /** Die Anzahl aller Lesezugriffe. */
+    @NotNull
+    private final LongAdder probes = new LongAdder();
+    /** Die Anzahl aller Lesezugriffe, bei denen die Stellung gefunden wurde. */
+    @NotNull
+    private final LongAdder hits = new LongAdder();
+    /** Die Anzahl aller Lesezugriffe, bei denen der Bucket ausschließlich durch andere Stellungen belegt war. */
+    @NotNull
+    private final LongAdder collisions = new LongAdder();
+    /** Die Anzahl aller Schreibzugriffe. */
+    @NotNull
+    private final LongAdder stores = new LongAdder();
+    /** Die Anzahl aller Schreibzugriffe, durch die eine andere Stellung verdrängt wurde. */
+    @NotNull
+    private final LongAdder replacements = new LongAdder();
+    /** Die Anzahl aller Einträge dieser Tabelle. */
+    @Getter
+    private final int capacity;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue und leere {@link TranspositionTable} mit mindestens einer bestimmten Anzahl an Einträgen. Die
+     * Anzahl wird auf die nächste Zweierpotenz aufgerundet.
+     *
+     * @param entries Die Anzahl an Einträgen, die die Tabelle mindestens besitzen soll.
+     */
+    public TranspositionTable(@Range(from = BUCKET_SIZE, to = 1 << 30) final int entries) {
+        final int minBuckets = (entries + BUCKET_SIZE - 1) / BUCKET_SIZE;
+        final int buckets = minBuckets <= 1 ? 1 : Integer.highestOneBit(minBuckets - 1) << 1;
+
+        this.capacity = buckets * BUCKET_SIZE;
+        this.bucketMask = buckets - 1;
+        this.entries = new AtomicLongArray(this.capacity * 2);
+    }
+    //</editor-fold>
+
+
+    /**
+     * Beginnt eine neue Suche, wodurch alle bisherigen Einträge als veraltet gelten und bevorzugt ersetzt werden.
+     */
+    public void newSearch() {
+        this.generation.incrementAndGet();
+    }
+
+    /**
+     * Entfernt alle Einträge aus der Tabelle, sodass sich die nächste Suche so verhält wie mit einer neuen Tabelle. Die
+     * Statistiken der Tabelle bleiben dabei erhalten.
+     */
+    public void clear() {
+        for (int i = 0; i < this.entries.length(); i++) {
+            this.entries.set(i, 0L);
+        }
+        this.generation.set(0);
+    }
+
+    /**
+     * Sucht die gepackten Daten einer Stellung.
+     *
+     * @param hash Der Hash der Stellung.
+     *
+     * @return Die gepackten Daten der Stellung bzw. {@link #MISS}, wenn sie nicht in der Tabelle enthalten ist.
+     */
+    public long probe(final long hash) {
+        this.probes.increment();
+
+        final int bucket = getBucket(hash);
+        boolean occupied = false;
+
+        for (int slot = bucket; slot < bucket + BUCKET_SIZE; slot++) {
+            final long data = this.entries.get(slot * 2 + 1);
+            if (data == 0) continue;
+
+            if ((this.entries.get(slot * 2) ^ data) == hash) {
+                this.hits.increment();
+                return data;
+            }
+
+            occupied = true;
+        }
+
+        if (occupied) this.collisions.increment();
+        return MISS;
+    }
+
+    /**
+     * Speichert das Ergebnis einer Stellung ab. Der erste Eintrag des Buckets wird nur ersetzt, wenn er leer ist,
+     * dieselbe Stellung enthält, aus einer früheren Suche stammt oder mit einer geringeren Tiefe untersucht wurde.
+     * Ansonsten wird der zweite Eintrag des Buckets ersetzt. Bewertungen, die nicht in 24 Bit passen, werden nicht
+     * abgespeichert.
+     *
+     * @param hash  Der Hash der Stellung.
+     * @param depth Die Tiefe, mit der die Stellung untersucht wurde.
+     * @param bound Die Genauigkeit der Bewertung.
+     * @param score Die Bewertung der Stellung.
+     * @param move  Der beste Zug in der Stellung bzw. {@link #NO_MOVE}, wenn es keinen gibt.
+     */
+    public void store(
+            final long hash,
+            @Range(from = 0, to = Integer.MAX_VALUE) final int depth,
+            @NotNull final BoundType bound,
+            final int score,
+            final int move
+    ) {
+        if (score > MAX_SCORE || score < -MAX_SCORE) return;
+
+        this.stores.increment();
+
+        final int currentGeneration = this.generation.get() & 0xFF;
+        final long data = OCCUPIED
+                | (long) currentGeneration << GENERATION_SHIFT
+                | (long) bound.ordinal() << BOUND_SHIFT
+                | (long) Math.min(depth, MAX_DEPTH) << DEPTH_SHIFT
+                | (long) (move & NO_MOVE) << MOVE_SHIFT
+                | score & 0xFFFFFFL;
+
+        final int bucket = getBucket(hash);
+        final long preferredData = this.entries.get(bucket * 2 + 1);
+        final boolean replacePreferred = preferredData == 0
+                || (this.entries.get(bucket * 2) ^ preferredData) == hash
+                || getGeneration(preferredData) != currentGeneration
+                || getDepth(preferredData) <= depth;
+
+        final int slot = replacePreferred ? bucket : bucket + 1;
+        final long previousData = this.entries.get(slot * 2 + 1);
+        if (previousData != 0 && (this.entries.get(slot * 2) ^ previousData) != hash) this.replacements.increment();
+
+        this.entries.set(slot * 2 + 1, data);
+        this.entries.set(slot * 2, hash ^ data);
+    }
+
+    /**
+     * Gibt den aktuellen Stand aller Zähler dieser Tabelle zurück.
+     *
+     * @return Der aktuelle Stand aller Zähler dieser Tabelle.
+     */
+    @NotNull
+    public Statistics getStatistics() {
+        return new Statistics(
+                this.probes.sum(),
+                this.hits.sum(),
+                this.collisions.sum(),
+                this.stores.sum(),
+                this.replacements.sum()
+        );
+    }
+
+    @Override
+    public long getProbes() {
+        return this.probes.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        return getStatistics().getHitRate();
+    }
+
+    /**
+     * {@inheritDoc} Ein hoher Anteil bedeutet, dass die Tabelle für die Suche zu klein ist.
+     */
+    @Override
+    public double getCollisionRate() {
+        return getStatistics().getCollisionRate();
+    }
+
+    @Override
+    public double getReplacementRate() {
+        return getStatistics().getReplacementRate();
+    }
+
+    /**
+     * {@inheritDoc} Die Auslastung wird wie bei Schach-Engines üblich anhand der ersten {@value #HASH_FULL_SAMPLE}
+     * Einträge geschätzt, von denen nur die Einträge der aktuellen Suche gezählt werden.
+     */
+    @Override
+    public int getHashFull() {
+        final int currentGeneration = this.generation.get() & 0xFF;
+        final int sample = Math.min(HASH_FULL_SAMPLE, this.capacity);
+        int used = 0;
+
+        for (int slot = 0; slot < sample; slot++) {
+            final long data = this.entries.get(slot * 2 + 1);
+            if (data != 0 && getGeneration(data) == currentGeneration) used++;
+        }
+
+        return used * 1000 / sample;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                Locale.ROOT,
+                "TranspositionTable(capacity=%d, probes=%d, hitRate=%.3f, collisionRate=%.3f, replacementRate=%.3f)",
+                this.capacity,
+                getProbes(),
+                getHitRate(),
+                getCollisionRate(),
+                getReplacementRate()
+        );
+    }
+
+    /**
+     * Gibt den Index des ersten Eintrags im Bucket eines Hashes zurück.
+     *
+     * @param hash Der Hash der Stellung.
+     *
+     * @return Der Index des ersten Eintrags im Bucket.
+     */
+    private int getBucket(final long hash) {
+        return (int) (hash ^ hash >>> 32) & (this.bucketMask * BUCKET_SIZE);
+    }
+
+
+    //<editor-fold desc="data">
+
+    /**
+     * Gibt die Bewertung aus gepackten Daten zurück.
+     *
+     * @param data Die gepackten Daten einer Stellung.
+     *
+     * @return Die Bewertung der Stellung.
+     */
+    public static int getScore(final long data) {
+        return (int) (data << 40 >> 40);
+    }
+
+    /**
+     * Gibt den besten Zug aus gepackten Daten zurück.
+     *
+     * @param data Die gepackten Daten einer Stellung.
+     *
+     * @return Der beste Zug in der Stellung bzw. {@link #NO_MOVE}, wenn es keinen gibt.
+     */
+    public static int getMove(final long data) {
+        return (int) (data >>> MOVE_SHIFT) & NO_MOVE;
+    }
+
+    /**
+     * Gibt die Tiefe aus gepackten Daten zurück.
+     *
+     * @param data Die gepackten Daten einer Stellung.
+     *
+     * @return Die Tiefe, mit der die Stellung untersucht wurde.
+     */
+    public static int getDepth(final long data) {
+        return (int) (data >>> DEPTH_SHIFT) & MAX_DEPTH;
+    }
+
+    /**
+     * Gibt den {@link BoundType} aus gepackten Daten zurück.
+     *
+     * @param data Die gepackten Daten einer Stellung.
+     *
+     * @return Die Genauigkeit der Bewertung.
+     */
+    @NotNull
+    public static BoundType getBound(final long data) {
+        return BOUND_TYPES[(int) (data >>> BOUND_SHIFT) & 0x3];
+    }
+
+    /**
+     * Gibt die Generation der Suche aus gepackten Daten zurück.
+     *
+     * @param data Die gepackten Daten einer Stellung.
+     *
+     * @return Die Generation der Suche, in der die Stellung abgespeichert wurde.
+     */
+    private static int getGeneration(final long data) {
+        return (int) (data >>> GENERATION_SHIFT) & 0xFF;
+    }
+    //</editor-fold>
+
+
+
+    //<editor-fold desc="Statistics">
+
+    /**
+     * Die {@link Statistics} sind der Stand aller Zähler einer {@link TranspositionTable} zu einem bestimmten
+     * Zeitpunkt. Die Zähler werden nie zurückgesetzt, weshalb sich die Zugriffe eines Zeitraums (z.B. einer Suche) nur
+     * über {@link #since(Statistics)} ermitteln lassen.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Statistics {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Die Anzahl aller Lesezugriffe. */
+        private final long probes;
+        /** Die Anzahl aller Lesezugriffe, bei denen die Stellung gefunden wurde. */
+        private final long hits;
+        /** Die Anzahl aller Lesezugriffe, bei denen der Bucket ausschließlich durch andere Stellungen belegt war. */
+        private final long collisions;
+        /** Die Anzahl aller Schreibzugriffe. */
+        private final long stores;
+        /** Die Anzahl aller Schreibzugriffe, durch die eine andere Stellung verdrängt wurde. */
+        private final long replacements;
+        //</editor-fold>
+
+
+        /**
+         * Gibt die Zugriffe zurück, die seit einem früheren Stand derselben Tabelle hinzugekommen sind.
+         *
+         * @param earlier Der frühere Stand der Zähler.
+         *
+         * @return Die Zugriffe, die seit dem früheren Stand hinzugekommen sind.
+         */
+        @NotNull
+        public Statistics since(@NotNull final Statistics earlier) {
+            return new Statistics(
+                    this.probes - earlier.probes,
+                    this.hits - earlier.hits,
+                    this.collisions - earlier.collisions,
+                    this.stores - earlier.stores,
+                    this.replacements - earlier.replacements
+            );
+        }
+
+        /**
+         * Gibt den Anteil der Lesezugriffe zurück, bei denen die Stellung gefunden wurde.
+         *
+         * @return Der Anteil der Lesezugriffe, bei denen die Stellung gefunden wurde (zwischen 0 und 1).
+         */
+        public double getHitRate() {
+            return this.probes == 0 ? 0 : (double) this.hits / this.probes;
+        }
+
+        /**
+         * Gibt den Anteil der Lesezugriffe zurück, bei denen der Bucket ausschließlich durch andere Stellungen belegt
+         * war.
+         *
+         * @return Der Anteil der Lesezugriffe, bei denen es eine Kollision gab (zwischen 0 und 1).
+         */
+        public double getCollisionRate() {
+            return this.probes == 0 ? 0 : (double) this.collisions / this.probes;
+        }
+
+        /**
+         * Gibt den Anteil der Schreibzugriffe zurück, durch die eine andere Stellung verdrängt wurde.
+         *
+         * @return Der Anteil der Schreibzugriffe, durch die eine andere Stellung verdrängt wurde (zwischen 0 und 1).
+         */
+        public double getReplacementRate() {
+            return this.stores == 0 ? 0 : (double) this.replacements / this.stores;
+        }
+
+    }
+    //</editor-fold>
+
+}
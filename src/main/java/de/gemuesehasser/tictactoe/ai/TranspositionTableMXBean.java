@@ -0,0 +1,52 @@
+package de.gemuesehasser.tictactoe.ai;
+
+/**
+ * Die Verwaltungs-Schnittstelle einer {@link TranspositionTable}, über die ihre Auslastung und Trefferquoten mithilfe
+ * von JMX (z.B. mit JConsole oder VisualVM) ausgelesen werden können. Alle Quoten beziehen sich auf alle Zugriffe seit
+ * dem Erzeugen der Tabelle.
+ */
+public interface TranspositionTableMXBean {
+
+    /**
+     * Gibt die Anzahl aller Einträge der Tabelle zurück.
+     *
+     * @return Die Anzahl aller Einträge der Tabelle.
+     */
+    int getCapacity();
+
+    /**
+     * Gibt die Anzahl aller Lesezugriffe zurück.
+     *
+     * @return Die Anzahl aller Lesezugriffe.
+     */
+    long getProbes();
+
+    /**
+     * Gibt den Anteil aller Lesezugriffe zurück, bei denen die Stellung gefunden wurde.
+     *
+     * @return Der Anteil aller Lesezugriffe, bei denen die Stellung gefunden wurde (zwischen 0 und 1).
+     */
+    double getHitRate();
+
+    /**
+     * Gibt den Anteil aller Lesezugriffe zurück, bei denen der Bucket ausschließlich durch andere Stellungen belegt war.
+     *
+     * @return Der Anteil aller Lesezugriffe, bei denen es eine Kollision gab (zwischen 0 und 1).
+     */
+    double getCollisionRate();
+
+    /**
+     * Gibt den Anteil aller Schreibzugriffe zurück, durch die eine andere Stellung verdrängt wurde.
+     *
+     * @return Der Anteil aller Schreibzugriffe, durch die eine andere Stellung verdrängt wurde (zwischen 0 und 1).
+     */
+    double getReplacementRate();
+
+    /**
+     * Gibt die Auslastung der Tabelle durch die aktuelle Suche in Promille zurück.
+     *
+     * @return Die Auslastung der Tabelle in Promille (zwischen 0 und 1000).
+     */
+    int getHashFull();
+
+}
@@ -0,0 +1,76 @@
+package de.gemuesehasser.tictactoe.ai;
+
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Die {@link ZobristKeys} enthalten für jedes Feld eines {@link BoardLayout} und jeden {@link UserType Typen} eine
+ * zufällige Zahl. Der Hash einer Stellung ergibt sich aus der XOR-Verknüpfung der Zahlen aller belegten Felder, wodurch
+ * er bei jedem Zug mit einer einzigen XOR-Verknüpfung aktualisiert werden kann. Die Zahlen werden mit einem festen Seed
+ * erzeugt, sodass sich die Hashes zwischen zwei Programmstarts nicht unterscheiden.
+ */
+@Getter
+public final class ZobristKeys {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Seed, mit dem die Zahlen aller {@link ZobristKeys} erzeugt werden. */
+    private static final long SEED = 0x5DEECE66DL;
+    /**
+     * Die bereits erzeugten {@link ZobristKeys} aller {@link BoardLayout Spielfelder}. Da gleiche Spielfelder auch als
+     * gleiche Schlüssel gelten, enthält die Map höchstens einen Eintrag je Größe und Anzahl an Feldern in einer Reihe.
+     */
+    @NotNull
+    private static final Map<BoardLayout, ZobristKeys> KEYS = new ConcurrentHashMap<>();
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Zahlen je Feld und {@link UserType Typ}, wobei der zweite Index der Ordinalzahl des Typen entspricht. */
+    private final long @NotNull [] @NotNull [] cellKeys;
+    /** Die Zahl, die hinzugefügt wird, wenn der {@link UserType#COMPUTER Computer} an der Reihe ist. */
+    private final long sideKey;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt neue {@link ZobristKeys} für ein {@link BoardLayout}.
+     *
+     * @param layout Die Form des Spielfeldes.
+     */
+    private ZobristKeys(@NotNull final BoardLayout layout) {
+        final SplittableRandom random = new SplittableRandom(SEED ^ (long) layout.getSize() << 32 ^ layout.getWinLength());
+
+        this.cellKeys = new long[layout.getCellCount()][UserType.values().length];
+        for (@NotNull final long[] keys : this.cellKeys) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = random.nextLong();
+            }
+        }
+
+        this.sideKey = random.nextLong();
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt die {@link ZobristKeys} eines {@link BoardLayout} zurück. Diese werden für jede Form eines Spielfeldes nur
+     * einmal erzeugt, auch wenn das {@link BoardLayout} mehrmals erzeugt wird.
+     *
+     * @param layout Die Form des Spielfeldes.
+     *
+     * @return Die {@link ZobristKeys} des {@link BoardLayout}.
+     */
+    @NotNull
+    public static ZobristKeys of(@NotNull final BoardLayout layout) {
+        return KEYS.computeIfAbsent(layout, ZobristKeys::new);
+    }
+
+}
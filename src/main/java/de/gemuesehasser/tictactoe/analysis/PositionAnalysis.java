@@ -0,0 +1,66 @@
+package de.gemuesehasser.tictactoe.analysis;
+
+import de.gemuesehasser.tictactoe.constant.CombinationType;
+import de.gemuesehasser.tictactoe.constant.GameValue;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Eine {@link PositionAnalysis} ist das Ergebnis, welches der {@link PositionAnalyzer} für eine einzelne Stellung
+ * ermittelt hat. Der {@link GameValue Wert} wird dabei immer aus Sicht des {@link UserType Typen} angegeben, der an der
+ * Reihe ist.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public final class PositionAnalysis {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Das Zeichen, welches bei {@link #toLine()} für einen fehlenden Wert geschrieben wird. */
+    private static final String MISSING = "-";
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Nummer der Zeile, in der die Stellung gelesen wurde, beginnend bei {@code 1}. */
+    private final long lineNumber;
+    /** Die Stellung im {@link PositionFormat}, inklusive des {@link UserType Typen}, der an der Reihe ist. */
+    @NotNull
+    private final String position;
+    /** Der {@link UserType Typ}, der in dieser Stellung an der Reihe ist. */
+    @NotNull
+    private final UserType mover;
+    /** Der Index des besten Feldes bzw. {@code -1}, wenn das Spiel in dieser Stellung bereits beendet ist. */
+    private final int bestMove;
+    /** Der spieltheoretische Wert dieser Stellung bzw. {@code null}, wenn er nicht bewiesen werden konnte. */
+    @Nullable
+    private final GameValue value;
+    /** Der Index der Linie, mit der das Spiel bei perfektem Spiel gewonnen wird bzw. {@code -1}, wenn sie unbekannt ist. */
+    private final int winLine;
+    /** Die {@link CombinationType Kombination} der {@link #winLine Linie} bzw. {@code null}, wenn es keine gibt. */
+    @Nullable
+    private final CombinationType combinationType;
+    //</editor-fold>
+
+
+    /**
+     * Gibt dieses Ergebnis als einzelne Zeile zurück. Die Zeile enthält durch Leerzeichen getrennt die Stellung
+     * (inklusive des {@link UserType Typen}, der an der Reihe ist), den besten Zug, den Wert, die Linie und die
+     * {@link CombinationType Kombination}, wobei fehlende Werte als {@value #MISSING} geschrieben werden.
+     *
+     * @return Dieses Ergebnis als einzelne Zeile.
+     */
+    @NotNull
+    public String toLine() {
+        return this.position
+                + ' ' + (this.bestMove < 0 ? MISSING : String.valueOf(this.bestMove))
+                + ' ' + (this.value == null ? MISSING : this.value.name())
+                + ' ' + (this.winLine < 0 ? MISSING : String.valueOf(this.winLine))
+                + ' ' + (this.combinationType == null ? MISSING : this.combinationType.name());
+    }
+
+}
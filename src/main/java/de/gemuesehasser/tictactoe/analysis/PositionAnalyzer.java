@@ -0,0 +1,540 @@
+package de.gemuesehasser.tictactoe.analysis;
+
+import de.gemuesehasser.tictactoe.ai.PerfectPlayTable;
+import de.gemuesehasser.tictactoe.ai.SearchEngine;
+import de.gemuesehasser.tictactoe.ai.SearchResult;
+import de.gemuesehasser.tictactoe.ai.Tablebase;
+import de.gemuesehasser.tictactoe.ai.TranspositionTable;
+import de.gemuesehasser.tictactoe.constant.CombinationType;
+import de.gemuesehasser.tictactoe.constant.GameValue;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Der {@link PositionAnalyzer} bewertet beliebig viele Stellungen im {@link PositionFormat} unabhängig von der grafischen
+ * Oberfläche. Für jede Stellung werden der beste Zug, der spieltheoretische {@link GameValue Wert} und die Linie bzw.
+ * {@link CombinationType Kombination} ermittelt, mit der das Spiel bei perfektem Spiel gewonnen wird.
+ *
+ * <p>Die Stellungen werden in Stapeln von {@link #batchSize} Zeilen auf mehrere Threads verteilt. Es sind dabei nie mehr
+ * als {@link #maxPendingBatches} Stapel gleichzeitig in Bearbeitung: Ist diese Grenze erreicht, wird erst auf den
+ * ältesten Stapel gewartet, bevor weitere Zeilen gelesen werden. Dadurch bleibt der Speicherbedarf unabhängig von der
+ * Anzahl der Stellungen konstant und die Ergebnisse werden in derselben Reihenfolge ausgegeben, in der die Stellungen
+ * gelesen wurden.</p>
+ *
+ * <p>Auf dem klassischen 3x3 Spielfeld wird die {@link PerfectPlayTable} und auf dem 4x4 Spielfeld die
+ * {@link Tablebase} genutzt (sofern vorhanden). Auf allen anderen Spielfeldern wird mit der {@link SearchEngine}
+ * gesucht, wobei der Wert nur dann angegeben wird, wenn die Suche ihn beweisen konnte.</p>
+ */
+@Getter
+public final class PositionAnalyzer {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an Zeilen, die standardmäßig zu einem Stapel zusammengefasst werden. */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    /** Die Anzahl an Stapeln je Thread, die standardmäßig gleichzeitig in Bearbeitung sein dürfen. */
+    private static final int PENDING_BATCHES_PER_THREAD = 4;
+    /** Die Anzahl an Einträgen der {@link TranspositionTable}, die jeder Thread besitzt. */
+    private static final int TABLE_ENTRIES = 1 << 16;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Form des Spielfeldes, auf dem alle Stellungen liegen. */
+    @NotNull
+    private final BoardLayout layout;
+    /** Die Anzahl an Threads, auf die die Stellungen verteilt werden. */
+    private final int threads;
+    /** Die Anzahl an Zeilen, die zu einem Stapel zusammengefasst werden. */
+    private final int batchSize;
+    /** Die maximale Anzahl an Stapeln, die gleichzeitig in Bearbeitung sind. */
+    private final int maxPendingBatches;
+    /** Das Zeitbudget pro Stellung in Millisekunden, wenn mit der {@link SearchEngine} gesucht wird. */
+    private final long timeBudgetMillis;
+    /** Die maximale Tiefe, bis zu der mit der {@link SearchEngine} gesucht wird. */
+    private final int maxDepth;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link PositionAnalyzer} mit der Standardgröße für Stapel.
+     *
+     * @param layout           Die Form des Spielfeldes, auf dem alle Stellungen liegen.
+     * @param threads          Die Anzahl an Threads, auf die die Stellungen verteilt werden.
+     * @param timeBudgetMillis Das Zeitbudget pro Stellung in Millisekunden, wenn gesucht wird.
+     * @param maxDepth         Die maximale Tiefe, bis zu der gesucht wird.
+     */
+    public PositionAnalyzer(
+            @NotNull final BoardLayout layout,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int threads,
+            @Range(from = 0, to = Long.MAX_VALUE) final long timeBudgetMillis,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int maxDepth
+    ) {
+        this(layout, threads, DEFAULT_BATCH_SIZE, PENDING_BATCHES_PER_THREAD * threads, timeBudgetMillis, maxDepth);
+    }
+
+    /**
+     * Erzeugt einen neuen {@link PositionAnalyzer}.
+     *
+     * @param layout            Die Form des Spielfeldes, auf dem alle Stellungen liegen.
+     * @param threads           Die Anzahl an Threads, auf die die Stellungen verteilt werden.
+     * @param batchSize         Die Anzahl an Zeilen, die zu einem Stapel zusammengefasst werden.
+     * @param maxPendingBatches Die maximale Anzahl an Stapeln, die gleichzeitig in Bearbeitung sind.
+     * @param timeBudgetMillis  Das Zeitbudget pro Stellung in Millisekunden, wenn gesucht wird.
+     * @param maxDepth          Die maximale Tiefe, bis zu der gesucht wird.
+     *
+     * @throws IllegalArgumentException Wenn eine der Größen kleiner als {@code 1} ist.
+     */
+    public PositionAnalyzer(
+            @NotNull final BoardLayout layout,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int threads,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int batchSize,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int maxPendingBatches,
+            @Range(from = 0, to = Long.MAX_VALUE) final long timeBudgetMillis,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int maxDepth
+    ) {
+        if (threads < 1 || batchSize < 1 || maxPendingBatches < 1 || maxDepth < 1) {
+            throw new IllegalArgumentException("threads, batch size, pending batches and depth must be positive");
+        }
+
+        this.layout = layout;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.maxPendingBatches = maxPendingBatches;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.maxDepth = maxDepth;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Bewertet alle Stellungen, die ein {@link Iterator} liefert, und übergibt die Ergebnisse in der Reihenfolge der
+     * Stellungen an einen {@link Consumer}. Der {@link Consumer} wird dabei ausschließlich auf dem aufrufenden Thread
+     * aufgerufen, der {@link Iterator} ebenfalls.
+     *
+     * @param lines    Die Zeilen, die die Stellungen enthalten. Leere Zeilen und Kommentare werden übersprungen.
+     * @param consumer Der {@link Consumer}, dem jedes Ergebnis übergeben wird.
+     *
+     * @return Die Anzahl aller bewerteten Stellungen.
+     *
+     * @throws IllegalArgumentException Wenn eine Zeile keine gültige Stellung enthält.
+     * @throws InterruptedException     Wenn der aufrufende Thread unterbrochen wird, während auf Ergebnisse gewartet wird.
+     */
+    public long analyze(
+            @NotNull final Iterator<String> lines,
+            @NotNull final Consumer<PositionAnalysis> consumer
+    ) throws InterruptedException {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(this.threads, runnable -> {
+            final Thread thread = new Thread(runnable, "position-analyzer-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        final Queue<Evaluator> createdEvaluators = new ConcurrentLinkedQueue<>();
+        final ThreadLocal<Evaluator> evaluators = ThreadLocal.withInitial(() -> {
+            final Evaluator evaluator = new Evaluator();
+            createdEvaluators.add(evaluator);
+            return evaluator;
+        });
+        final Queue<Future<PositionAnalysis[]>> pending = new ArrayDeque<>(this.maxPendingBatches);
+        long lineNumber = 0;
+        long analyzed = 0;
+
+        try {
+            while (lines.hasNext()) {
+                final String[] batch = new String[this.batchSize];
+                final long[] lineNumbers = new long[this.batchSize];
+                int size = 0;
+
+                while (size < batch.length && lines.hasNext()) {
+                    final String line = lines.next();
+                    lineNumber++;
+                    if (!PositionFormat.isPosition(line)) continue;
+
+                    batch[size] = line;
+                    lineNumbers[size++] = lineNumber;
+                }
+
+                // wait for the oldest batch before reading any further
+                if (pending.size() >= this.maxPendingBatches) analyzed += emit(pending.remove(), consumer);
+
+                final int batchLength = size;
+                pending.add(executor.submit(() -> {
+                    final Evaluator evaluator = evaluators.get();
+                    final PositionAnalysis[] results = new PositionAnalysis[batchLength];
+
+                    for (int i = 0; i < batchLength; i++) {
+                        results[i] = evaluator.evaluate(lineNumbers[i], batch[i]);
+                    }
+
+                    return results;
+                }));
+            }
+
+            while (!pending.isEmpty()) {
+                analyzed += emit(pending.remove(), consumer);
+            }
+        } finally {
+            executor.shutdownNow();
+
+            try {
+                // an interrupted search ends early, so the threads are done shortly after being interrupted
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            } finally {
+                for (@NotNull final Evaluator evaluator : createdEvaluators) {
+                    evaluator.close();
+                }
+            }
+        }
+
+        return analyzed;
+    }
+
+    /**
+     * Bewertet alle Stellungen einer Datei und schreibt die Ergebnisse zeilenweise (siehe
+     * {@link PositionAnalysis#toLine()}) in eine andere Datei.
+     *
+     * @param input  Die Datei, die die Stellungen enthält.
+     * @param output Die Datei, in die die Ergebnisse geschrieben werden.
+     *
+     * @return Die Anzahl aller bewerteten Stellungen.
+     *
+     * @throws IOException              Wenn eine der Dateien nicht gelesen bzw. geschrieben werden kann.
+     * @throws IllegalArgumentException Wenn eine Zeile keine gültige Stellung enthält.
+     * @throws InterruptedException     Wenn der aufrufende Thread unterbrochen wird, während auf Ergebnisse gewartet wird.
+     */
+    public long analyze(@NotNull final Path input, @NotNull final Path output) throws IOException, InterruptedException {
+        try (final BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             final BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)
+        ) {
+            return analyze(reader, writer);
+        }
+    }
+
+    /**
+     * Bewertet alle Stellungen aus einem {@link BufferedReader} und schreibt die Ergebnisse zeilenweise in einen
+     * {@link Writer}.
+     *
+     * @param reader Der {@link BufferedReader}, aus dem die Stellungen gelesen werden.
+     * @param writer Der {@link Writer}, in den die Ergebnisse geschrieben werden.
+     *
+     * @return Die Anzahl aller bewerteten Stellungen.
+     *
+     * @throws IOException          Wenn nicht gelesen bzw. geschrieben werden kann.
+     * @throws InterruptedException Wenn der aufrufende Thread unterbrochen wird, während auf Ergebnisse gewartet wird.
+     */
+    private long analyze(
+            @NotNull final BufferedReader reader,
+            @NotNull final Writer writer
+    ) throws IOException, InterruptedException {
+        try {
+            final long analyzed = analyze(reader.lines().iterator(), analysis -> {
+                try {
+                    writer.write(analysis.toLine());
+                    writer.write('\n');
+                } catch (@NotNull final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            writer.flush();
+            return analyzed;
+        } catch (@NotNull final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Wartet auf einen Stapel und übergibt alle seine Ergebnisse an einen {@link Consumer}.
+     *
+     * @param batch    Der Stapel, auf den gewartet wird.
+     * @param consumer Der {@link Consumer}, dem jedes Ergebnis übergeben wird.
+     *
+     * @return Die Anzahl der Ergebnisse in diesem Stapel.
+     *
+     * @throws InterruptedException Wenn der aufrufende Thread unterbrochen wird, während auf den Stapel gewartet wird.
+     */
+    private static int emit(
+            @NotNull final Future<PositionAnalysis[]> batch,
+            @NotNull final Consumer<PositionAnalysis> consumer
+    ) throws InterruptedException {
+        final PositionAnalysis[] results;
+        try {
+            results = batch.get();
+        } catch (@NotNull final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new IllegalStateException(e.getCause());
+        }
+
+        for (@NotNull final PositionAnalysis result : results) {
+            consumer.accept(result);
+        }
+
+        return results.length;
+    }
+
+
+    //<editor-fold desc="Evaluator">
+
+    /**
+     * Ein {@link Evaluator} bewertet einzelne Stellungen. Jeder Thread besitzt seinen eigenen {@link Evaluator} mit
+     * einem eigenen Spielfeld und einer eigenen {@link SearchEngine}, die nur auf diesem Thread sucht und am Ende der
+     * Analyse geschlossen wird.
+     */
+    private final class Evaluator {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Das Spielfeld, auf dem jede Stellung aufgebaut wird. */
+        @NotNull
+        private final GameBoard board = new GameBoard(layout);
+        /** Die {@link SearchEngine}, die bei Bedarf beim ersten Zugriff erzeugt wird. */
+        @Nullable
+        private SearchEngine searchEngine;
+        //</editor-fold>
+
+
+        /**
+         * Schließt die {@link SearchEngine} dieses {@link Evaluator}, sofern sie bereits erzeugt wurde.
+         */
+        private void close() {
+            if (this.searchEngine != null) this.searchEngine.close();
+        }
+
+
+        /**
+         * Bewertet eine einzelne Stellung.
+         *
+         * @param lineNumber Die Nummer der Zeile, in der die Stellung gelesen wurde.
+         * @param line       Die Zeile, die die Stellung enthält.
+         *
+         * @return Das Ergebnis der Bewertung.
+         *
+         * @throws IllegalArgumentException Wenn die Zeile keine gültige Stellung enthält.
+         */
+        @NotNull
+        private PositionAnalysis evaluate(final long lineNumber, @NotNull final String line) {
+            this.board.reset();
+
+            final UserType mover;
+            try {
+                mover = PositionFormat.read(line, this.board);
+            } catch (@NotNull final IllegalArgumentException | IllegalStateException e) {
+                throw new IllegalArgumentException("line " + lineNumber + ": " + e.getMessage(), e);
+            }
+
+            final String position = PositionFormat.write(this.board, mover);
+            final UserType winner = this.board.getWinner();
+
+            if (this.board.isOver()) {
+                final GameValue value = winner == null ? GameValue.DRAW : winner == mover ? GameValue.WIN : GameValue.LOSS;
+                return createAnalysis(lineNumber, position, mover, -1, value, this.board.getWinLine());
+            }
+
+            final int moverBoard = (int) this.board.getBoard(mover);
+            final int opponentBoard = (int) this.board.getBoard(mover.getOpponent());
+
+            if (layout.isClassic()) {
+                final PerfectPlayTable table = PerfectPlayTable.getInstance();
+                final int bestMove = table.getBestMove(moverBoard, opponentBoard);
+                final GameValue value = table.getValue(moverBoard, opponentBoard);
+
+                return createAnalysis(lineNumber, position, mover, bestMove, value, playOut(mover, table::getBestMove));
+            }
+
+            final Tablebase tablebase = Tablebase.supports(layout) ? Tablebase.getInstance() : null;
+            final int tablebaseMove = tablebase == null ? -1 : tablebase.getBestMove(moverBoard, opponentBoard);
+
+            if (tablebase != null && tablebaseMove >= 0) {
+                final GameValue value = tablebase.getValue(moverBoard, opponentBoard);
+                final int winLine = playOut(mover, tablebase::getBestMove);
+
+                return createAnalysis(lineNumber, position, mover, tablebaseMove, value, winLine);
+            }
+
+            return search(lineNumber, position, mover);
+        }
+
+        /**
+         * Bewertet eine Stellung mithilfe der {@link SearchEngine}. Der Wert gilt als bewiesen, wenn ein erzwungener
+         * Sieg bzw. eine erzwungene Niederlage gefunden wurde oder wenn bis zum letzten freien Feld gesucht wurde und
+         * dabei alle freien Felder untersucht wurden. Die Linie ist nur bekannt, wenn der beste Zug direkt gewinnt.
+         *
+         * @param lineNumber Die Nummer der Zeile, in der die Stellung gelesen wurde.
+         * @param position   Die Stellung im {@link PositionFormat}.
+         * @param mover      Der {@link UserType Typ}, der an der Reihe ist.
+         *
+         * @return Das Ergebnis der Bewertung.
+         */
+        @NotNull
+        private PositionAnalysis search(
+                final long lineNumber,
+                @NotNull final String position,
+                @NotNull final UserType mover
+        ) {
+            if (this.searchEngine == null) {
+                this.searchEngine = new SearchEngine(timeBudgetMillis, maxDepth, 1, new TranspositionTable(TABLE_ENTRIES));
+            }
+
+            final SearchResult result = this.searchEngine.search(this.board, mover);
+            final int bestMove = result.getBestMove();
+            final int emptyCells = layout.getCellCount() - this.board.getMoveCount();
+            final int winThreshold = SearchEngine.WIN_SCORE - layout.getCellCount();
+
+            // the best move is played once to see whether it ends the game immediately
+            this.board.place(bestMove, mover);
+            final boolean won = this.board.getWinner() == mover;
+            final boolean full = this.board.isFull();
+            final int winLine = this.board.getWinLine();
+            this.board.remove(bestMove);
+
+            final GameValue value;
+            if (won || result.getScore() > winThreshold) value = GameValue.WIN;
+            else if (result.getScore() < -winThreshold) value = GameValue.LOSS;
+            else if (full || result.getDepth() >= emptyCells && SearchEngine.isFullWidth(layout)) value = GameValue.DRAW;
+            else value = null;
+
+            return createAnalysis(lineNumber, position, mover, bestMove, value, won ? winLine : -1);
+        }
+
+        /**
+         * Spielt eine Stellung mit den besten Zügen einer Tabelle bis zum Ende und gibt die Linie zurück, mit der das
+         * Spiel dabei gewonnen wird. Das Spielfeld wird dabei verändert.
+         *
+         * @param mover    Der {@link UserType Typ}, der an der Reihe ist.
+         * @param bestMove Die Tabelle, die für die Bitmasken beider Spieler den besten Zug liefert.
+         *
+         * @return Der Index der Linie, mit der das Spiel gewonnen wird bzw. {@code -1}, wenn es unentschieden endet.
+         */
+        private int playOut(@NotNull final UserType mover, @NotNull final IntBinaryOperator bestMove) {
+            UserType current = mover;
+
+            while (!this.board.isOver()) {
+                final int move = bestMove.applyAsInt(
+                        (int) this.board.getBoard(current),
+                        (int) this.board.getBoard(current.getOpponent())
+                );
+                if (move < 0) break;
+
+                this.board.place(move, current);
+                current = current.getOpponent();
+            }
+
+            return this.board.getWinLine();
+        }
+
+        /**
+         * Erzeugt das Ergebnis einer Bewertung und ermittelt dabei die {@link CombinationType Kombination} der Linie.
+         *
+         * @param lineNumber Die Nummer der Zeile, in der die Stellung gelesen wurde.
+         * @param position   Die Stellung im {@link PositionFormat}.
+         * @param mover      Der {@link UserType Typ}, der an der Reihe ist.
+         * @param bestMove   Der Index des besten Feldes.
+         * @param value      Der spieltheoretische Wert der Stellung.
+         * @param winLine    Der Index der Linie, mit der das Spiel gewonnen wird.
+         *
+         * @return Das Ergebnis der Bewertung.
+         */
+        @NotNull
+        private PositionAnalysis createAnalysis(
+                final long lineNumber,
+                @NotNull final String position,
+                @NotNull final UserType mover,
+                final int bestMove,
+                @Nullable final GameValue value,
+                final int winLine
+        ) {
+            return new PositionAnalysis(
+                    lineNumber,
+                    position,
+                    mover,
+                    bestMove,
+                    value,
+                    winLine,
+                    CombinationType.getByLine(layout, winLine)
+            );
+        }
+    }
+    //</editor-fold>
+
+
+    //<editor-fold desc="main">
+
+    /**
+     * Bewertet alle Stellungen einer Datei und schreibt die Ergebnisse in eine andere Datei. Die Form des Spielfeldes
+     * wird wie beim Spiel selbst über System-Properties festgelegt.
+     *
+     * @param args Die Datei mit den Stellungen, die Datei für die Ergebnisse (jeweils {@code -} für die Konsole), die
+     *             Anzahl an Threads, das Zeitbudget pro Stellung in Millisekunden und die maximale Tiefe der Suche
+     *             (die letzten drei jeweils optional).
+     *
+     * @throws IOException          Wenn eine der Dateien nicht gelesen bzw. geschrieben werden kann.
+     * @throws InterruptedException Wenn der Thread unterbrochen wird, während auf Ergebnisse gewartet wird.
+     */
+    public static void main(@NotNull final String @NotNull [] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            System.err.println("usage: PositionAnalyzer <input|-> <output|-> [threads] [timeBudgetMillis] [maxDepth]");
+            return;
+        }
+
+        final PositionAnalyzer analyzer = new PositionAnalyzer(
+                BoardLayout.getConfigured(),
+                args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors(),
+                args.length > 3 ? Long.parseLong(args[3]) : SearchEngine.DEFAULT_TIME_BUDGET_MILLIS,
+                args.length > 4 ? Integer.parseInt(args[4]) : Integer.MAX_VALUE
+        );
+        final long start = System.nanoTime();
+
+        try (final BufferedReader reader = args[0].equals("-")
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(args[0]), StandardCharsets.UTF_8);
+             final BufferedWriter writer = args[1].equals("-")
+                     ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                     : Files.newBufferedWriter(Paths.get(args[1]), StandardCharsets.UTF_8)
+        ) {
+            final long analyzed = analyzer.analyze(reader, writer);
+            final long elapsedNanos = System.nanoTime() - start;
+
+            System.err.println(String.format(
+                    Locale.ROOT,
+                    "positions=%d threads=%d elapsed=%dms positions/s=%d",
+                    analyzed,
+                    analyzer.getThreads(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    elapsedNanos == 0 ? analyzed : analyzed * TimeUnit.SECONDS.toNanos(1) / elapsedNanos
+            ));
+        }
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,190 @@
+package de.gemuesehasser.tictactoe.analysis;
+
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Das {@link PositionFormat} beschreibt, wie eine Stellung als einzelne Zeile kodiert wird. Eine Zeile besteht aus der
+ * Belegung aller Felder in der Reihenfolge ihrer Indizes (siehe {@link BoardLayout#getIndex(int, int)}), wobei
+ * {@value #USER_SYMBOL} für den {@link UserType#USER Nutzer}, {@value #COMPUTER_SYMBOL} für den
+ * {@link UserType#COMPUTER Computer} und {@value #EMPTY_SYMBOL} für ein freies Feld steht. Optional folgt nach einem
+ * Leerzeichen das Symbol des {@link UserType Typen}, der an der Reihe ist. Fehlt es, ist der Typ mit weniger Steinen an
+ * der Reihe bzw. bei gleich vielen Steinen der Nutzer.
+ *
+ * <p>Ein Beispiel für das klassische 3x3 Spielfeld ist {@code "x.o.x.o.. o"}. Leere Zeilen und Zeilen, die mit
+ * {@value #COMMENT_PREFIX} beginnen, enthalten keine Stellung.</p>
+ */
+public final class PositionFormat {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Das Symbol eines Feldes, welches der {@link UserType#USER Nutzer} belegt. */
+    public static final char USER_SYMBOL = 'o';
+    /** Das Symbol eines Feldes, welches der {@link UserType#COMPUTER Computer} belegt. */
+    public static final char COMPUTER_SYMBOL = 'x';
+    /** Das Symbol eines freien Feldes. */
+    public static final char EMPTY_SYMBOL = '.';
+    /** Das Zeichen, mit dem eine Zeile beginnt, die keine Stellung, sondern einen Kommentar enthält. */
+    public static final char COMMENT_PREFIX = '#';
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Instanzen dieser Klasse werden nicht benötigt.
+     */
+    private PositionFormat() {
+    }
+    //</editor-fold>
+
+
+    /**
+     * Prüft, ob eine Zeile eine Stellung enthält.
+     *
+     * @param line Die Zeile, die geprüft wird.
+     *
+     * @return Wenn die Zeile weder leer noch ein Kommentar ist {@code true}, ansonsten {@code false}.
+     */
+    public static boolean isPosition(@NotNull final String line) {
+        final String trimmed = line.trim();
+        return !trimmed.isEmpty() && trimmed.charAt(0) != COMMENT_PREFIX;
+    }
+
+    /**
+     * Liest eine Stellung aus einer Zeile und belegt damit ein leeres Spielfeld.
+     *
+     * @param line  Die Zeile, aus der die Stellung gelesen wird.
+     * @param board Das leere Spielfeld, welches mit der Stellung belegt wird.
+     *
+     * @return Der {@link UserType Typ}, der in dieser Stellung an der Reihe ist.
+     *
+     * @throws IllegalArgumentException Wenn die Zeile keine gültige Stellung für die Form des Spielfeldes enthält oder
+     *                                  die Stellung nicht erreicht werden kann (z.B. weil der Typ, der an der Reihe ist,
+     *                                  bereits eine Linie vervollständigt hat).
+     */
+    @NotNull
+    public static UserType read(@NotNull final String line, @NotNull final GameBoard board) {
+        final String[] parts = line.trim().split("\\s+");
+        final String cells = parts[0];
+        final int cellCount = board.getLayout().getCellCount();
+
+        if (parts.length > 2) throw new IllegalArgumentException("position '" + line + "' has too many parts");
+        if (cells.length() != cellCount) {
+            throw new IllegalArgumentException("position '" + line + "' does not have " + cellCount + " cells");
+        }
+
+        int userCount = 0;
+        int computerCount = 0;
+
+        for (int cell = 0; cell < cellCount; cell++) {
+            final UserType userType = getUserType(cells.charAt(cell), line);
+            if (userType == null) continue;
+
+            board.place(cell, userType);
+            if (userType == UserType.USER) userCount++;
+            else computerCount++;
+        }
+
+        final UserType mover = parts.length == 2
+                ? getUserType(parts[1].length() == 1 ? parts[1].charAt(0) : EMPTY_SYMBOL, line)
+                : computerCount < userCount ? UserType.COMPUTER : UserType.USER;
+        if (mover == null) throw new IllegalArgumentException("position '" + line + "' has no valid mover");
+
+        final int moverCount = mover == UserType.USER ? userCount : computerCount;
+        final int opponentCount = mover == UserType.USER ? computerCount : userCount;
+        if (opponentCount - moverCount != 0 && opponentCount - moverCount != 1) {
+            throw new IllegalArgumentException("position '" + line + "' cannot be reached with " + mover + " to move");
+        }
+
+        // the last move was made by the opponent, so only the opponent can have completed a line
+        if (hasLine(board, mover)) {
+            throw new IllegalArgumentException("position '" + line + "' cannot be reached, " + mover + " already won");
+        }
+
+        return mover;
+    }
+
+    /**
+     * Kodiert die Stellung eines Spielfeldes als Zeile.
+     *
+     * @param board Das Spielfeld, dessen Stellung kodiert wird.
+     * @param mover Der {@link UserType Typ}, der in dieser Stellung an der Reihe ist.
+     *
+     * @return Die Stellung als Zeile.
+     */
+    @NotNull
+    public static String write(@NotNull final GameBoard board, @NotNull final UserType mover) {
+        final int cellCount = board.getLayout().getCellCount();
+        final StringBuilder line = new StringBuilder(cellCount + 2);
+
+        for (int cell = 0; cell < cellCount; cell++) {
+            line.append(getSymbol(board.getUserType(cell)));
+        }
+
+        return line.append(' ').append(getSymbol(mover)).toString();
+    }
+
+    /**
+     * Prüft, ob ein {@link UserType Typ} auf einem Spielfeld bereits alle Felder einer Linie belegt.
+     *
+     * @param board    Das Spielfeld, welches geprüft wird.
+     * @param userType Der {@link UserType Typ}, dessen Felder geprüft werden.
+     *
+     * @return Wenn der {@link UserType Typ} alle Felder einer Linie belegt {@code true}, ansonsten {@code false}.
+     */
+    private static boolean hasLine(@NotNull final GameBoard board, @NotNull final UserType userType) {
+        for (final int[] cells : board.getLayout().getLines()) {
+            boolean complete = true;
+
+            for (final int cell : cells) {
+                if (board.getUserType(cell) != userType) {
+                    complete = false;
+                    break;
+                }
+            }
+
+            if (complete) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Gibt das Symbol eines {@link UserType Typen} zurück.
+     *
+     * @param userType Der {@link UserType Typ} bzw. {@code null} für ein freies Feld.
+     *
+     * @return Das Symbol des {@link UserType Typen}.
+     */
+    public static char getSymbol(@Nullable final UserType userType) {
+        return userType == UserType.USER ? USER_SYMBOL : userType == UserType.COMPUTER ? COMPUTER_SYMBOL : EMPTY_SYMBOL;
+    }
+
+    /**
+     * Gibt den {@link UserType Typen} zurück, für den ein Symbol steht.
+     *
+     * @param symbol Das Symbol.
+     * @param line   Die Zeile, aus der das Symbol stammt.
+     *
+     * @return Der {@link UserType Typ} bzw. {@code null}, wenn das Symbol für ein freies Feld steht.
+     *
+     * @throws IllegalArgumentException Wenn das Zeichen kein gültiges Symbol ist.
+     */
+    @Nullable
+    private static UserType getUserType(final char symbol, @NotNull final String line) {
+        switch (symbol) {
+            case USER_SYMBOL:
+                return UserType.USER;
+            case COMPUTER_SYMBOL:
+                return UserType.COMPUTER;
+            case EMPTY_SYMBOL:
+                return null;
+            default:
+                throw new IllegalArgumentException("position '" + line + "' contains the invalid symbol '" + symbol + "'");
+        }
+    }
+
+}
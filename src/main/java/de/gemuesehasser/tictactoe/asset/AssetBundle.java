@@ -0,0 +1,193 @@
+package de.gemuesehasser.tictactoe.asset;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.BiConsumer;
+
+/**
+ * Das {@link AssetBundle} enthält alle {@link ImageAsset Bilder} bereits dekodiert als ARGB-Pixel, sodass sie beim
+ * Starten nicht mehr mit {@link javax.imageio.ImageIO} dekodiert werden müssen. Es wird beim Bauen der Anwendung
+ * erzeugt und als Ressource ausgeliefert. Fehlt es, werden die Bilder wie gewohnt dekodiert.
+ *
+ * <p>Das Bundle beginnt mit einer magischen Zahl und der Anzahl an Bildern. Danach folgt für jedes Bild der Name seines
+ * {@link ImageAsset}, seine Breite, seine Höhe und alle Pixel zeilenweise als ARGB-Werte. Bilder, die größer sind als
+ * {@value #MAX_EDGE} Pixel, werden vorher verkleinert, da sie nie größer dargestellt werden.</p>
+ */
+public final class AssetBundle {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Name der Ressource, aus der das beim Bauen erzeugte Bundle gelesen wird. */
+    @NotNull
+    public static final String RESOURCE_NAME = "/assets.argb";
+    /** Die magische Zahl am Anfang jedes Bundles ("TTA1"). */
+    private static final int MAGIC = 0x54544131;
+    /** Die maximale Breite bzw. Höhe eines Bildes im Bundle. */
+    private static final int MAX_EDGE = 512;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Instanzen dieser Klasse werden nicht benötigt.
+     */
+    private AssetBundle() {
+    }
+    //</editor-fold>
+
+
+    /**
+     * Liest alle Bilder aus einem Bundle. Jedes Bild wird direkt weitergegeben, sobald es gelesen wurde, sodass die
+     * ersten Bilder bereits genutzt werden können, während die restlichen noch gelesen werden.
+     *
+     * @param inputStream Der Stream, aus dem das Bundle gelesen wird.
+     * @param consumer    Der Consumer, dem jedes gelesene Bild zusammen mit seinem {@link ImageAsset} übergeben wird.
+     *
+     * @throws IOException Wenn das Bundle nicht gelesen werden kann oder beschädigt ist.
+     */
+    public static void read(
+            @NotNull final InputStream inputStream,
+            @NotNull final BiConsumer<ImageAsset, BufferedImage> consumer
+    ) throws IOException {
+        final DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+        if (input.readInt() != MAGIC) throw new IOException("not an asset bundle");
+
+        final int count = input.readInt();
+        byte[] bytes = new byte[0];
+
+        for (int i = 0; i < count; i++) {
+            final String name = input.readUTF();
+            final int width = input.readInt();
+            final int height = input.readInt();
+
+            if (width <= 0 || height <= 0 || width > MAX_EDGE || height > MAX_EDGE) {
+                throw new IOException("image " + name + " has an invalid size of " + width + "x" + height);
+            }
+
+            final ImageAsset asset;
+            try {
+                asset = ImageAsset.valueOf(name);
+            } catch (@NotNull final IllegalArgumentException e) {
+                throw new IOException("unknown image " + name, e);
+            }
+
+            if (bytes.length < width * height * Integer.BYTES) bytes = new byte[width * height * Integer.BYTES];
+            input.readFully(bytes, 0, width * height * Integer.BYTES);
+
+            final int[] pixels = new int[width * height];
+            ByteBuffer.wrap(bytes, 0, pixels.length * Integer.BYTES).asIntBuffer().get(pixels);
+
+            final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            image.getRaster().setDataElements(0, 0, width, height, pixels);
+            consumer.accept(asset, image);
+        }
+    }
+
+    /**
+     * Dekodiert alle {@link ImageAsset Bilder} und schreibt sie als Bundle in einen Stream.
+     *
+     * @param outputStream Der Stream, in den das Bundle geschrieben wird.
+     *
+     * @throws IOException Wenn ein Bild nicht dekodiert oder das Bundle nicht geschrieben werden kann.
+     */
+    public static void write(@NotNull final OutputStream outputStream) throws IOException {
+        final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+        output.writeInt(MAGIC);
+        output.writeInt(ImageAsset.values().length);
+
+        for (@NotNull final ImageAsset asset : ImageAsset.values()) {
+            final BufferedImage image = shrink(asset.decode());
+            final int width = image.getWidth();
+            final int height = image.getHeight();
+            final int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+            output.writeUTF(asset.name());
+            output.writeInt(width);
+            output.writeInt(height);
+
+            final ByteBuffer buffer = ByteBuffer.allocate(pixels.length * Integer.BYTES);
+            buffer.asIntBuffer().put(pixels);
+            output.write(buffer.array());
+        }
+
+        output.flush();
+    }
+
+    /**
+     * Verkleinert ein Bild, sofern es größer als {@value #MAX_EDGE} Pixel ist. Das Seitenverhältnis bleibt dabei
+     * erhalten.
+     *
+     * @param image Das Bild, welches verkleinert wird.
+     *
+     * @return Das Bild mit einer Breite und Höhe von höchstens {@value #MAX_EDGE} Pixeln.
+     */
+    @NotNull
+    private static BufferedImage shrink(@NotNull final BufferedImage image) {
+        if (image.getWidth() <= MAX_EDGE && image.getHeight() <= MAX_EDGE) return image;
+
+        final double scale = (double) MAX_EDGE / Math.max(image.getWidth(), image.getHeight());
+        final int width = getScaledEdge(image.getWidth(), scale);
+        final int height = getScaledEdge(image.getHeight(), scale);
+        final BufferedImage shrunk = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g = shrunk.createGraphics();
+
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+
+        return shrunk;
+    }
+
+    /**
+     * Skaliert die Länge einer Seite eines Bildes, wobei sie mindestens einen Pixel lang bleibt.
+     *
+     * @param edge  Die ursprüngliche Länge der Seite.
+     * @param scale Der Faktor, mit dem die Seite skaliert wird.
+     *
+     * @return Die skalierte Länge der Seite.
+     */
+    @Range(from = 1, to = MAX_EDGE)
+    private static int getScaledEdge(final int edge, final double scale) {
+        return (int) Math.max(1, Math.min(MAX_EDGE, Math.round(edge * scale)));
+    }
+
+
+    //<editor-fold desc="main">
+
+    /**
+     * Dekodiert alle Bilder und schreibt sie als Bundle in die übergebene Datei. Diese Methode wird beim Bauen der
+     * Anwendung aufgerufen, damit das Bundle als Ressource ausgeliefert werden kann.
+     *
+     * @param args Der Pfad der Datei, in die das Bundle geschrieben wird.
+     *
+     * @throws IOException Wenn ein Bild nicht dekodiert oder das Bundle nicht geschrieben werden kann.
+     */
+    public static void main(@NotNull final String @NotNull [] args) throws IOException {
+        final Path path = Paths.get(args[0]);
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+
+        try (final OutputStream outputStream = Files.newOutputStream(path)) {
+            write(outputStream);
+        }
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,190 @@
+package de.gemuesehasser.tictactoe.asset;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Ein {@link ImageAsset} ist ein Bild, welches in dieser Anwendung dargestellt wird. Alle Bilder werden mit
+ * {@link #preload()} parallel auf eigenen Threads geladen, sodass das Fenster bereits angezeigt werden kann, bevor die
+ * Bilder vollständig vorliegen. Ist das {@link AssetBundle} vorhanden, welches beim Bauen erzeugt wird, werden die
+ * Bilder nicht dekodiert, sondern direkt als ARGB-Pixel daraus gelesen.
+ */
+@Getter
+public enum ImageAsset {
+
+    //<editor-fold desc="VALUES">
+    /** Der Hintergrund des Spielfeldes. */
+    BACKGROUND("background.jpg"),
+    /** Das Icon, welches die Siege des Nutzers darstellt. */
+    WIN("win.png"),
+    /** Das Icon, welches die Niederlagen des Nutzers (Siege des Computers) darstellt. */
+    LOSE("lose.jpg"),
+    /** Das Symbol, welches der Nutzer auf einem Feld platziert. */
+    USER("o.png"),
+    /** Das Symbol, welches der Computer auf einem Feld platziert. */
+    COMPUTER("x.png");
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Name der Ressource, aus der dieses Bild dekodiert wird. */
+    @NotNull
+    private final String resourceName;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt ein neues {@link ImageAsset}.
+     *
+     * @param resourceName Der Name der Ressource, aus der dieses Bild dekodiert wird.
+     */
+    ImageAsset(@NotNull final String resourceName) {
+        this.resourceName = resourceName;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt dieses Bild zurück. Sollte es noch nicht geladen sein, wird darauf gewartet.
+     *
+     * @return Dieses Bild.
+     */
+    @NotNull
+    public BufferedImage getImage() {
+        return Loader.FUTURES[ordinal()].join();
+    }
+
+    /**
+     * Gibt dieses Bild zurück, sofern es bereits geladen ist, ohne darauf zu warten.
+     *
+     * @return Dieses Bild bzw. {@code null}, wenn es noch nicht geladen ist oder nicht geladen werden konnte.
+     */
+    @Nullable
+    public BufferedImage getImageIfLoaded() {
+        final CompletableFuture<BufferedImage> future = Loader.FUTURES[ordinal()];
+        return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    /**
+     * Dekodiert dieses Bild mithilfe von {@link ImageIO} aus seiner Ressource.
+     *
+     * @return Das dekodierte Bild.
+     *
+     * @throws IOException Wenn die Ressource nicht vorhanden ist oder nicht dekodiert werden kann.
+     */
+    @NotNull
+    public BufferedImage decode() throws IOException {
+        try (final InputStream inputStream = ImageAsset.class.getResourceAsStream("/" + this.resourceName)) {
+            if (inputStream == null) throw new IOException("resource " + this.resourceName + " not found");
+
+            final BufferedImage image = ImageIO.read(inputStream);
+            if (image == null) throw new IOException("resource " + this.resourceName + " is not a supported image");
+
+            return image;
+        }
+    }
+
+    /**
+     * Beginnt, alle Bilder im Hintergrund zu laden, sofern das noch nicht geschehen ist. Diese Methode kehrt sofort
+     * zurück und sollte so früh wie möglich aufgerufen werden.
+     *
+     * @return Ein {@link CompletableFuture}, welches abgeschlossen wird, sobald alle Bilder geladen sind (oder nicht
+     *     geladen werden konnten).
+     */
+    @NotNull
+    public static CompletableFuture<Void> preload() {
+        return Loader.ALL;
+    }
+
+
+    //<editor-fold desc="Loader">
+
+    /**
+     * Der {@link Loader} beginnt beim ersten Zugriff, alle Bilder zu laden. Zuerst wird versucht, alle Bilder aus dem
+     * {@link AssetBundle} zu lesen, alle Bilder, die darin nicht enthalten sind, werden anschließend parallel dekodiert.
+     */
+    private static final class Loader {
+
+        //<editor-fold desc="CONSTANTS">
+        /** Die Threads, auf denen die Bilder geladen werden. */
+        @NotNull
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+                Math.min(values().length, Runtime.getRuntime().availableProcessors()),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "asset-loader");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        /** Die Bilder aller {@link ImageAsset Assets}, anhand ihrer Ordinalzahl. */
+        @NotNull
+        private static final CompletableFuture<BufferedImage> @NotNull [] FUTURES = start();
+        /** Wird abgeschlossen, sobald alle Bilder geladen sind. */
+        @NotNull
+        private static final CompletableFuture<Void> ALL = CompletableFuture.allOf(FUTURES);
+        //</editor-fold>
+
+
+        /**
+         * Beginnt, alle Bilder im Hintergrund zu laden.
+         *
+         * @return Die Bilder aller {@link ImageAsset Assets}, anhand ihrer Ordinalzahl.
+         */
+        @NotNull
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static CompletableFuture<BufferedImage> @NotNull [] start() {
+            final CompletableFuture<BufferedImage>[] futures = new CompletableFuture[values().length];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = new CompletableFuture<>();
+            }
+
+            EXECUTOR.execute(() -> {
+                try (final InputStream inputStream = ImageAsset.class.getResourceAsStream(AssetBundle.RESOURCE_NAME)) {
+                    if (inputStream != null) {
+                        AssetBundle.read(inputStream, (asset, image) -> futures[asset.ordinal()].complete(image));
+                    }
+                } catch (@NotNull final IOException | RuntimeException ignored) {
+                    // all images that are missing in the bundle are decoded below
+                }
+
+                for (@NotNull final ImageAsset asset : values()) {
+                    final CompletableFuture<BufferedImage> future = futures[asset.ordinal()];
+                    if (!future.isDone()) EXECUTOR.execute(() -> decode(asset, future));
+                }
+            });
+
+            return futures;
+        }
+
+        /**
+         * Dekodiert ein Bild aus seiner Ressource und schließt sein {@link CompletableFuture} ab.
+         *
+         * @param asset  Das Bild, welches dekodiert wird.
+         * @param future Das {@link CompletableFuture}, welches mit dem Bild abgeschlossen wird.
+         */
+        private static void decode(
+                @NotNull final ImageAsset asset,
+                @NotNull final CompletableFuture<BufferedImage> future
+        ) {
+            try {
+                future.complete(asset.decode());
+            } catch (@NotNull final IOException | RuntimeException e) {
+                System.err.println("image " + asset.resourceName + " could not be loaded: " + e.getMessage());
+                future.completeExceptionally(e);
+            }
+        }
+    }
+    //</editor-fold>
+
+}
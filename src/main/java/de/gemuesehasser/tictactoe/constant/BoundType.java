@@ -0,0 +1,19 @@
+package de.gemuesehasser.tictactoe.constant;
+
+/**
+ * Ein {@link BoundType} beschreibt, wie genau eine Bewertung ist, die in der
+ * {@link de.gemuesehasser.tictactoe.ai.TranspositionTable} abgespeichert wurde. Durch die Alpha-Beta-Suche ist eine
+ * Bewertung nur dann exakt, wenn sie innerhalb der Schranken lag, mit denen die Stellung untersucht wurde.
+ */
+public enum BoundType {
+
+    //<editor-fold desc="VALUES">
+    /** Die Bewertung ist exakt. */
+    EXACT,
+    /** Die Bewertung ist eine untere Schranke, da die Suche nach einem zu guten Zug abgebrochen wurde. */
+    LOWER,
+    /** Die Bewertung ist eine obere Schranke, da kein Zug die untere Schranke der Suche übertroffen hat. */
+    UPPER
+    //</editor-fold>
+
+}
@@ -1,8 +1,9 @@
 package de.gemuesehasser.tictactoe.constant;
 
+import de.gemuesehasser.tictactoe.object.BoardLayout;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.awt.*;
 
@@ -10,7 +11,6 @@ import java.awt.*;
  * Ein {@link CombinationType Typ} stellt eine Kombination dar, mit der man das Spiel gewinnen kann.
  */
 @Getter
-@RequiredArgsConstructor
 public enum CombinationType {
 
     //<editor-fold desc="VALUES">
@@ -37,6 +37,47 @@ public enum CombinationType {
     /** Die Ansammlung von Punkten, aus der die Kombination besteht. */
     @NotNull
     private final Point @NotNull [] combinationPoints;
+    /** Die Bitmaske aller Felder, aus denen die Kombination besteht (siehe {@link BoardLayout#getIndex(int, int)}). */
+    private final int mask;
     //</editor-fold>
 
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link CombinationType}. Aus den übergebenen Punkten wird direkt die Bitmaske der Kombination
+     * berechnet, sodass ein Sieg mit einem einzelnen Vergleich überprüft werden kann.
+     *
+     * @param combinationPoints Die Ansammlung von Punkten, aus der die Kombination besteht.
+     */
+    CombinationType(@NotNull final Point @NotNull [] combinationPoints) {
+        this.combinationPoints = combinationPoints;
+
+        int mask = 0;
+        for (@NotNull final Point point : combinationPoints) {
+            mask |= 1 << BoardLayout.CLASSIC.getIndex(point.x, point.y);
+        }
+
+        this.mask = mask;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt die {@link CombinationType Kombination} zurück, die einer Linie eines {@link BoardLayout} entspricht. Da die
+     * Linien eines klassischen 3x3 Spielfeldes in der Reihenfolge dieser Kombinationen erzeugt werden, entspricht der
+     * Index der Linie der Ordinalzahl der Kombination.
+     *
+     * @param layout Die Form des Spielfeldes, zu der die Linie gehört.
+     * @param line   Der Index der Linie.
+     *
+     * @return Die entsprechende Kombination bzw. {@code null}, wenn es sich um kein klassisches 3x3 Spielfeld handelt
+     *      oder die Linie nicht existiert.
+     */
+    @Nullable
+    public static CombinationType getByLine(@NotNull final BoardLayout layout, final int line) {
+        if (!layout.isClassic() || line < 0 || line >= values().length) return null;
+        return values()[line];
+    }
+
 }
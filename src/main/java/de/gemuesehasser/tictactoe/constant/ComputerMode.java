@@ -0,0 +1,45 @@
+package de.gemuesehasser.tictactoe.constant;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+
+/**
+ * Ein {@link ComputerMode} beschreibt die Art und Weise, mit der der {@link de.gemuesehasser.tictactoe.object.Computer}
+ * den Platz für seinen nächsten Zug auswählt.
+ */
+public enum ComputerMode {
+
+    //<editor-fold desc="VALUES">
+    /** Der Computer gewinnt, blockiert, nimmt die Mitte oder setzt zufällig. */
+    HEURISTIC,
+    /**
+     * Der Computer spielt perfekt anhand einer vorberechneten Tabelle aller erreichbaren Stellungen (auf einem 3x3
+     * Spielfeld immer, auf einem 4x4 Spielfeld mit vier in einer Reihe, sofern die
+     * {@link de.gemuesehasser.tictactoe.ai.Tablebase} erzeugt wurde).
+     */
+    PERFECT_PLAY,
+    /** Der Computer sucht innerhalb eines Zeitbudgets mit einer parallelen Alpha-Beta-Suche nach dem besten Zug. */
+    SEARCH;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Name der System-Property, mit der der Modus des Computers beim Starten festgelegt werden kann. */
+    @NotNull
+    public static final String PROPERTY_NAME = "tictactoe.computer";
+    //</editor-fold>
+
+
+    /**
+     * Gibt den {@link ComputerMode Modus} zurück, der mithilfe der System-Property {@value #PROPERTY_NAME} festgelegt
+     * wurde. Ist diese nicht gesetzt, wird {@link #HEURISTIC} zurückgegeben.
+     *
+     * @return Der {@link ComputerMode Modus}, der beim Starten festgelegt wurde.
+     */
+    @NotNull
+    public static ComputerMode getConfigured() {
+        return valueOf(System.getProperty(PROPERTY_NAME, HEURISTIC.name()).toUpperCase(Locale.ROOT));
+    }
+
+}
@@ -0,0 +1,70 @@
+package de.gemuesehasser.tictactoe.constant;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Ein {@link GameOutcome} beschreibt den Zustand einer Runde. Eine Runde läuft, bis ein {@link UserType Typ} eine Linie
+ * vollständig belegt und damit gewinnt oder alle Felder ohne Gewinner belegt sind. Der Zustand wird vom
+ * {@link de.gemuesehasser.tictactoe.object.GameBoard Spielfeld} bei jedem Zug mitgeführt, sodass er nie erneut anhand
+ * der Belegung der Felder bestimmt werden muss.
+ */
+@Getter
+public enum GameOutcome {
+
+    //<editor-fold desc="VALUES">
+    /** Die Runde läuft noch. */
+    IN_PROGRESS(null),
+    /** Der {@link UserType#USER Nutzer} hat die Runde gewonnen. */
+    USER_WON(UserType.USER),
+    /** Der {@link UserType#COMPUTER Computer} hat die Runde gewonnen. */
+    COMPUTER_WON(UserType.COMPUTER),
+    /** Alle Felder sind belegt, ohne dass ein {@link UserType Typ} gewonnen hat. */
+    DRAW(null);
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der {@link UserType Typ}, der die Runde gewonnen hat bzw. {@code null}, wenn es keinen Gewinner gibt. */
+    @Nullable
+    private final UserType winner;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link GameOutcome Zustand} einer Runde.
+     *
+     * @param winner Der {@link UserType Typ}, der die Runde gewonnen hat bzw. {@code null}, wenn es keinen Gewinner
+     *               gibt.
+     */
+    GameOutcome(@Nullable final UserType winner) {
+        this.winner = winner;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Prüft, ob die Runde in diesem Zustand beendet ist.
+     *
+     * @return Wenn die Runde gewonnen oder unentschieden ist {@code true}, ansonsten {@code false}.
+     */
+    public boolean isOver() {
+        return this != IN_PROGRESS;
+    }
+
+    /**
+     * Gibt den {@link GameOutcome Zustand} zurück, in dem ein bestimmter {@link UserType Typ} die Runde gewonnen hat.
+     *
+     * @param winner Der {@link UserType Typ}, der die Runde gewonnen hat.
+     *
+     * @return Der {@link GameOutcome Zustand}, in dem der {@link UserType Typ} gewonnen hat.
+     */
+    @NotNull
+    public static GameOutcome wonBy(@NotNull final UserType winner) {
+        return winner == UserType.USER ? USER_WON : COMPUTER_WON;
+    }
+
+}
@@ -0,0 +1,31 @@
+package de.gemuesehasser.tictactoe.constant;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Ein {@link GameValue} beschreibt den spieltheoretischen Wert einer Stellung aus Sicht des {@link UserType Typen}, der
+ * als nächstes an der Reihe ist, unter der Annahme, dass beide Seiten perfekt spielen.
+ */
+public enum GameValue {
+
+    //<editor-fold desc="VALUES">
+    /** Der Typ, der an der Reihe ist, verliert das Spiel. */
+    LOSS,
+    /** Das Spiel endet unentschieden. */
+    DRAW,
+    /** Der Typ, der an der Reihe ist, gewinnt das Spiel. */
+    WIN;
+    //</editor-fold>
+
+
+    /**
+     * Gibt den Wert dieser Stellung aus Sicht des Gegenspielers zurück.
+     *
+     * @return Der Wert dieser Stellung aus Sicht des Gegenspielers.
+     */
+    @NotNull
+    public GameValue negate() {
+        return values()[values().length - 1 - ordinal()];
+    }
+
+}
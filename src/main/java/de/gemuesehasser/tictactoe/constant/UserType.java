@@ -1,37 +1,31 @@
 package de.gemuesehasser.tictactoe.constant;
 
-import de.gemuesehasser.tictactoe.gui.GameGui;
+import de.gemuesehasser.tictactoe.asset.ImageAsset;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.util.Objects;
 
 /**
- * Ein {@link UserType Typ} wird für beide Nutzer erzeugt, die in diesem Spiel teilnehmen sollen. Beim Erzeugen
- * eines Typen wird das Bild direkt geladen, welches dieser Typ auf einem
- * {@link de.gemuesehasser.tictactoe.object.GameField Feld} platzieren kann.
+ * Ein {@link UserType Typ} wird für beide Nutzer erzeugt, die in diesem Spiel teilnehmen sollen. Das Bild, welches
+ * dieser Typ auf einem {@link de.gemuesehasser.tictactoe.object.GameField Feld} platzieren kann, wird als
+ * {@link ImageAsset} geladen, sodass ein Typ auch ohne grafische Oberfläche genutzt werden kann.
  */
 @Getter
 public enum UserType {
 
     //<editor-fold desc="VALUES">
     /** Der Nutzer, der diese Anwendung gestartet hat. */
-    USER("o.png"),
+    USER(ImageAsset.USER),
     /** Der Computer, also der Gegenspieler des Nutzers, der diese Anwendung gestartet hat. */
-    COMPUTER("x.png");
+    COMPUTER(ImageAsset.COMPUTER);
     //</editor-fold>
 
 
     //<editor-fold desc="LOCAL FIELDS">
     /** Das Bild, welches diesen Typen beschreibt. */
     @NotNull
-    private final BufferedImage image = new BufferedImage(GameGui.FIELD_SIZE, GameGui.FIELD_SIZE, BufferedImage.TYPE_INT_ARGB);
-    /** Die Anzahl an Punkten, die ein {@link UserType Typ} bereits durch gewonnene Runden erzielt hat. */
-    @Getter
-    private int points;
+    private final ImageAsset imageAsset;
     //</editor-fold>
 
 
@@ -39,30 +33,36 @@ public enum UserType {
 
     /**
      * Erzeugt einen neuen und vollständig unabhängigen {@link UserType}. Ein {@link UserType Typ} wird für beide Nutzer
-     * erzeugt, die in diesem Spiel teilnehmen sollen. Beim Erzeugen eines Typen wird das Bild direkt geladen, welches
-     * dieser Typ auf einem {@link de.gemuesehasser.tictactoe.object.GameField Feld} platzieren kann.
+     * erzeugt, die in diesem Spiel teilnehmen sollen.
      *
-     * @param imageName Der Name des Bildes, welches mithilfe dieses Typen geladen werden soll.
+     * @param imageAsset Das Bild, welches diesen Typen beschreibt.
      */
-    UserType(@NotNull final String imageName) {
-        try {
-            final BufferedImage loadedImage = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/" + imageName)
-            ));
-            this.image.getGraphics().drawImage(loadedImage, 10, 10, GameGui.FIELD_SIZE - 20, GameGui.FIELD_SIZE - 20, null);
-        } catch (@NotNull final IOException e) {
-            throw new RuntimeException(e);
-        }
+    UserType(@NotNull final ImageAsset imageAsset) {
+        this.imageAsset = imageAsset;
     }
     //</editor-fold>
 
 
     /**
-     * Erhöht die Anzahl der bisher erlangten Punkte dieses Typen um 1. Die Anzahl der Punkte stellt die Anzahl der
-     * gewonnenen Runden im {@link de.gemuesehasser.tictactoe.TicTacToe Spiel} dar.
+     * Gibt das Bild zurück, welches diesen Typen beschreibt, in seiner ursprünglichen Größe. Sollte das Bild noch
+     * nicht geladen sein, wird darauf gewartet. Für die Darstellung auf einem Feld sollte das bereits skalierte Bild
+     * aus dem {@link de.gemuesehasser.tictactoe.gui.IconCache} genutzt werden.
+     *
+     * @return Das Bild, welches diesen Typen beschreibt.
+     */
+    @NotNull
+    public BufferedImage getImage() {
+        return this.imageAsset.getImage();
+    }
+
+    /**
+     * Gibt den Gegenspieler dieses Typen zurück.
+     *
+     * @return Der {@link UserType Typ}, gegen den dieser Typ spielt.
      */
-    public void incrementPoints() {
-        this.points++;
+    @NotNull
+    public UserType getOpponent() {
+        return this == USER ? COMPUTER : USER;
     }
 
 }
@@ -0,0 +1,496 @@
+package de.gemuesehasser.tictactoe.engine;
+
+import de.gemuesehasser.tictactoe.ai.ComputerPlayer;
+import de.gemuesehasser.tictactoe.ai.SearchEngine;
+import de.gemuesehasser.tictactoe.ai.SearchResult;
+import de.gemuesehasser.tictactoe.ai.TranspositionTable;
+import de.gemuesehasser.tictactoe.analysis.PositionFormat;
+import de.gemuesehasser.tictactoe.constant.ComputerMode;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Das {@link EngineProtocol} steuert den Computer ohne grafische Oberfläche über ein zeilenbasiertes Textprotokoll,
+ * ähnlich den Protokollen von Schach-Engines. Jede Zeile der Eingabe ist ein Befehl, jede Zeile der Ausgabe eine
+ * Antwort. Felder werden dabei immer über ihren Index angegeben, Stellungen im {@link PositionFormat}.
+ *
+ * <ul>
+ *     <li>{@code protocol} - gibt den Namen, die Form des Spielfeldes und alle Optionen aus und endet mit
+ *     {@code protocolok}</li>
+ *     <li>{@code isready} - antwortet mit {@code readyok}</li>
+ *     <li>{@code setoption name <mode|threads|hash> value <wert>} - setzt eine Option</li>
+ *     <li>{@code newgame [<size> <winLength>]} - beginnt ein neues Spiel, optional mit einer anderen Form</li>
+ *     <li>{@code position <startpos|stellung [mover]> [moves <index>...]} - setzt eine Stellung</li>
+ *     <li>{@code move <index>...} - macht Züge für den Typen, der an der Reihe ist</li>
+ *     <li>{@code undo} - nimmt den letzten Zug zurück, der nach dem Setzen der Stellung gemacht wurde</li>
+ *     <li>{@code go [movetime <ms>] [depth <tiefe>]} - sucht im Hintergrund den besten Zug, gibt nach jeder Iteration
+ *     eine {@code info}-Zeile (inklusive der Auslastung der {@link TranspositionTable} als {@code hashfull}), nach der
+ *     Suche die Trefferquoten der Tabelle während dieser Suche als {@code info string hash ...} und zum Schluss
+ *     {@code bestmove <index|none>} aus</li>
+ *     <li>{@code stop} - beendet die laufende Suche vorzeitig</li>
+ *     <li>{@code print} - gibt die aktuelle Stellung und das Ergebnis aus</li>
+ *     <li>{@code quit} - beendet die Engine</li>
+ * </ul>
+ *
+ * <p>Fehlerhafte Befehle werden mit einer Zeile {@code info string error: <grund>} beantwortet. Alle Befehle, die die
+ * Stellung verändern, warten vorher auf das Ende einer laufenden Suche. Diese Klasse greift weder auf AWT noch auf
+ * Swing zu, sodass sie beliebig oft parallel in eigenen Prozessen ohne Bildschirm laufen kann.</p>
+ */
+public final class EngineProtocol {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Name, mit dem sich die Engine meldet. */
+    @NotNull
+    private static final String NAME = "TicTacToe";
+    /** Die Anzahl an Einträgen der {@link TranspositionTable}, wenn keine andere Anzahl gesetzt wurde. */
+    private static final int DEFAULT_TABLE_ENTRIES = 1 << 16;
+    /** Die höchste Anzahl an Einträgen der {@link TranspositionTable}, die gesetzt werden kann. */
+    private static final int MAX_TABLE_ENTRIES = 1 << 30;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Eingabe, aus der die Befehle gelesen werden. */
+    @NotNull
+    private final BufferedReader input;
+    /** Die Ausgabe, in die alle Antworten geschrieben werden. */
+    @NotNull
+    private final PrintWriter output;
+    /** Das Spielfeld mit der aktuellen Stellung. */
+    @NotNull
+    private GameBoard board;
+    /** Der {@link UserType Typ}, der in der aktuellen Stellung an der Reihe ist. */
+    @NotNull
+    private UserType mover = UserType.USER;
+    /** Die Anzahl an Zügen, die beim Setzen der Stellung gemacht wurden und nicht zurückgenommen werden können. */
+    private int setupMoveCount;
+    /** Der {@link ComputerMode Modus}, mit dem der beste Zug gesucht wird. */
+    @NotNull
+    private ComputerMode mode = ComputerMode.SEARCH;
+    /** Die Anzahl an Threads, auf die die Suche verteilt wird. */
+    private int threads = 1;
+    /** Die Anzahl an Einträgen der {@link TranspositionTable}. */
+    private int tableEntries = DEFAULT_TABLE_ENTRIES;
+    /** Die Suche, die im {@link ComputerMode#SEARCH Such-Modus} genutzt wird ({@code null}, bis sie benötigt wird). */
+    @Nullable
+    private SearchEngine searchEngine;
+    /** Der Spieler, der in allen anderen Modi genutzt wird ({@code null}, bis er benötigt wird). */
+    @Nullable
+    private ComputerPlayer player;
+    /** Der Thread, auf dem die aktuelle Suche läuft bzw. {@code null}, wenn noch nicht gesucht wurde. */
+    @Nullable
+    private Thread searchThread;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt ein neues {@link EngineProtocol} mit einem leeren Spielfeld, in dem der Nutzer an der Reihe ist.
+     *
+     * @param layout Die Form des Spielfeldes, bis ein neues Spiel mit einer anderen Form begonnen wird.
+     * @param input  Die Eingabe, aus der die Befehle gelesen werden.
+     * @param output Die Ausgabe, in die alle Antworten geschrieben werden.
+     */
+    public EngineProtocol(
+            @NotNull final BoardLayout layout,
+            @NotNull final BufferedReader input,
+            @NotNull final PrintWriter output
+    ) {
+        this.board = new GameBoard(layout);
+        this.input = input;
+        this.output = output;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Liest so lange Befehle aus der Eingabe und beantwortet sie, bis {@code quit} gelesen wird oder die Eingabe endet.
+     * Eine laufende Suche wird im Anschluss abgebrochen und die Suche geschlossen.
+     *
+     * @throws IOException Wenn nicht aus der Eingabe gelesen werden kann.
+     */
+    public void run() throws IOException {
+        String line;
+
+        try {
+            while ((line = this.input.readLine()) != null) {
+                final String[] parts = line.trim().split("\\s+");
+                if (parts[0].isEmpty()) continue;
+                if (parts[0].equals("quit")) break;
+
+                try {
+                    execute(parts);
+                } catch (@NotNull final IllegalArgumentException | IllegalStateException e) {
+                    send("info string error: " + e.getMessage());
+                }
+            }
+        } finally {
+            stopSearch();
+            closeSearchEngine();
+        }
+    }
+
+    /**
+     * Führt einen einzelnen Befehl aus.
+     *
+     * @param parts Der Befehl und alle seine Argumente.
+     *
+     * @throws IllegalArgumentException Wenn der Befehl unbekannt ist oder ungültige Argumente besitzt.
+     * @throws IllegalStateException    Wenn der Befehl in der aktuellen Stellung nicht ausgeführt werden kann.
+     */
+    private void execute(@NotNull final String @NotNull [] parts) {
+        switch (parts[0]) {
+            case "protocol":
+                send("id name " + NAME);
+                send("id layout " + this.board.getLayout().getSize() + " " + this.board.getLayout().getWinLength());
+                send("option name mode type combo default " + this.mode.name().toLowerCase(Locale.ROOT)
+                        + " var heuristic var perfect_play var search");
+                send("option name threads type spin default " + this.threads + " min 1 max "
+                        + Runtime.getRuntime().availableProcessors());
+                send("option name hash type spin default " + this.tableEntries + " min 1 max " + MAX_TABLE_ENTRIES);
+                send("protocolok");
+                break;
+            case "isready":
+                send("readyok");
+                break;
+            case "setoption":
+                awaitSearch();
+                setOption(parts);
+                break;
+            case "newgame":
+                awaitSearch();
+                if (parts.length == 3) {
+                    this.board = new GameBoard(new BoardLayout(Integer.parseInt(parts[1]), Integer.parseInt(parts[2])));
+                } else if (parts.length != 1) {
+                    throw new IllegalArgumentException("newgame expects either no or two arguments");
+                }
+
+                this.board.reset();
+                this.mover = UserType.USER;
+                this.setupMoveCount = 0;
+                break;
+            case "position":
+                awaitSearch();
+                setPosition(parts);
+                break;
+            case "move":
+                awaitSearch();
+                makeMoves(parts, 1);
+                break;
+            case "undo":
+                awaitSearch();
+                if (this.board.getMoveCount() <= this.setupMoveCount) {
+                    throw new IllegalStateException("there is no move to undo");
+                }
+
+                this.board.unmake();
+                this.mover = this.board.getTurn();
+                break;
+            case "go":
+                awaitSearch();
+                go(parts);
+                break;
+            case "stop":
+                stopSearch();
+                break;
+            case "print":
+                awaitSearch();
+                send("position " + PositionFormat.write(this.board, this.mover));
+                send("result " + (this.board.getWinner() != null
+                        ? this.board.getWinner().name().toLowerCase(Locale.ROOT)
+                        : this.board.isIndecisive() ? "draw" : "none"));
+                break;
+            default:
+                throw new IllegalArgumentException("unknown command '" + parts[0] + "'");
+        }
+    }
+
+    /**
+     * Setzt eine Option anhand eines {@code setoption}-Befehls.
+     *
+     * @param parts Der Befehl und alle seine Argumente.
+     *
+     * @throws IllegalArgumentException Wenn die Option unbekannt ist oder der Wert ungültig ist.
+     */
+    private void setOption(@NotNull final String @NotNull [] parts) {
+        if (parts.length != 5 || !parts[1].equals("name") || !parts[3].equals("value")) {
+            throw new IllegalArgumentException("setoption expects 'name <name> value <value>'");
+        }
+
+        final String value = parts[4];
+        switch (parts[2].toLowerCase(Locale.ROOT)) {
+            case "mode":
+                this.mode = ComputerMode.valueOf(value.toUpperCase(Locale.ROOT));
+                this.player = null;
+                break;
+            case "threads":
+                final int parallelism = Integer.parseInt(value);
+                if (parallelism < 1) throw new IllegalArgumentException("threads must be at least 1");
+
+                this.threads = parallelism;
+                closeSearchEngine();
+                break;
+            case "hash":
+                final int entries = Integer.parseInt(value);
+                if (entries < 1 || entries > MAX_TABLE_ENTRIES) {
+                    throw new IllegalArgumentException("hash must be between 1 and " + MAX_TABLE_ENTRIES);
+                }
+
+                this.tableEntries = entries;
+                closeSearchEngine();
+                break;
+            default:
+                throw new IllegalArgumentException("unknown option '" + parts[2] + "'");
+        }
+    }
+
+    /**
+     * Setzt die Stellung anhand eines {@code position}-Befehls und macht im Anschluss alle angegebenen Züge.
+     *
+     * @param parts Der Befehl und alle seine Argumente.
+     *
+     * @throws IllegalArgumentException Wenn die Stellung oder einer der Züge ungültig ist.
+     */
+    private void setPosition(@NotNull final String @NotNull [] parts) {
+        if (parts.length < 2) throw new IllegalArgumentException("position expects 'startpos' or a position");
+
+        int movesIndex = 2;
+        while (movesIndex < parts.length && !parts[movesIndex].equals("moves")) {
+            movesIndex++;
+        }
+
+        this.board.reset();
+        try {
+            if (parts[1].equals("startpos")) {
+                if (movesIndex != 2) throw new IllegalArgumentException("startpos does not take a mover");
+                this.mover = UserType.USER;
+            } else {
+                final String position = String.join(" ", Arrays.copyOfRange(parts, 1, movesIndex));
+                this.mover = PositionFormat.read(position, this.board);
+            }
+        } catch (@NotNull final IllegalArgumentException | IllegalStateException e) {
+            this.board.reset();
+            this.mover = UserType.USER;
+            this.setupMoveCount = 0;
+            throw e;
+        }
+
+        this.setupMoveCount = this.board.getMoveCount();
+        makeMoves(parts, movesIndex + 1);
+    }
+
+    /**
+     * Macht alle Züge ab einem bestimmten Argument für den Typen, der jeweils an der Reihe ist.
+     *
+     * @param parts Der Befehl und alle seine Argumente.
+     * @param first Der Index des ersten Arguments, welches einen Zug enthält.
+     *
+     * @throws IllegalArgumentException Wenn ein Zug nicht auf dem Spielfeld liegt oder das Feld bereits belegt ist.
+     * @throws IllegalStateException    Wenn die Runde bereits beendet ist.
+     */
+    private void makeMoves(@NotNull final String @NotNull [] parts, final int first) {
+        for (int i = first; i < parts.length; i++) {
+            final int move = Integer.parseInt(parts[i]);
+
+            if (isOver()) throw new IllegalStateException("the game is already over");
+            if (move < 0 || move >= this.board.getLayout().getCellCount() || !this.board.isEmpty(move)) {
+                throw new IllegalArgumentException("move " + move + " is not a free field");
+            }
+
+            this.board.place(move, this.mover);
+            this.mover = this.mover.getOpponent();
+        }
+    }
+
+    /**
+     * Beginnt anhand eines {@code go}-Befehls die Suche nach dem besten Zug auf einem eigenen Thread. Ist die Runde
+     * bereits beendet, wird direkt {@code bestmove none} ausgegeben.
+     *
+     * @param parts Der Befehl und alle seine Argumente.
+     *
+     * @throws IllegalArgumentException Wenn die Argumente ungültig sind.
+     */
+    private void go(@NotNull final String @NotNull [] parts) {
+        long moveTimeMillis = Long.getLong(
+                SearchEngine.TIME_BUDGET_PROPERTY_NAME,
+                SearchEngine.DEFAULT_TIME_BUDGET_MILLIS
+        );
+        int depth = Integer.MAX_VALUE;
+
+        for (int i = 1; i < parts.length; i += 2) {
+            if (i + 1 >= parts.length) {
+                throw new IllegalArgumentException("go argument '" + parts[i] + "' has no value");
+            }
+
+            if (parts[i].equals("movetime")) moveTimeMillis = Long.parseLong(parts[i + 1]);
+            else if (parts[i].equals("depth")) depth = Integer.parseInt(parts[i + 1]);
+            else throw new IllegalArgumentException("unknown go argument '" + parts[i] + "'");
+        }
+
+        if (moveTimeMillis < 0 || depth < 1) throw new IllegalArgumentException("movetime and depth must be positive");
+
+        if (isOver()) {
+            send("bestmove none");
+            return;
+        }
+
+        final long timeBudgetMillis = moveTimeMillis;
+        final int maxDepth = depth;
+        final GameBoard searchBoard = this.board;
+        final UserType searchMover = this.mover;
+
+        // the engine is created lazily, so that an engine process that never searches stays small
+        final SearchEngine engine;
+        final ComputerPlayer computerPlayer;
+
+        if (this.mode == ComputerMode.SEARCH) {
+            if (this.searchEngine == null) {
+                this.searchEngine = new SearchEngine(
+                        SearchEngine.DEFAULT_TIME_BUDGET_MILLIS,
+                        Integer.MAX_VALUE,
+                        this.threads,
+                        new TranspositionTable(this.tableEntries)
+                );
+            }
+
+            engine = this.searchEngine;
+            computerPlayer = null;
+        } else {
+            if (this.player == null) this.player = new ComputerPlayer(this.mode);
+
+            engine = null;
+            computerPlayer = this.player;
+        }
+
+        this.searchThread = new Thread(() -> {
+            final int move;
+
+            if (engine != null) {
+                final TranspositionTable table = engine.getTranspositionTable();
+                final TranspositionTable.Statistics before = table.getStatistics();
+                move = engine.search(
+                        searchBoard,
+                        searchMover,
+                        timeBudgetMillis,
+                        maxDepth,
+                        result -> sendInfo(result, table)
+                ).getBestMove();
+
+                final TranspositionTable.Statistics statistics = table.getStatistics().since(before);
+                send(String.format(
+                        Locale.ROOT,
+                        "info string hash hitrate %.3f collisionrate %.3f replacementrate %.3f",
+                        statistics.getHitRate(),
+                        statistics.getCollisionRate(),
+                        statistics.getReplacementRate()
+                ));
+            } else {
+                move = computerPlayer.getBestPlacement(searchBoard, searchMover);
+            }
+
+            send("bestmove " + (move < 0 ? "none" : String.valueOf(move)));
+        }, "engine-search");
+        this.searchThread.setDaemon(true);
+        this.searchThread.start();
+    }
+
+    /**
+     * Gibt das Ergebnis einer abgeschlossenen Iteration der Suche als {@code info}-Zeile aus. Bewertungen, die einen
+     * erzwungenen Sieg bzw. eine erzwungene Niederlage bedeuten, werden als {@code mate} mit der Anzahl an Zügen bis
+     * zum Ende ausgegeben.
+     *
+     * @param result Das Ergebnis der abgeschlossenen Iteration.
+     * @param table  Die {@link TranspositionTable} der Suche, deren Auslastung mit ausgegeben wird.
+     */
+    private void sendInfo(@NotNull final SearchResult result, @NotNull final TranspositionTable table) {
+        final int score = result.getScore();
+        final int plies = SearchEngine.WIN_SCORE - Math.abs(score);
+        final String value = plies <= this.board.getLayout().getCellCount()
+                ? "mate " + (score > 0 ? plies : -plies)
+                : "value " + score;
+
+        send(String.format(
+                Locale.ROOT,
+                "info depth %d score %s nodes %d nps %d hashfull %d time %d pv %d",
+                result.getDepth(),
+                value,
+                result.getNodes(),
+                result.getNodesPerSecond(),
+                table.getHashFull(),
+                TimeUnit.NANOSECONDS.toMillis(result.getElapsedNanos()),
+                result.getBestMove()
+        ));
+    }
+
+    /**
+     * Wartet, bis die laufende Suche ihren besten Zug ausgegeben hat.
+     */
+    private void awaitSearch() {
+        final Thread thread = this.searchThread;
+        if (thread == null) return;
+
+        try {
+            thread.join();
+        } catch (@NotNull final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        this.searchThread = null;
+    }
+
+    /**
+     * Bricht die laufende Suche ab und wartet, bis sie den besten bisher gefundenen Zug ausgegeben hat.
+     */
+    private void stopSearch() {
+        final Thread thread = this.searchThread;
+        if (thread == null) return;
+
+        thread.interrupt();
+        awaitSearch();
+    }
+
+    /**
+     * Schließt die aktuelle Suche, sodass ihre Threads und ihre {@link TranspositionTable} freigegeben werden. Die
+     * nächste Suche erzeugt eine neue {@link SearchEngine} mit den aktuellen Optionen. Es darf dabei keine Suche laufen.
+     */
+    private void closeSearchEngine() {
+        if (this.searchEngine == null) return;
+
+        this.searchEngine.close();
+        this.searchEngine = null;
+    }
+
+    /**
+     * Prüft, ob die Runde in der aktuellen Stellung beendet ist.
+     *
+     * @return Wenn die Runde gewonnen oder unentschieden ist {@code true}, ansonsten {@code false}.
+     */
+    private boolean isOver() {
+        return this.board.isOver();
+    }
+
+    /**
+     * Schreibt eine Zeile in die Ausgabe. Da sowohl der lesende Thread als auch der suchende Thread schreiben, werden
+     * alle Zeilen nacheinander geschrieben.
+     *
+     * @param line Die Zeile, die geschrieben wird.
+     */
+    private void send(@NotNull final String line) {
+        synchronized (this.output) {
+            this.output.println(line);
+            this.output.flush();
+        }
+    }
+
+}
@@ -1,20 +1,22 @@
 package de.gemuesehasser.tictactoe.gui;
 
+import de.gemuesehasser.tictactoe.DesktopGame;
 import de.gemuesehasser.tictactoe.TicTacToe;
+import de.gemuesehasser.tictactoe.asset.ImageAsset;
 import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.metrics.GameMetrics;
 import de.gemuesehasser.tictactoe.object.Drawable;
 import de.gemuesehasser.tictactoe.object.GameField;
+import de.gemuesehasser.tictactoe.object.GameSnapshot;
 import de.gemuesehasser.tictactoe.object.Gui;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Range;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
 
 /**
  * Das Fenster, auf dem das Spiel abgebildet wird.
@@ -31,13 +33,13 @@ public final class GameGui extends Gui implements Drawable {
      */
     public static final int HEIGHT = 500;
     /**
-     * Die Größe des Spielfeldes (GAME_SIZE x GAME_SIZE).
+     * Die maximale Größe eines Feldes auf dem Spielfeld (Quadratisch, also Breite = Höhe).
      */
-    public static final int GAME_SIZE = 3;
+    public static final int FIELD_SIZE = 100;
     /**
-     * Die Größe eines Feldes auf dem Spielfeld (Quadratisch, also Breite = Höhe).
+     * Die Größe des gesamten Spielfeldes in Pixeln, auf die alle Felder unabhängig von ihrer Anzahl aufgeteilt werden.
      */
-    public static final int FIELD_SIZE = 100;
+    public static final int BOARD_SIZE = 3 * FIELD_SIZE;
     /**
      * Die Anzahl der Pixel, die nach allen Berechnungen abgezogen werden, für eine mittige Platzierung des Spielfeldes.
      */
@@ -47,31 +49,76 @@ public final class GameGui extends Gui implements Drawable {
      */
     @NotNull
     private static final String TITLE = "Tic Tac Toe";
+    /**
+     * Der Bereich, in dem der Punktestand des Nutzers angezeigt wird.
+     */
+    @NotNull
+    private static final Rectangle USER_POINTS_REGION = new Rectangle(95, 45, 80, 40);
+    /**
+     * Der Bereich, in dem der Punktestand des Computers angezeigt wird.
+     */
+    @NotNull
+    private static final Rectangle COMPUTER_POINTS_REGION = new Rectangle(WIDTH - 140, 45, 90, 40);
+    /**
+     * Der Bereich, in dem das Ergebnis einer beendeten Runde angezeigt wird.
+     */
+    @NotNull
+    private static final Rectangle RESULT_REGION = new Rectangle(0, 0, WIDTH, 40);
+    /**
+     * Der Bereich, in dem die Kennzahlen der letzten Suche des Computers angezeigt werden.
+     */
+    @NotNull
+    private static final Rectangle SEARCH_SUMMARY_REGION = new Rectangle(WIDTH / 2, HEIGHT - 75, WIDTH / 2, 35);
+    /**
+     * Die Farbe, in der ein Bild als Platzhalter dargestellt wird, solange es noch nicht geladen ist.
+     */
+    @NotNull
+    private static final Color PLACEHOLDER_COLOR = Color.GRAY;
     //</editor-fold>
 
 
     //<editor-fold desc="LOCAL FIELDS">
     /**
-     * Das Bild, welches als Hintergrund des Tic-Tac-Toe Spiels verwendet wird.
+     * Der Button, der angezeigt wird, sobald das Spiel vorbei ist, womit das Spiel neu gestartet werden kann.
      */
+    @Getter
     @NotNull
-    private final BufferedImage backgroundImage;
+    private final JButton resetButton = new JButton("Nochmal Spielen");
     /**
-     * Das Bild, welches als Icon dient, um die Siege des Nutzers darzustellen.
+     * Der Button, der angezeigt wird, solange das Spiel läuft, womit der letzte Zug des Nutzers zurückgenommen werden
+     * kann.
      */
+    @Getter
     @NotNull
-    private final BufferedImage winImage;
+    private final JButton undoButton = new JButton("Zurück");
     /**
-     * Das Bild, welches als Icon dient, um die Niederlagen des Nutzers (Siege des Computers) darzustellen.
+     * Der Button, der angezeigt wird, solange das Spiel läuft, womit ein zurückgenommener Zug wiederholt werden kann.
      */
+    @Getter
     @NotNull
-    private final BufferedImage loseImage;
+    private final JButton redoButton = new JButton("Vor");
     /**
-     * Der Button, der angezeigt wird, sobald das Spiel vorbei ist, womit das Spiel neu gestartet werden kann.
+     * Die Größe des Spielfeldes (gameSize x gameSize).
+     */
+    private final int gameSize;
+    /**
+     * Die Größe eines Feldes auf dem Spielfeld (Quadratisch, also Breite = Höhe).
+     */
+    @Getter
+    private final int fieldSize;
+    /**
+     * Die Momentaufnahme des Spiels, die aktuell dargestellt wird (wird nur auf dem Event-Dispatch-Thread verändert).
      */
     @Getter
     @NotNull
-    private final JButton resetButton = new JButton("Nochmal Spielen");
+    private GameSnapshot snapshot = DesktopGame.GAME_LOOP.getSnapshot();
+    /**
+     * Die statischen Ebenen dieses Fensters (Hintergrund, Rahmen, Linien und Icons), die nur einmal in einem zum
+     * Bildschirm kompatiblen Bild gezeichnet werden ({@code null}, bis zum ersten Zeichnen, nachdem alle Bilder geladen
+     * sind).
+     */
+    @Nullable
+    private BufferedImage backgroundLayer;
     //</editor-fold>
 
 
@@ -79,49 +126,49 @@ public final class GameGui extends Gui implements Drawable {
 
     /**
      * Erzeugt eine neue Instanz eines {@link GameGui}, welches eine Instanz eines {@link JFrame} darstellt. Auf diesem
-     * Fenster wird das Spiel abgebildet.
+     * Fenster wird das Spiel abgebildet. Die Bilder werden im Hintergrund geladen, bis dahin werden Platzhalter
+     * gezeichnet.
      */
     public GameGui() {
         super(TITLE, WIDTH, HEIGHT);
         super.addDrawable(this);
-        super.addDrawable(TicTacToe.COMPUTER);
-
-        // load image resources
-        try (final InputStream backgroundImageStream = getClass().getResourceAsStream("/background.jpg");
-             final InputStream loseImageStream = getClass().getResourceAsStream("/lose.jpg");
-             final InputStream winImageStream = getClass().getResourceAsStream("/win.png")
-        ) {
-            assert backgroundImageStream != null;
-            assert winImageStream != null;
-            assert loseImageStream != null;
-            this.backgroundImage = ImageIO.read(backgroundImageStream);
-            this.winImage = ImageIO.read(winImageStream);
-            this.loseImage = ImageIO.read(loseImageStream);
-        } catch (@NotNull final IOException e) {
-            throw new RuntimeException(e);
-        }
+        super.addDrawable(DesktopGame.COMPUTER);
+
+        this.gameSize = TicTacToe.BOARD_LAYOUT.getSize();
+        this.fieldSize = Math.min(FIELD_SIZE, BOARD_SIZE / this.gameSize);
+
+        // replace the placeholders as soon as all images are loaded
+        ImageAsset.preload().whenComplete((ignored, throwable) -> SwingUtilities.invokeLater(
+                () -> repaintRegion(new Rectangle(0, 0, WIDTH, HEIGHT))
+        ));
 
         // initialize reset button
         this.resetButton.setBounds(25, HEIGHT - 100, 140, 35);
         this.resetButton.addActionListener(e -> {
             resetButton.setVisible(false);
-            TicTacToe.GAME_FIELD_HANDLER.resetFields();
-            TicTacToe.setCurrentUserType(
-                    TicTacToe.GAME_FIELD_HANDLER.getLastWinner() == UserType.USER ? UserType.COMPUTER : UserType.USER
-            );
-            TicTacToe.COMPUTER.setWinCombinationType(null);
-            TicTacToe.GAME_GUI.repaint();
-
-            if (TicTacToe.getCurrentUserType() == UserType.COMPUTER) TicTacToe.COMPUTER.place();
+            DesktopGame.GAME_LOOP.submitNewRound();
         });
         this.resetButton.setVisible(false);
 
         super.add(resetButton);
 
-        for (int i = 0; i < GAME_SIZE; i++) {
-            for (int j = 0; j < GAME_SIZE; j++) {
+        // initialize undo and redo buttons
+        this.undoButton.setBounds(25, HEIGHT - 100, 65, 35);
+        this.undoButton.setMargin(new Insets(0, 0, 0, 0));
+        this.undoButton.addActionListener(e -> DesktopGame.GAME_LOOP.submitUndo());
+        this.undoButton.setEnabled(false);
+        this.redoButton.setBounds(100, HEIGHT - 100, 65, 35);
+        this.redoButton.setMargin(new Insets(0, 0, 0, 0));
+        this.redoButton.addActionListener(e -> DesktopGame.GAME_LOOP.submitRedo());
+        this.redoButton.setEnabled(false);
+
+        super.add(undoButton);
+        super.add(redoButton);
+
+        for (int i = 0; i < this.gameSize; i++) {
+            for (int j = 0; j < this.gameSize; j++) {
                 final JButton button = getTicTacToeButton(i, j);
-                TicTacToe.GAME_FIELD_HANDLER.registerNewField(new GameField(i, j, button));
+                DesktopGame.GAME_FIELD_HANDLER.registerNewField(new GameField(i, j, button));
 
                 super.add(button);
             }
@@ -130,62 +177,174 @@ public final class GameGui extends Gui implements Drawable {
     //</editor-fold>
 
 
+    /**
+     * Stellt eine neue {@link GameSnapshot Momentaufnahme} des Spiels dar. Diese Methode kann von jedem Thread aus
+     * aufgerufen werden, die Darstellung wird anschließend auf dem Event-Dispatch-Thread aktualisiert.
+     *
+     * @param snapshot Die Momentaufnahme, die dargestellt werden soll.
+     */
+    public void showSnapshot(@NotNull final GameSnapshot snapshot) {
+        final long posted = System.nanoTime();
+
+        SwingUtilities.invokeLater(() -> {
+            GameMetrics.INSTANCE.getEventDispatchDelays().recordSince(posted);
+
+            final GameSnapshot previous = this.snapshot;
+            this.snapshot = snapshot;
+
+            // fields only repaint their own buttons
+            DesktopGame.GAME_FIELD_HANDLER.updateFields(snapshot);
+            this.resetButton.setVisible(snapshot.isOver());
+            this.undoButton.setVisible(!snapshot.isOver());
+            this.undoButton.setEnabled(snapshot.isUndoable());
+            this.redoButton.setVisible(!snapshot.isOver());
+            this.redoButton.setEnabled(snapshot.isRedoable());
+
+            if (snapshot.getPoints(UserType.USER) != previous.getPoints(UserType.USER)) {
+                repaintRegion(USER_POINTS_REGION);
+            }
+
+            if (snapshot.getPoints(UserType.COMPUTER) != previous.getPoints(UserType.COMPUTER)) {
+                repaintRegion(COMPUTER_POINTS_REGION);
+            }
+
+            if (snapshot.isOver() != previous.isOver() || snapshot.getWinLine() != previous.getWinLine()) {
+                repaintRegion(RESULT_REGION);
+                repaintRegion(getBoardRegion());
+            }
+
+            if (snapshot.getLastSearchResult() != previous.getLastSearchResult()) {
+                repaintRegion(SEARCH_SUMMARY_REGION);
+            }
+        });
+    }
+
+
     //<editor-fold desc="implementation">
 
     @Override
     public void draw(@NotNull final Graphics2D g) {
-        g.setFont(TicTacToe.DEFAULT_FONT.deriveFont(25F));
-        g.setColor(Color.DARK_GRAY);
-        g.fillRect(0, 0, WIDTH, HEIGHT);
+        BufferedImage layer = this.backgroundLayer;
 
+        if (layer == null) {
+            // the layer is only kept once it no longer contains any placeholders
+            final boolean loaded = ImageAsset.preload().isDone();
+            layer = createBackgroundLayer(g.getDeviceConfiguration());
+            if (loaded) this.backgroundLayer = layer;
+        }
+
+        g.drawImage(layer, 0, 0, WIDTH, HEIGHT, null);
+
+        g.setFont(DesktopGame.DEFAULT_FONT.deriveFont(25F));
         g.setColor(Color.WHITE);
-        g.drawImage(winImage, 20, 35, 60, 60, null);
-        g.drawString(UserType.USER.getPoints() + "", 100, 75);
-
-        g.drawImage(loseImage, WIDTH - 95, 35, 60, 60, null);
-        g.drawString(UserType.COMPUTER.getPoints() + "", WIDTH - 135, 75);
-
-        g.drawImage(
-                backgroundImage,
-                (WIDTH / 2) - ((FIELD_SIZE * GAME_SIZE) / 2) - 20,
-                (HEIGHT / 2) - Y_SUBTRACTION - ((FIELD_SIZE * GAME_SIZE) / 2) - 20,
-                FIELD_SIZE * GAME_SIZE + 40,
-                FIELD_SIZE * GAME_SIZE + 40,
-                null
-        );
-        g.drawRect(
-                (WIDTH / 2) - ((FIELD_SIZE * GAME_SIZE) / 2) - 21,
-                (HEIGHT / 2) - Y_SUBTRACTION - ((FIELD_SIZE * GAME_SIZE) / 2) - 21,
-                FIELD_SIZE * GAME_SIZE + 42,
-                FIELD_SIZE * GAME_SIZE + 42
+        g.drawString(this.snapshot.getPoints(UserType.USER) + "", 100, 75);
+        g.drawString(this.snapshot.getPoints(UserType.COMPUTER) + "", WIDTH - 135, 75);
+    }
+    //</editor-fold>
+
+
+    //<editor-fold desc="utility">
+
+    /**
+     * Zeichnet alle statischen Ebenen dieses Fensters (Hintergrund, Rahmen, Linien und Icons) einmalig in ein Bild,
+     * welches zum Bildschirm kompatibel ist und dessen Skalierung berücksichtigt. Dieses Bild muss bei jedem Neuzeichnen
+     * nur noch kopiert werden. Bilder, die noch nicht geladen sind, werden durch Platzhalter ersetzt.
+     *
+     * @param configuration Die {@link GraphicsConfiguration} des Bildschirms, auf dem dieses Fenster gezeichnet wird.
+     *
+     * @return Das Bild mit allen statischen Ebenen dieses Fensters.
+     */
+    @NotNull
+    private BufferedImage createBackgroundLayer(@NotNull final GraphicsConfiguration configuration) {
+        final double scale = configuration.getDefaultTransform().getScaleX();
+        final BufferedImage layer = configuration.createCompatibleImage(
+                (int) Math.ceil(WIDTH * scale),
+                (int) Math.ceil(HEIGHT * scale),
+                Transparency.OPAQUE
         );
+        final Graphics2D g = layer.createGraphics();
 
-        // draw horizontal lines
-        for (int i = 1; i < GAME_SIZE; i++) {
-            final int currentY = (HEIGHT / 2) - Y_SUBTRACTION - ((FIELD_SIZE * GAME_SIZE) / 2) + i * FIELD_SIZE;
-            g.fillRect(
-                    (WIDTH / 2) - ((FIELD_SIZE * GAME_SIZE) / 2),
-                    currentY,
-                    FIELD_SIZE * GAME_SIZE,
-                    3
-            );
-        }
+        try {
+            g.scale(scale, scale);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+
+            g.setColor(Color.DARK_GRAY);
+            g.fillRect(0, 0, WIDTH, HEIGHT);
+
+            g.setColor(Color.WHITE);
+            drawAsset(g, ImageAsset.WIN, new Rectangle(20, 35, 60, 60));
+            drawAsset(g, ImageAsset.LOSE, new Rectangle(WIDTH - 95, 35, 60, 60));
+
+            final Rectangle board = getBoardRegion();
+            final int lineWidth = Math.max(1, this.fieldSize / 30);
 
-        // draw vertical lines
-        for (int i = 1; i < GAME_SIZE; i++) {
-            final int currentX = (WIDTH / 2) - ((FIELD_SIZE * GAME_SIZE) / 2) + i * FIELD_SIZE;
-            g.fillRect(
-                    currentX,
-                    (HEIGHT / 2) - Y_SUBTRACTION - ((FIELD_SIZE * GAME_SIZE) / 2),
-                    3,
-                    FIELD_SIZE * GAME_SIZE
-            );
+            drawAsset(g, ImageAsset.BACKGROUND, new Rectangle(
+                    board.x - 20,
+                    board.y - 20,
+                    board.width + 40,
+                    board.height + 40
+            ));
+            g.drawRect(board.x - 21, board.y - 21, board.width + 42, board.height + 42);
+
+            // draw horizontal lines
+            for (int i = 1; i < this.gameSize; i++) {
+                g.fillRect(board.x, board.y + i * this.fieldSize, board.width, lineWidth);
+            }
+
+            // draw vertical lines
+            for (int i = 1; i < this.gameSize; i++) {
+                g.fillRect(board.x + i * this.fieldSize, board.y, lineWidth, board.height);
+            }
+        } finally {
+            g.dispose();
         }
+
+        return layer;
     }
-    //</editor-fold>
 
+    /**
+     * Zeichnet ein Bild in einen bestimmten Bereich. Ist das Bild noch nicht geladen, wird stattdessen ein Platzhalter in
+     * diesem Bereich gezeichnet.
+     *
+     * @param g      Die Grafik, auf die das Bild gezeichnet wird.
+     * @param asset  Das Bild, welches gezeichnet wird.
+     * @param region Der Bereich, in den das Bild gezeichnet wird.
+     */
+    private static void drawAsset(
+            @NotNull final Graphics2D g,
+            @NotNull final ImageAsset asset,
+            @NotNull final Rectangle region
+    ) {
+        final BufferedImage image = asset.getImageIfLoaded();
 
-    //<editor-fold desc="utility">
+        if (image != null) {
+            g.drawImage(image, region.x, region.y, region.width, region.height, null);
+            return;
+        }
+
+        final Color color = g.getColor();
+        g.setColor(PLACEHOLDER_COLOR);
+        g.fillRect(region.x, region.y, region.width, region.height);
+        g.setColor(color);
+    }
+
+    /**
+     * Gibt den Bereich zurück, in dem alle Felder des Spielfeldes liegen.
+     *
+     * @return Der Bereich, in dem alle Felder des Spielfeldes liegen.
+     */
+    @NotNull
+    private Rectangle getBoardRegion() {
+        final int boardSize = this.fieldSize * this.gameSize;
+        return new Rectangle(
+                (WIDTH / 2) - (boardSize / 2),
+                (HEIGHT / 2) - Y_SUBTRACTION - (boardSize / 2),
+                boardSize,
+                boardSize
+        );
+    }
 
     /**
      * Gibt einen Button zurück, dessen Hintergrund nicht angezeigt wird und welcher als Grundlage eines Feldes auf dem
@@ -197,32 +356,24 @@ public final class GameGui extends Gui implements Drawable {
      * feld dieses Tic-Tac-Toe Spiels platziert wird.
      */
     @NotNull
-    private static JButton getTicTacToeButton(
-            @Range(from = 0, to = GAME_SIZE - 1) final int row,
-            @Range(from = 0, to = GAME_SIZE - 1) final int column
+    private JButton getTicTacToeButton(
+            @Range(from = 0, to = Integer.MAX_VALUE) final int row,
+            @Range(from = 0, to = Integer.MAX_VALUE) final int column
     ) {
         final JButton button = new JButton();
         button.setBounds(
-                (WIDTH / 2) - ((FIELD_SIZE * GAME_SIZE) / 2) + row * FIELD_SIZE,
-                (HEIGHT / 2) - Y_SUBTRACTION - ((FIELD_SIZE * GAME_SIZE) / 2) + column * FIELD_SIZE,
-                FIELD_SIZE,
-                FIELD_SIZE
+                (WIDTH / 2) - ((this.fieldSize * this.gameSize) / 2) + row * this.fieldSize,
+                (HEIGHT / 2) - Y_SUBTRACTION - ((this.fieldSize * this.gameSize) / 2) + column * this.fieldSize,
+                this.fieldSize,
+                this.fieldSize
         );
         button.setFocusable(false);
         button.setBorderPainted(false);
         button.setContentAreaFilled(false);
         button.addActionListener(e -> {
-            if (TicTacToe.getCurrentUserType() != UserType.USER) return;
-
-            final GameField gameField = TicTacToe.GAME_FIELD_HANDLER.getField(row, column);
-
-            assert gameField != null;
-            if (gameField.getUserType() != null) return;
-
-            gameField.updateUserType(UserType.USER);
+            if (this.snapshot.getCurrentUserType() != UserType.USER) return;
 
-            TicTacToe.setCurrentUserType(UserType.COMPUTER);
-            TicTacToe.COMPUTER.place();
+            DesktopGame.GAME_LOOP.submitUserMove(TicTacToe.BOARD_LAYOUT.getIndex(row, column));
         });
         return button;
     }
@@ -0,0 +1,157 @@
+package de.gemuesehasser.tictactoe.gui;
+
+import de.gemuesehasser.tictactoe.constant.UserType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Der {@link IconCache} stellt die Bilder aller {@link UserType Typen} als bereits skalierte {@link Icon Icons} bereit.
+ * Jedes Icon wird für eine Kombination aus {@link UserType Typ}, Größe eines Feldes und Skalierung des Bildschirms nur
+ * einmal erzeugt und anschließend von allen Feldern geteilt. Die Bilder werden dabei mithilfe der
+ * {@link GraphicsConfiguration} des Bildschirms in einem kompatiblen Format erzeugt, sodass sie beim Zeichnen nicht mehr
+ * umgewandelt werden müssen. Ein Zug kostet damit weder eine Allokation noch eine Skalierung.
+ */
+public final class IconCache {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Anteil der Größe eines Feldes, der als Rand um das Bild eines {@link UserType Typen} frei bleibt. */
+    private static final int MARGIN_DIVISOR = 10;
+    /** Alle bereits erzeugten Icons anhand ihres Schlüssels. */
+    @NotNull
+    private static final Map<Long, Icon> ICONS = new ConcurrentHashMap<>();
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Instanzen dieser Klasse werden nicht benötigt.
+     */
+    private IconCache() {
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt das Icon eines {@link UserType Typen} für ein Feld mit einer bestimmten Größe zurück. Ist das Icon noch nicht
+     * vorhanden, wird es für die Skalierung des Bildschirms der übergebenen {@link GraphicsConfiguration} erzeugt.
+     *
+     * @param userType      Der {@link UserType Typ}, dessen Icon zurückgegeben werden soll.
+     * @param size          Die Größe des Feldes (Quadratisch, also Breite = Höhe).
+     * @param configuration Die {@link GraphicsConfiguration} des Bildschirms, auf dem das Icon gezeichnet wird bzw.
+     *                      {@code null}, wenn der Standard-Bildschirm genutzt werden soll.
+     *
+     * @return Das geteilte Icon des {@link UserType Typen} in der entsprechenden Größe.
+     */
+    @NotNull
+    public static Icon getIcon(
+            @NotNull final UserType userType,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int size,
+            @Nullable final GraphicsConfiguration configuration
+    ) {
+        final GraphicsConfiguration target = configuration != null
+                ? configuration
+                : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        final int scalePercent = (int) Math.round(target.getDefaultTransform().getScaleX() * 100);
+        final long key = (long) scalePercent << 40 | (long) size << 8 | userType.ordinal();
+
+        return ICONS.computeIfAbsent(key, k -> createIcon(userType, size, scalePercent, target));
+    }
+
+    /**
+     * Erzeugt ein neues Icon eines {@link UserType Typen}, dessen Bild bereits in der Auflösung des Bildschirms und im
+     * Format des Bildschirms vorliegt.
+     *
+     * @param userType      Der {@link UserType Typ}, dessen Icon erzeugt werden soll.
+     * @param size          Die Größe des Feldes (Quadratisch, also Breite = Höhe).
+     * @param scalePercent  Die Skalierung des Bildschirms in Prozent.
+     * @param configuration Die {@link GraphicsConfiguration} des Bildschirms, auf dem das Icon gezeichnet wird.
+     *
+     * @return Das neue Icon des {@link UserType Typen}.
+     */
+    @NotNull
+    private static Icon createIcon(
+            @NotNull final UserType userType,
+            final int size,
+            final int scalePercent,
+            @NotNull final GraphicsConfiguration configuration
+    ) {
+        final int pixels = Math.max(1, size * scalePercent / 100);
+        final int margin = pixels / MARGIN_DIVISOR;
+        final BufferedImage image = configuration.createCompatibleImage(pixels, pixels, Transparency.TRANSLUCENT);
+        final Graphics2D g = image.createGraphics();
+
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.drawImage(userType.getImage(), margin, margin, pixels - 2 * margin, pixels - 2 * margin, null);
+        } finally {
+            g.dispose();
+        }
+
+        return pixels == size ? new ImageIcon(image) : new ScaledIcon(image, size);
+    }
+
+
+    //<editor-fold desc="ScaledIcon">
+
+    /**
+     * Ein {@link ScaledIcon} zeichnet ein Bild, welches in der Auflösung des Bildschirms vorliegt, in seiner logischen
+     * Größe, sodass es auf Bildschirmen mit einer Skalierung ungleich 100% ohne erneute Skalierung scharf dargestellt
+     * wird.
+     */
+    private static final class ScaledIcon implements Icon {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Das Bild in der Auflösung des Bildschirms. */
+        @NotNull
+        private final Image image;
+        /** Die logische Größe dieses Icons (Quadratisch, also Breite = Höhe). */
+        private final int size;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt ein neues {@link ScaledIcon} für ein Bild in der Auflösung des Bildschirms.
+         *
+         * @param image Das Bild in der Auflösung des Bildschirms.
+         * @param size  Die logische Größe dieses Icons.
+         */
+        private ScaledIcon(@NotNull final Image image, final int size) {
+            this.image = image;
+            this.size = size;
+        }
+        //</editor-fold>
+
+
+        //<editor-fold desc="implementation">
+
+        @Override
+        public void paintIcon(@Nullable final Component c, @NotNull final Graphics g, final int x, final int y) {
+            g.drawImage(this.image, x, y, this.size, this.size, null);
+        }
+
+        @Override
+        public int getIconWidth() {
+            return this.size;
+        }
+
+        @Override
+        public int getIconHeight() {
+            return this.size;
+        }
+        //</editor-fold>
+    }
+    //</editor-fold>
+
+}
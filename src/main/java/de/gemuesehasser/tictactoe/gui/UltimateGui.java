@@ -0,0 +1,342 @@
+package de.gemuesehasser.tictactoe.gui;
+
+import de.gemuesehasser.tictactoe.ai.MonteCarloResult;
+import de.gemuesehasser.tictactoe.ai.MonteCarloSearch;
+import de.gemuesehasser.tictactoe.asset.ImageAsset;
+import de.gemuesehasser.tictactoe.constant.GameOutcome;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import de.gemuesehasser.tictactoe.object.Drawable;
+import de.gemuesehasser.tictactoe.object.Gui;
+import de.gemuesehasser.tictactoe.object.UltimateBoard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Das Fenster, in dem Ultimate Tic-Tac-Toe gegen die {@link MonteCarloSearch} gespielt wird. Der Zustand des Spiels
+ * wird ausschließlich auf einem eigenen Thread verändert, auf dem auch der Computer seinen Zug sucht. Nach jeder
+ * Änderung wird eine Kopie des {@link UltimateBoard Spielfeldes} an den Event-Dispatch-Thread übergeben und dort
+ * dargestellt. Die kleinen Spielfelder, auf denen der Nutzer setzen darf, werden hervorgehoben, gewonnene kleine
+ * Spielfelder werden mit dem Bild ihres Gewinners überdeckt.
+ */
+public final class UltimateGui extends Gui implements Drawable {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Titel dieses Fensters. */
+    @NotNull
+    private static final String TITLE = "Ultimate Tic Tac Toe";
+    /** Die Größe eines Feldes auf dem Spielfeld (Quadratisch, also Breite = Höhe). */
+    private static final int FIELD_SIZE = 40;
+    /** Die Größe eines kleinen Spielfeldes in Pixeln. */
+    private static final int BOARD_SIZE = 3 * FIELD_SIZE;
+    /** Der Bereich, in dem alle Felder des gesamten Spielfeldes liegen. */
+    @NotNull
+    private static final Rectangle BOARD_REGION = new Rectangle(
+            GameGui.WIDTH / 2 - 3 * BOARD_SIZE / 2,
+            GameGui.HEIGHT / 2 - GameGui.Y_SUBTRACTION - 3 * BOARD_SIZE / 2,
+            3 * BOARD_SIZE,
+            3 * BOARD_SIZE
+    );
+    /** Die Schriftart, die in diesem Fenster genutzt wird. */
+    @NotNull
+    private static final Font FONT = new Font("Arial", Font.PLAIN, 18);
+    /** Die Farbe, mit der die kleinen Spielfelder hervorgehoben werden, auf denen der Nutzer setzen darf. */
+    @NotNull
+    private static final Color PLAYABLE_COLOR = new Color(0, 255, 0, 40);
+    /** Die Farbe, mit der gewonnene kleine Spielfelder abgedunkelt werden. */
+    @NotNull
+    private static final Color CLOSED_COLOR = new Color(0, 0, 0, 110);
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Thread, auf dem der Zustand des Spiels verändert wird und der Computer seine Züge sucht. */
+    @NotNull
+    private final ExecutorService loop = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "ultimate-loop");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** Die Suche, mit der der Computer seine Züge sucht. */
+    @NotNull
+    private final MonteCarloSearch search;
+    /** Das Spielfeld, welches nur auf dem Thread {@link #loop} verändert wird. */
+    @NotNull
+    private final UltimateBoard board = new UltimateBoard();
+    /** Die Anzahl an gewonnenen Runden je {@link UserType Typ}, die nur auf dem Thread {@link #loop} verändert wird. */
+    private final int @NotNull [] points = new int[UserType.values().length];
+    /** Der Button, der angezeigt wird, sobald das Spiel vorbei ist, womit das Spiel neu gestartet werden kann. */
+    @NotNull
+    private final JButton resetButton = new JButton("Nochmal Spielen");
+    /** Die Buttons aller Felder, anhand ihres Index auf dem {@link UltimateBoard}. */
+    @NotNull
+    private final JButton @NotNull [] buttons = new JButton[UltimateBoard.CELL_COUNT];
+    /** Der {@link UserType Typ}, der die nächste Runde beginnt (wird nur auf dem Thread {@link #loop} verändert). */
+    @NotNull
+    private UserType nextStarter = UserType.USER;
+    /** Die Kopie des Spielfeldes, die aktuell dargestellt wird (wird nur auf dem Event-Dispatch-Thread verändert). */
+    @NotNull
+    private UltimateBoard shownBoard = new UltimateBoard();
+    /** Die Anzahl an gewonnenen Runden je {@link UserType Typ}, die aktuell dargestellt wird. */
+    private int @NotNull [] shownPoints = new int[UserType.values().length];
+    /** Das Ergebnis der letzten Suche, welches dargestellt wird bzw. {@code null}, wenn noch nicht gesucht wurde. */
+    @Nullable
+    private MonteCarloResult shownResult;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt ein neues {@link UltimateGui}, in dem gegen eine bestimmte {@link MonteCarloSearch} gespielt wird.
+     *
+     * @param search Die Suche, mit der der Computer seine Züge sucht.
+     */
+    public UltimateGui(@NotNull final MonteCarloSearch search) {
+        super(TITLE, GameGui.WIDTH, GameGui.HEIGHT);
+        super.addDrawable(this);
+        this.search = search;
+
+        // the icons of both types are created from these images
+        ImageAsset.preload().whenComplete((ignored, throwable) -> SwingUtilities.invokeLater(this::repaint));
+
+        this.resetButton.setBounds(25, GameGui.HEIGHT - 100, 140, 35);
+        this.resetButton.addActionListener(e -> {
+            this.resetButton.setVisible(false);
+            this.loop.execute(this::startRound);
+        });
+        this.resetButton.setVisible(false);
+        super.add(this.resetButton);
+
+        for (int row = 0; row < UltimateBoard.SIZE; row++) {
+            for (int column = 0; column < UltimateBoard.SIZE; column++) {
+                final int move = UltimateBoard.getIndex(row, column);
+                final JButton button = new JButton();
+
+                button.setBounds(
+                        BOARD_REGION.x + row * FIELD_SIZE,
+                        BOARD_REGION.y + column * FIELD_SIZE,
+                        FIELD_SIZE,
+                        FIELD_SIZE
+                );
+                button.setFocusable(false);
+                button.setBorderPainted(false);
+                button.setContentAreaFilled(false);
+                button.addActionListener(e -> {
+                    if (this.shownBoard.getTurn() != UserType.USER || !this.shownBoard.isLegal(move)) return;
+
+                    this.loop.execute(() -> placeUserMove(move));
+                });
+
+                this.buttons[move] = button;
+                super.add(button);
+            }
+        }
+    }
+    //</editor-fold>
+
+
+    /**
+     * Öffnet das Fenster und startet die erste Runde.
+     */
+    @Override
+    public void open() {
+        super.open();
+        this.loop.execute(this::startRound);
+    }
+
+    /**
+     * Startet eine neue Runde. Der erste Zug wechselt von Runde zu Runde zwischen dem Nutzer und dem Computer. Der Baum
+     * der Suche wird dabei verworfen, da er zu einer anderen Runde gehört.
+     */
+    private void startRound() {
+        this.board.reset(this.nextStarter);
+        this.nextStarter = this.nextStarter.getOpponent();
+        this.search.clear();
+        publish(null);
+
+        if (this.board.getTurn() == UserType.COMPUTER) placeComputerMove();
+    }
+
+    /**
+     * Macht einen Zug für den Nutzer, sofern er an der Reihe ist und das Feld belegen darf. Im Anschluss sucht der
+     * Computer seinen Zug.
+     *
+     * @param move Der Index des Feldes, welches der Nutzer belegen möchte.
+     */
+    private void placeUserMove(@Range(from = 0, to = UltimateBoard.CELL_COUNT - 1) final int move) {
+        if (this.board.getTurn() != UserType.USER || !this.board.isLegal(move)) return;
+
+        this.board.place(move);
+        publish(null);
+
+        if (!checkRoundEnd()) placeComputerMove();
+    }
+
+    /**
+     * Sucht den besten Zug für den Computer und macht diesen Zug. Da die Suche ihren Baum behält, beginnt sie mit allen
+     * Partien, die sie für die Antwort des Nutzers bereits gespielt hat.
+     */
+    private void placeComputerMove() {
+        final MonteCarloResult result = this.search.search(this.board);
+        if (result.getBestMove() < 0) return;
+
+        this.board.place(result.getBestMove());
+        publish(result);
+        checkRoundEnd();
+    }
+
+    /**
+     * Prüft, ob die aktuelle Runde beendet ist, und vergibt in diesem Fall einen Punkt an den Gewinner.
+     *
+     * @return Wenn die Runde beendet ist {@code true}, ansonsten {@code false}.
+     */
+    private boolean checkRoundEnd() {
+        final GameOutcome outcome = this.board.getOutcome();
+        if (!outcome.isOver()) return false;
+
+        if (outcome.getWinner() != null) this.points[outcome.getWinner().ordinal()]++;
+        publish(null);
+        return true;
+    }
+
+    /**
+     * Übergibt eine Kopie des aktuellen Spielstandes an den Event-Dispatch-Thread, auf dem sie anschließend dargestellt
+     * wird.
+     *
+     * @param result Das Ergebnis der Suche, die zu diesem Spielstand geführt hat bzw. {@code null}, wenn das zuletzt
+     *               dargestellte Ergebnis beibehalten werden soll.
+     */
+    private void publish(@Nullable final MonteCarloResult result) {
+        final UltimateBoard copy = new UltimateBoard(this.board);
+        final int[] pointsCopy = this.points.clone();
+
+        SwingUtilities.invokeLater(() -> {
+            this.shownBoard = copy;
+            this.shownPoints = pointsCopy;
+            if (result != null) this.shownResult = result;
+
+            for (int move = 0; move < this.buttons.length; move++) {
+                final UserType userType = copy.getUserType(move);
+                final JButton button = this.buttons[move];
+
+                button.setIcon(userType == null
+                        ? null
+                        : IconCache.getIcon(userType, FIELD_SIZE, button.getGraphicsConfiguration())
+                );
+            }
+
+            this.resetButton.setVisible(copy.getOutcome().isOver());
+            repaint();
+        });
+    }
+
+
+    //<editor-fold desc="implementation">
+
+    @Override
+    public void draw(@NotNull final Graphics2D g) {
+        final UltimateBoard shown = this.shownBoard;
+
+        g.setColor(Color.DARK_GRAY);
+        g.fillRect(0, 0, GameGui.WIDTH, GameGui.HEIGHT);
+
+        // highlight the boards the user may play on and cover the boards that are already won
+        for (int meta = 0; meta < UltimateBoard.BOARD_CELLS; meta++) {
+            final Rectangle region = getBoardRegion(meta);
+            final UserType winner = shown.getBoardWinner(meta);
+
+            if (winner != null) {
+                g.setColor(CLOSED_COLOR);
+                g.fillRect(region.x, region.y, region.width, region.height);
+                if (ImageAsset.preload().isDone()) {
+                    final Icon icon = IconCache.getIcon(winner, BOARD_SIZE, g.getDeviceConfiguration());
+                    icon.paintIcon(null, g, region.x, region.y);
+                }
+            } else if (shown.getTurn() == UserType.USER && shown.isPlayable(meta)) {
+                g.setColor(PLAYABLE_COLOR);
+                g.fillRect(region.x, region.y, region.width, region.height);
+            }
+        }
+
+        // thin lines between the fields and thick lines between the small boards
+        g.setColor(Color.WHITE);
+        for (int i = 1; i < UltimateBoard.SIZE; i++) {
+            final int width = i % 3 == 0 ? 4 : 1;
+            final int offset = i * FIELD_SIZE - width / 2;
+
+            g.fillRect(BOARD_REGION.x, BOARD_REGION.y + offset, BOARD_REGION.width, width);
+            g.fillRect(BOARD_REGION.x + offset, BOARD_REGION.y, width, BOARD_REGION.height);
+        }
+
+        g.setFont(FONT);
+        final String status = getStatus(shown);
+        g.drawString(status, GameGui.WIDTH / 2 - g.getFontMetrics().stringWidth(status) / 2, 30);
+
+        g.setFont(FONT.deriveFont(25F));
+        g.drawString(this.shownPoints[UserType.USER.ordinal()] + "", 40, 75);
+        g.drawString(this.shownPoints[UserType.COMPUTER.ordinal()] + "", GameGui.WIDTH - 60, 75);
+
+        final MonteCarloResult result = this.shownResult;
+        if (result != null) {
+            g.setFont(FONT.deriveFont(12F));
+            g.setColor(Color.LIGHT_GRAY);
+
+            final String summary = result.getSummary();
+            g.drawString(summary, GameGui.WIDTH - 25 - g.getFontMetrics().stringWidth(summary), GameGui.HEIGHT - 50);
+        }
+    }
+    //</editor-fold>
+
+
+    //<editor-fold desc="utility">
+
+    /**
+     * Gibt den Text zurück, der über dem Spielfeld den aktuellen Stand der Runde beschreibt.
+     *
+     * @param shown Das Spielfeld, welches dargestellt wird.
+     *
+     * @return Der Text, der den aktuellen Stand der Runde beschreibt.
+     */
+    @NotNull
+    private static String getStatus(@NotNull final UltimateBoard shown) {
+        switch (shown.getOutcome()) {
+            case USER_WON:
+                return "Du hast das Spiel gewonnen!";
+            case COMPUTER_WON:
+                return "Der Computer hat das Spiel gewonnen!";
+            case DRAW:
+                return "Es ist unentschieden!";
+            default:
+                return shown.getTurn() == UserType.USER ? "Du bist am Zug" : "Der Computer überlegt...";
+        }
+    }
+
+    /**
+     * Gibt den Bereich zurück, in dem ein kleines Spielfeld liegt.
+     *
+     * @param meta Der Index des kleinen Spielfeldes.
+     *
+     * @return Der Bereich, in dem das kleine Spielfeld liegt.
+     */
+    @NotNull
+    private static Rectangle getBoardRegion(@Range(from = 0, to = UltimateBoard.BOARD_CELLS - 1) final int meta) {
+        final int row = meta % BoardLayout.CLASSIC.getSize();
+        final int column = meta / BoardLayout.CLASSIC.getSize();
+
+        return new Rectangle(
+                BOARD_REGION.x + row * BOARD_SIZE,
+                BOARD_REGION.y + column * BOARD_SIZE,
+                BOARD_SIZE,
+                BOARD_SIZE
+        );
+    }
+    //</editor-fold>
+
+}
@@ -1,43 +1,49 @@
 package de.gemuesehasser.tictactoe.handler;
 
 import de.gemuesehasser.tictactoe.constant.UserType;
-import de.gemuesehasser.tictactoe.gui.GameGui;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
 import de.gemuesehasser.tictactoe.object.GameField;
+import de.gemuesehasser.tictactoe.object.GameSnapshot;
 import lombok.Getter;
-import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Range;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
- * Mithilfe des {@link GameFieldHandler} lässt sich eine Ansammlung an {@link GameField Feldern} verwalten.
+ * Mithilfe des {@link GameFieldHandler} lässt sich eine Ansammlung an {@link GameField Feldern} verwalten. Der
+ * eigentliche Zustand des Spielfeldes wird von der {@link GameLoop Spielschleife} verwaltet, die {@link GameField Felder}
+ * stellen die zuletzt veröffentlichte {@link GameSnapshot Momentaufnahme} dieses Zustandes lediglich dar.
  */
 @Getter
 public final class GameFieldHandler {
 
     //<editor-fold desc="LOCAL FIELDS">
-    /** Alle abgespeicherten Felder, die durch diese Instanz des Handlers verwaltet werden. */
+    /** Alle abgespeicherten Felder, die durch diese Instanz des Handlers verwaltet werden, anhand ihres Index. */
+    @NotNull
+    private final GameField @NotNull [] fields;
+    /** Die Form des Spielfeldes, dessen Felder durch diesen Handler verwaltet werden. */
     @NotNull
-    private final List<GameField> fields = new ArrayList<>();
-    /** Der {@link UserType Typ}, der zuletzt gewonnen hat innerhalb dieser Ansammlung an Feldern. */
-    @Getter
-    @Setter
+    private final BoardLayout layout;
+    /** Der {@link UserType Typ}, der aktuell auf jedem Feld dargestellt wird, anhand ihres Index. */
     @Nullable
-    private UserType lastWinner;
+    private final UserType @NotNull [] displayedUserTypes;
     //</editor-fold>
 
 
+    //<editor-fold desc="CONSTRUCTORS">
+
     /**
-     * Resettet alle Felder, die in diesem Handler abgespeichert sind.
+     * Erzeugt einen neuen {@link GameFieldHandler} für ein Spielfeld mit einem bestimmten {@link BoardLayout}.
+     *
+     * @param layout Die Form des Spielfeldes, dessen Felder durch diesen Handler verwaltet werden.
      */
-    public void resetFields() {
-        for (@NotNull final GameField field : fields) {
-            field.updateUserType(null);
-        }
+    public GameFieldHandler(@NotNull final BoardLayout layout) {
+        this.layout = layout;
+        this.fields = new GameField[layout.getCellCount()];
+        this.displayedUserTypes = new UserType[layout.getCellCount()];
     }
+    //</editor-fold>
+
 
     /**
      * Registriert ein neues {@link GameField Feld} in diesem Handler.
@@ -45,12 +51,29 @@ public final class GameFieldHandler {
      * @param field Das Feld, welches registriert bzw. hinzugefügt werden soll.
      */
     public void registerNewField(@NotNull final GameField field) {
-        this.fields.add(field);
+        this.fields[this.layout.getIndex(field.getRow(), field.getColumn())] = field;
+    }
+
+    /**
+     * Aktualisiert die Darstellung aller Felder, deren Belegung sich in einer {@link GameSnapshot Momentaufnahme}
+     * gegenüber der aktuellen Darstellung verändert hat.
+     *
+     * @param snapshot Die Momentaufnahme, die dargestellt werden soll.
+     */
+    public void updateFields(@NotNull final GameSnapshot snapshot) {
+        for (int index = 0; index < this.fields.length; index++) {
+            final UserType userType = snapshot.getUserType(index);
+            if (userType == this.displayedUserTypes[index]) continue;
+
+            this.displayedUserTypes[index] = userType;
+
+            final GameField field = this.fields[index];
+            if (field != null) field.updateIcon(userType);
+        }
     }
 
     /**
-     * Sucht anhand der Zeile und der Spalte das entsprechende Feld aus allen registrierten Feldern heraus und gibt
-     * dieses zurück, sofern es vorhanden ist.
+     * Gibt das Feld mit der entsprechenden Zeile und Spalte zurück, sofern es registriert ist.
      *
      * @param row    Die Zeile, in der das Feld herausgesucht werden soll.
      * @param column Die Spalte, in der das Feld herausgesucht werden soll.
@@ -58,15 +81,12 @@ public final class GameFieldHandler {
      * @return Das Feld mit der entsprechenden Zeile und Spalte. Sollte das Feld mit den entsprechenden Eigenschaften
      *      nicht registriert sein, {@code null}.
      */
+    @Nullable
     public GameField getField(
-            @Range(from = 0, to = GameGui.GAME_SIZE - 1) final int row,
-            @Range(from = 0, to = GameGui.GAME_SIZE - 1) final int column
+            @Range(from = 0, to = Integer.MAX_VALUE) final int row,
+            @Range(from = 0, to = Integer.MAX_VALUE) final int column
     ) {
-        for (final GameField field : this.fields) {
-            if (field.getRow() == row && field.getColumn() == column) return field;
-        }
-
-        return null;
+        return this.fields[this.layout.getIndex(row, column)];
     }
 
 }
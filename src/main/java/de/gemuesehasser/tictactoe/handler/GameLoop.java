@@ -0,0 +1,491 @@
+package de.gemuesehasser.tictactoe.handler;
+
+import de.gemuesehasser.tictactoe.ai.ComputerPlayer;
+import de.gemuesehasser.tictactoe.ai.SearchResult;
+import de.gemuesehasser.tictactoe.constant.ComputerMode;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.metrics.GameMetrics;
+import de.gemuesehasser.tictactoe.metrics.MoveRoundTripEvent;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import de.gemuesehasser.tictactoe.object.GameSnapshot;
+import de.gemuesehasser.tictactoe.storage.GameRecordLog;
+import de.gemuesehasser.tictactoe.storage.StatisticsStore;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Die {@link GameLoop Spielschleife} ist der einzige Thread, der den Zustand des Spiels verändert. Alle anderen Threads
+ * (z.B. der Event-Dispatch-Thread von Swing oder der Thread, auf dem der Computer seinen Zug sucht) legen lediglich
+ * Befehle in einem nicht blockierenden Postfach ab, welche die Spielschleife nacheinander abarbeitet. Nach jedem Befehl
+ * wird eine unveränderliche {@link GameSnapshot Momentaufnahme} veröffentlicht, die zum Zeichnen genutzt wird.
+ *
+ * <p>Der Zug des Computers wird auf einer Kopie des Spielfeldes gesucht und als Befehl mit der Nummer der Stellung
+ * zurückgegeben. Beginnt in der Zwischenzeit eine neue Runde oder wird ein Zug zurückgenommen, wird die Suche
+ * abgebrochen und ein dennoch eintreffender Zug anhand der veralteten Nummer verworfen.</p>
+ *
+ * <p>Im {@link ComputerMode#SEARCH Such-Modus} denkt der Computer auch während der Nutzer am Zug ist: Er sucht zuerst
+ * den wahrscheinlichsten Zug des Nutzers und anschließend für jeden möglichen Zug des Nutzers seine Antwort mit dem
+ * vollen Zeitbudget voraus. Macht der Nutzer einen Zug, dessen Antwort bereits gefunden wurde, wird diese ohne erneute
+ * Suche gesetzt. Jede Änderung der Stellung bricht das Vorausdenken ab und verwirft alle vorausgedachten Antworten.</p>
+ *
+ * <p>Solange eine Runde läuft, kann der Nutzer seine Züge mit {@link #submitUndo()} zurücknehmen und mit
+ * {@link #submitRedo()} wiederholen. Dafür wird die Zughistorie des {@link GameBoard Spielfeldes} genutzt, sodass
+ * dabei weder Spielfelder kopiert noch Objekte erzeugt werden und die Historie durch die Anzahl der Felder begrenzt
+ * ist. Eine beendete Runde kann nicht mehr verändert werden, da sie bereits gewertet wurde.</p>
+ */
+public final class GameLoop {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Scheduler, auf dem der Computer seine Züge sucht (verzögert, um die Darstellung dynamischer zu machen). */
+    @NotNull
+    private static final ScheduledExecutorService COMPUTER_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                final Thread thread = new Thread(runnable, "computer");
+                thread.setDaemon(true);
+                return thread;
+            }
+    );
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Das Postfach, in dem alle Befehle abgelegt werden, bis die Spielschleife sie abarbeitet. */
+    @NotNull
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    /** Der Thread, auf dem die Spielschleife läuft. */
+    @NotNull
+    private final Thread thread;
+    /** Der Spieler, der die Züge des {@link UserType#COMPUTER Computers} auswählt. */
+    @NotNull
+    private final ComputerPlayer computer;
+    /** Die Verzögerung in Millisekunden, mit der der Computer seinen Zug macht. */
+    private final long computerDelayMillis;
+    /** Der Zustand des Spielfeldes, der ausschließlich von der Spielschleife verändert wird. */
+    @NotNull
+    private final GameBoard board;
+    /** Die Anzahl an gewonnenen Runden je {@link UserType Typ}, anhand ihrer Ordinalzahl. */
+    private final int @NotNull [] points = new int[UserType.values().length];
+    /** Der Empfänger, an den jede neue Momentaufnahme übergeben wird. */
+    @NotNull
+    private final Consumer<GameSnapshot> snapshotListener;
+    /** Das Log, in das jede beendete Runde geschrieben wird bzw. {@code null}, wenn keine Runden geschrieben werden. */
+    @Nullable
+    private final GameRecordLog recordLog;
+    /** Die Statistiken, in denen jede beendete Runde berücksichtigt wird bzw. {@code null}, wenn es keine gibt. */
+    @Nullable
+    private final StatisticsStore statistics;
+    /** Die Nummer der aktuellen Runde. */
+    private long round;
+    /**
+     * Die Nummer der aktuellen Stellung, anhand der veraltete Züge des Computers erkannt werden. Sie wird bei jeder
+     * neuen Runde und bei jedem zurückgenommenen bzw. wiederholten Zug erhöht.
+     */
+    private long position;
+    /** Der {@link UserType Typ}, der zuletzt gewonnen hat bzw. {@code null}, wenn noch niemand gewonnen hat. */
+    @Nullable
+    private UserType lastWinner;
+    /** Das Ergebnis der letzten Suche des Computers. */
+    @Nullable
+    private SearchResult lastSearchResult;
+    /** Der Zug des Computers, der aktuell gesucht wird bzw. {@code null}, wenn der Computer nicht an der Reihe ist. */
+    @Nullable
+    private ScheduledFuture<?> pendingComputerMove;
+    /** Das Vorausdenken während des Zuges des Nutzers bzw. {@code null}, wenn der Computer gerade nicht vorausdenkt. */
+    @Nullable
+    private Future<?> pendingPondering;
+    /**
+     * Die vorausgedachten Antworten des Computers anhand des Feldes, welches der Nutzer in der aktuellen Stellung belegt,
+     * bzw. {@code null}, wenn der Computer für die aktuelle Stellung nicht vorausdenkt.
+     */
+    @Nullable
+    private Map<Integer, SearchResult> ponderedReplies;
+    /** Das Ereignis, welches beim letzten Zug des Nutzers begonnen wurde bzw. {@code null}, wenn es keines gibt. */
+    @Nullable
+    private MoveRoundTripEvent pendingRoundTrip;
+    /** Der Zeitpunkt, an dem der Nutzer seinen letzten Zug gemacht hat. */
+    private long pendingRoundTripNanos;
+    /** Die zuletzt veröffentlichte Momentaufnahme des Spiels. */
+    @Getter
+    @NotNull
+    private volatile GameSnapshot snapshot;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue {@link GameLoop Spielschleife} mit einem leeren Spielfeld, in der der Nutzer den ersten Zug
+     * macht. Die Spielschleife läuft erst, nachdem sie {@link #start() gestartet} wurde.
+     *
+     * @param layout              Die Form des Spielfeldes.
+     * @param computer            Der Spieler, der die Züge des {@link UserType#COMPUTER Computers} auswählt.
+     * @param computerDelayMillis Die Verzögerung in Millisekunden, mit der der Computer seinen Zug macht.
+     * @param snapshotListener    Der Empfänger, an den jede neue Momentaufnahme (auf der Spielschleife) übergeben wird.
+     * @param recordLog           Das Log, in das jede beendete Runde geschrieben wird bzw. {@code null}, wenn keine
+     *                            Runden geschrieben werden.
+     * @param statistics          Die Statistiken, in denen jede beendete Runde für den
+     *                            {@link StatisticsStore#getLocalPlayerName() lokalen Nutzer} und den Computer
+     *                            berücksichtigt wird bzw. {@code null}, wenn es keine gibt.
+     */
+    public GameLoop(
+            @NotNull final BoardLayout layout,
+            @NotNull final ComputerPlayer computer,
+            @Range(from = 0, to = Long.MAX_VALUE) final long computerDelayMillis,
+            @NotNull final Consumer<GameSnapshot> snapshotListener,
+            @Nullable final GameRecordLog recordLog,
+            @Nullable final StatisticsStore statistics
+    ) {
+        this.board = new GameBoard(layout);
+        this.computer = computer;
+        this.computerDelayMillis = computerDelayMillis;
+        this.snapshotListener = snapshotListener;
+        this.recordLog = recordLog;
+        this.statistics = statistics;
+        this.snapshot = new GameSnapshot(0, this.board, this.board.getTurn(), this.points, null, false, false);
+        this.thread = new Thread(this::run, "game-loop");
+        this.thread.setDaemon(true);
+    }
+    //</editor-fold>
+
+
+    /**
+     * Startet den Thread dieser Spielschleife, auf dem der Computer direkt für den ersten Zug des Nutzers vorausdenkt.
+     */
+    public void start() {
+        this.thread.start();
+        post(this::startPondering);
+    }
+
+    /**
+     * Legt den Befehl ab, ein Feld mit dem Symbol des Nutzers zu belegen. Der Befehl wird ignoriert, wenn der Nutzer
+     * nicht an der Reihe oder das Feld bereits belegt ist.
+     *
+     * @param index Der Index des Feldes, welches der Nutzer belegen möchte.
+     */
+    public void submitUserMove(@Range(from = 0, to = Integer.MAX_VALUE) final int index) {
+        final long submitted = System.nanoTime();
+
+        post(() -> {
+            if (this.board.getTurn() != UserType.USER || isOver() || !this.board.isEmpty(index)) return;
+
+            final SearchResult ponderedReply = this.ponderedReplies == null ? null : this.ponderedReplies.get(index);
+            cancelPondering();
+
+            this.board.place(index, UserType.USER);
+            if (checkGameEnd()) return;
+
+            this.pendingRoundTrip = new MoveRoundTripEvent();
+            this.pendingRoundTrip.begin();
+            this.pendingRoundTripNanos = submitted;
+            scheduleComputerMove(ponderedReply);
+        });
+    }
+
+    /**
+     * Legt den Befehl ab, eine neue Runde zu beginnen. Ein noch ausstehender Zug des Computers wird dabei abgebrochen.
+     * Der Verlierer der letzten Runde macht den ersten Zug, nach einem Unentschieden beginnt der Nutzer.
+     */
+    public void submitNewRound() {
+        post(() -> {
+            cancelComputerMove();
+            cancelPondering();
+
+            this.pendingRoundTrip = null;
+            this.round++;
+            this.position++;
+            this.board.reset(this.lastWinner == UserType.USER ? UserType.COMPUTER : UserType.USER);
+
+            if (this.board.getTurn() == UserType.COMPUTER) {
+                scheduleComputerMove(null);
+            } else {
+                startPondering();
+            }
+        });
+    }
+
+    /**
+     * Legt den Befehl ab, den letzten Zug des Nutzers und alle darauf folgenden Züge zurückzunehmen, sodass der Nutzer
+     * wieder an der Reihe ist. Ein noch ausstehender Zug des Computers wird dabei abgebrochen. Der Befehl wird
+     * ignoriert, wenn die Runde beendet ist oder der Nutzer noch keinen Zug gemacht hat.
+     */
+    public void submitUndo() {
+        post(() -> {
+            if (!canUndo()) return;
+
+            cancelComputerMove();
+            cancelPondering();
+            this.pendingRoundTrip = null;
+            this.position++;
+
+            do {
+                this.board.unmake();
+            } while (this.board.getTurn() != UserType.USER);
+
+            startPondering();
+        });
+    }
+
+    /**
+     * Legt den Befehl ab, den zuletzt zurückgenommenen Zug des Nutzers und die darauf folgende Antwort des Computers zu
+     * wiederholen. Wurde die Antwort des Computers nie gemacht, sucht der Computer sie im Anschluss. Der Befehl wird
+     * ignoriert, wenn es keinen zurückgenommenen Zug gibt.
+     */
+    public void submitRedo() {
+        post(() -> {
+            if (!canRedo()) return;
+
+            cancelPondering();
+            this.position++;
+
+            do {
+                this.board.redo();
+                if (checkGameEnd()) return;
+            } while (this.board.getTurn() != UserType.USER && this.board.canRedo());
+
+            if (this.board.getTurn() == UserType.COMPUTER) {
+                scheduleComputerMove(null);
+            } else {
+                startPondering();
+            }
+        });
+    }
+
+    /**
+     * Arbeitet alle Befehle im Postfach nacheinander ab und veröffentlicht nach jedem Befehl eine neue Momentaufnahme.
+     * Ist das Postfach leer, wartet die Spielschleife, bis ein neuer Befehl abgelegt wird.
+     */
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            final Runnable command = this.mailbox.poll();
+
+            if (command == null) {
+                LockSupport.park(this);
+                continue;
+            }
+
+            command.run();
+            this.snapshot = new GameSnapshot(
+                    this.round,
+                    this.board,
+                    this.board.getTurn(),
+                    this.points,
+                    this.lastSearchResult,
+                    canUndo(),
+                    canRedo()
+            );
+            this.snapshotListener.accept(this.snapshot);
+        }
+    }
+
+    /**
+     * Legt einen Befehl im Postfach ab und weckt die Spielschleife auf, falls sie gerade wartet.
+     *
+     * @param command Der Befehl, der auf der Spielschleife ausgeführt werden soll.
+     */
+    private void post(@NotNull final Runnable command) {
+        this.mailbox.offer(command);
+        LockSupport.unpark(this.thread);
+    }
+
+    /**
+     * Lässt den Computer seinen nächsten Zug auf einer Kopie des Spielfeldes suchen. Der gefundene Zug wird als Befehl
+     * zurück an die Spielschleife gegeben und nur dann ausgeführt, wenn sich die Stellung in der Zwischenzeit nicht durch
+     * eine neue Runde oder einen zurückgenommenen Zug verändert hat.
+     *
+     * @param ponderedReply Die Antwort, die der Computer für diese Stellung bereits vorausgedacht hat und ohne erneute
+     *                      Suche setzt, bzw. {@code null}, wenn es keine gibt.
+     */
+    private void scheduleComputerMove(@Nullable final SearchResult ponderedReply) {
+        final long movePosition = this.position;
+        final GameBoard copy = new GameBoard(this.board);
+
+        this.pendingComputerMove = COMPUTER_SCHEDULER.schedule(() -> {
+            final int move = ponderedReply != null
+                    ? ponderedReply.getBestMove()
+                    : GameMetrics.INSTANCE.measureAiDecision(this.computer, copy, UserType.COMPUTER);
+            final SearchResult searchResult = ponderedReply != null
+                    ? ponderedReply
+                    : this.computer.getLastSearchResult();
+
+            if (Thread.currentThread().isInterrupted()) return;
+
+            post(() -> {
+                if (movePosition != this.position) return;
+
+                this.pendingComputerMove = null;
+                this.lastSearchResult = searchResult;
+                this.board.place(move, UserType.COMPUTER);
+
+                if (this.pendingRoundTrip != null) {
+                    GameMetrics.INSTANCE.recordMoveRoundTrip(
+                            this.pendingRoundTrip,
+                            this.pendingRoundTripNanos,
+                            this.round,
+                            this.computerDelayMillis
+                    );
+                    this.pendingRoundTrip = null;
+                }
+
+                if (!checkGameEnd()) startPondering();
+            });
+        }, this.computerDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Lässt den Computer im {@link ComputerMode#SEARCH Such-Modus} auf einer Kopie des Spielfeldes seine Antworten auf
+     * die möglichen Züge des Nutzers vorausdenken. Die Antworten werden für die aktuelle Stellung gesammelt, bis der
+     * Nutzer einen Zug macht oder sich die Stellung anderweitig verändert.
+     */
+    private void startPondering() {
+        if (this.computer.getMode() != ComputerMode.SEARCH || isOver()) return;
+
+        final GameBoard copy = new GameBoard(this.board);
+        final Map<Integer, SearchResult> replies = new ConcurrentHashMap<>();
+
+        this.ponderedReplies = replies;
+        this.pendingPondering = COMPUTER_SCHEDULER.submit(() -> ponder(copy, replies));
+    }
+
+    /**
+     * Sucht zuerst den wahrscheinlichsten Zug des Nutzers und anschließend die Antwort des Computers auf diesen und
+     * jeden weiteren möglichen Zug des Nutzers. Dabei wird auf dem Thread des Computers gesucht, sodass das Vorausdenken
+     * niemals mit einem tatsächlichen Zug des Computers um die Threads der Suche konkurriert. Wird das Vorausdenken
+     * abgebrochen, endet es mit der laufenden Suche, deren unvollständiges Ergebnis verworfen wird.
+     *
+     * @param board   Die Kopie des Spielfeldes, auf dem der Nutzer an der Reihe ist.
+     * @param replies Die Antworten, in denen jede vollständige Antwort anhand des Zuges des Nutzers abgelegt wird.
+     */
+    private void ponder(@NotNull final GameBoard board, @NotNull final Map<Integer, SearchResult> replies) {
+        final int likelyMove = this.computer.getBestPlacement(board, UserType.USER);
+
+        if (Thread.currentThread().isInterrupted()) return;
+
+        ponderReply(board, likelyMove, replies);
+
+        for (int position = 0; position < board.getFreeCellCount(); position++) {
+            if (Thread.currentThread().isInterrupted()) return;
+
+            final int cell = board.getFreeCell(position);
+            if (cell != likelyMove) ponderReply(board, cell, replies);
+        }
+    }
+
+    /**
+     * Sucht die Antwort des Computers auf einen bestimmten Zug des Nutzers und legt sie ab, sofern die Suche weder
+     * abgebrochen wurde noch der Zug des Nutzers die Runde beendet. Das Spielfeld ist danach wieder unverändert.
+     *
+     * @param board    Die Kopie des Spielfeldes, auf dem der Nutzer an der Reihe ist.
+     * @param userMove Der Index des Feldes, welches der Nutzer belegen könnte.
+     * @param replies  Die Antworten, in denen die gefundene Antwort anhand des Zuges des Nutzers abgelegt wird.
+     */
+    private void ponderReply(
+            @NotNull final GameBoard board,
+            final int userMove,
+            @NotNull final Map<Integer, SearchResult> replies
+    ) {
+        board.make(userMove);
+
+        if (!board.isOver()) {
+            this.computer.getBestPlacement(board, UserType.COMPUTER);
+            final SearchResult reply = this.computer.getLastSearchResult();
+
+            if (!Thread.currentThread().isInterrupted() && reply != null && reply.getBestMove() >= 0) {
+                replies.put(userMove, reply);
+            }
+        }
+
+        board.unmake();
+    }
+
+    /**
+     * Bricht das Vorausdenken des Computers ab und verwirft alle vorausgedachten Antworten.
+     */
+    private void cancelPondering() {
+        this.ponderedReplies = null;
+        if (this.pendingPondering == null) return;
+
+        this.pendingPondering.cancel(true);
+        this.pendingPondering = null;
+    }
+
+    /**
+     * Bricht den Zug des Computers ab, der aktuell gesucht wird.
+     */
+    private void cancelComputerMove() {
+        if (this.pendingComputerMove == null) return;
+
+        this.pendingComputerMove.cancel(true);
+        this.pendingComputerMove = null;
+    }
+
+    /**
+     * Prüft, ob die Runde gewonnen oder unentschieden ist, und erhöht im Falle eines Sieges den Punktestand des
+     * Gewinners. Nach einem Unentschieden wird der letzte Gewinner auf den Computer gesetzt, damit der Nutzer die nächste
+     * Runde beginnt. Eine beendete Runde wird in das {@link GameRecordLog} geschrieben und in den Statistiken
+     * berücksichtigt, ohne dabei auf die Festplatte zu warten.
+     *
+     * @return Wenn die Runde beendet ist {@code true}, ansonsten {@code false}.
+     */
+    private boolean checkGameEnd() {
+        final UserType winner = this.board.getWinner();
+
+        if (winner != null) {
+            this.points[winner.ordinal()]++;
+            this.lastWinner = winner;
+        } else if (this.board.isIndecisive()) {
+            this.lastWinner = UserType.COMPUTER;
+        } else {
+            return false;
+        }
+
+        GameMetrics.INSTANCE.recordGameEnd(this.board);
+        if (this.recordLog != null) this.recordLog.append(this.board);
+        if (this.statistics != null) {
+            this.statistics.recordGame(this.board, StatisticsStore.getLocalPlayerName(), this.computer.getName());
+        }
+        return true;
+    }
+
+    /**
+     * Prüft, ob der Nutzer in der laufenden Runde bereits einen Zug gemacht hat, der zurückgenommen werden kann.
+     *
+     * @return Wenn ein Zug des Nutzers zurückgenommen werden kann {@code true}, ansonsten {@code false}.
+     */
+    private boolean canUndo() {
+        return !isOver() && this.board.getMoveCount() > (this.board.getStarter() == UserType.COMPUTER ? 1 : 0);
+    }
+
+    /**
+     * Prüft, ob der Nutzer an der Reihe ist und es einen zurückgenommenen Zug gibt, der wiederholt werden kann.
+     *
+     * @return Wenn ein zurückgenommener Zug wiederholt werden kann {@code true}, ansonsten {@code false}.
+     */
+    private boolean canRedo() {
+        return !isOver() && this.board.getTurn() == UserType.USER && this.board.canRedo();
+    }
+
+    /**
+     * Prüft, ob die aktuelle Runde beendet ist.
+     *
+     * @return Wenn die aktuelle Runde gewonnen oder unentschieden ist {@code true}, ansonsten {@code false}.
+     */
+    private boolean isOver() {
+        return this.board.isOver();
+    }
+
+}
@@ -0,0 +1,246 @@
+package de.gemuesehasser.tictactoe.handler;
+
+import de.gemuesehasser.tictactoe.ai.ComputerPlayer;
+import de.gemuesehasser.tictactoe.ai.SearchEngine;
+import de.gemuesehasser.tictactoe.constant.ComputerMode;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import de.gemuesehasser.tictactoe.server.GameSession;
+import de.gemuesehasser.tictactoe.storage.GameRecordLog;
+import de.gemuesehasser.tictactoe.storage.StatisticsStore;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Mithilfe des {@link GameSessionHandler} lässt sich eine Ansammlung an {@link GameSession Sitzungen} verwalten, die
+ * gleichzeitig und unabhängig voneinander gespielt werden. Alle Sitzungen im {@link ComputerMode#SEARCH Such-Modus}
+ * teilen sich eine einzige {@link SearchEngine}, damit nicht jede Sitzung ihren eigenen Thread-Pool erzeugt.
+ *
+ * <p>Die Züge des Computers werden in allen Sitzungen im Hintergrund auf eigenen Threads dieses Handlers gesucht,
+ * sodass eine lange Suche weder die Sitzung noch den Thread der Anfrage blockiert.</p>
+ */
+public final class GameSessionHandler implements AutoCloseable {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Name des Spielers, wenn beim Erzeugen einer Sitzung kein Name angegeben wird. */
+    @NotNull
+    public static final String DEFAULT_PLAYER_NAME = "guest";
+    /** Das Muster, dem der Name jedes Spielers entsprechen muss. */
+    @NotNull
+    private static final Pattern PLAYER_NAME_PATTERN = Pattern.compile("[A-Za-z0-9_.-]{1,32}");
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Alle Sitzungen, die durch diese Instanz des Handlers verwaltet werden, anhand ihrer ID. */
+    @NotNull
+    private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
+    /** Die freien Plätze für neue Sitzungen, die vor dem Erzeugen einer Sitzung reserviert werden. */
+    @NotNull
+    private final Semaphore freeSlots;
+    /** Die Form des Spielfeldes aller Sitzungen. */
+    @Getter
+    @NotNull
+    private final BoardLayout layout;
+    /** Die maximale Anzahl an Sitzungen, die gleichzeitig verwaltet werden. */
+    @Getter
+    private final int maxSessions;
+    /** Die Suche, die sich alle Sitzungen im {@link ComputerMode#SEARCH Such-Modus} teilen. */
+    @Getter
+    @NotNull
+    private final SearchEngine searchEngine = new SearchEngine();
+    /** Das Log, in das alle Sitzungen ihre beendeten Spiele schreiben bzw. {@code null}, wenn keine geschrieben werden. */
+    @Nullable
+    private final GameRecordLog recordLog;
+    /** Die Statistiken, in denen alle Sitzungen ihre beendeten Spiele berücksichtigen bzw. {@code null}. */
+    @Getter
+    @Nullable
+    private final StatisticsStore statistics;
+    /** Die Threads, auf denen die Züge des Computers in allen Sitzungen gesucht werden. */
+    @NotNull
+    private final ExecutorService computerExecutor;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link GameSessionHandler}, der höchstens eine bestimmte Anzahl an Sitzungen verwaltet.
+     *
+     * @param layout      Die Form des Spielfeldes aller Sitzungen.
+     * @param maxSessions Die maximale Anzahl an Sitzungen, die gleichzeitig verwaltet werden.
+     */
+    public GameSessionHandler(
+            @NotNull final BoardLayout layout,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int maxSessions
+    ) {
+        this(layout, maxSessions, null, null);
+    }
+
+    /**
+     * Erzeugt einen neuen {@link GameSessionHandler}, der höchstens eine bestimmte Anzahl an Sitzungen verwaltet, deren
+     * beendete Spiele in ein gemeinsames {@link GameRecordLog} geschrieben und in gemeinsamen Statistiken berücksichtigt
+     * werden.
+     *
+     * @param layout      Die Form des Spielfeldes aller Sitzungen.
+     * @param maxSessions Die maximale Anzahl an Sitzungen, die gleichzeitig verwaltet werden.
+     * @param recordLog   Das Log, in das alle Sitzungen ihre beendeten Spiele schreiben bzw. {@code null}, wenn keine
+     *                    geschrieben werden.
+     * @param statistics  Die Statistiken, in denen alle Sitzungen ihre beendeten Spiele berücksichtigen bzw.
+     *                    {@code null}, wenn es keine gibt.
+     */
+    public GameSessionHandler(
+            @NotNull final BoardLayout layout,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int maxSessions,
+            @Nullable final GameRecordLog recordLog,
+            @Nullable final StatisticsStore statistics
+    ) {
+        this.layout = layout;
+        this.maxSessions = maxSessions;
+        this.freeSlots = new Semaphore(maxSessions);
+        this.recordLog = recordLog;
+        this.statistics = statistics;
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.computerExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            final Thread thread = new Thread(runnable, "computer-move-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    //</editor-fold>
+
+
+    /**
+     * Erzeugt eine neue {@link GameSession Sitzung} mit einem bestimmten {@link ComputerMode Modus} des Computers für
+     * den Spieler {@value #DEFAULT_PLAYER_NAME}.
+     *
+     * @param mode Der {@link ComputerMode Modus}, mit dem der Computer in dieser Sitzung spielt.
+     *
+     * @return Die neue Sitzung.
+     *
+     * @throws IllegalStateException Wenn bereits die maximale Anzahl an Sitzungen verwaltet wird.
+     */
+    @NotNull
+    public GameSession createSession(@NotNull final ComputerMode mode) {
+        return createSession(mode, DEFAULT_PLAYER_NAME);
+    }
+
+    /**
+     * Erzeugt eine neue {@link GameSession Sitzung} mit einem bestimmten {@link ComputerMode Modus} des Computers für
+     * einen bestimmten Spieler.
+     *
+     * @param mode       Der {@link ComputerMode Modus}, mit dem der Computer in dieser Sitzung spielt.
+     * @param playerName Der Name des Spielers, der in dieser Sitzung als Nutzer spielt.
+     *
+     * @return Die neue Sitzung.
+     *
+     * @throws IllegalArgumentException Wenn der Name des Spielers ungültig ist.
+     * @throws IllegalStateException    Wenn bereits die maximale Anzahl an Sitzungen verwaltet wird.
+     */
+    @NotNull
+    public GameSession createSession(@NotNull final ComputerMode mode, @NotNull final String playerName) {
+        if (!PLAYER_NAME_PATTERN.matcher(playerName).matches()) {
+            throw new IllegalArgumentException("invalid player name " + playerName);
+        }
+
+        if (!this.freeSlots.tryAcquire()) {
+            throw new IllegalStateException("maximum of " + this.maxSessions + " sessions reached");
+        }
+
+        final GameSession session;
+        try {
+            session = new GameSession(
+                    UUID.randomUUID().toString(),
+                    playerName,
+                    this.layout,
+                    new ComputerPlayer(mode, this.searchEngine),
+                    this.recordLog,
+                    this.statistics,
+                    this.computerExecutor
+            );
+        } catch (@NotNull final RuntimeException e) {
+            this.freeSlots.release();
+            throw e;
+        }
+
+        this.sessions.put(session.getId(), session);
+        return session;
+    }
+
+    /**
+     * Gibt die {@link GameSession Sitzung} mit einer bestimmten ID zurück.
+     *
+     * @param id Die ID der Sitzung.
+     *
+     * @return Die Sitzung mit der entsprechenden ID bzw. {@code null}, wenn es keine solche Sitzung gibt.
+     */
+    @Nullable
+    public GameSession getSession(@NotNull final String id) {
+        return this.sessions.get(id);
+    }
+
+    /**
+     * Entfernt die {@link GameSession Sitzung} mit einer bestimmten ID.
+     *
+     * @param id Die ID der Sitzung.
+     *
+     * @return Wenn eine Sitzung entfernt wurde {@code true}, ansonsten {@code false}.
+     */
+    public boolean removeSession(@NotNull final String id) {
+        if (this.sessions.remove(id) == null) return false;
+
+        this.freeSlots.release();
+        return true;
+    }
+
+    /**
+     * Entfernt alle {@link GameSession Sitzungen}, auf die seit einer bestimmten Zeit nicht mehr zugegriffen wurde.
+     *
+     * @param maxIdleMillis Die Zeit in Millisekunden, nach der eine unbenutzte Sitzung entfernt wird.
+     *
+     * @return Die Anzahl an entfernten Sitzungen.
+     */
+    public int removeIdleSessions(@Range(from = 0, to = Long.MAX_VALUE) final long maxIdleMillis) {
+        final long oldestAccess = System.currentTimeMillis() - maxIdleMillis;
+        int removed = 0;
+
+        for (@NotNull final GameSession session : this.sessions.values()) {
+            if (session.getLastAccessMillis() < oldestAccess && this.sessions.remove(session.getId(), session)) removed++;
+        }
+
+        this.freeSlots.release(removed);
+        return removed;
+    }
+
+    /**
+     * Gibt die Anzahl an Sitzungen zurück, die aktuell verwaltet werden.
+     *
+     * @return Die Anzahl an Sitzungen, die aktuell verwaltet werden.
+     */
+    public int getSessionCount() {
+        return this.sessions.size();
+    }
+
+    /**
+     * Beendet die Threads, auf denen die Züge des Computers gesucht werden, und schließt die gemeinsame
+     * {@link SearchEngine}. Züge, die danach angefordert werden, werden mit einer {@link IllegalStateException}
+     * abgelehnt.
+     */
+    @Override
+    public void close() {
+        this.computerExecutor.shutdownNow();
+        this.searchEngine.close();
+    }
+
+}
@@ -0,0 +1,34 @@
+package de.gemuesehasser.tictactoe.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Ein {@link AiDecisionEvent} wird für den JDK Flight Recorder erzeugt, während ein Computer-Spieler seinen Zug
+ * auswählt. Die Dauer des Ereignisses ist die Bedenkzeit.
+ */
+@Name("de.gemuesehasser.tictactoe.AiDecision")
+@Label("AI Decision")
+@Category("Tic-Tac-Toe")
+@Description("A computer player chooses its next move")
+public final class AiDecisionEvent extends Event {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Modus des Computer-Spielers. */
+    @Label("Mode")
+    String mode;
+    /** Der Index des ausgewählten Feldes. */
+    @Label("Move")
+    int move;
+    /** Die Tiefe der Suche bzw. {@code 0}, wenn nicht gesucht wurde. */
+    @Label("Depth")
+    int depth;
+    /** Die Anzahl an untersuchten Stellungen bzw. {@code 0}, wenn nicht gesucht wurde. */
+    @Label("Nodes")
+    long nodes;
+    //</editor-fold>
+
+}
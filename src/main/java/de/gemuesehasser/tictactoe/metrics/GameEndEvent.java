@@ -0,0 +1,27 @@
+package de.gemuesehasser.tictactoe.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Ein {@link GameEndEvent} wird für den JDK Flight Recorder erzeugt, sobald ein Spiel beendet ist.
+ */
+@Name("de.gemuesehasser.tictactoe.GameEnd")
+@Label("Game End")
+@Category("Tic-Tac-Toe")
+@Description("A game has been won or drawn")
+public final class GameEndEvent extends Event {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Gewinner bzw. {@code null}, wenn das Spiel unentschieden ist. */
+    @Label("Winner")
+    String winner;
+    /** Die Anzahl aller Züge beider Spieler. */
+    @Label("Moves")
+    int moves;
+    //</editor-fold>
+
+}
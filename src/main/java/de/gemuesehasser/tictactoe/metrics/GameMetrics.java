@@ -0,0 +1,269 @@
+package de.gemuesehasser.tictactoe.metrics;
+
+import de.gemuesehasser.tictactoe.ai.ComputerPlayer;
+import de.gemuesehasser.tictactoe.ai.SearchResult;
+import de.gemuesehasser.tictactoe.ai.TranspositionTable;
+import de.gemuesehasser.tictactoe.constant.ComputerMode;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Die {@link GameMetrics} sammeln Messwerte aus den zeitkritischen Stellen dieser Anwendung: Dauern als
+ * {@link LatencyHistogram} und Ereignisse als Zähler. Zusätzlich zu den Messwerten werden an denselben Stellen
+ * Ereignisse für den JDK Flight Recorder erzeugt (siehe {@link AiDecisionEvent}, {@link MoveRoundTripEvent},
+ * {@link PaintEvent} und {@link GameEndEvent}), die nur dann etwas kosten, wenn eine Aufzeichnung läuft.
+ *
+ * <p>Nachdem sie {@link #register() registriert} wurden, lassen sich alle Messwerte unter der Domain
+ * {@value #DOMAIN} per JMX auslesen.</p>
+ */
+@Getter
+public final class GameMetrics implements GameMetricsMXBean {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die einzige Instanz, in der alle Messwerte dieser Anwendung gesammelt werden. */
+    @NotNull
+    public static final GameMetrics INSTANCE = new GameMetrics();
+    /** Die JMX-Domain, unter der alle Messwerte registriert werden. */
+    @NotNull
+    public static final String DOMAIN = "de.gemuesehasser.tictactoe";
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Dauer, die ein Computer-Spieler benötigt, um seinen Zug auszuwählen. */
+    @NotNull
+    private final LatencyHistogram aiDecisions = new LatencyHistogram();
+    /** Die Dauer vom Zug des Nutzers bis zum ausgeführten Antwortzug des Computers (inklusive Verzögerung). */
+    @NotNull
+    private final LatencyHistogram moveRoundTrips = new LatencyHistogram();
+    /** Die Dauer, die das Zeichnen des Fensters benötigt. */
+    @NotNull
+    private final LatencyHistogram paints = new LatencyHistogram();
+    /** Die Dauer, die eine neue Momentaufnahme auf den Event-Dispatch-Thread wartet. */
+    @NotNull
+    private final LatencyHistogram eventDispatchDelays = new LatencyHistogram();
+    /** Die Anzahl aller beendeten Spiele. */
+    @Getter(AccessLevel.NONE)
+    @NotNull
+    private final LongAdder games = new LongAdder();
+    /** Die Anzahl aller Züge in beendeten Spielen. */
+    @Getter(AccessLevel.NONE)
+    @NotNull
+    private final LongAdder moves = new LongAdder();
+    /** Die Anzahl aller beendeten Spiele je Ergebnis (Ordinalzahl des Gewinners, danach Unentschieden). */
+    @Getter(AccessLevel.NONE)
+    @NotNull
+    private final LongAdder @NotNull [] outcomes = new LongAdder[UserType.values().length + 1];
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Es wird nur die {@link #INSTANCE einzige Instanz} benötigt.
+     */
+    private GameMetrics() {
+        for (int i = 0; i < this.outcomes.length; i++) {
+            this.outcomes[i] = new LongAdder();
+        }
+    }
+    //</editor-fold>
+
+
+    /**
+     * Lässt einen Computer-Spieler seinen nächsten Zug auswählen, misst dabei seine Bedenkzeit und erzeugt ein
+     * {@link AiDecisionEvent}. Diese Methode wird an den Stellen genutzt, an denen auf den Zug gewartet wird (und nicht
+     * im {@link ComputerPlayer} selbst), damit Simulationen mit Millionen Zügen nicht mitgemessen werden.
+     *
+     * @param player   Der Computer-Spieler.
+     * @param board    Das Spielfeld, auf dem der Zug ausgewählt wird.
+     * @param userType Der {@link UserType Typ}, für den der Zug ausgewählt wird.
+     *
+     * @return Der Index des ausgewählten Feldes.
+     */
+    public int measureAiDecision(
+            @NotNull final ComputerPlayer player,
+            @NotNull final GameBoard board,
+            @NotNull final UserType userType
+    ) {
+        final ComputerMode mode = player.getMode();
+        final AiDecisionEvent event = new AiDecisionEvent();
+        final long start = System.nanoTime();
+        event.begin();
+
+        final int move = player.getBestPlacement(board, userType);
+        this.aiDecisions.recordSince(start);
+
+        event.end();
+        if (event.shouldCommit()) {
+            final SearchResult searchResult = mode == ComputerMode.SEARCH ? player.getLastSearchResult() : null;
+
+            event.mode = mode.name();
+            event.move = move;
+            event.depth = searchResult == null ? 0 : searchResult.getDepth();
+            event.nodes = searchResult == null ? 0 : searchResult.getNodes();
+            event.commit();
+        }
+
+        return move;
+    }
+
+    /**
+     * Misst die Dauer vom Zug des Nutzers bis zum ausgeführten Antwortzug des Computers und schließt das zugehörige
+     * {@link MoveRoundTripEvent} ab.
+     *
+     * @param event               Das Ereignis, welches beim Zug des Nutzers {@link MoveRoundTripEvent#begin()
+     *                            begonnen} wurde.
+     * @param startNanos          Der Zeitpunkt, an dem der Nutzer seinen Zug gemacht hat.
+     * @param round               Die Nummer der Runde.
+     * @param computerDelayMillis Die Verzögerung in Millisekunden, mit der der Computer seinen Zug macht.
+     */
+    public void recordMoveRoundTrip(
+            @NotNull final MoveRoundTripEvent event,
+            final long startNanos,
+            final long round,
+            final long computerDelayMillis
+    ) {
+        this.moveRoundTrips.recordSince(startNanos);
+
+        event.end();
+        if (!event.shouldCommit()) return;
+
+        event.round = round;
+        event.computerDelayMillis = computerDelayMillis;
+        event.commit();
+    }
+
+    /**
+     * Misst die Dauer, die das Zeichnen des Fensters benötigt hat, und schließt das zugehörige {@link PaintEvent} ab.
+     *
+     * @param event      Das Ereignis, welches vor dem Zeichnen {@link PaintEvent#begin() begonnen} wurde.
+     * @param startNanos Der Zeitpunkt, an dem das Zeichnen begonnen hat.
+     * @param width      Die Breite des gezeichneten Bereichs.
+     * @param height     Die Höhe des gezeichneten Bereichs.
+     */
+    public void recordPaint(
+            @NotNull final PaintEvent event,
+            final long startNanos,
+            final int width,
+            final int height
+    ) {
+        this.paints.recordSince(startNanos);
+
+        event.end();
+        if (!event.shouldCommit()) return;
+
+        event.width = width;
+        event.height = height;
+        event.commit();
+    }
+
+    /**
+     * Zählt ein beendetes Spiel und erzeugt ein {@link GameEndEvent}.
+     *
+     * @param board Das Spielfeld des beendeten Spiels.
+     */
+    public void recordGameEnd(@NotNull final GameBoard board) {
+        final UserType winner = board.getWinner();
+
+        this.games.increment();
+        this.moves.add(board.getMoveCount());
+        this.outcomes[winner == null ? UserType.values().length : winner.ordinal()].increment();
+
+        final GameEndEvent event = new GameEndEvent();
+        if (event.shouldCommit()) {
+            event.winner = winner == null ? null : winner.name();
+            event.moves = board.getMoveCount();
+            event.commit();
+        }
+    }
+
+    @Override
+    public long getGames() {
+        return this.games.sum();
+    }
+
+    @Override
+    public long getMoves() {
+        return this.moves.sum();
+    }
+
+    @Override
+    public long getUserWins() {
+        return this.outcomes[UserType.USER.ordinal()].sum();
+    }
+
+    @Override
+    public long getComputerWins() {
+        return this.outcomes[UserType.COMPUTER.ordinal()].sum();
+    }
+
+    @Override
+    public long getDraws() {
+        return this.outcomes[UserType.values().length].sum();
+    }
+
+    /**
+     * Registriert alle Messwerte beim JMX-Server der JVM. Wurden sie bereits registriert, passiert nichts.
+     *
+     * @throws IllegalStateException Wenn die Messwerte nicht registriert werden können.
+     */
+    public static void register() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        try {
+            register(server, "type=GameMetrics", INSTANCE);
+            register(server, "type=Latency,name=aiDecisions", INSTANCE.aiDecisions);
+            register(server, "type=Latency,name=moveRoundTrips", INSTANCE.moveRoundTrips);
+            register(server, "type=Latency,name=paints", INSTANCE.paints);
+            register(server, "type=Latency,name=eventDispatchDelays", INSTANCE.eventDispatchDelays);
+        } catch (@NotNull final JMException e) {
+            throw new IllegalStateException("metrics could not be registered", e);
+        }
+    }
+
+    /**
+     * Registriert die Auslastung und die Trefferquoten einer {@link TranspositionTable} unter einem bestimmten Namen
+     * beim JMX-Server der JVM. Wurde bereits eine Tabelle unter diesem Namen registriert, passiert nichts.
+     *
+     * @param name  Der Name, unter dem die Tabelle registriert wird.
+     * @param table Die Tabelle, die registriert wird.
+     *
+     * @throws IllegalStateException Wenn die Tabelle nicht registriert werden kann.
+     */
+    public static void register(@NotNull final String name, @NotNull final TranspositionTable table) {
+        try {
+            register(ManagementFactory.getPlatformMBeanServer(), "type=TranspositionTable,name=" + name, table);
+        } catch (@NotNull final JMException e) {
+            throw new IllegalStateException("transposition table could not be registered", e);
+        }
+    }
+
+    /**
+     * Registriert ein einzelnes Objekt unter der Domain {@value #DOMAIN}, sofern es noch nicht registriert wurde.
+     *
+     * @param server     Der JMX-Server, bei dem das Objekt registriert wird.
+     * @param properties Die Eigenschaften des Namens, unter dem das Objekt registriert wird.
+     * @param bean       Das Objekt, welches registriert wird.
+     *
+     * @throws JMException Wenn das Objekt nicht registriert werden kann.
+     */
+    private static void register(
+            @NotNull final MBeanServer server,
+            @NotNull final String properties,
+            @NotNull final Object bean
+    ) throws JMException {
+        final ObjectName name = new ObjectName(DOMAIN + ":" + properties);
+        if (!server.isRegistered(name)) server.registerMBean(bean, name);
+    }
+
+}
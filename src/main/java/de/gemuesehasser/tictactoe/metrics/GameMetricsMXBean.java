@@ -0,0 +1,44 @@
+package de.gemuesehasser.tictactoe.metrics;
+
+/**
+ * Die Verwaltungs-Schnittstelle der {@link GameMetrics}, über die alle Zähler mithilfe von JMX (z.B. mit JConsole oder
+ * VisualVM) ausgelesen werden können.
+ */
+public interface GameMetricsMXBean {
+
+    /**
+     * Gibt die Anzahl aller beendeten Spiele zurück.
+     *
+     * @return Die Anzahl aller beendeten Spiele.
+     */
+    long getGames();
+
+    /**
+     * Gibt die Anzahl aller Züge in beendeten Spielen zurück.
+     *
+     * @return Die Anzahl aller Züge in beendeten Spielen.
+     */
+    long getMoves();
+
+    /**
+     * Gibt die Anzahl aller Spiele zurück, die der Nutzer gewonnen hat.
+     *
+     * @return Die Anzahl aller Spiele, die der Nutzer gewonnen hat.
+     */
+    long getUserWins();
+
+    /**
+     * Gibt die Anzahl aller Spiele zurück, die der Computer gewonnen hat.
+     *
+     * @return Die Anzahl aller Spiele, die der Computer gewonnen hat.
+     */
+    long getComputerWins();
+
+    /**
+     * Gibt die Anzahl aller unentschiedenen Spiele zurück.
+     *
+     * @return Die Anzahl aller unentschiedenen Spiele.
+     */
+    long getDraws();
+
+}
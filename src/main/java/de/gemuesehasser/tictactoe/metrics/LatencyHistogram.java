@@ -0,0 +1,222 @@
+package de.gemuesehasser.tictactoe.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ein {@link LatencyHistogram} zählt gemessene Dauern in logarithmisch verteilten Eimern, sodass sich Perzentile mit
+ * einer relativen Genauigkeit von etwa 12% bestimmen lassen, ohne jede Dauer einzeln abzuspeichern. Jede Zweierpotenz
+ * wird dafür in {@value #SUB_BUCKETS} gleich große Eimer unterteilt. Das Messen einer Dauer besteht aus wenigen atomaren
+ * Additionen auf Zählern, die bei gleichzeitigen Zugriffen mehrerer Threads aufgeteilt werden, und blockiert nie,
+ * sodass es auch auf dem Event-Dispatch-Thread genutzt werden kann.
+ */
+public final class LatencyHistogram implements LatencyHistogramMXBean {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an Bits, mit denen eine Zweierpotenz in gleich große Eimer unterteilt wird. */
+    private static final int SUB_BUCKET_BITS = 3;
+    /** Die Anzahl an gleich großen Eimern je Zweierpotenz. */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Die Anzahl aller Eimer, sodass jede positive Dauer in Nanosekunden gezählt werden kann. */
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Anzahl an gemessenen Dauern je Eimer (erst beim ersten Zugriff erzeugt). */
+    @NotNull
+    private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+    /** Die Anzahl aller gemessenen Dauern. */
+    @NotNull
+    private final LongAdder count = new LongAdder();
+    /** Die Summe aller gemessenen Dauern in Nanosekunden. */
+    @NotNull
+    private final LongAdder sum = new LongAdder();
+    /** Die längste gemessene Dauer in Nanosekunden. */
+    @NotNull
+    private final AtomicLong max = new AtomicLong();
+    //</editor-fold>
+
+
+    /**
+     * Zählt eine gemessene Dauer.
+     *
+     * @param nanos Die Dauer in Nanosekunden.
+     */
+    public void record(@Range(from = 0, to = Long.MAX_VALUE) final long nanos) {
+        final long value = Math.max(0, nanos);
+
+        getBucketCounter(getBucket(value)).increment();
+        this.count.increment();
+        this.sum.add(value);
+
+        long currentMax;
+        while (value > (currentMax = this.max.get()) && !this.max.compareAndSet(currentMax, value)) {
+            // retry until the maximum is at least this value
+        }
+    }
+
+    /**
+     * Zählt die Dauer seit einem bestimmten Zeitpunkt.
+     *
+     * @param startNanos Der Zeitpunkt, an dem die Messung begonnen hat, anhand von {@link System#nanoTime()}.
+     *
+     * @return Die gemessene Dauer in Nanosekunden.
+     */
+    public long recordSince(final long startNanos) {
+        final long nanos = System.nanoTime() - startNanos;
+        record(nanos);
+        return nanos;
+    }
+
+    /**
+     * Gibt die Dauer zurück, die von einem bestimmten Anteil aller gemessenen Dauern nicht überschritten wird.
+     *
+     * @param percentile Der Anteil in Prozent.
+     *
+     * @return Die Dauer in Nanosekunden bzw. {@code 0}, wenn noch keine Dauer gemessen wurde.
+     */
+    public long getPercentileNanos(@Range(from = 0, to = 100) final double percentile) {
+        final long total = this.count.sum();
+        if (total == 0) return 0;
+
+        final long target = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            final LongAdder counter = this.buckets.get(bucket);
+            if (counter != null) seen += counter.sum();
+            if (seen >= target) return Math.min(getUpperBound(bucket), this.max.get());
+        }
+
+        return this.max.get();
+    }
+
+    /**
+     * Gibt den Durchschnitt aller gemessenen Dauern zurück.
+     *
+     * @return Der Durchschnitt in Nanosekunden bzw. {@code 0}, wenn noch keine Dauer gemessen wurde.
+     */
+    public long getMeanNanos() {
+        final long total = this.count.sum();
+        return total == 0 ? 0 : this.sum.sum() / total;
+    }
+
+    @Override
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    @Override
+    public long getMeanMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(getMeanNanos());
+    }
+
+    @Override
+    public long getP50Micros() {
+        return TimeUnit.NANOSECONDS.toMicros(getPercentileNanos(50));
+    }
+
+    @Override
+    public long getP90Micros() {
+        return TimeUnit.NANOSECONDS.toMicros(getPercentileNanos(90));
+    }
+
+    @Override
+    public long getP99Micros() {
+        return TimeUnit.NANOSECONDS.toMicros(getPercentileNanos(99));
+    }
+
+    @Override
+    public long getMaxMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(this.max.get());
+    }
+
+    @Override
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            final LongAdder counter = this.buckets.get(bucket);
+            if (counter != null) counter.reset();
+        }
+
+        this.count.reset();
+        this.sum.reset();
+        this.max.set(0);
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return String.format(
+                Locale.ROOT,
+                "count=%d mean=%dus p50=%dus p90=%dus p99=%dus max=%dus",
+                getCount(),
+                getMeanMicros(),
+                getP50Micros(),
+                getP90Micros(),
+                getP99Micros(),
+                getMaxMicros()
+        );
+    }
+
+
+    /**
+     * Gibt den Zähler eines Eimers zurück und erzeugt ihn, falls in diesem Eimer noch nie gezählt wurde.
+     *
+     * @param bucket Der Index des Eimers.
+     *
+     * @return Der Zähler des Eimers.
+     */
+    @NotNull
+    private LongAdder getBucketCounter(final int bucket) {
+        final LongAdder counter = this.buckets.get(bucket);
+        if (counter != null) return counter;
+
+        this.buckets.compareAndSet(bucket, null, new LongAdder());
+        return this.buckets.get(bucket);
+    }
+
+
+    //<editor-fold desc="utility">
+
+    /**
+     * Gibt den Index des Eimers zurück, in dem eine Dauer gezählt wird.
+     *
+     * @param nanos Die Dauer in Nanosekunden.
+     *
+     * @return Der Index des Eimers.
+     */
+    private static int getBucket(final long nanos) {
+        if (nanos < SUB_BUCKETS) return (int) nanos;
+
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        final int subBucket = (int) (nanos >>> exponent - SUB_BUCKET_BITS) & SUB_BUCKETS - 1;
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gibt die größte Dauer zurück, die in einem bestimmten Eimer gezählt wird.
+     *
+     * @param bucket Der Index des Eimers.
+     *
+     * @return Die größte Dauer in Nanosekunden, die in diesem Eimer gezählt wird.
+     */
+    private static long getUpperBound(final int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+
+        final int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final long width = 1L << exponent - SUB_BUCKET_BITS;
+        final long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << exponent - SUB_BUCKET_BITS;
+
+        return lowerBound + width - 1;
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,56 @@
+package de.gemuesehasser.tictactoe.metrics;
+
+/**
+ * Die Verwaltungs-Schnittstelle eines {@link LatencyHistogram}, über die es mithilfe von JMX (z.B. mit JConsole oder
+ * VisualVM) ausgelesen werden kann. Alle Dauern werden in Mikrosekunden angegeben.
+ */
+public interface LatencyHistogramMXBean {
+
+    /**
+     * Gibt die Anzahl aller gemessenen Dauern zurück.
+     *
+     * @return Die Anzahl aller gemessenen Dauern.
+     */
+    long getCount();
+
+    /**
+     * Gibt die durchschnittliche Dauer zurück.
+     *
+     * @return Die durchschnittliche Dauer in Mikrosekunden.
+     */
+    long getMeanMicros();
+
+    /**
+     * Gibt den Median aller gemessenen Dauern zurück.
+     *
+     * @return Der Median in Mikrosekunden.
+     */
+    long getP50Micros();
+
+    /**
+     * Gibt das 90. Perzentil aller gemessenen Dauern zurück.
+     *
+     * @return Das 90. Perzentil in Mikrosekunden.
+     */
+    long getP90Micros();
+
+    /**
+     * Gibt das 99. Perzentil aller gemessenen Dauern zurück.
+     *
+     * @return Das 99. Perzentil in Mikrosekunden.
+     */
+    long getP99Micros();
+
+    /**
+     * Gibt die längste gemessene Dauer zurück.
+     *
+     * @return Die längste Dauer in Mikrosekunden.
+     */
+    long getMaxMicros();
+
+    /**
+     * Verwirft alle bisher gemessenen Dauern.
+     */
+    void reset();
+
+}
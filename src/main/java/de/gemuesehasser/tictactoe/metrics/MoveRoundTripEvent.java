@@ -0,0 +1,29 @@
+package de.gemuesehasser.tictactoe.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Ein {@link MoveRoundTripEvent} wird für den JDK Flight Recorder erzeugt, sobald der Antwortzug des Computers auf einen
+ * Zug des Nutzers ausgeführt wurde. Die Dauer des Ereignisses reicht vom Zug des Nutzers bis zum Antwortzug und enthält
+ * damit die Verzögerung, die Bedenkzeit und die Wartezeit in der Spielschleife.
+ */
+@Name("de.gemuesehasser.tictactoe.MoveRoundTrip")
+@Label("Move Round-Trip")
+@Category("Tic-Tac-Toe")
+@Description("From a user move to the computer's reply being applied")
+public final class MoveRoundTripEvent extends Event {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Nummer der Runde. */
+    @Label("Round")
+    long round;
+    /** Die Verzögerung in Millisekunden, mit der der Computer seinen Zug macht. */
+    @Label("Computer Delay")
+    long computerDelayMillis;
+    //</editor-fold>
+
+}
@@ -0,0 +1,28 @@
+package de.gemuesehasser.tictactoe.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Ein {@link PaintEvent} wird für den JDK Flight Recorder erzeugt, während das Fenster auf dem Event-Dispatch-Thread
+ * gezeichnet wird.
+ */
+@Name("de.gemuesehasser.tictactoe.Paint")
+@Label("Paint")
+@Category("Tic-Tac-Toe")
+@Description("The window is painted on the event dispatch thread")
+public final class PaintEvent extends Event {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Breite des gezeichneten Bereichs. */
+    @Label("Width")
+    int width;
+    /** Die Höhe des gezeichneten Bereichs. */
+    @Label("Height")
+    int height;
+    //</editor-fold>
+
+}
@@ -0,0 +1,285 @@
+package de.gemuesehasser.tictactoe.object;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ein {@link BoardLayout} beschreibt die Form eines quadratischen Spielfeldes und alle Linien, mit denen auf diesem
+ * Spielfeld gewonnen werden kann. Die Linien werden anhand der Größe des Spielfeldes und der Anzahl an Feldern, die für
+ * einen Sieg in einer Reihe liegen müssen, erzeugt. Dabei werden zuerst alle horizontalen, dann alle vertikalen und
+ * zuletzt alle diagonalen Linien erzeugt, sodass die Linien auf einem 3x3 Spielfeld genau in der Reihenfolge der
+ * {@link de.gemuesehasser.tictactoe.constant.CombinationType Kombinationen} vorliegen.
+ *
+ * <p>Der Index eines Feldes ergibt sich aus {@code column * size + row}.</p>
+ *
+ * <p>Zwei {@link BoardLayout BoardLayouts} sind gleich, wenn sie dieselbe Größe und dieselbe Anzahl an Feldern in einer
+ * Reihe besitzen, da sich alle weiteren Eigenschaften allein daraus ergeben.</p>
+ */
+@Getter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public final class BoardLayout {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Das klassische 3x3 Spielfeld, auf dem drei Felder in einer Reihe für einen Sieg benötigt werden. */
+    @NotNull
+    public static final BoardLayout CLASSIC = new BoardLayout(3, 3);
+    /** Der Name der System-Property, mit der die Größe des Spielfeldes beim Starten festgelegt werden kann. */
+    @NotNull
+    public static final String SIZE_PROPERTY_NAME = "tictactoe.size";
+    /** Der Name der System-Property, mit der die Anzahl an Feldern in einer Reihe für einen Sieg festgelegt wird. */
+    @NotNull
+    public static final String WIN_LENGTH_PROPERTY_NAME = "tictactoe.winLength";
+    /** Die Anzahl an Symmetrien eines quadratischen Spielfeldes (vier Drehungen, jeweils mit und ohne Spiegelung). */
+    public static final int SYMMETRY_COUNT = 8;
+    /** Die Anzahl an Feldern, die standardmäßig höchstens für einen Sieg in einer Reihe liegen müssen. */
+    private static final int DEFAULT_MAX_WIN_LENGTH = 5;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Größe des Spielfeldes (size x size). */
+    @EqualsAndHashCode.Include
+    private final int size;
+    /** Die Anzahl an Feldern, die für einen Sieg in einer Reihe liegen müssen. */
+    @EqualsAndHashCode.Include
+    private final int winLength;
+    /** Die Anzahl an Feldern auf dem Spielfeld. */
+    private final int cellCount;
+    /** Alle Linien, mit denen gewonnen werden kann, wobei jede Linie aus den Indizes ihrer Felder besteht. */
+    @NotNull
+    private final int @NotNull [] @NotNull [] lines;
+    /** Für jedes Feld die Indizes aller Linien, die durch dieses Feld verlaufen. */
+    @NotNull
+    private final int @NotNull [] @NotNull [] cellLines;
+    /** Für jede Symmetrie den Index, auf den jedes Feld durch diese Symmetrie abgebildet wird. */
+    @NotNull
+    private final int @NotNull [] @NotNull [] symmetries;
+    /** Für jede Symmetrie die Umkehrung, also den Index, der durch diese Symmetrie auf jedes Feld abgebildet wird. */
+    @NotNull
+    private final int @NotNull [] @NotNull [] inverseSymmetries;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt ein neues {@link BoardLayout} und erzeugt dabei alle Linien, mit denen auf diesem Spielfeld gewonnen werden
+     * kann.
+     *
+     * @param size      Die Größe des Spielfeldes (size x size).
+     * @param winLength Die Anzahl an Feldern, die für einen Sieg in einer Reihe liegen müssen.
+     */
+    public BoardLayout(
+            @Range(from = 1, to = Integer.MAX_VALUE) final int size,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int winLength
+    ) {
+        if (size < 1 || winLength < 1 || winLength > size) {
+            throw new IllegalArgumentException("invalid board layout " + size + "x" + size + " with " + winLength + " in a row");
+        }
+
+        this.size = size;
+        this.winLength = winLength;
+        this.cellCount = size * size;
+
+        final List<int[]> lines = new ArrayList<>();
+        final int starts = size - winLength + 1;
+
+        // horizontal lines
+        for (int column = 0; column < size; column++) {
+            for (int row = 0; row < starts; row++) {
+                lines.add(createLine(row, column, 1, 0));
+            }
+        }
+
+        // vertical lines
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < starts; column++) {
+                lines.add(createLine(row, column, 0, 1));
+            }
+        }
+
+        // diagonal lines from top left to bottom right
+        for (int column = 0; column < starts; column++) {
+            for (int row = 0; row < starts; row++) {
+                lines.add(createLine(row, column, 1, 1));
+            }
+        }
+
+        // diagonal lines from top right to bottom left
+        for (int column = 0; column < starts; column++) {
+            for (int row = winLength - 1; row < size; row++) {
+                lines.add(createLine(row, column, -1, 1));
+            }
+        }
+
+        this.lines = lines.toArray(new int[0][]);
+
+        final int[] cellLineCounts = new int[this.cellCount];
+        for (@NotNull final int[] line : this.lines) {
+            for (final int cell : line) {
+                cellLineCounts[cell]++;
+            }
+        }
+
+        this.cellLines = new int[this.cellCount][];
+        for (int cell = 0; cell < this.cellCount; cell++) {
+            this.cellLines[cell] = new int[cellLineCounts[cell]];
+            cellLineCounts[cell] = 0;
+        }
+
+        for (int line = 0; line < this.lines.length; line++) {
+            for (final int cell : this.lines[line]) {
+                this.cellLines[cell][cellLineCounts[cell]++] = line;
+            }
+        }
+
+        // symmetries of the square (identity, rotations and reflections)
+        this.symmetries = new int[SYMMETRY_COUNT][this.cellCount];
+        this.inverseSymmetries = new int[SYMMETRY_COUNT][this.cellCount];
+        for (int symmetry = 0; symmetry < SYMMETRY_COUNT; symmetry++) {
+            for (int cell = 0; cell < this.cellCount; cell++) {
+                final int image = getSymmetricIndex(symmetry, getRow(cell), getColumn(cell));
+                this.symmetries[symmetry][cell] = image;
+                this.inverseSymmetries[symmetry][image] = cell;
+            }
+        }
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt den Index eines Feldes anhand seiner Zeile und Spalte zurück.
+     *
+     * @param row    Die Zeile des Feldes.
+     * @param column Die Spalte des Feldes.
+     *
+     * @return Der Index des Feldes anhand seiner Zeile und Spalte.
+     */
+    public int getIndex(
+            @Range(from = 0, to = Integer.MAX_VALUE) final int row,
+            @Range(from = 0, to = Integer.MAX_VALUE) final int column
+    ) {
+        return column * this.size + row;
+    }
+
+    /**
+     * Gibt die Zeile eines Feldes anhand seines Index zurück.
+     *
+     * @param index Der Index des Feldes.
+     *
+     * @return Die Zeile des Feldes.
+     */
+    public int getRow(@Range(from = 0, to = Integer.MAX_VALUE) final int index) {
+        return index % this.size;
+    }
+
+    /**
+     * Gibt die Spalte eines Feldes anhand seines Index zurück.
+     *
+     * @param index Der Index des Feldes.
+     *
+     * @return Die Spalte des Feldes.
+     */
+    public int getColumn(@Range(from = 0, to = Integer.MAX_VALUE) final int index) {
+        return index / this.size;
+    }
+
+    /**
+     * Gibt den Index des mittleren Feldes dieses Spielfeldes zurück.
+     *
+     * @return Der Index des mittleren Feldes.
+     */
+    public int getCenterIndex() {
+        return getIndex(this.size / 2, this.size / 2);
+    }
+
+    /**
+     * Prüft, ob dieses {@link BoardLayout} dem klassischen 3x3 Spielfeld entspricht.
+     *
+     * @return Wenn dieses Spielfeld 3x3 groß ist und drei Felder in einer Reihe für einen Sieg benötigt werden
+     *      {@code true}, ansonsten {@code false}.
+     */
+    public boolean isClassic() {
+        return this.size == CLASSIC.size && this.winLength == CLASSIC.winLength;
+    }
+
+    /**
+     * Gibt den Index des Feldes zurück, auf das ein Feld durch eine der acht Symmetrien des quadratischen Spielfeldes
+     * abgebildet wird. Da alle Linien symmetrisch erzeugt werden, wird jede Linie dabei wieder auf eine Linie abgebildet.
+     *
+     * @param symmetry Die Nummer der Symmetrie ({@code 0} ist die Identität).
+     * @param row      Die Zeile des Feldes.
+     * @param column   Die Spalte des Feldes.
+     *
+     * @return Der Index des Feldes, auf das das Feld abgebildet wird.
+     */
+    private int getSymmetricIndex(final int symmetry, final int row, final int column) {
+        final int last = this.size - 1;
+
+        switch (symmetry) {
+            case 0:
+                return getIndex(row, column);
+            case 1:
+                return getIndex(column, last - row);
+            case 2:
+                return getIndex(last - row, last - column);
+            case 3:
+                return getIndex(last - column, row);
+            case 4:
+                return getIndex(last - row, column);
+            case 5:
+                return getIndex(row, last - column);
+            case 6:
+                return getIndex(column, row);
+            default:
+                return getIndex(last - column, last - row);
+        }
+    }
+
+    /**
+     * Erzeugt eine Linie, die von einem bestimmten Feld aus in eine bestimmte Richtung verläuft.
+     *
+     * @param row         Die Zeile des ersten Feldes der Linie.
+     * @param column      Die Spalte des ersten Feldes der Linie.
+     * @param rowStep     Die Veränderung der Zeile von einem Feld der Linie zum nächsten.
+     * @param columnStep  Die Veränderung der Spalte von einem Feld der Linie zum nächsten.
+     *
+     * @return Die Indizes aller Felder der Linie.
+     */
+    @NotNull
+    private int @NotNull [] createLine(final int row, final int column, final int rowStep, final int columnStep) {
+        final int[] line = new int[this.winLength];
+
+        for (int i = 0; i < this.winLength; i++) {
+            line[i] = getIndex(row + i * rowStep, column + i * columnStep);
+        }
+
+        return line;
+    }
+
+    //<editor-fold desc="utility">
+
+    /**
+     * Gibt das {@link BoardLayout} zurück, welches mithilfe der System-Properties {@value #SIZE_PROPERTY_NAME} und
+     * {@value #WIN_LENGTH_PROPERTY_NAME} festgelegt wurde. Sind diese nicht gesetzt, wird das klassische 3x3 Spielfeld
+     * zurückgegeben bzw. auf größeren Spielfeldern werden höchstens {@value #DEFAULT_MAX_WIN_LENGTH} Felder in einer
+     * Reihe für einen Sieg benötigt.
+     *
+     * @return Das {@link BoardLayout}, welches beim Starten festgelegt wurde.
+     */
+    @NotNull
+    public static BoardLayout getConfigured() {
+        final int size = Integer.getInteger(SIZE_PROPERTY_NAME, CLASSIC.size);
+        final int winLength = Integer.getInteger(WIN_LENGTH_PROPERTY_NAME, Math.min(size, DEFAULT_MAX_WIN_LENGTH));
+
+        if (size == CLASSIC.size && winLength == CLASSIC.winLength) return CLASSIC;
+        return new BoardLayout(size, winLength);
+    }
+    //</editor-fold>
+
+}
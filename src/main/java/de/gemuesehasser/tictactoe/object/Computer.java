@@ -1,259 +1,84 @@
 package de.gemuesehasser.tictactoe.object;
 
-import de.gemuesehasser.tictactoe.TicTacToe;
-import de.gemuesehasser.tictactoe.constant.CombinationType;
-import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.DesktopGame;
+import de.gemuesehasser.tictactoe.ai.ComputerPlayer;
+import de.gemuesehasser.tictactoe.ai.SearchResult;
+import de.gemuesehasser.tictactoe.constant.ComputerMode;
 import de.gemuesehasser.tictactoe.gui.GameGui;
-import lombok.Setter;
+import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import java.awt.*;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.TimeUnit;
 
 /**
- * Ein {@link Computer} kann eigenständig den besten Platz zum Setzen herausfinden und dort sein Symbol platzieren.
- * Dabei überprüft der Computer vor und nach jedem seiner Züge, ob das Spiel bereits gewonnen oder unentschieden ist.
+ * Ein {@link Computer} kann eigenständig den besten Platz zum Setzen herausfinden. Die Züge selbst werden von der
+ * {@link de.gemuesehasser.tictactoe.handler.GameLoop Spielschleife} ausgeführt, der {@link Computer} zeichnet lediglich
+ * das Ergebnis einer beendeten Runde und die Kennzahlen seiner letzten Suche.
  */
-@Setter
+@Getter
 public final class Computer implements Drawable {
 
     //<editor-fold desc="CONSTANTS">
-    /** Der Scheduler, wodurch das Platzieren des Computers verzögert wird, um die Darstellung dynamischer zu machen. */
-    @NotNull
-    private static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(1);
+    /** Die Verzögerung in Millisekunden, mit der der Computer ohne Suche platziert. */
+    private static final long PLACE_DELAY_MILLIS = 500;
     //</editor-fold>
 
 
     //<editor-fold desc="LOCAL FIELDS">
-    /** Der Typ der Kombination, mit der ein bestimmter {@link UserType} gewonnen hat (Standardmäßig {@code null}). */
-    @Nullable
-    private CombinationType winCombinationType;
-    /** Der {@link UserType Typ}, der das Spiel zuletzt gewonnen hat ({@code null}, wenn es unentschieden war). */
-    @Nullable
-    private UserType lastGameEndUserType;
-    //</editor-fold>
-
-
-    /**
-     * Platziert das Symbol des Computers an der günstigsten Stelle und prüft sowohl vorher als auch nachher, ob das
-     * Spiel bereits gewonnen bzw. unentschieden ist.
-     */
-    public void place() {
-        SCHEDULER.schedule(() -> {
-            final CombinationType userWinCombination = checkWin(UserType.USER);
-            if (userWinCombination != null) {
-                winCombinationType = userWinCombination;
-                handleGameEnd(UserType.USER);
-                return;
-            }
-
-            if (isIndecisive()) {
-                handleGameEnd(null);
-                return;
-            }
-
-            final Point bestPlace = getBestPlacement();
-            final GameField bestPlaceField = TicTacToe.GAME_FIELD_HANDLER.getField(bestPlace.x, bestPlace.y);
-
-            assert bestPlaceField != null;
-            bestPlaceField.updateUserType(UserType.COMPUTER);
-
-            final CombinationType computerWinCombination = checkWin(UserType.COMPUTER);
-            if (computerWinCombination != null) {
-                winCombinationType = computerWinCombination;
-                handleGameEnd(UserType.COMPUTER);
-                return;
-            }
-
-            if (isIndecisive()) {
-                handleGameEnd(null);
-                return;
-            }
-
-            TicTacToe.setCurrentUserType(UserType.USER);
-        }, 500, TimeUnit.MILLISECONDS);
-    }
-
-
-    /**
-     * Zeigt den Reset-Button und den Text für den Sieg eines bestimmten {@link UserType Typen}. Wenn der
-     * {@link UserType Typ} {@code null} ist, wird das Fenster für ein Unentschieden geöffnet. Außerdem wird der letzte
-     * Gewinner gesetzt, damit beim Neustart des Spiels ermittelt werden kann, wer den ersten Zug machen darf. Sollte
-     * das Spiel unentschieden sein, wird der letzte Gewinner automatisch auf den Typen des Computers gesetzt, damit der
-     * Nutzer den ersten Zug machen darf. Zuletzt wird der Punktestand des jeweiligen Typen des Gewinners um 1
-     * erhöht - sofern das Spiel nicht unentschieden ausgegangen ist. Die Grafik-Instanz des
-     * {@link de.gemuesehasser.tictactoe.gui.GameGui}, welches als Konstante in der Haupt- und Main-Klasse dieser
-     * Anwendung abgespeichert ist, wird aktualisiert, um immer den aktuellen Punktestand anzuzeigen.
-     *
-     * @param userType Der {@link UserType Typ} des Siegers bzw. {@code null} wenn das Spiel unentschieden ist.
-     */
-    private void handleGameEnd(@Nullable final UserType userType) {
-        this.lastGameEndUserType = userType;
-
-        TicTacToe.GAME_GUI.getResetButton().setVisible(true);
-        TicTacToe.GAME_FIELD_HANDLER.setLastWinner(userType == null ? UserType.COMPUTER : userType);
-
-        if (userType != null) userType.incrementPoints();
-
-        TicTacToe.GAME_GUI.repaint();
-    }
-
-    /**
-     * Prüft, ob ein bestimmter {@link UserType Typ} das Spiel gewonnen hat anhand aller Werte des
-     * {@link CombinationType}. Sollte der Typ gewonnen haben, wird der Typ der Kombination zurückgegeben, mit der der
-     * {@link UserType Typ} gewonnen hat.
-     *
-     * @param userType Der {@link UserType Typ}, für den ein Sieg des Spiels überprüft werden soll.
-     *
-     * @return Wenn der {@link UserType Typ} das Spiel gewonnen hat, wird der {@link CombinationType Kombinations-Typ}
-     *      zurückgegeben, ansonsten {@code null}.
-     */
-    @Nullable
-    private CombinationType checkWin(@NotNull final UserType userType) {
-        for (@NotNull final CombinationType combinationType : CombinationType.values()) {
-            boolean win = true;
-
-            for (final Point combinationPoint : combinationType.getCombinationPoints()) {
-                final GameField field = TicTacToe.GAME_FIELD_HANDLER.getField(combinationPoint.x, combinationPoint.y);
-
-                assert field != null;
-                if (field.getUserType() == null || field.getUserType() != userType) {
-                    win = false;
-                    break;
-                }
-            }
-
-            if (win) return combinationType;
-        }
-
-        return null;
-    }
-
-    /**
-     * Prüft, ob alle Felder bereits belegt sind und es keinen Gewinner gibt, also ob das Spiel unentschieden ist.
-     *
-     * @return Wenn alle Felder des Spielfeldes belegt sind und es keinen Gewinner gibt {@code true},
-     *      ansonsten {@code false}.
-     */
-    private boolean isIndecisive() {
-        if (checkWin(UserType.USER) != null || checkWin(UserType.COMPUTER) != null) return false;
-
-        for (@NotNull final GameField field : TicTacToe.GAME_FIELD_HANDLER.getFields()) {
-            if (field.getUserType() == null) return false;
-        }
-
-        return true;
-    }
-
-    /**
-     * Gibt den günstigsten Punkt zum Setzen zurück. Dabei wird zuerst überprüft, ob es einen Punkt gibt, mit dem der
-     * Computer gewinnen kann. Wenn es da keinen Punkt gibt, wird überprüft, ob es einen Punkt gibt, wodurch der Nutzer
-     * gewinnen kann. Sollte es diesen auch nicht geben, wird ein zufälliger Punkt auf dem Spielfeld zurückgegeben.
-     *
-     * @return Der günstigste Punkt zum Setzen.
-     */
+    /** Der Spieler, der anhand seines {@link ComputerMode Modus} den Platz für den nächsten Zug auswählt. */
     @NotNull
-    private Point getBestPlacement() {
-        // check if computer can win
-        final Point computerWinPoint = getWinPoint(UserType.COMPUTER);
-
-        if (computerWinPoint != null) return computerWinPoint;
-
-        // check if user can win
-        final Point userWinPoint = getWinPoint(UserType.USER);
-
-        if (userWinPoint != null) return userWinPoint;
-
-        // check middle field
-        final GameField middleField = TicTacToe.GAME_FIELD_HANDLER.getField(1, 1);
-
-        assert middleField != null;
-        if (middleField.getUserType() == null) return new Point(1, 1);
-
-        // place random
-        final int randomBounds = TicTacToe.GAME_FIELD_HANDLER.getFields().size();
-        GameField randomField;
-
-        do {
-            final int random = ThreadLocalRandom.current().nextInt(randomBounds);
-            randomField = TicTacToe.GAME_FIELD_HANDLER.getField(random % 3, random / 3);
-        } while (randomField == null || randomField.getUserType() != null);
-
-        return new Point(randomField.getRow(), randomField.getColumn());
-    }
-
-    /**
-     * Prüft, ob es einen Punkt gibt, mit dem ein bestimmter {@link UserType Typ} gewinnen kann. Wenn dies der Fall ist,
-     * wird dieser Punkt zurückgegeben, ansonsten {@code null}.
-     *
-     * @param userType Der {@link UserType Typ}, für den überprüft werden soll, ob es einen Punkt gibt, mit dem dieser
-     *                 das Spiel gewinnen kann.
-     * @return Der Punkt, mit dem ein bestimmter {@link UserType Typ} gewinnen kann. Wenn kein entsprechender Punkt
-     * existiert, {@code null}.
-     */
-    @Nullable
-    private Point getWinPoint(@NotNull final UserType userType) {
-        for (@NotNull final CombinationType combinationType : CombinationType.values()) {
-            final Point[] combinationPoints = combinationType.getCombinationPoints();
-            if (isWinCombination(combinationPoints[0], combinationPoints[1], combinationPoints[2], userType))
-                return combinationPoints[2];
-            if (isWinCombination(combinationPoints[0], combinationPoints[2], combinationPoints[1], userType))
-                return combinationPoints[1];
-            if (isWinCombination(combinationPoints[1], combinationPoints[2], combinationPoints[0], userType))
-                return combinationPoints[0];
-        }
+    private final ComputerPlayer player = new ComputerPlayer(ComputerMode.getConfigured());
+    //</editor-fold>
 
-        return null;
-    }
 
     /**
-     * Prüft, ob ein bestimmter {@link UserType Typ} durch einen bestimmten Punkt auf dem Spielfeld gewinnen kann.
+     * Gibt die Verzögerung zurück, mit der der Computer seinen Zug macht, um die Darstellung dynamischer zu machen. Im
+     * {@link ComputerMode#SEARCH Such-Modus} wird der Zug nicht künstlich verzögert, da die Suche ihr Zeitbudget ohnehin
+     * ausschöpft.
      *
-     * @param p1            Der erste Punkt, der schon zu dem {@link UserType Typ} gehören muss.
-     * @param p2            Der zweite Punkt, der schon zu dem {@link UserType Typ} gehören muss.
-     * @param possiblePlace Der Punkt, der überprüft werden soll, ob der {@link UserType Typ} durch diesen gewinnen
-     *                      kann.
-     * @param userType      Der {@link UserType Typ}, für den diese Kombination überprüft werden soll.
-     * @return Wenn die drei übergebenen Punkte so zusammenhängen, dass der Nutzer durch das {@code possiblePlace}
-     * gewinnen kann {@code true}, ansonsten {@code false}.
+     * @return Die Verzögerung in Millisekunden, mit der der Computer seinen Zug macht.
      */
-    private boolean isWinCombination(
-            @NotNull final Point p1,
-            @NotNull final Point p2,
-            @NotNull final Point possiblePlace,
-            @NotNull final UserType userType
-    ) {
-        final GameField field1 = TicTacToe.GAME_FIELD_HANDLER.getField(p1.x, p1.y);
-        final GameField field2 = TicTacToe.GAME_FIELD_HANDLER.getField(p2.x, p2.y);
-        final GameField possibleField = TicTacToe.GAME_FIELD_HANDLER.getField(possiblePlace.x, possiblePlace.y);
-
-        assert field1 != null;
-        assert field2 != null;
-        assert possibleField != null;
-        return field1.getUserType() == userType && field2.getUserType() == userType && possibleField.getUserType() == null;
+    public long getPlaceDelayMillis() {
+        return this.player.getMode() == ComputerMode.SEARCH ? 0 : PLACE_DELAY_MILLIS;
     }
 
     //<editor-fold desc="implementation">
 
     @Override
     public void draw(@NotNull final Graphics2D g) {
-        if (this.winCombinationType == null && !isIndecisive()) return;
+        final GameSnapshot snapshot = DesktopGame.GAME_GUI.getSnapshot();
+        final SearchResult searchResult = snapshot.getLastSearchResult();
+        if (searchResult != null) {
+            g.setFont(DesktopGame.DEFAULT_FONT.deriveFont(12F));
+            g.setColor(Color.LIGHT_GRAY);
+
+            final String summary = searchResult.getSummary();
+            g.drawString(summary, GameGui.WIDTH - 25 - g.getFontMetrics().stringWidth(summary), GameGui.HEIGHT - 50);
+        }
 
-        g.setFont(TicTacToe.DEFAULT_FONT);
-        g.setColor(Color.WHITE);
-        final String text = (lastGameEndUserType == null ? "Es ist unentschieden!" :
-                lastGameEndUserType == UserType.USER ? "Du hast das Spiel gewonnen!" : "Der Computer hat das Spiel gewonnen!");
+        final String text;
+        switch (snapshot.getOutcome()) {
+            case USER_WON:
+                text = "Du hast das Spiel gewonnen!";
+                break;
+            case COMPUTER_WON:
+                text = "Der Computer hat das Spiel gewonnen!";
+                break;
+            case DRAW:
+                text = "Es ist unentschieden!";
+                break;
+            default:
+                return;
+        }
 
+        g.setFont(DesktopGame.DEFAULT_FONT);
+        g.setColor(Color.WHITE);
         g.drawString(text, GameGui.WIDTH / 2 - g.getFontMetrics().stringWidth(text) / 2, 30);
 
-        if (isIndecisive()) return;
+        if (snapshot.getWinner() == null) return;
 
-        for (@NotNull final Point point : this.winCombinationType.getCombinationPoints()) {
-            final GameField field = TicTacToe.GAME_FIELD_HANDLER.getField(point.x, point.y);
+        for (final int cell : snapshot.getLayout().getLines()[snapshot.getWinLine()]) {
+            final GameField field = DesktopGame.GAME_FIELD_HANDLER.getFields()[cell];
 
             assert field != null;
             g.setColor(Color.GREEN);
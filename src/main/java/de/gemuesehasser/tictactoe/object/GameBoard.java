@@ -0,0 +1,468 @@
+package de.gemuesehasser.tictactoe.object;
+
+import de.gemuesehasser.tictactoe.constant.GameOutcome;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.Arrays;
+
+/**
+ * Ein {@link GameBoard} stellt den eigentlichen Zustand eines Spielfeldes mit einem beliebigen {@link BoardLayout} dar.
+ * Die Belegung wird für jeden {@link UserType Typen} als Bitmaske abgespeichert, wobei das Bit mit dem Index eines
+ * Feldes für dieses Feld steht. Zusätzlich wird für jede Linie des {@link BoardLayout} gezählt, wie viele Felder jeder
+ * {@link UserType Typ} auf dieser Linie belegt. Diese Zähler werden bei jedem Zug nur für die Linien aktualisiert, die
+ * durch das belegte Feld verlaufen, wodurch ein Sieg unabhängig von der Größe des Spielfeldes erkannt wird.
+ * <p>
+ * Zusätzlich merkt sich das Spielfeld, welcher {@link UserType Typ} an der Reihe ist. Mit {@link #make(int)} und
+ * {@link #unmake()} wird ein Zug für diesen Typen gemacht bzw. zurückgenommen, ohne dabei Objekte zu erzeugen.
+ * Zurückgenommene Züge bleiben in der Zughistorie erhalten und können mit {@link #redo()} wiederholt werden, bis ein
+ * anderer Zug gemacht wird. Die Zughistorie ist damit durch die Anzahl der Felder begrenzt.
+ * <p>
+ * Der {@link GameOutcome Zustand} der Runde wird bei jedem Zug mitgeführt, sodass sowohl die Suche als auch die
+ * Darstellung ihn lesen können, ohne das Spielfeld erneut zu untersuchen.
+ * <p>
+ * Alle freien Felder werden zusätzlich dicht in einem Array gehalten, aus dem mit {@link #getFreeCell(int)} gelesen
+ * wird. Ein Zug tauscht das belegte Feld an das Ende der freien Felder, das Zurücknehmen tauscht es wieder an seine
+ * alte Position. Dadurch kosten das Aufzählen aller Züge und die Auswahl eines zufälligen Zuges unabhängig davon, wie
+ * voll das Spielfeld ist, gleich viel und die Reihenfolge bleibt erhalten, wenn während des Aufzählens Züge gemacht und
+ * wieder zurückgenommen werden.
+ */
+@Getter
+public final class GameBoard {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Form dieses Spielfeldes und alle Linien, mit denen gewonnen werden kann. */
+    @NotNull
+    private final BoardLayout layout;
+    /** Die Belegung des Spielfeldes je {@link UserType Typ}, wobei der erste Index der Ordinalzahl des Typen entspricht. */
+    @NotNull
+    private final long @NotNull [] @NotNull [] boards;
+    /** Die Anzahl der belegten Felder je {@link UserType Typ} und Linie. */
+    @NotNull
+    private final int @NotNull [] @NotNull [] lineCounts;
+    /** Die Indizes aller belegten Felder in der Reihenfolge, in der sie belegt wurden. */
+    @Getter(AccessLevel.NONE)
+    private final int @NotNull [] moves;
+    /** Die Anzahl aller bereits belegten Felder. */
+    private int moveCount;
+    /** Die Indizes aller Felder, wobei die ersten Einträge (bis zur Anzahl der freien Felder) die freien Felder sind. */
+    @Getter(AccessLevel.NONE)
+    private final int @NotNull [] freeCells;
+    /** Die Position jedes Feldes in {@link #freeCells}, anhand des Index des Feldes. */
+    @Getter(AccessLevel.NONE)
+    private final int @NotNull [] freeCellPositions;
+    /** Die Position, die das Feld jedes Zuges vor diesem Zug in {@link #freeCells} hatte, anhand der Nummer des Zuges. */
+    @Getter(AccessLevel.NONE)
+    private final int @NotNull [] movePositions;
+    /** Die Anzahl aller Züge in der Zughistorie, inklusive der zurückgenommenen Züge, die wiederholt werden können. */
+    @Getter(AccessLevel.NONE)
+    private int historyLength;
+    /** Der {@link UserType Typ}, der den nächsten Zug macht. */
+    @NotNull
+    private UserType turn = UserType.USER;
+    /** Der {@link UserType Typ}, der das Spiel gewonnen hat bzw. {@code null}, wenn es noch keinen Gewinner gibt. */
+    @Nullable
+    private UserType winner;
+    /** Der Index der Linie, mit der das Spiel gewonnen wurde bzw. {@code -1}, wenn es noch keinen Gewinner gibt. */
+    private int winLine = -1;
+    /** Der {@link GameOutcome Zustand} der Runde, der nach jedem Zug aktualisiert wird. */
+    @NotNull
+    private GameOutcome outcome = GameOutcome.IN_PROGRESS;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt ein neues und leeres {@link GameBoard} mit einem bestimmten {@link BoardLayout}.
+     *
+     * @param layout Die Form des Spielfeldes und alle Linien, mit denen gewonnen werden kann.
+     */
+    public GameBoard(@NotNull final BoardLayout layout) {
+        this.layout = layout;
+        this.boards = new long[UserType.values().length][(layout.getCellCount() + Long.SIZE - 1) / Long.SIZE];
+        this.lineCounts = new int[UserType.values().length][layout.getLines().length];
+        this.moves = new int[layout.getCellCount()];
+        this.freeCells = new int[layout.getCellCount()];
+        this.freeCellPositions = new int[layout.getCellCount()];
+        this.movePositions = new int[layout.getCellCount()];
+        resetFreeCells();
+    }
+
+    /**
+     * Erzeugt eine neue und vollständig unabhängige Kopie eines bestehenden {@link GameBoard}.
+     *
+     * @param board Das Spielfeld, welches kopiert werden soll.
+     */
+    public GameBoard(@NotNull final GameBoard board) {
+        this.layout = board.layout;
+        this.boards = new long[board.boards.length][];
+        this.lineCounts = new int[board.lineCounts.length][];
+
+        for (int i = 0; i < this.boards.length; i++) {
+            this.boards[i] = board.boards[i].clone();
+            this.lineCounts[i] = board.lineCounts[i].clone();
+        }
+
+        this.moves = board.moves.clone();
+        this.moveCount = board.moveCount;
+        this.freeCells = board.freeCells.clone();
+        this.freeCellPositions = board.freeCellPositions.clone();
+        this.movePositions = board.movePositions.clone();
+        this.historyLength = board.historyLength;
+        this.turn = board.turn;
+        this.winner = board.winner;
+        this.winLine = board.winLine;
+        this.outcome = board.outcome;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Belegt ein freies Feld mit einem {@link UserType Typen} und aktualisiert die Zähler aller Linien, die durch dieses
+     * Feld verlaufen. Wird dabei eine Linie vollständig belegt, hat der {@link UserType Typ} das Spiel gewonnen. Im
+     * Anschluss ist der Gegenspieler an der Reihe und alle zurückgenommenen Züge können nicht mehr wiederholt werden.
+     *
+     * @param index    Der Index des Feldes, welches belegt werden soll.
+     * @param userType Der {@link UserType Typ}, der das Feld belegen soll.
+     */
+    public void place(
+            @Range(from = 0, to = Integer.MAX_VALUE) final int index,
+            @NotNull final UserType userType
+    ) {
+        apply(index, userType);
+        this.historyLength = this.moveCount;
+    }
+
+    /**
+     * Belegt ein freies Feld mit dem {@link UserType Typen}, der an der Reihe ist.
+     *
+     * @param index Der Index des Feldes, welches belegt werden soll.
+     *
+     * @see #place(int, UserType)
+     */
+    public void make(@Range(from = 0, to = Integer.MAX_VALUE) final int index) {
+        place(index, this.turn);
+    }
+
+    /**
+     * Nimmt den zuletzt gemachten Zug zurück. Im Anschluss ist der {@link UserType Typ}, der diesen Zug gemacht hat,
+     * wieder an der Reihe. Der Zug bleibt in der Zughistorie erhalten und kann mit {@link #redo()} wiederholt werden.
+     *
+     * @return Der Index des Feldes, welches wieder freigegeben wurde.
+     *
+     * @throws IllegalStateException Wenn noch kein Zug gemacht wurde.
+     */
+    public int unmake() {
+        if (this.moveCount == 0) throw new IllegalStateException("there is no move to unmake");
+
+        final int index = this.moves[this.moveCount - 1];
+        remove(index);
+        return index;
+    }
+
+    /**
+     * Wiederholt den zuletzt zurückgenommenen Zug für den {@link UserType Typen}, der an der Reihe ist.
+     *
+     * @return Der Index des Feldes, welches wieder belegt wurde bzw. {@code -1}, wenn es keinen zurückgenommenen Zug
+     *      gibt.
+     */
+    public int redo() {
+        if (!canRedo()) return -1;
+
+        final int index = this.moves[this.moveCount];
+        apply(index, this.turn);
+        return index;
+    }
+
+    /**
+     * Prüft, ob es einen zurückgenommenen Zug gibt, der mit {@link #redo()} wiederholt werden kann.
+     *
+     * @return Wenn es einen zurückgenommenen Zug gibt {@code true}, ansonsten {@code false}.
+     */
+    public boolean canRedo() {
+        return this.historyLength > this.moveCount;
+    }
+
+    /**
+     * Belegt ein freies Feld mit einem {@link UserType Typen}, ohne die Zughistorie zu verändern, und aktualisiert die
+     * Zähler aller Linien, die durch dieses Feld verlaufen.
+     *
+     * @param index    Der Index des Feldes, welches belegt werden soll.
+     * @param userType Der {@link UserType Typ}, der das Feld belegen soll.
+     */
+    private void apply(
+            @Range(from = 0, to = Integer.MAX_VALUE) final int index,
+            @NotNull final UserType userType
+    ) {
+        if (!isEmpty(index)) throw new IllegalStateException("field " + index + " is already occupied");
+
+        final int player = userType.ordinal();
+        this.boards[player][index >>> 6] |= 1L << index;
+        this.movePositions[this.moveCount] = this.freeCellPositions[index];
+        this.moves[this.moveCount++] = index;
+        this.turn = userType.getOpponent();
+
+        // the cell leaves the free cells by swapping places with the last free cell
+        swapFreeCells(this.freeCellPositions[index], this.layout.getCellCount() - this.moveCount);
+
+        final int[] counts = this.lineCounts[player];
+        for (final int line : this.layout.getCellLines()[index]) {
+            if (++counts[line] == this.layout.getWinLength() && this.winner == null) {
+                this.winner = userType;
+                this.winLine = line;
+            }
+        }
+
+        updateOutcome();
+    }
+
+    /**
+     * Gibt ein belegtes Feld wieder frei und macht damit einen Zug rückgängig. Dabei muss es sich um den zuletzt
+     * gemachten Zug handeln, da ein Sieg nur durch den letzten Zug entstanden sein kann. Im Anschluss ist der
+     * {@link UserType Typ}, der das Feld belegt hatte, wieder an der Reihe.
+     *
+     * @param index Der Index des Feldes, welches wieder freigegeben werden soll.
+     */
+    public void remove(@Range(from = 0, to = Integer.MAX_VALUE) final int index) {
+        final UserType userType = getUserType(index);
+        if (userType == null) throw new IllegalStateException("field " + index + " is not occupied");
+        if (this.moves[this.moveCount - 1] != index) throw new IllegalStateException("field " + index + " is not the last move");
+
+        final int player = userType.ordinal();
+        this.boards[player][index >>> 6] &= ~(1L << index);
+        this.moveCount--;
+        this.turn = userType;
+
+        // the cell is still right behind the free cells, so it can be swapped back to its old position
+        swapFreeCells(this.movePositions[this.moveCount], this.layout.getCellCount() - this.moveCount - 1);
+
+        final int[] counts = this.lineCounts[player];
+        for (final int line : this.layout.getCellLines()[index]) {
+            counts[line]--;
+        }
+
+        if (this.winner == userType && counts[this.winLine] < this.layout.getWinLength()) {
+            this.winner = null;
+            this.winLine = -1;
+        }
+
+        updateOutcome();
+    }
+
+    /**
+     * Aktualisiert den {@link GameOutcome Zustand} der Runde anhand des Gewinners und der Anzahl belegter Felder, welche
+     * zuvor bereits durch den letzten Zug aktualisiert wurden.
+     */
+    private void updateOutcome() {
+        if (this.winner != null) {
+            this.outcome = GameOutcome.wonBy(this.winner);
+        } else {
+            this.outcome = isFull() ? GameOutcome.DRAW : GameOutcome.IN_PROGRESS;
+        }
+    }
+
+    /**
+     * Tauscht zwei Felder in {@link #freeCells} und aktualisiert ihre Positionen.
+     *
+     * @param first  Die Position des ersten Feldes.
+     * @param second Die Position des zweiten Feldes.
+     */
+    private void swapFreeCells(final int first, final int second) {
+        final int firstCell = this.freeCells[first];
+        final int secondCell = this.freeCells[second];
+
+        this.freeCells[first] = secondCell;
+        this.freeCells[second] = firstCell;
+        this.freeCellPositions[secondCell] = first;
+        this.freeCellPositions[firstCell] = second;
+    }
+
+    /**
+     * Setzt {@link #freeCells} zurück, sodass alle Felder frei sind und nach ihrem Index sortiert vorliegen.
+     */
+    private void resetFreeCells() {
+        for (int cell = 0; cell < this.freeCells.length; cell++) {
+            this.freeCells[cell] = cell;
+            this.freeCellPositions[cell] = cell;
+        }
+    }
+
+    /**
+     * Gibt die Anzahl der freien Felder zurück, also die Anzahl aller Züge, die noch gemacht werden können.
+     *
+     * @return Die Anzahl der freien Felder.
+     */
+    public int getFreeCellCount() {
+        return this.layout.getCellCount() - this.moveCount;
+    }
+
+    /**
+     * Gibt den Index eines freien Feldes zurück. Alle freien Felder werden aufgezählt, indem diese Methode für alle
+     * Positionen von {@code 0} bis zur {@link #getFreeCellCount() Anzahl der freien Felder} aufgerufen wird. Wird dabei
+     * zwischendurch ein Zug gemacht und wieder zurückgenommen, bleibt die Reihenfolge der freien Felder erhalten.
+     *
+     * @param position Die Position des freien Feldes, die kleiner als die Anzahl der freien Felder sein muss.
+     *
+     * @return Der Index des freien Feldes an dieser Position.
+     */
+    public int getFreeCell(@Range(from = 0, to = Integer.MAX_VALUE) final int position) {
+        return this.freeCells[position];
+    }
+
+    /**
+     * Gibt den Index des Feldes zurück, welches mit einem bestimmten Zug belegt wurde.
+     *
+     * @param move Die Nummer des Zuges, beginnend bei {@code 0}.
+     *
+     * @return Der Index des Feldes, welches mit diesem Zug belegt wurde.
+     */
+    public int getMove(@Range(from = 0, to = Integer.MAX_VALUE) final int move) {
+        return this.moves[move];
+    }
+
+    /**
+     * Gibt den {@link UserType Typen} zurück, der den ersten Zug gemacht hat.
+     *
+     * @return Der {@link UserType Typ}, der den ersten Zug gemacht hat bzw. {@code null}, wenn noch kein Feld belegt ist.
+     */
+    @Nullable
+    public UserType getStarter() {
+        return this.moveCount == 0 ? null : getUserType(this.moves[0]);
+    }
+
+    /**
+     * Gibt alle Felder des Spielfeldes wieder frei und leert die Zughistorie. Im Anschluss ist der
+     * {@link UserType#USER Nutzer} an der Reihe.
+     */
+    public void reset() {
+        reset(UserType.USER);
+    }
+
+    /**
+     * Gibt alle Felder des Spielfeldes wieder frei und leert die Zughistorie.
+     *
+     * @param starter Der {@link UserType Typ}, der im Anschluss an der Reihe ist.
+     */
+    public void reset(@NotNull final UserType starter) {
+        for (int i = 0; i < this.boards.length; i++) {
+            Arrays.fill(this.boards[i], 0L);
+            Arrays.fill(this.lineCounts[i], 0);
+        }
+
+        this.moveCount = 0;
+        this.historyLength = 0;
+        resetFreeCells();
+        this.turn = starter;
+        this.winner = null;
+        this.winLine = -1;
+        this.outcome = GameOutcome.IN_PROGRESS;
+    }
+
+    /**
+     * Gibt den {@link UserType Typen} zurück, der ein bestimmtes Feld belegt.
+     *
+     * @param index Der Index des Feldes.
+     *
+     * @return Der {@link UserType Typ}, der das Feld belegt bzw. {@code null}, wenn das Feld noch nicht belegt ist.
+     */
+    @Nullable
+    public UserType getUserType(@Range(from = 0, to = Integer.MAX_VALUE) final int index) {
+        final long bit = 1L << index;
+
+        for (@NotNull final UserType userType : UserType.values()) {
+            if ((this.boards[userType.ordinal()][index >>> 6] & bit) != 0) return userType;
+        }
+
+        return null;
+    }
+
+    /**
+     * Prüft, ob ein bestimmtes Feld noch von keinem {@link UserType Typen} belegt ist.
+     *
+     * @param index Der Index des Feldes.
+     *
+     * @return Wenn das Feld noch frei ist {@code true}, ansonsten {@code false}.
+     */
+    public boolean isEmpty(@Range(from = 0, to = Integer.MAX_VALUE) final int index) {
+        final int word = index >>> 6;
+        final long bit = 1L << index;
+
+        for (@NotNull final long[] board : this.boards) {
+            if ((board[word] & bit) != 0) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Gibt die Bitmaske aller Felder zurück, die ein bestimmter {@link UserType Typ} belegt. Diese Bitmaske ist nur dann
+     * vollständig, wenn das Spielfeld aus höchstens 64 Feldern besteht.
+     *
+     * @param userType Der {@link UserType Typ}, dessen Felder zurückgegeben werden sollen.
+     *
+     * @return Die Bitmaske aller Felder, die der {@link UserType Typ} belegt.
+     */
+    public long getBoard(@NotNull final UserType userType) {
+        return this.boards[userType.ordinal()][0];
+    }
+
+    /**
+     * Prüft, ob alle Felder des Spielfeldes belegt sind.
+     *
+     * @return Wenn alle Felder belegt sind {@code true}, ansonsten {@code false}.
+     */
+    public boolean isFull() {
+        return this.moveCount == this.layout.getCellCount();
+    }
+
+    /**
+     * Prüft, ob alle Felder bereits belegt sind und es keinen Gewinner gibt, also ob das Spiel unentschieden ist.
+     *
+     * @return Wenn alle Felder des Spielfeldes belegt sind und es keinen Gewinner gibt {@code true},
+     *      ansonsten {@code false}.
+     */
+    public boolean isIndecisive() {
+        return this.outcome == GameOutcome.DRAW;
+    }
+
+    /**
+     * Prüft, ob die Runde beendet ist, also ob es einen Gewinner gibt oder alle Felder belegt sind.
+     *
+     * @return Wenn die Runde beendet ist {@code true}, ansonsten {@code false}.
+     */
+    public boolean isOver() {
+        return this.outcome != GameOutcome.IN_PROGRESS;
+    }
+
+    /**
+     * Sucht ein freies Feld, mit dem ein bestimmter {@link UserType Typ} mit seinem nächsten Zug gewinnen kann. Dafür
+     * wird eine Linie gesucht, auf der nur noch ein Feld fehlt und die der Gegenspieler noch nicht belegt hat.
+     *
+     * @param userType Der {@link UserType Typ}, für den überprüft werden soll, ob es ein Feld gibt, mit dem dieser das
+     *                 Spiel gewinnen kann.
+     *
+     * @return Der Index des Feldes, mit dem der {@link UserType Typ} gewinnen kann. Wenn kein entsprechendes Feld
+     *      existiert, {@code -1}.
+     */
+    public int getWinIndex(@NotNull final UserType userType) {
+        final int[] ownCounts = this.lineCounts[userType.ordinal()];
+        final int[] opponentCounts = this.lineCounts[userType.getOpponent().ordinal()];
+        final int missing = this.layout.getWinLength() - 1;
+
+        for (int line = 0; line < ownCounts.length; line++) {
+            if (ownCounts[line] != missing || opponentCounts[line] != 0) continue;
+
+            for (final int cell : this.layout.getLines()[line]) {
+                if (isEmpty(cell)) return cell;
+            }
+        }
+
+        return -1;
+    }
+
+}
@@ -1,7 +1,7 @@
 package de.gemuesehasser.tictactoe.object;
 
 import de.gemuesehasser.tictactoe.constant.UserType;
-import de.gemuesehasser.tictactoe.gui.GameGui;
+import de.gemuesehasser.tictactoe.gui.IconCache;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
@@ -11,7 +11,8 @@ import org.jetbrains.annotations.Range;
 import javax.swing.*;
 
 /**
- * Ein {@link GameField} stellt ein Feld auf dem Spielfeld dar, welches im Hintergrund abgespeichert wird.
+ * Ein {@link GameField} stellt ein Feld auf dem Spielfeld dar. Die eigentliche Belegung wird im {@link GameBoard}
+ * abgespeichert, ein {@link GameField} ist nur die Darstellung dieses Feldes in dem Fenster.
  */
 @Getter
 @RequiredArgsConstructor
@@ -19,34 +20,28 @@ public final class GameField {
 
     //<editor-fold desc="LOCAL FIELDS">
     /** Die Zeile, in der sich dieses Feld auf dem Spielfeld befindet. */
-    @Range(from = 0, to = GameGui.GAME_SIZE - 1)
+    @Range(from = 0, to = Integer.MAX_VALUE)
     private final int row;
     /** Die Spalte, in der sich dieses Feld auf dem Spielfeld befindet. */
-    @Range(from = 0, to = GameGui.GAME_SIZE - 1)
+    @Range(from = 0, to = Integer.MAX_VALUE)
     private final int column;
     /** Der Button, der dieses Feld auf dem Spielfeld in dem Fenster repräsentiert. */
     @NotNull
     private final JButton button;
-    /** Der Typ des Benutzers, welcher dieses Feld belegt bzw. {@code null}, wenn dieses Feld noch nicht belegt ist. */
-    @Nullable
-    private UserType userType;
     //</editor-fold>
 
 
     /**
-     * Aktualisiert den Typen des Benutzers, der dieses Feld belegt.
+     * Aktualisiert die Darstellung dieses Feldes anhand des Typen des Benutzers, der dieses Feld belegt. Das Icon wird
+     * dabei aus dem {@link IconCache} genommen und von allen Feldern mit derselben Größe geteilt.
      *
-     * @param userType Der neue Typ des Benutzers, der dieses Feld belegen soll.
+     * @param userType Der Typ des Benutzers, der dieses Feld belegt bzw. {@code null}, wenn es frei ist.
      */
-    public void updateUserType(@Nullable final UserType userType) {
-        this.userType = userType;
-
-        if (userType == null) {
-            this.button.setIcon(null);
-            return;
-        }
-
-        this.button.setIcon(new ImageIcon(userType.getImage()));
+    public void updateIcon(@Nullable final UserType userType) {
+        this.button.setIcon(userType == null
+                ? null
+                : IconCache.getIcon(userType, this.button.getWidth(), this.button.getGraphicsConfiguration())
+        );
     }
 
 }
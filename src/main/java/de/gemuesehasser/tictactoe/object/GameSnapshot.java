@@ -0,0 +1,144 @@
+package de.gemuesehasser.tictactoe.object;
+
+import de.gemuesehasser.tictactoe.ai.SearchResult;
+import de.gemuesehasser.tictactoe.constant.GameOutcome;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+/**
+ * Ein {@link GameSnapshot} ist eine unveränderliche Momentaufnahme des gesamten Spielzustandes, die nach jeder
+ * Änderung durch die {@link de.gemuesehasser.tictactoe.handler.GameLoop Spielschleife} erzeugt wird. Da sich eine
+ * Momentaufnahme nicht mehr verändert, kann sie von beliebigen Threads - insbesondere beim Zeichnen - gelesen werden,
+ * ohne dass sie mit der Spielschleife synchronisiert werden muss.
+ */
+@Getter
+public final class GameSnapshot {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Nummer der Runde, zu der diese Momentaufnahme gehört. */
+    private final long round;
+    /** Die Form des Spielfeldes. */
+    @NotNull
+    private final BoardLayout layout;
+    /** Die Belegung aller Felder anhand ihres Index ({@code null}, wenn ein Feld frei ist). */
+    @Getter(AccessLevel.NONE)
+    @Nullable
+    private final UserType @NotNull [] cells;
+    /** Der {@link UserType Typ}, der an der Reihe ist bzw. {@code null}, wenn die Runde beendet ist. */
+    @Nullable
+    private final UserType currentUserType;
+    /** Der {@link GameOutcome Zustand} der Runde, wie er vom Spielfeld mitgeführt wurde. */
+    @NotNull
+    private final GameOutcome outcome;
+    /** Der Index der Linie, mit der die Runde gewonnen wurde bzw. {@code -1}, wenn es keinen Gewinner gibt. */
+    private final int winLine;
+    /** Die Anzahl an gewonnenen Runden je {@link UserType Typ}, anhand ihrer Ordinalzahl. */
+    @Getter(AccessLevel.NONE)
+    private final int @NotNull [] points;
+    /** Das Ergebnis der letzten Suche des Computers bzw. {@code null}, wenn noch nicht gesucht wurde. */
+    @Nullable
+    private final SearchResult lastSearchResult;
+    /** Ob der letzte Zug des Nutzers (und die Antwort des Computers) zurückgenommen werden kann. */
+    private final boolean undoable;
+    /** Ob ein zurückgenommener Zug des Nutzers (und die Antwort des Computers) wiederholt werden kann. */
+    private final boolean redoable;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue {@link GameSnapshot Momentaufnahme} eines Spielfeldes und kopiert dabei alle veränderlichen
+     * Informationen.
+     *
+     * @param round            Die Nummer der Runde, zu der diese Momentaufnahme gehört.
+     * @param board            Das Spielfeld, von dem die Momentaufnahme erzeugt wird.
+     * @param currentUserType  Der {@link UserType Typ}, der an der Reihe ist.
+     * @param points           Die Anzahl an gewonnenen Runden je {@link UserType Typ}, anhand ihrer Ordinalzahl.
+     * @param lastSearchResult Das Ergebnis der letzten Suche des Computers.
+     * @param undoable         Ob der letzte Zug des Nutzers zurückgenommen werden kann.
+     * @param redoable         Ob ein zurückgenommener Zug des Nutzers wiederholt werden kann.
+     */
+    public GameSnapshot(
+            @Range(from = 0, to = Long.MAX_VALUE) final long round,
+            @NotNull final GameBoard board,
+            @NotNull final UserType currentUserType,
+            final int @NotNull [] points,
+            @Nullable final SearchResult lastSearchResult,
+            final boolean undoable,
+            final boolean redoable
+    ) {
+        this.round = round;
+        this.layout = board.getLayout();
+        this.cells = new UserType[this.layout.getCellCount()];
+        for (int cell = 0; cell < this.cells.length; cell++) {
+            this.cells[cell] = board.getUserType(cell);
+        }
+
+        this.outcome = board.getOutcome();
+        this.winLine = board.getWinLine();
+        this.currentUserType = isOver() ? null : currentUserType;
+        this.points = points.clone();
+        this.lastSearchResult = lastSearchResult;
+        this.undoable = undoable;
+        this.redoable = redoable;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt den {@link UserType Typen} zurück, der ein bestimmtes Feld belegt.
+     *
+     * @param index Der Index des Feldes.
+     *
+     * @return Der {@link UserType Typ}, der das Feld belegt bzw. {@code null}, wenn das Feld noch nicht belegt ist.
+     */
+    @Nullable
+    public UserType getUserType(@Range(from = 0, to = Integer.MAX_VALUE) final int index) {
+        return this.cells[index];
+    }
+
+    /**
+     * Gibt die Anzahl an gewonnenen Runden eines bestimmten {@link UserType Typen} zurück.
+     *
+     * @param userType Der {@link UserType Typ}, dessen Punkte zurückgegeben werden sollen.
+     *
+     * @return Die Anzahl an gewonnenen Runden des {@link UserType Typen}.
+     */
+    public int getPoints(@NotNull final UserType userType) {
+        return this.points[userType.ordinal()];
+    }
+
+    /**
+     * Gibt den {@link UserType Typen} zurück, der die Runde gewonnen hat.
+     *
+     * @return Der {@link UserType Typ}, der die Runde gewonnen hat bzw. {@code null}, wenn es keinen Gewinner gibt.
+     */
+    @Nullable
+    public UserType getWinner() {
+        return this.outcome.getWinner();
+    }
+
+    /**
+     * Prüft, ob die Runde unentschieden ausgegangen ist.
+     *
+     * @return Wenn die Runde unentschieden ist {@code true}, ansonsten {@code false}.
+     */
+    public boolean isIndecisive() {
+        return this.outcome == GameOutcome.DRAW;
+    }
+
+    /**
+     * Prüft, ob die Runde gewonnen oder unentschieden ist.
+     *
+     * @return Wenn die Runde beendet ist {@code true}, ansonsten {@code false}.
+     */
+    public boolean isOver() {
+        return this.outcome.isOver();
+    }
+
+}
@@ -1,6 +1,9 @@
 package de.gemuesehasser.tictactoe.object;
 
+import de.gemuesehasser.tictactoe.metrics.GameMetrics;
+import de.gemuesehasser.tictactoe.metrics.PaintEvent;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Range;
 
 import javax.swing.*;
@@ -19,6 +22,9 @@ public class Gui extends JFrame {
     /** Alle {@link Drawable Objekte}, dessen Grafik-Implementation auf dieses Fenster gezeichnet wird. */
     @NotNull
     private final List<Drawable> drawables = new ArrayList<>();
+    /** Das Zeichen-Objekt dieses Fensters ({@code null}, bis das Fenster geöffnet wurde). */
+    @Nullable
+    private Draw draw;
     //</editor-fold>
 
 
@@ -54,9 +60,9 @@ public class Gui extends JFrame {
      * Fenster.
      */
     public void open() {
-        final Draw draw = new Draw();
-        draw.setBounds(0, 0, super.getWidth(), super.getHeight());
-        super.add(draw);
+        this.draw = new Draw();
+        this.draw.setBounds(0, 0, super.getWidth(), super.getHeight());
+        super.add(this.draw);
 
         super.setVisible(true);
     }
@@ -71,6 +77,18 @@ public class Gui extends JFrame {
     }
 
 
+    /**
+     * Zeichnet nur einen bestimmten Bereich des Zeichen-Objekts dieses Fensters neu. Alle {@link Drawable Objekte}
+     * werden dabei auf diesen Bereich beschränkt, sodass Änderungen an einzelnen Stellen nicht das gesamte Fenster neu
+     * zeichnen.
+     *
+     * @param region Der Bereich, der neu gezeichnet werden soll, in den Koordinaten des Zeichen-Objekts.
+     */
+    protected void repaintRegion(@NotNull final Rectangle region) {
+        if (this.draw != null) this.draw.repaint(region);
+    }
+
+
     //<editor-fold desc="Draw">
 
     /**
@@ -82,6 +100,10 @@ public class Gui extends JFrame {
         //<editor-fold desc="implementation">
         @Override
         protected void paintComponent(@NotNull final Graphics g) {
+            final PaintEvent event = new PaintEvent();
+            final long start = System.nanoTime();
+            event.begin();
+
             super.paintComponent(g);
 
             final Graphics2D g2d = (Graphics2D) g;
@@ -91,6 +113,14 @@ public class Gui extends JFrame {
             for (final Drawable drawable : drawables) {
                 drawable.draw(g2d);
             }
+
+            final Rectangle clip = g.getClipBounds();
+            GameMetrics.INSTANCE.recordPaint(
+                    event,
+                    start,
+                    clip == null ? getWidth() : clip.width,
+                    clip == null ? getHeight() : clip.height
+            );
         }
         //</editor-fold>
     }
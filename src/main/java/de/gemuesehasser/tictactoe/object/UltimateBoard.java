@@ -0,0 +1,338 @@
+package de.gemuesehasser.tictactoe.object;
+
+import de.gemuesehasser.tictactoe.constant.CombinationType;
+import de.gemuesehasser.tictactoe.constant.GameOutcome;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.Arrays;
+
+/**
+ * Ein {@link UltimateBoard} stellt den Zustand eines Spielfeldes für Ultimate Tic-Tac-Toe dar. Das Spielfeld besteht
+ * aus neun klassischen 3x3 Spielfeldern, die selbst wieder als 3x3 Spielfeld angeordnet sind. Das Feld, welches ein
+ * {@link UserType Typ} auf einem kleinen Spielfeld belegt, legt fest, auf welchem kleinen Spielfeld der Gegenspieler
+ * seinen nächsten Zug machen muss. Ist dieses Spielfeld bereits gewonnen oder voll, darf der Gegenspieler ein
+ * beliebiges freies Feld wählen. Wer drei kleine Spielfelder in einer Reihe gewinnt, gewinnt das gesamte Spiel.
+ * <p>
+ * Sowohl die kleinen Spielfelder als auch das große Spielfeld werden als 9-Bit-Maske je {@link UserType Typ}
+ * abgespeichert, wobei die Bits wie bei einem {@link BoardLayout#CLASSIC klassischen Spielfeld} angeordnet sind. Ein
+ * Sieg wird auf beiden Ebenen mit denselben {@link CombinationType Kombinationen} erkannt, die einmalig für alle 512
+ * möglichen Masken in einer Tabelle nachgeschlagen werden. Ein Zug wird als Index von {@code 0} bis {@code 80}
+ * angegeben, der sich aus dem Index des kleinen Spielfeldes und dem Index des Feldes darin zusammensetzt (siehe
+ * {@link #getMove(int, int)}).
+ */
+@Getter
+public final class UltimateBoard {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an Feldern eines kleinen Spielfeldes bzw. die Anzahl an kleinen Spielfeldern. */
+    public static final int BOARD_CELLS = 9;
+    /** Die Anzahl aller Felder auf dem gesamten Spielfeld und damit auch die maximale Anzahl an Zügen. */
+    public static final int CELL_COUNT = BOARD_CELLS * BOARD_CELLS;
+    /** Die Anzahl an Feldern in einer Zeile bzw. Spalte des gesamten Spielfeldes. */
+    public static final int SIZE = 9;
+    /** Die Bitmaske eines vollständig belegten kleinen Spielfeldes. */
+    private static final int FULL_MASK = (1 << BOARD_CELLS) - 1;
+    /**
+     * Die Ordinalzahl der ersten {@link CombinationType Kombination}, die in einer 9-Bit-Maske vollständig enthalten
+     * ist bzw. {@code -1}, wenn keine enthalten ist, anhand der Maske.
+     */
+    @NotNull
+    private static final byte @NotNull [] WIN_LINES = new byte[FULL_MASK + 1];
+    //</editor-fold>
+
+
+    static {
+        Arrays.fill(WIN_LINES, (byte) -1);
+
+        for (int mask = FULL_MASK; mask >= 0; mask--) {
+            for (@NotNull final CombinationType combination : CombinationType.values()) {
+                if ((mask & combination.getMask()) != combination.getMask()) continue;
+
+                WIN_LINES[mask] = (byte) combination.ordinal();
+                break;
+            }
+        }
+    }
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Belegung aller kleinen Spielfelder je {@link UserType Typ}, anhand der Ordinalzahl und des Spielfeldes. */
+    @Getter(AccessLevel.NONE)
+    private final int @NotNull [] @NotNull [] boards = new int[UserType.values().length][BOARD_CELLS];
+    /** Die kleinen Spielfelder, die jeder {@link UserType Typ} gewonnen hat, anhand der Ordinalzahl. */
+    @Getter(AccessLevel.NONE)
+    private final int @NotNull [] metaBoards = new int[UserType.values().length];
+    /** Die Indizes aller Felder in der Reihenfolge, in der sie belegt wurden. */
+    @Getter(AccessLevel.NONE)
+    private final int @NotNull [] moves = new int[CELL_COUNT];
+    /** Die Bitmaske aller kleinen Spielfelder, die gewonnen oder voll sind. */
+    private int closedBoards;
+    /** Der Index des kleinen Spielfeldes, auf dem der nächste Zug gemacht werden muss bzw. {@code -1}, wenn frei. */
+    private int forcedBoard = -1;
+    /** Die Anzahl aller bereits belegten Felder. */
+    private int moveCount;
+    /** Der {@link UserType Typ}, der den nächsten Zug macht. */
+    @NotNull
+    private UserType turn = UserType.USER;
+    /** Der {@link GameOutcome Zustand} des gesamten Spiels, der nach jedem Zug aktualisiert wird. */
+    @NotNull
+    private GameOutcome outcome = GameOutcome.IN_PROGRESS;
+    /**
+     * Die Ordinalzahl der {@link CombinationType Kombination} kleiner Spielfelder, mit der das Spiel gewonnen wurde
+     * bzw. {@code -1}, wenn es noch keinen Gewinner gibt.
+     */
+    private int winLine = -1;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt ein neues und leeres {@link UltimateBoard}, auf dem der {@link UserType#USER Nutzer} beginnt.
+     */
+    public UltimateBoard() {
+    }
+
+    /**
+     * Erzeugt eine neue und vollständig unabhängige Kopie eines bestehenden {@link UltimateBoard}.
+     *
+     * @param board Das Spielfeld, welches kopiert werden soll.
+     */
+    public UltimateBoard(@NotNull final UltimateBoard board) {
+        copyFrom(board);
+    }
+    //</editor-fold>
+
+
+    /**
+     * Übernimmt den vollständigen Zustand eines anderen Spielfeldes, ohne dabei neue Objekte zu erzeugen.
+     *
+     * @param board Das Spielfeld, dessen Zustand übernommen werden soll.
+     */
+    public void copyFrom(@NotNull final UltimateBoard board) {
+        for (int i = 0; i < this.boards.length; i++) {
+            System.arraycopy(board.boards[i], 0, this.boards[i], 0, BOARD_CELLS);
+        }
+
+        System.arraycopy(board.metaBoards, 0, this.metaBoards, 0, this.metaBoards.length);
+        System.arraycopy(board.moves, 0, this.moves, 0, board.moveCount);
+        this.closedBoards = board.closedBoards;
+        this.forcedBoard = board.forcedBoard;
+        this.moveCount = board.moveCount;
+        this.turn = board.turn;
+        this.outcome = board.outcome;
+        this.winLine = board.winLine;
+    }
+
+    /**
+     * Gibt alle Felder wieder frei.
+     *
+     * @param starter Der {@link UserType Typ}, der im Anschluss an der Reihe ist.
+     */
+    public void reset(@NotNull final UserType starter) {
+        for (@NotNull final int[] board : this.boards) {
+            Arrays.fill(board, 0);
+        }
+
+        Arrays.fill(this.metaBoards, 0);
+        this.closedBoards = 0;
+        this.forcedBoard = -1;
+        this.moveCount = 0;
+        this.turn = starter;
+        this.outcome = GameOutcome.IN_PROGRESS;
+        this.winLine = -1;
+    }
+
+    /**
+     * Belegt ein freies Feld mit dem {@link UserType Typen}, der an der Reihe ist. Gewinnt er damit das kleine
+     * Spielfeld, wird überprüft, ob er damit auch das gesamte Spiel gewonnen hat. Im Anschluss ist der Gegenspieler auf
+     * dem kleinen Spielfeld an der Reihe, dessen Index dem Index des belegten Feldes entspricht.
+     *
+     * @param move Der Index des Feldes, welches belegt werden soll.
+     *
+     * @throws IllegalStateException Wenn das Feld in der aktuellen Stellung nicht belegt werden darf.
+     */
+    public void place(@Range(from = 0, to = CELL_COUNT - 1) final int move) {
+        if (!isLegal(move)) throw new IllegalStateException("move " + move + " is not legal");
+
+        final int board = move / BOARD_CELLS;
+        final int cell = move % BOARD_CELLS;
+        final int player = this.turn.ordinal();
+        final int mask = this.boards[player][board] |= 1 << cell;
+
+        this.moves[this.moveCount++] = move;
+
+        if (WIN_LINES[mask] >= 0) {
+            this.closedBoards |= 1 << board;
+
+            final int meta = this.metaBoards[player] |= 1 << board;
+            if (WIN_LINES[meta] >= 0) {
+                this.winLine = WIN_LINES[meta];
+                this.outcome = GameOutcome.wonBy(this.turn);
+            }
+        } else if ((mask | this.boards[this.turn.getOpponent().ordinal()][board]) == FULL_MASK) {
+            this.closedBoards |= 1 << board;
+        }
+
+        if (this.outcome == GameOutcome.IN_PROGRESS && this.closedBoards == FULL_MASK) this.outcome = GameOutcome.DRAW;
+
+        this.forcedBoard = (this.closedBoards & 1 << cell) == 0 ? cell : -1;
+        this.turn = this.turn.getOpponent();
+    }
+
+    /**
+     * Prüft, ob ein Feld in der aktuellen Stellung belegt werden darf.
+     *
+     * @param move Der Index des Feldes.
+     *
+     * @return Wenn das Feld belegt werden darf {@code true}, ansonsten {@code false}.
+     */
+    public boolean isLegal(final int move) {
+        if (move < 0 || move >= CELL_COUNT || this.outcome != GameOutcome.IN_PROGRESS) return false;
+
+        final int board = move / BOARD_CELLS;
+        if (this.forcedBoard >= 0 ? board != this.forcedBoard : (this.closedBoards & 1 << board) != 0) return false;
+
+        return ((this.boards[0][board] | this.boards[1][board]) & 1 << move % BOARD_CELLS) == 0;
+    }
+
+    /**
+     * Schreibt alle Felder, die in der aktuellen Stellung belegt werden dürfen, in ein Array.
+     *
+     * @param target Das Array, in das die Indizes aller erlaubten Züge geschrieben werden (mindestens
+     *               {@value #CELL_COUNT} Einträge).
+     *
+     * @return Die Anzahl der erlaubten Züge.
+     */
+    public int getLegalMoves(final int @NotNull [] target) {
+        if (this.outcome != GameOutcome.IN_PROGRESS) return 0;
+
+        if (this.forcedBoard >= 0) return addFreeCells(target, 0, this.forcedBoard);
+
+        int count = 0;
+        for (int board = 0; board < BOARD_CELLS; board++) {
+            if ((this.closedBoards & 1 << board) == 0) count = addFreeCells(target, count, board);
+        }
+
+        return count;
+    }
+
+    /**
+     * Schreibt alle freien Felder eines kleinen Spielfeldes in ein Array.
+     *
+     * @param target Das Array, in das die Indizes aller freien Felder geschrieben werden.
+     * @param count  Die Anzahl an Einträgen, die bereits in dem Array stehen.
+     * @param board  Der Index des kleinen Spielfeldes.
+     *
+     * @return Die Anzahl an Einträgen, die anschließend in dem Array stehen.
+     */
+    private int addFreeCells(final int @NotNull [] target, final int count, final int board) {
+        int free = ~(this.boards[0][board] | this.boards[1][board]) & FULL_MASK;
+        int added = count;
+
+        while (free != 0) {
+            target[added++] = board * BOARD_CELLS + Integer.numberOfTrailingZeros(free);
+            free &= free - 1;
+        }
+
+        return added;
+    }
+
+    /**
+     * Gibt den {@link UserType Typen} zurück, der ein bestimmtes Feld belegt.
+     *
+     * @param move Der Index des Feldes.
+     *
+     * @return Der {@link UserType Typ}, der das Feld belegt bzw. {@code null}, wenn das Feld noch nicht belegt ist.
+     */
+    @Nullable
+    public UserType getUserType(@Range(from = 0, to = CELL_COUNT - 1) final int move) {
+        final int bit = 1 << move % BOARD_CELLS;
+
+        for (@NotNull final UserType userType : UserType.values()) {
+            if ((this.boards[userType.ordinal()][move / BOARD_CELLS] & bit) != 0) return userType;
+        }
+
+        return null;
+    }
+
+    /**
+     * Gibt den {@link UserType Typen} zurück, der ein bestimmtes kleines Spielfeld gewonnen hat.
+     *
+     * @param board Der Index des kleinen Spielfeldes.
+     *
+     * @return Der {@link UserType Typ}, der das kleine Spielfeld gewonnen hat bzw. {@code null}, wenn es noch keinen
+     *      Gewinner gibt.
+     */
+    @Nullable
+    public UserType getBoardWinner(@Range(from = 0, to = BOARD_CELLS - 1) final int board) {
+        for (@NotNull final UserType userType : UserType.values()) {
+            if ((this.metaBoards[userType.ordinal()] & 1 << board) != 0) return userType;
+        }
+
+        return null;
+    }
+
+    /**
+     * Prüft, ob auf einem bestimmten kleinen Spielfeld im nächsten Zug ein Feld belegt werden darf.
+     *
+     * @param board Der Index des kleinen Spielfeldes.
+     *
+     * @return Wenn auf dem kleinen Spielfeld ein Feld belegt werden darf {@code true}, ansonsten {@code false}.
+     */
+    public boolean isPlayable(@Range(from = 0, to = BOARD_CELLS - 1) final int board) {
+        if (this.outcome != GameOutcome.IN_PROGRESS) return false;
+        return this.forcedBoard >= 0 ? board == this.forcedBoard : (this.closedBoards & 1 << board) == 0;
+    }
+
+    /**
+     * Gibt den Index des Feldes zurück, welches mit einem bestimmten Zug belegt wurde.
+     *
+     * @param move Die Nummer des Zuges, beginnend bei {@code 0}.
+     *
+     * @return Der Index des Feldes, welches mit diesem Zug belegt wurde.
+     */
+    public int getMove(@Range(from = 0, to = CELL_COUNT - 1) final int move) {
+        return this.moves[move];
+    }
+
+    /**
+     * Gibt den Index eines Feldes anhand des kleinen Spielfeldes und des Feldes darin zurück. Beide Indizes entsprechen
+     * dabei dem Index auf einem {@link BoardLayout#CLASSIC klassischen Spielfeld}.
+     *
+     * @param board Der Index des kleinen Spielfeldes.
+     * @param cell  Der Index des Feldes auf dem kleinen Spielfeld.
+     *
+     * @return Der Index des Feldes auf dem gesamten Spielfeld.
+     */
+    public static int getMove(
+            @Range(from = 0, to = BOARD_CELLS - 1) final int board,
+            @Range(from = 0, to = BOARD_CELLS - 1) final int cell
+    ) {
+        return board * BOARD_CELLS + cell;
+    }
+
+    /**
+     * Gibt den Index eines Feldes anhand seiner Zeile und Spalte auf dem gesamten 9x9 Spielfeld zurück.
+     *
+     * @param row    Die Zeile des Feldes auf dem gesamten Spielfeld.
+     * @param column Die Spalte des Feldes auf dem gesamten Spielfeld.
+     *
+     * @return Der Index des Feldes auf dem gesamten Spielfeld.
+     */
+    public static int getIndex(
+            @Range(from = 0, to = SIZE - 1) final int row,
+            @Range(from = 0, to = SIZE - 1) final int column
+    ) {
+        return getMove(
+                BoardLayout.CLASSIC.getIndex(row / 3, column / 3),
+                BoardLayout.CLASSIC.getIndex(row % 3, column % 3)
+        );
+    }
+
+}
@@ -0,0 +1,333 @@
+package de.gemuesehasser.tictactoe.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.gemuesehasser.tictactoe.ai.TranspositionTable;
+import de.gemuesehasser.tictactoe.constant.ComputerMode;
+import de.gemuesehasser.tictactoe.handler.GameSessionHandler;
+import de.gemuesehasser.tictactoe.metrics.GameMetrics;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import de.gemuesehasser.tictactoe.storage.GameRecordLog;
+import de.gemuesehasser.tictactoe.storage.StatisticsStore;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Der {@link GameServer} stellt beliebig viele gleichzeitige und voneinander unabhängige
+ * {@link GameSession Sitzungen} über eine schlanke HTTP-Schnittstelle bereit. Die Verbindungen werden von einem
+ * einzelnen, nicht blockierenden Selector-Thread des {@link HttpServer} angenommen, die Anfragen selbst werden auf
+ * einem festen Pool an Threads abgearbeitet. Eine Sitzung belegt also nur dann einen Thread, wenn gerade eine Anfrage
+ * für sie bearbeitet wird. Der Computer sucht seine Züge auf den Threads des {@link GameSessionHandler}, sodass eine
+ * Anfrage nie auf eine Suche wartet: Bis der Computer seinen Zug gemacht hat, ist die Sitzung {@code thinking} und
+ * kann über {@code GET} abgefragt werden.
+ *
+ * <ul>
+ *     <li>{@code POST /sessions[?mode=SEARCH][&player=<name>]} erzeugt eine neue Sitzung.</li>
+ *     <li>{@code GET /sessions/<id>} gibt den Zustand einer Sitzung zurück.</li>
+ *     <li>{@code POST /sessions/<id>/moves?row=<row>&column=<column>} setzt das Symbol des Nutzers, der Computer
+ *     antwortet im Hintergrund.</li>
+ *     <li>{@code POST /sessions/<id>/rounds} beginnt eine neue Runde.</li>
+ *     <li>{@code DELETE /sessions/<id>} beendet eine Sitzung.</li>
+ * </ul>
+ */
+public final class GameServer {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Name der System-Property, mit der die Anzahl an Threads für die Anfragen festgelegt werden kann. */
+    @NotNull
+    public static final String THREADS_PROPERTY_NAME = "tictactoe.server.threads";
+    /** Der Name der System-Property, mit der die maximale Anzahl an gleichzeitigen Sitzungen festgelegt werden kann. */
+    @NotNull
+    public static final String MAX_SESSIONS_PROPERTY_NAME = "tictactoe.server.maxSessions";
+    /** Der Name der System-Property, mit der die Zeit in Minuten festgelegt wird, nach der unbenutzte Sitzungen enden. */
+    @NotNull
+    public static final String IDLE_TIMEOUT_PROPERTY_NAME = "tictactoe.server.idleTimeout";
+    /** Der Port, auf dem der Server standardmäßig erreichbar ist. */
+    private static final int DEFAULT_PORT = 8080;
+    /** Die maximale Anzahl an gleichzeitigen Sitzungen, wenn keine festgelegt wurde. */
+    private static final int DEFAULT_MAX_SESSIONS = 100_000;
+    /** Die Zeit in Minuten, nach der unbenutzte Sitzungen standardmäßig beendet werden. */
+    private static final long DEFAULT_IDLE_TIMEOUT_MINUTES = 30;
+    /** Der Pfad, unter dem alle Sitzungen erreichbar sind. */
+    @NotNull
+    private static final String SESSIONS_PATH = "/sessions";
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Handler, der alle Sitzungen dieses Servers verwaltet. */
+    @Getter
+    @NotNull
+    private final GameSessionHandler sessionHandler;
+    /** Der eigentliche HTTP-Server. */
+    @NotNull
+    private final HttpServer httpServer;
+    /** Der Pool an Threads, auf dem die Anfragen abgearbeitet werden. */
+    @NotNull
+    private final ExecutorService requestExecutor;
+    /** Der Scheduler, der in regelmäßigen Abständen alle unbenutzten Sitzungen beendet. */
+    @NotNull
+    private final ScheduledExecutorService cleanupScheduler = Executors.newSingleThreadScheduledExecutor();
+    /** Die Zeit in Millisekunden, nach der unbenutzte Sitzungen beendet werden. */
+    private final long idleTimeoutMillis;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link GameServer}, der auf einem bestimmten Port erreichbar ist, sobald er gestartet wird.
+     *
+     * @param port              Der Port, auf dem der Server erreichbar ist.
+     * @param sessionHandler    Der Handler, der alle Sitzungen dieses Servers verwaltet.
+     * @param threads           Die Anzahl an Threads, auf denen die Anfragen abgearbeitet werden.
+     * @param idleTimeoutMillis Die Zeit in Millisekunden, nach der unbenutzte Sitzungen beendet werden.
+     *
+     * @throws IOException Wenn der Port nicht geöffnet werden kann.
+     */
+    public GameServer(
+            @Range(from = 0, to = 65535) final int port,
+            @NotNull final GameSessionHandler sessionHandler,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int threads,
+            @Range(from = 1, to = Long.MAX_VALUE) final long idleTimeoutMillis
+    ) throws IOException {
+        this.sessionHandler = sessionHandler;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.requestExecutor = Executors.newFixedThreadPool(threads);
+        this.httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        this.httpServer.setExecutor(this.requestExecutor);
+        this.httpServer.createContext(SESSIONS_PATH, this::handle);
+    }
+    //</editor-fold>
+
+
+    /**
+     * Startet diesen Server und das regelmäßige Beenden unbenutzter Sitzungen.
+     */
+    public void start() {
+        final long interval = Math.max(1, this.idleTimeoutMillis / 10);
+        this.cleanupScheduler.scheduleWithFixedDelay(
+                () -> this.sessionHandler.removeIdleSessions(this.idleTimeoutMillis),
+                interval,
+                interval,
+                TimeUnit.MILLISECONDS
+        );
+        this.httpServer.start();
+    }
+
+    /**
+     * Stoppt diesen Server, wobei laufende Anfragen noch bis zu einer Sekunde lang abgeschlossen werden können. Im
+     * Anschluss wird auch der {@link GameSessionHandler} geschlossen.
+     */
+    public void stop() {
+        this.httpServer.stop(1);
+        this.requestExecutor.shutdown();
+        this.cleanupScheduler.shutdown();
+        this.sessionHandler.close();
+    }
+
+    /**
+     * Gibt den Port zurück, auf dem dieser Server erreichbar ist.
+     *
+     * @return Der Port, auf dem dieser Server erreichbar ist.
+     */
+    public int getPort() {
+        return this.httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Bearbeitet eine einzelne Anfrage und leitet sie anhand ihres Pfades und ihrer Methode an die entsprechende
+     * {@link GameSession Sitzung} weiter. Ungültige Anfragen werden mit dem passenden Status-Code beantwortet.
+     *
+     * @param exchange Die Anfrage, die bearbeitet werden soll.
+     *
+     * @throws IOException Wenn die Antwort nicht gesendet werden kann.
+     */
+    private void handle(@NotNull final HttpExchange exchange) throws IOException {
+        try {
+            final String method = exchange.getRequestMethod();
+            final String[] path = exchange.getRequestURI().getPath().substring(SESSIONS_PATH.length()).split("/");
+            final Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            // POST /sessions
+            if (path.length == 0 || path.length == 1 && path[0].isEmpty()) {
+                if (!method.equals("POST")) {
+                    send(exchange, 405, null);
+                    return;
+                }
+
+                final String mode = query.get("mode");
+                final GameSession session = this.sessionHandler.createSession(
+                        mode == null ? ComputerMode.getConfigured() : ComputerMode.valueOf(mode.toUpperCase(Locale.ROOT)),
+                        query.getOrDefault("player", GameSessionHandler.DEFAULT_PLAYER_NAME)
+                );
+                send(exchange, 201, session.toJson());
+                return;
+            }
+
+            final GameSession session = path.length <= 3 && path[0].isEmpty()
+                    ? this.sessionHandler.getSession(path[1])
+                    : null;
+            if (session == null) {
+                send(exchange, 404, null);
+                return;
+            }
+
+            final String action = path.length == 3 ? path[2] : "";
+            switch (method + " " + action) {
+                case "GET ":
+                    break;
+                case "DELETE ":
+                    this.sessionHandler.removeSession(session.getId());
+                    send(exchange, 204, null);
+                    return;
+                case "POST moves":
+                    session.placeUserMove(parseInt(query, "row"), parseInt(query, "column"));
+                    break;
+                case "POST rounds":
+                    session.startNewRound();
+                    break;
+                default:
+                    send(exchange, action.equals("moves") || action.equals("rounds") || action.isEmpty() ? 405 : 404, null);
+                    return;
+            }
+
+            send(exchange, 200, session.toJson());
+        } catch (@NotNull final IllegalArgumentException e) {
+            send(exchange, 400, "{\"error\":" + GameSession.toJson(e.getMessage()) + "}");
+        } catch (@NotNull final IllegalStateException e) {
+            send(exchange, 409, "{\"error\":" + GameSession.toJson(e.getMessage()) + "}");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Sendet eine Antwort mit einem bestimmten Status-Code und einem optionalen JSON-Inhalt.
+     *
+     * @param exchange Die Anfrage, auf die geantwortet werden soll.
+     * @param status   Der Status-Code der Antwort.
+     * @param json     Der Inhalt der Antwort bzw. {@code null}, wenn die Antwort keinen Inhalt hat.
+     *
+     * @throws IOException Wenn die Antwort nicht gesendet werden kann.
+     */
+    private static void send(
+            @NotNull final HttpExchange exchange,
+            final int status,
+            @Nullable final String json
+    ) throws IOException {
+        if (json == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+
+        final byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+
+        try (@NotNull final OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    /**
+     * Zerlegt die Parameter einer Anfrage in ihre Namen und Werte.
+     *
+     * @param rawQuery Die noch kodierten Parameter der Anfrage bzw. {@code null}, wenn es keine gibt.
+     *
+     * @return Alle Parameter der Anfrage anhand ihres Namens.
+     */
+    @NotNull
+    private static Map<String, String> parseQuery(@Nullable final String rawQuery) {
+        final Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) return query;
+
+        for (@NotNull final String parameter : rawQuery.split("&")) {
+            final int separator = parameter.indexOf('=');
+            if (separator < 0) continue;
+
+            try {
+                query.put(
+                        URLDecoder.decode(parameter.substring(0, separator), "UTF-8"),
+                        URLDecoder.decode(parameter.substring(separator + 1), "UTF-8")
+                );
+            } catch (@NotNull final UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return query;
+    }
+
+    /**
+     * Gibt den Wert eines Parameters als Zahl zurück.
+     *
+     * @param query Alle Parameter der Anfrage anhand ihres Namens.
+     * @param name  Der Name des Parameters.
+     *
+     * @return Der Wert des Parameters als Zahl.
+     *
+     * @throws IllegalArgumentException Wenn der Parameter fehlt oder keine Zahl ist.
+     */
+    private static int parseInt(@NotNull final Map<String, String> query, @NotNull final String name) {
+        final String value = query.get(name);
+        if (value == null) throw new IllegalArgumentException("missing parameter " + name);
+
+        return Integer.parseInt(value);
+    }
+
+
+    //<editor-fold desc="main">
+
+    /**
+     * Startet einen {@link GameServer} ohne grafische Oberfläche. Die Form des Spielfeldes und der Standard-Modus des
+     * Computers werden wie beim Spiel selbst über System-Properties festgelegt. Alle beendeten Spiele werden in ein
+     * {@link GameRecordLog} geschrieben und im {@link StatisticsStore} berücksichtigt. Die Trefferquoten der
+     * {@link TranspositionTable}, die sich alle Sitzungen teilen, lassen sich wie alle {@link GameMetrics} per JMX
+     * auslesen.
+     *
+     * @param args Der Port, auf dem der Server erreichbar sein soll (optional).
+     *
+     * @throws IOException Wenn der Port, das {@link GameRecordLog} oder der {@link StatisticsStore} nicht geöffnet
+     *                     werden kann.
+     */
+    public static void main(@NotNull final String @NotNull [] args) throws IOException {
+        final int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        final BoardLayout layout = BoardLayout.getConfigured();
+        final GameSessionHandler handler = new GameSessionHandler(
+                layout,
+                Integer.getInteger(MAX_SESSIONS_PROPERTY_NAME, DEFAULT_MAX_SESSIONS),
+                GameRecordLog.openConfigured(layout),
+                StatisticsStore.openConfigured()
+        );
+        final GameServer server = new GameServer(
+                port,
+                handler,
+                Integer.getInteger(THREADS_PROPERTY_NAME, Runtime.getRuntime().availableProcessors() * 2),
+                TimeUnit.MINUTES.toMillis(Long.getLong(IDLE_TIMEOUT_PROPERTY_NAME, DEFAULT_IDLE_TIMEOUT_MINUTES))
+        );
+
+        GameMetrics.register();
+        GameMetrics.register("sessions", handler.getSearchEngine().getTranspositionTable());
+        server.start();
+        System.out.println("game server listening on port " + server.getPort());
+    }
+    //</editor-fold>
+
+}
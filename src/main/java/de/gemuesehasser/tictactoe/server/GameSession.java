@@ -0,0 +1,375 @@
+package de.gemuesehasser.tictactoe.server;
+
+import de.gemuesehasser.tictactoe.ai.ComputerPlayer;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.metrics.GameMetrics;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import de.gemuesehasser.tictactoe.storage.GameRecordLog;
+import de.gemuesehasser.tictactoe.storage.PlayerStatistics;
+import de.gemuesehasser.tictactoe.storage.StatisticsStore;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Eine {@link GameSession} ist ein einzelnes Spiel eines Nutzers gegen den Computer, welches vollständig unabhängig von
+ * allen anderen Spielen ist. Jede Sitzung besitzt ihr eigenes {@link GameBoard Spielfeld}, ihren eigenen
+ * {@link ComputerPlayer Computer-Spieler}, ihren eigenen Punktestand und merkt sich, wer an der Reihe ist. Alle Zugriffe
+ * auf eine Sitzung sind synchronisiert, sodass sich nur gleichzeitige Anfragen an dieselbe Sitzung gegenseitig
+ * blockieren.
+ *
+ * <p>Wurde der Sitzung ein {@link Executor} für den Computer übergeben, sucht der Computer seine Züge im Hintergrund auf
+ * einer Kopie des Spielfeldes, ohne die Sitzung währenddessen zu sperren. Bis der Zug gemacht wurde, ist die Sitzung
+ * {@code thinking} und der Zustand kann weiterhin jederzeit abgefragt werden.</p>
+ */
+public final class GameSession {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die eindeutige ID dieser Sitzung. */
+    @Getter
+    @NotNull
+    private final String id;
+    /** Der Name des Spielers, der in dieser Sitzung als Nutzer spielt. */
+    @Getter
+    @NotNull
+    private final String playerName;
+    /** Der Zustand des Spielfeldes dieser Sitzung. */
+    @NotNull
+    private final GameBoard board;
+    /** Der Spieler, der die Züge des {@link UserType#COMPUTER Computers} auswählt. */
+    @NotNull
+    private final ComputerPlayer computer;
+    /** Die Anzahl an gewonnenen Runden je {@link UserType Typ}, anhand ihrer Ordinalzahl. */
+    @NotNull
+    private final int @NotNull [] points = new int[UserType.values().length];
+    /** Das Log, in das jedes beendete Spiel geschrieben wird bzw. {@code null}, wenn keine Spiele geschrieben werden. */
+    @Nullable
+    private final GameRecordLog recordLog;
+    /** Die Statistiken, in denen jedes beendete Spiel berücksichtigt wird bzw. {@code null}, wenn es keine gibt. */
+    @Nullable
+    private final StatisticsStore statistics;
+    /** Der {@link Executor}, auf dem der Computer seine Züge sucht bzw. {@code null}, wenn er direkt antwortet. */
+    @Nullable
+    private final Executor computerExecutor;
+    /** Der {@link UserType Typ}, der aktuell an der Reihe ist. */
+    @NotNull
+    private UserType currentUserType = UserType.USER;
+    /** Der {@link UserType Typ}, der zuletzt gewonnen hat bzw. {@code null}, wenn noch niemand gewonnen hat. */
+    @Nullable
+    private UserType lastWinner;
+    /** Ob der Computer gerade im Hintergrund seinen nächsten Zug sucht. */
+    private boolean thinking;
+    /** Der Zeitpunkt in Millisekunden, zu dem zuletzt auf diese Sitzung zugegriffen wurde. */
+    @Getter
+    private volatile long lastAccessMillis = System.currentTimeMillis();
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue {@link GameSession} mit einem leeren Spielfeld, in der der Nutzer den ersten Zug macht.
+     *
+     * @param id       Die eindeutige ID dieser Sitzung.
+     * @param layout   Die Form des Spielfeldes dieser Sitzung.
+     * @param computer Der Spieler, der die Züge des {@link UserType#COMPUTER Computers} auswählt.
+     */
+    public GameSession(
+            @NotNull final String id,
+            @NotNull final BoardLayout layout,
+            @NotNull final ComputerPlayer computer
+    ) {
+        this(id, StatisticsStore.getLocalPlayerName(), layout, computer, null, null, null);
+    }
+
+    /**
+     * Erzeugt eine neue {@link GameSession} mit einem leeren Spielfeld, in der der Nutzer den ersten Zug macht. Jedes
+     * beendete Spiel wird in ein {@link GameRecordLog} geschrieben und in den Statistiken beider Spieler
+     * berücksichtigt.
+     *
+     * @param id               Die eindeutige ID dieser Sitzung.
+     * @param playerName       Der Name des Spielers, der in dieser Sitzung als Nutzer spielt.
+     * @param layout           Die Form des Spielfeldes dieser Sitzung.
+     * @param computer         Der Spieler, der die Züge des {@link UserType#COMPUTER Computers} auswählt.
+     * @param recordLog        Das Log, in das jedes beendete Spiel geschrieben wird bzw. {@code null}, wenn keine
+     *                         Spiele geschrieben werden.
+     * @param statistics       Die Statistiken, in denen jedes beendete Spiel berücksichtigt wird bzw. {@code null},
+     *                         wenn es keine gibt.
+     * @param computerExecutor Der {@link Executor}, auf dem der Computer seine Züge im Hintergrund sucht bzw.
+     *                         {@code null}, wenn er direkt im Thread der Anfrage antwortet.
+     */
+    public GameSession(
+            @NotNull final String id,
+            @NotNull final String playerName,
+            @NotNull final BoardLayout layout,
+            @NotNull final ComputerPlayer computer,
+            @Nullable final GameRecordLog recordLog,
+            @Nullable final StatisticsStore statistics,
+            @Nullable final Executor computerExecutor
+    ) {
+        this.id = id;
+        this.playerName = playerName;
+        this.board = new GameBoard(layout);
+        this.computer = computer;
+        this.recordLog = recordLog;
+        this.statistics = statistics;
+        this.computerExecutor = computerExecutor;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Belegt ein Feld mit dem Symbol des Nutzers und lässt den Computer direkt im Anschluss antworten, sofern das Spiel
+     * dadurch noch nicht beendet ist. Sucht der Computer im Hintergrund, kehrt diese Methode sofort zurück.
+     *
+     * @param row    Die Zeile des Feldes, welches der Nutzer belegen möchte.
+     * @param column Die Spalte des Feldes, welches der Nutzer belegen möchte.
+     *
+     * @throws IllegalArgumentException Wenn das Feld nicht auf dem Spielfeld liegt.
+     * @throws IllegalStateException    Wenn der Nutzer nicht an der Reihe ist oder das Feld bereits belegt ist.
+     */
+    public synchronized void placeUserMove(
+            @Range(from = 0, to = Integer.MAX_VALUE) final int row,
+            @Range(from = 0, to = Integer.MAX_VALUE) final int column
+    ) {
+        touch();
+
+        final BoardLayout layout = this.board.getLayout();
+        if (row < 0 || column < 0 || row >= layout.getSize() || column >= layout.getSize()) {
+            throw new IllegalArgumentException("field " + row + "/" + column + " is not on the board");
+        }
+
+        if (isOver() || this.currentUserType != UserType.USER) throw new IllegalStateException("it is not the user's turn");
+
+        this.board.place(layout.getIndex(row, column), UserType.USER);
+        if (checkGameEnd()) return;
+
+        placeComputerMove();
+    }
+
+    /**
+     * Beginnt eine neue Runde in dieser Sitzung. Der Verlierer der letzten Runde macht den ersten Zug, nach einem
+     * Unentschieden beginnt der Nutzer. Sollte der Computer beginnen, wird sein erster Zug direkt gemacht.
+     *
+     * @throws IllegalStateException Wenn der Computer gerade seinen nächsten Zug sucht.
+     */
+    public synchronized void startNewRound() {
+        touch();
+
+        if (this.thinking) throw new IllegalStateException("the computer is still thinking");
+
+        this.board.reset();
+        this.currentUserType = this.lastWinner == UserType.USER ? UserType.COMPUTER : UserType.USER;
+
+        if (this.currentUserType == UserType.COMPUTER) placeComputerMove();
+    }
+
+    /**
+     * Gibt den aktuellen Zustand dieser Sitzung als JSON-Objekt zurück. Die Belegung des Spielfeldes wird dabei als
+     * Zeichenkette mit einem Zeichen pro Feld (in der Reihenfolge der Indizes) dargestellt.
+     *
+     * @return Der aktuelle Zustand dieser Sitzung als JSON-Objekt.
+     */
+    @NotNull
+    public synchronized String toJson() {
+        touch();
+
+        final BoardLayout layout = this.board.getLayout();
+        final StringBuilder cells = new StringBuilder(layout.getCellCount());
+        for (int cell = 0; cell < layout.getCellCount(); cell++) {
+            final UserType userType = this.board.getUserType(cell);
+            cells.append(userType == UserType.USER ? 'o' : userType == UserType.COMPUTER ? 'x' : '.');
+        }
+
+        final StringBuilder winLine = new StringBuilder("[");
+        if (this.board.getWinLine() >= 0) {
+            for (final int cell : layout.getLines()[this.board.getWinLine()]) {
+                if (winLine.length() > 1) winLine.append(',');
+                winLine.append(cell);
+            }
+        }
+        winLine.append(']');
+
+        return "{\"id\":\"" + this.id + "\""
+                + ",\"player\":" + toJson(this.playerName)
+                + ",\"size\":" + layout.getSize()
+                + ",\"winLength\":" + layout.getWinLength()
+                + ",\"cells\":\"" + cells + "\""
+                + ",\"currentUserType\":" + (isOver() ? "null" : "\"" + this.currentUserType + "\"")
+                + ",\"thinking\":" + this.thinking
+                + ",\"over\":" + isOver()
+                + ",\"winner\":" + (this.board.getWinner() == null ? "null" : "\"" + this.board.getWinner() + "\"")
+                + ",\"winLine\":" + winLine
+                + ",\"points\":{\"USER\":" + this.points[UserType.USER.ordinal()]
+                + ",\"COMPUTER\":" + this.points[UserType.COMPUTER.ordinal()] + "}"
+                + (this.statistics == null ? "" : ",\"statistics\":" + toJson(this.statistics.getStatistics(this.playerName)))
+                + "}";
+    }
+
+    /**
+     * Lässt den Computer das günstigste Feld belegen und prüft im Anschluss, ob das Spiel dadurch beendet ist. Gibt es
+     * einen {@link #computerExecutor}, wird der Zug dort auf einer Kopie des Spielfeldes gesucht und erst im Anschluss
+     * gemacht, sodass die Sitzung während der Suche nicht gesperrt ist.
+     *
+     * @throws IllegalStateException Wenn der {@link #computerExecutor} keine Züge mehr annimmt.
+     */
+    private void placeComputerMove() {
+        this.currentUserType = UserType.COMPUTER;
+
+        if (this.computerExecutor == null) {
+            finishComputerMove(GameMetrics.INSTANCE.measureAiDecision(this.computer, this.board, UserType.COMPUTER));
+            return;
+        }
+
+        final GameBoard snapshot = new GameBoard(this.board);
+        this.thinking = true;
+
+        try {
+            this.computerExecutor.execute(() -> {
+                final int move;
+                try {
+                    move = GameMetrics.INSTANCE.measureAiDecision(this.computer, snapshot, UserType.COMPUTER);
+                } catch (@NotNull final RuntimeException e) {
+                    synchronized (this) {
+                        this.thinking = false;
+                    }
+                    throw e;
+                }
+
+                synchronized (this) {
+                    this.thinking = false;
+                    finishComputerMove(move);
+                }
+            });
+        } catch (@NotNull final RejectedExecutionException e) {
+            this.thinking = false;
+            throw new IllegalStateException("the computer is not available", e);
+        }
+    }
+
+    /**
+     * Belegt das Feld, welches der Computer ausgewählt hat, und prüft im Anschluss, ob das Spiel dadurch beendet ist.
+     *
+     * @param move Der Index des Feldes, welches der Computer ausgewählt hat.
+     */
+    private void finishComputerMove(final int move) {
+        this.board.place(move, UserType.COMPUTER);
+
+        if (!checkGameEnd()) this.currentUserType = UserType.USER;
+    }
+
+    /**
+     * Prüft, ob das Spiel gewonnen oder unentschieden ist, und erhöht im Falle eines Sieges den Punktestand des
+     * Gewinners. Nach einem Unentschieden wird der letzte Gewinner auf den Computer gesetzt, damit der Nutzer die
+     * nächste Runde beginnt. Ein beendetes Spiel wird in das {@link GameRecordLog} geschrieben und in den Statistiken
+     * berücksichtigt, sofern es diese gibt.
+     *
+     * @return Wenn das Spiel beendet ist {@code true}, ansonsten {@code false}.
+     */
+    private boolean checkGameEnd() {
+        final UserType winner = this.board.getWinner();
+
+        if (winner != null) {
+            this.points[winner.ordinal()]++;
+            this.lastWinner = winner;
+        } else if (this.board.isIndecisive()) {
+            this.lastWinner = UserType.COMPUTER;
+        } else {
+            return false;
+        }
+
+        GameMetrics.INSTANCE.recordGameEnd(this.board);
+        if (this.recordLog != null) this.recordLog.append(this.board);
+        if (this.statistics != null) this.statistics.recordGame(this.board, this.playerName, this.computer.getName());
+        return true;
+    }
+
+    /**
+     * Prüft, ob die aktuelle Runde beendet ist.
+     *
+     * @return Wenn die aktuelle Runde gewonnen oder unentschieden ist {@code true}, ansonsten {@code false}.
+     */
+    private boolean isOver() {
+        return this.board.isOver();
+    }
+
+    /**
+     * Gibt die Statistiken eines Spielers als JSON-Objekt zurück.
+     *
+     * @param playerStatistics Die Statistiken des Spielers.
+     *
+     * @return Die Statistiken des Spielers als JSON-Objekt.
+     */
+    @NotNull
+    private static String toJson(@NotNull final PlayerStatistics playerStatistics) {
+        return String.format(
+                Locale.ROOT,
+                "{\"wins\":%d,\"losses\":%d,\"draws\":%d,\"currentStreak\":%d,\"longestWinStreak\":%d,"
+                        + "\"averageGameLength\":%.2f}",
+                playerStatistics.getWins(),
+                playerStatistics.getLosses(),
+                playerStatistics.getDraws(),
+                playerStatistics.getCurrentStreak(),
+                playerStatistics.getLongestWinStreak(),
+                playerStatistics.getAverageGameLength()
+        );
+    }
+
+    /**
+     * Gibt eine Zeichenkette als JSON-String zurück. Anführungszeichen, Backslashes und Steuerzeichen werden dabei
+     * maskiert, sodass auch Werte aus einer Anfrage (z.B. der Name des Spielers) kein ungültiges JSON erzeugen.
+     *
+     * @param value Die Zeichenkette bzw. {@code null}.
+     *
+     * @return Die maskierte Zeichenkette in Anführungszeichen bzw. {@code null}, wenn es keine Zeichenkette gibt.
+     */
+    @NotNull
+    static String toJson(@Nullable final String value) {
+        if (value == null) return "null";
+
+        final StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char character = value.charAt(i);
+
+            switch (character) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (character < 0x20) {
+                        builder.append(String.format(Locale.ROOT, "\\u%04x", (int) character));
+                    } else {
+                        builder.append(character);
+                    }
+            }
+        }
+
+        return builder.append('"').toString();
+    }
+
+    /**
+     * Merkt sich den aktuellen Zeitpunkt als letzten Zugriff auf diese Sitzung.
+     */
+    private void touch() {
+        this.lastAccessMillis = System.currentTimeMillis();
+    }
+
+}
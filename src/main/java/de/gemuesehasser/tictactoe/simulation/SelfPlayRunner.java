@@ -0,0 +1,305 @@
+package de.gemuesehasser.tictactoe.simulation;
+
+import de.gemuesehasser.tictactoe.ai.ComputerPlayer;
+import de.gemuesehasser.tictactoe.ai.SearchEngine;
+import de.gemuesehasser.tictactoe.ai.Strategy;
+import de.gemuesehasser.tictactoe.ai.TranspositionTable;
+import de.gemuesehasser.tictactoe.constant.ComputerMode;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import de.gemuesehasser.tictactoe.storage.GameRecordLog;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Der {@link SelfPlayRunner} lässt zwei {@link ComputerPlayer Computer-Spieler} ohne grafische Oberfläche beliebig oft
+ * gegeneinander spielen. Die Spiele werden auf mehrere Threads verteilt, wobei jeder Thread sein eigenes
+ * {@link GameBoard Spielfeld} und seine eigenen Spieler besitzt. Der erste Zug wechselt von Spiel zu Spiel zwischen
+ * beiden Spielern. Optional werden alle Spiele in ein {@link GameRecordLog} geschrieben.
+ *
+ * <p>Jedes Spiel erhält einen eigenen Zufallsgenerator, dessen Startwert sich allein aus dem Startwert der Simulation
+ * und der Nummer des Spiels ergibt. Damit hängt ein Spiel weder von der Verteilung auf die Threads noch von den vorher
+ * gespielten Spielen ab und lässt sich mit {@link #replay(long)} Zug für Zug wiederholen, sofern die Spieler selbst
+ * nicht vom Zeitbudget abhängen (also im {@link ComputerMode#SEARCH Such-Modus} mit einer festen Tiefe suchen).
+ * Wird dafür ein {@link GameRecordLog} mit demselben Startwert genutzt, wird jedes Spiel mit seiner Nummer geschrieben,
+ * sodass sich jedes abgespeicherte Spiel auch nachträglich wiederholen lässt.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public final class SelfPlayRunner {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an Spielen, die sich ein Thread auf einmal reserviert. */
+    private static final int BATCH_SIZE = 1024;
+    /** Die Anzahl an Einträgen der {@link TranspositionTable}, die jeder Spieler im Such-Modus besitzt. */
+    private static final int TABLE_ENTRIES = 1 << 16;
+    /** Der Name der System-Property, mit der der Startwert einer Simulation festgelegt werden kann. */
+    @NotNull
+    public static final String SEED_PROPERTY_NAME = "tictactoe.seed";
+    /** Der Abstand, mit dem die Startwerte aufeinander folgender Spiele vor dem Durchmischen verteilt werden. */
+    private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Form des Spielfeldes, auf dem gespielt wird. */
+    @NotNull
+    private final BoardLayout layout;
+    /** Der {@link ComputerMode Modus} des Spielers, der als {@link UserType#USER Nutzer} spielt. */
+    @NotNull
+    private final ComputerMode userMode;
+    /** Der {@link ComputerMode Modus} des Spielers, der als {@link UserType#COMPUTER Computer} spielt. */
+    @NotNull
+    private final ComputerMode computerMode;
+    /** Die Anzahl an Threads, auf die die Spiele verteilt werden. */
+    private final int threads;
+    /** Der Startwert, aus dem die Zufallsgeneratoren aller Spiele abgeleitet werden. */
+    private final long seed;
+    /**
+     * Das Log, in das jedes Spiel mit seiner Nummer geschrieben wird bzw. {@code null}, wenn keine Spiele geschrieben
+     * werden. Wurde das Log mit einem Startwert geöffnet, muss dieser dem Startwert dieser Simulation entsprechen.
+     */
+    @Nullable
+    private final GameRecordLog recordLog;
+    //</editor-fold>
+
+
+    /**
+     * Spielt eine bestimmte Anzahl an Spielen und gibt das zusammengefasste Ergebnis zurück.
+     *
+     * @param games Die Anzahl an Spielen, die gespielt werden sollen.
+     *
+     * @return Das zusammengefasste Ergebnis aller Spiele.
+     *
+     * @throws InterruptedException  Wenn der aufrufende Thread unterbrochen wird, während auf die Spiele gewartet wird.
+     * @throws IllegalStateException Wenn das {@link #recordLog} mit einem anderen Startwert geöffnet wurde.
+     */
+    @NotNull
+    public SimulationResult run(@Range(from = 0, to = Long.MAX_VALUE) final long games) throws InterruptedException {
+        if (this.recordLog != null && this.recordLog.isSeeded() && this.recordLog.getSeed() != this.seed) {
+            throw new IllegalStateException("game record log was opened with another seed");
+        }
+
+        final AtomicLong nextGame = new AtomicLong();
+        final LongAdder wins = new LongAdder();
+        final LongAdder draws = new LongAdder();
+        final LongAdder losses = new LongAdder();
+        final Thread[] workers = new Thread[this.threads];
+        final long start = System.nanoTime();
+
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Thread(() -> {
+                final GameBoard board = new GameBoard(this.layout);
+                final ComputerPlayer[] players = createPlayers();
+
+                long localWins = 0;
+                long localDraws = 0;
+                long localLosses = 0;
+                long first;
+
+                try {
+                    while ((first = nextGame.getAndAdd(BATCH_SIZE)) < games) {
+                        final long last = Math.min(games, first + BATCH_SIZE);
+
+                        for (long game = first; game < last; game++) {
+                            final UserType winner = playGame(board, players, game);
+                            if (this.recordLog != null) this.recordLog.append(board, game);
+
+                            if (winner == UserType.USER) localWins++;
+                            else if (winner == UserType.COMPUTER) localLosses++;
+                            else localDraws++;
+                        }
+                    }
+                } finally {
+                    closePlayers(players);
+                }
+
+                wins.add(localWins);
+                draws.add(localDraws);
+                losses.add(localLosses);
+            }, "self-play-" + i);
+            workers[i].start();
+        }
+
+        for (@NotNull final Thread worker : workers) {
+            worker.join();
+        }
+
+        return new SimulationResult(
+                games,
+                wins.sum(),
+                draws.sum(),
+                losses.sum(),
+                System.nanoTime() - start,
+                this.threads,
+                this.seed
+        );
+    }
+
+    /**
+     * Wiederholt ein einzelnes Spiel dieser Simulation mit neuen Spielern auf einem neuen Spielfeld. Das Spiel wird
+     * dabei mit demselben Zufallsgenerator gespielt wie in {@link #run(long)}. Die Spieler werden im Anschluss wieder
+     * geschlossen.
+     *
+     * @param game Die Nummer des Spiels, beginnend bei {@code 0}.
+     *
+     * @return Das Spielfeld des wiederholten Spiels.
+     */
+    @NotNull
+    public GameBoard replay(@Range(from = 0, to = Long.MAX_VALUE) final long game) {
+        final GameBoard board = new GameBoard(this.layout);
+        final ComputerPlayer[] players = createPlayers();
+
+        try {
+            playGame(board, players, game);
+        } finally {
+            closePlayers(players);
+        }
+
+        return board;
+    }
+
+    /**
+     * Erzeugt die Spieler beider {@link UserType Typen} für einen Thread.
+     *
+     * @return Die Spieler beider {@link UserType Typen}, anhand ihrer Ordinalzahl.
+     */
+    @NotNull
+    private ComputerPlayer @NotNull [] createPlayers() {
+        final ComputerPlayer[] players = new ComputerPlayer[UserType.values().length];
+        players[UserType.USER.ordinal()] = createPlayer(this.userMode);
+        players[UserType.COMPUTER.ordinal()] = createPlayer(this.computerMode);
+        return players;
+    }
+
+    /**
+     * Schließt alle Spieler eines Threads, sodass die Threads ihrer Suche beendet werden.
+     *
+     * @param players Die Spieler, die geschlossen werden.
+     */
+    static void closePlayers(@NotNull final Strategy @NotNull [] players) {
+        for (@NotNull final Strategy player : players) {
+            player.close();
+        }
+    }
+
+    /**
+     * Spielt ein einzelnes Spiel auf einem Spielfeld, welches vorher zurückgesetzt wird. Beide Spieler erhalten dabei
+     * jeweils einen eigenen Zufallsgenerator, der vom Zufallsgenerator des Spiels abgespalten wird.
+     *
+     * @param board   Das Spielfeld, auf dem gespielt wird.
+     * @param players Die Spieler beider {@link UserType Typen}, anhand ihrer Ordinalzahl.
+     * @param game    Die Nummer des Spiels, anhand der der erste Zug und der Zufallsgenerator bestimmt werden.
+     *
+     * @return Der {@link UserType Typ}, der das Spiel gewonnen hat bzw. {@code null}, wenn es unentschieden ist.
+     */
+    @Nullable
+    private UserType playGame(
+            @NotNull final GameBoard board,
+            @NotNull final ComputerPlayer @NotNull [] players,
+            @Range(from = 0, to = Long.MAX_VALUE) final long game
+    ) {
+        final SplittableRandom random = new SplittableRandom(getGameSeed(this.seed, game));
+        for (@NotNull final ComputerPlayer player : players) {
+            player.startGame(random.split());
+        }
+
+        board.reset();
+        UserType current = game % 2 == 0 ? UserType.USER : UserType.COMPUTER;
+
+        while (!board.isOver()) {
+            board.place(players[current.ordinal()].getBestPlacement(board, current), current);
+            current = current.getOpponent();
+        }
+
+        return board.getWinner();
+    }
+
+    /**
+     * Erzeugt einen neuen Spieler für einen Thread. Im {@link ComputerMode#SEARCH Such-Modus} sucht jeder Spieler nur
+     * auf einem einzelnen Thread, da die Spiele selbst bereits auf alle Kerne verteilt werden, und mit einer kleineren
+     * {@link TranspositionTable}, da jeder Thread seine eigene Tabelle besitzt. Der Spieler muss
+     * {@link ComputerPlayer#close() geschlossen} werden, sobald er nicht mehr benötigt wird.
+     *
+     * @param mode Der {@link ComputerMode Modus} des Spielers.
+     *
+     * @return Der neue Spieler.
+     */
+    @NotNull
+    static ComputerPlayer createPlayer(@NotNull final ComputerMode mode) {
+        if (mode != ComputerMode.SEARCH) return new ComputerPlayer(mode);
+
+        return new ComputerPlayer(mode, new SearchEngine(
+                Long.getLong(SearchEngine.TIME_BUDGET_PROPERTY_NAME, SearchEngine.DEFAULT_TIME_BUDGET_MILLIS),
+                Integer.getInteger(SearchEngine.MAX_DEPTH_PROPERTY_NAME, Integer.MAX_VALUE),
+                1,
+                new TranspositionTable(TABLE_ENTRIES)
+        ));
+    }
+
+    /**
+     * Gibt den Startwert des Zufallsgenerators eines einzelnen Spiels zurück. Dieser ergibt sich allein aus dem
+     * Startwert der Simulation und der Nummer des Spiels, sodass jedes Spiel unabhängig von allen anderen Spielen
+     * wiederholt werden kann.
+     *
+     * @param seed Der Startwert der Simulation bzw. des Turniers.
+     * @param game Die Nummer des Spiels, beginnend bei {@code 0}.
+     *
+     * @return Der Startwert des Zufallsgenerators des Spiels.
+     */
+    static long getGameSeed(final long seed, @Range(from = 0, to = Long.MAX_VALUE) final long game) {
+        return new SplittableRandom(seed + game * SEED_GAMMA).nextLong();
+    }
+
+
+    //<editor-fold desc="main">
+
+    /**
+     * Startet eine Simulation ohne grafische Oberfläche und gibt das Ergebnis auf der Konsole aus. Die Form des
+     * Spielfeldes wird wie beim Spiel selbst über System-Properties festgelegt, ebenso wie der Startwert
+     * ({@value #SEED_PROPERTY_NAME}, sonst zufällig) und die Tiefe der Suche
+     * ({@value SearchEngine#MAX_DEPTH_PROPERTY_NAME}).
+     *
+     * @param args Die Anzahl an Spielen, der Modus des Nutzers, der Modus des Computers, die Anzahl an Threads und das
+     *             Verzeichnis, in das alle Spiele geschrieben werden (jeweils optional).
+     *
+     * @throws InterruptedException Wenn der Thread unterbrochen wird, während auf die Spiele gewartet wird.
+     * @throws IOException          Wenn das Verzeichnis für die Spiele nicht geöffnet werden kann.
+     */
+    public static void main(@NotNull final String @NotNull [] args) throws InterruptedException, IOException {
+        final long games = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        final ComputerMode userMode = args.length > 1 ? ComputerMode.valueOf(args[1].toUpperCase(Locale.ROOT)) : ComputerMode.HEURISTIC;
+        final ComputerMode computerMode = args.length > 2 ? ComputerMode.valueOf(args[2].toUpperCase(Locale.ROOT)) : ComputerMode.HEURISTIC;
+        final int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        final long seed = Long.getLong(SEED_PROPERTY_NAME, new SplittableRandom().nextLong());
+
+        final BoardLayout layout = BoardLayout.getConfigured();
+        final GameRecordLog recordLog = args.length > 4
+                ? new GameRecordLog(Paths.get(args[4]), layout, GameRecordLog.DEFAULT_SEGMENT_SIZE, false, seed)
+                : null;
+
+        final SelfPlayRunner runner = new SelfPlayRunner(layout, userMode, computerMode, threads, seed, recordLog);
+        System.out.println(userMode + " vs " + computerMode + " on " + layout.getSize() + "x"
+                + layout.getSize() + " (" + layout.getWinLength() + " in a row)");
+        System.out.println(runner.run(games));
+
+        if (recordLog != null) {
+            recordLog.close();
+            System.out.println(recordLog.getWrittenRecords() + " games written in " + recordLog.getWrittenBatches()
+                    + " batches to " + recordLog.getDirectory());
+        }
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,65 @@
+package de.gemuesehasser.tictactoe.simulation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ein {@link SimulationResult} fasst das Ergebnis aller Spiele zusammen, die der {@link SelfPlayRunner} gespielt hat.
+ * Die Siege und Niederlagen werden dabei aus Sicht des {@link de.gemuesehasser.tictactoe.constant.UserType#USER Nutzers}
+ * gezählt.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class SimulationResult {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Anzahl aller gespielten Spiele. */
+    private final long games;
+    /** Die Anzahl der Spiele, die der Nutzer gewonnen hat. */
+    private final long wins;
+    /** Die Anzahl der Spiele, die unentschieden ausgegangen sind. */
+    private final long draws;
+    /** Die Anzahl der Spiele, die der Nutzer verloren hat. */
+    private final long losses;
+    /** Die Dauer aller Spiele in Nanosekunden. */
+    private final long elapsedNanos;
+    /** Die Anzahl an Threads, auf die die Spiele verteilt wurden. */
+    private final int threads;
+    /** Der Startwert, aus dem die Zufallsgeneratoren aller Spiele abgeleitet wurden. */
+    private final long seed;
+    //</editor-fold>
+
+
+    /**
+     * Gibt die Anzahl an gespielten Spielen pro Sekunde zurück.
+     *
+     * @return Die Anzahl an gespielten Spielen pro Sekunde.
+     */
+    public long getGamesPerSecond() {
+        return this.elapsedNanos == 0 ? this.games : this.games * TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+    }
+
+    //<editor-fold desc="implementation">
+    @NotNull
+    @Override
+    public String toString() {
+        return String.format(
+                Locale.ROOT,
+                "games=%d wins=%d draws=%d losses=%d threads=%d elapsed=%dms games/s=%d seed=%d",
+                this.games,
+                this.wins,
+                this.draws,
+                this.losses,
+                this.threads,
+                TimeUnit.NANOSECONDS.toMillis(this.elapsedNanos),
+                getGamesPerSecond(),
+                this.seed
+        );
+    }
+    //</editor-fold>
+
+}
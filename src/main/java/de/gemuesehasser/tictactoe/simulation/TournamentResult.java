@@ -0,0 +1,336 @@
+package de.gemuesehasser.tictactoe.simulation;
+
+import de.gemuesehasser.tictactoe.ai.Strategy;
+import de.gemuesehasser.tictactoe.metrics.LatencyHistogram;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ein {@link TournamentResult} fasst das Ergebnis aller Spiele zusammen, die der {@link TournamentRunner} gespielt hat.
+ * Aus den Ergebnissen aller Paarungen wird für jede {@link Strategy} eine Elo-Zahl nach dem Bradley-Terry-Modell
+ * geschätzt, wobei ein Unentschieden als halber Sieg zählt. Damit eine {@link Strategy}, die nie verliert (oder nie
+ * gewinnt), trotzdem eine endliche Elo-Zahl erhält, wird jeder Paarung zusätzlich ein virtuelles Unentschieden
+ * hinzugefügt. Die Elo-Zahlen sind so verschoben, dass ihr Durchschnitt {@code 0} beträgt.
+ */
+@Getter
+public final class TournamentResult {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an virtuellen Unentschieden, die jeder Paarung hinzugefügt werden. */
+    private static final double PRIOR_DRAWS = 1;
+    /** Die höchste Anzahl an Iterationen, mit denen die Elo-Zahlen geschätzt werden. */
+    private static final int MAX_ITERATIONS = 10_000;
+    /** Die Veränderung, ab der die Schätzung der Elo-Zahlen als konvergiert gilt. */
+    private static final double CONVERGENCE_THRESHOLD = 1e-12;
+    /** Der Faktor, mit dem die Stärke einer {@link Strategy} auf der Elo-Skala umgerechnet wird. */
+    private static final double ELO_SCALE = 400 / Math.log(10);
+    /** Das Quantil der Normalverteilung für ein zweiseitiges 95%-Konfidenzintervall. */
+    private static final double CONFIDENCE_Z = 1.96;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Namen aller {@link Strategy Strategien}, anhand ihres Index. */
+    @Getter(AccessLevel.NONE)
+    @NotNull
+    private final String @NotNull [] names;
+    /** Die Indizes beider {@link Strategy Strategien} jeder Paarung. */
+    @Getter(AccessLevel.NONE)
+    private final int @NotNull [] @NotNull [] pairs;
+    /** Die Anzahl an Siegen, Unentschieden und Niederlagen je Paarung aus Sicht der ersten {@link Strategy}. */
+    @Getter(AccessLevel.NONE)
+    private final long @NotNull [] @NotNull [] results;
+    /** Die Dauer aller Entscheidungen je {@link Strategy}, anhand ihres Index. */
+    @Getter(AccessLevel.NONE)
+    @NotNull
+    private final LatencyHistogram @NotNull [] latencies;
+    /** Die Anzahl an Spielen, die jede Paarung gespielt hat. */
+    private final long gamesPerPair;
+    /** Die Dauer aller Spiele in Nanosekunden. */
+    private final long elapsedNanos;
+    /** Die Anzahl an Threads, auf die die Spiele verteilt wurden. */
+    private final int threads;
+    /** Der Startwert, aus dem die Zufallsgeneratoren aller Spiele abgeleitet wurden. */
+    private final long seed;
+    /** Die geschätzten Elo-Zahlen je {@link Strategy}, anhand ihres Index. */
+    @Getter(AccessLevel.NONE)
+    private final double @NotNull [] ratings;
+    /** Die halbe Breite des 95%-Konfidenzintervalls der Elo-Zahl je {@link Strategy}, anhand ihres Index. */
+    @Getter(AccessLevel.NONE)
+    private final double @NotNull [] confidences;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt ein neues {@link TournamentResult} und schätzt dabei die Elo-Zahlen aller {@link Strategy Strategien}.
+     *
+     * @param names        Die Namen aller {@link Strategy Strategien}, anhand ihres Index.
+     * @param pairs        Die Indizes beider {@link Strategy Strategien} jeder Paarung.
+     * @param results      Die Anzahl an Siegen, Unentschieden und Niederlagen je Paarung aus Sicht der ersten
+     *                     {@link Strategy}.
+     * @param latencies    Die Dauer aller Entscheidungen je {@link Strategy}, anhand ihres Index.
+     * @param gamesPerPair Die Anzahl an Spielen, die jede Paarung gespielt hat.
+     * @param elapsedNanos Die Dauer aller Spiele in Nanosekunden.
+     * @param threads      Die Anzahl an Threads, auf die die Spiele verteilt wurden.
+     * @param seed         Der Startwert, aus dem die Zufallsgeneratoren aller Spiele abgeleitet wurden.
+     */
+    TournamentResult(
+            @NotNull final String @NotNull [] names,
+            final int @NotNull [] @NotNull [] pairs,
+            final long @NotNull [] @NotNull [] results,
+            @NotNull final LatencyHistogram @NotNull [] latencies,
+            @Range(from = 0, to = Long.MAX_VALUE) final long gamesPerPair,
+            @Range(from = 0, to = Long.MAX_VALUE) final long elapsedNanos,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int threads,
+            final long seed
+    ) {
+        this.names = names;
+        this.pairs = pairs;
+        this.results = results;
+        this.latencies = latencies;
+        this.gamesPerPair = gamesPerPair;
+        this.elapsedNanos = elapsedNanos;
+        this.threads = threads;
+        this.seed = seed;
+        this.ratings = new double[names.length];
+        this.confidences = new double[names.length];
+
+        estimateRatings();
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt die Anzahl an {@link Strategy Strategien} zurück, die am Turnier teilgenommen haben.
+     *
+     * @return Die Anzahl an {@link Strategy Strategien}.
+     */
+    public int getStrategyCount() {
+        return this.names.length;
+    }
+
+    /**
+     * Gibt den Namen einer {@link Strategy} zurück.
+     *
+     * @param strategy Der Index der {@link Strategy}.
+     *
+     * @return Der Name der {@link Strategy}.
+     */
+    @NotNull
+    public String getName(@Range(from = 0, to = Integer.MAX_VALUE) final int strategy) {
+        return this.names[strategy];
+    }
+
+    /**
+     * Gibt die geschätzte Elo-Zahl einer {@link Strategy} zurück.
+     *
+     * @param strategy Der Index der {@link Strategy}.
+     *
+     * @return Die geschätzte Elo-Zahl, wobei der Durchschnitt aller Elo-Zahlen {@code 0} beträgt.
+     */
+    public double getRating(@Range(from = 0, to = Integer.MAX_VALUE) final int strategy) {
+        return this.ratings[strategy];
+    }
+
+    /**
+     * Gibt die halbe Breite des 95%-Konfidenzintervalls der Elo-Zahl einer {@link Strategy} zurück.
+     *
+     * @param strategy Der Index der {@link Strategy}.
+     *
+     * @return Die halbe Breite des Konfidenzintervalls in Elo.
+     */
+    public double getConfidence(@Range(from = 0, to = Integer.MAX_VALUE) final int strategy) {
+        return this.confidences[strategy];
+    }
+
+    /**
+     * Gibt den Anteil an Punkten zurück, die eine {@link Strategy} in all ihren Spielen geholt hat (ein Sieg zählt
+     * einen Punkt, ein Unentschieden einen halben Punkt).
+     *
+     * @param strategy Der Index der {@link Strategy}.
+     *
+     * @return Der Anteil an Punkten zwischen {@code 0} und {@code 1}.
+     */
+    public double getScore(@Range(from = 0, to = Integer.MAX_VALUE) final int strategy) {
+        double points = 0;
+        long games = 0;
+
+        for (int pair = 0; pair < this.pairs.length; pair++) {
+            final long[] result = this.results[pair];
+
+            if (this.pairs[pair][0] == strategy) points += result[0] + result[1] / 2.0;
+            else if (this.pairs[pair][1] == strategy) points += result[2] + result[1] / 2.0;
+            else continue;
+
+            games += result[0] + result[1] + result[2];
+        }
+
+        return games == 0 ? 0 : points / games;
+    }
+
+    /**
+     * Gibt die Dauer aller Entscheidungen einer {@link Strategy} zurück.
+     *
+     * @param strategy Der Index der {@link Strategy}.
+     *
+     * @return Die Dauer aller Entscheidungen der {@link Strategy}.
+     */
+    @NotNull
+    public LatencyHistogram getLatency(@Range(from = 0, to = Integer.MAX_VALUE) final int strategy) {
+        return this.latencies[strategy];
+    }
+
+    /**
+     * Gibt die Anzahl an gespielten Spielen pro Sekunde zurück.
+     *
+     * @return Die Anzahl an gespielten Spielen pro Sekunde.
+     */
+    public long getGamesPerSecond() {
+        final long games = this.gamesPerPair * this.pairs.length;
+        return this.elapsedNanos == 0 ? games : games * TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+    }
+
+    /**
+     * Schätzt die Stärke aller {@link Strategy Strategien} nach dem Bradley-Terry-Modell mithilfe des
+     * MM-Algorithmus und rechnet sie in Elo-Zahlen um. Das Konfidenzintervall ergibt sich aus der Fisher-Information
+     * der Spiele jeder {@link Strategy} bei den geschätzten Stärken.
+     */
+    private void estimateRatings() {
+        final int count = this.names.length;
+        final double[][] games = new double[count][count];
+        final double[] points = new double[count];
+
+        for (int pair = 0; pair < this.pairs.length; pair++) {
+            final int first = this.pairs[pair][0];
+            final int second = this.pairs[pair][1];
+            final long[] result = this.results[pair];
+            final double draws = result[1] + PRIOR_DRAWS;
+
+            games[first][second] += result[0] + result[2] + draws;
+            games[second][first] += result[0] + result[2] + draws;
+            points[first] += result[0] + draws / 2;
+            points[second] += result[2] + draws / 2;
+        }
+
+        final double[] strengths = new double[count];
+        Arrays.fill(strengths, 1);
+
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double change = 0;
+
+            for (int i = 0; i < count; i++) {
+                double denominator = 0;
+                for (int j = 0; j < count; j++) {
+                    if (games[i][j] > 0) denominator += games[i][j] / (strengths[i] + strengths[j]);
+                }
+
+                if (denominator == 0) continue;
+
+                final double strength = points[i] / denominator;
+                change = Math.max(change, Math.abs(Math.log(strength / strengths[i])));
+                strengths[i] = strength;
+            }
+
+            // keep the geometric mean at 1, so that the ratings average to 0
+            double logMean = 0;
+            for (final double strength : strengths) {
+                logMean += Math.log(strength) / count;
+            }
+
+            for (int i = 0; i < count; i++) {
+                strengths[i] /= Math.exp(logMean);
+            }
+
+            if (change < CONVERGENCE_THRESHOLD) break;
+        }
+
+        for (int i = 0; i < count; i++) {
+            double information = 0;
+            for (int j = 0; j < count; j++) {
+                final double expected = strengths[i] / (strengths[i] + strengths[j]);
+                information += games[i][j] * expected * (1 - expected);
+            }
+
+            this.ratings[i] = ELO_SCALE * Math.log(strengths[i]);
+            this.confidences[i] = information == 0
+                    ? Double.POSITIVE_INFINITY
+                    : CONFIDENCE_Z * ELO_SCALE / Math.sqrt(information);
+        }
+    }
+
+    //<editor-fold desc="implementation">
+    @NotNull
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(String.format(
+                Locale.ROOT,
+                "%-4s %-24s %7s %7s %7s %10s %10s %10s%n",
+                "rank",
+                "strategy",
+                "elo",
+                "95%",
+                "score",
+                "mean us",
+                "p50 us",
+                "p99 us"
+        ));
+
+        final Integer[] order = new Integer[this.names.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble(i -> -this.ratings[i]));
+
+        for (int rank = 0; rank < order.length; rank++) {
+            final int strategy = order[rank];
+            final LatencyHistogram latency = this.latencies[strategy];
+
+            builder.append(String.format(
+                    Locale.ROOT,
+                    "%4d %-24s %+7.0f %7s %6.1f%% %10.2f %10.2f %10.2f%n",
+                    rank + 1,
+                    this.names[strategy],
+                    this.ratings[strategy],
+                    String.format(Locale.ROOT, "+/-%.0f", this.confidences[strategy]),
+                    getScore(strategy) * 100,
+                    latency.getMeanNanos() / 1000.0,
+                    latency.getPercentileNanos(50) / 1000.0,
+                    latency.getPercentileNanos(99) / 1000.0
+            ));
+        }
+
+        for (int pair = 0; pair < this.pairs.length; pair++) {
+            final long[] result = this.results[pair];
+            builder.append(String.format(
+                    Locale.ROOT,
+                    "%s vs %s: +%d =%d -%d%n",
+                    this.names[this.pairs[pair][0]],
+                    this.names[this.pairs[pair][1]],
+                    result[0],
+                    result[1],
+                    result[2]
+            ));
+        }
+
+        return builder.append(String.format(
+                Locale.ROOT,
+                "games=%d threads=%d elapsed=%dms games/s=%d seed=%d",
+                this.gamesPerPair * this.pairs.length,
+                this.threads,
+                TimeUnit.NANOSECONDS.toMillis(this.elapsedNanos),
+                getGamesPerSecond(),
+                this.seed
+        )).toString();
+    }
+    //</editor-fold>
+
+}
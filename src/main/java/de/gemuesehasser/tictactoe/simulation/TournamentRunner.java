@@ -0,0 +1,259 @@
+package de.gemuesehasser.tictactoe.simulation;
+
+import de.gemuesehasser.tictactoe.ai.Strategy;
+import de.gemuesehasser.tictactoe.constant.ComputerMode;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.metrics.LatencyHistogram;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Der {@link TournamentRunner} lässt beliebig viele {@link Strategy Strategien} ohne grafische Oberfläche in einem
+ * Rundenturnier gegeneinander spielen, sodass jede Paarung gleich viele Spiele spielt. Innerhalb einer Paarung wechselt
+ * der erste Zug von Spiel zu Spiel zwischen beiden Strategien. Die Spiele aller Paarungen werden auf mehrere Threads
+ * verteilt, wobei jeder Thread sein eigenes {@link GameBoard Spielfeld} und seine eigenen Strategien besitzt.
+ * Zusätzlich wird die Dauer jeder einzelnen Entscheidung gemessen, sodass Strategien sowohl anhand ihrer Stärke als
+ * auch anhand ihrer Kosten verglichen werden können.
+ *
+ * <p>Wie beim {@link SelfPlayRunner} ergibt sich der Zufallsgenerator jedes Spiels allein aus dem Startwert des
+ * Turniers und der Nummer des Spiels, sodass zwei Turniere mit demselben Startwert exakt dieselben Spiele spielen.</p>
+ */
+@Getter
+public final class TournamentRunner {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an Spielen, die sich ein Thread auf einmal reserviert. */
+    private static final int BATCH_SIZE = 64;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Form des Spielfeldes, auf dem gespielt wird. */
+    @NotNull
+    private final BoardLayout layout;
+    /** Die Erzeuger aller teilnehmenden {@link Strategy Strategien}, da jeder Thread eigene Strategien benötigt. */
+    @NotNull
+    private final List<Supplier<? extends Strategy>> strategies;
+    /** Die Anzahl an Threads, auf die die Spiele verteilt werden. */
+    private final int threads;
+    /** Der Startwert, aus dem die Zufallsgeneratoren aller Spiele abgeleitet werden. */
+    private final long seed;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link TournamentRunner}.
+     *
+     * @param layout     Die Form des Spielfeldes, auf dem gespielt wird.
+     * @param strategies Die Erzeuger aller teilnehmenden {@link Strategy Strategien}, da jeder Thread eigene Strategien
+     *                   benötigt.
+     * @param threads    Die Anzahl an Threads, auf die die Spiele verteilt werden.
+     * @param seed       Der Startwert, aus dem die Zufallsgeneratoren aller Spiele abgeleitet werden.
+     *
+     * @throws IllegalArgumentException Wenn weniger als zwei Strategien teilnehmen oder weniger als ein Thread genutzt
+     *                                  wird.
+     */
+    public TournamentRunner(
+            @NotNull final BoardLayout layout,
+            @NotNull final List<Supplier<? extends Strategy>> strategies,
+            @Range(from = 1, to = Integer.MAX_VALUE) final int threads,
+            final long seed
+    ) {
+        if (strategies.size() < 2) throw new IllegalArgumentException("a tournament needs at least two strategies");
+        if (threads < 1) throw new IllegalArgumentException("a tournament needs at least one thread");
+
+        this.layout = layout;
+        this.strategies = new ArrayList<>(strategies);
+        this.threads = threads;
+        this.seed = seed;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Spielt eine bestimmte Anzahl an Spielen je Paarung und gibt das zusammengefasste Ergebnis zurück.
+     *
+     * @param gamesPerPair Die Anzahl an Spielen, die jede Paarung spielt.
+     *
+     * @return Das zusammengefasste Ergebnis aller Spiele.
+     *
+     * @throws InterruptedException Wenn der aufrufende Thread unterbrochen wird, während auf die Spiele gewartet wird.
+     */
+    @NotNull
+    public TournamentResult run(
+            @Range(from = 0, to = Long.MAX_VALUE) final long gamesPerPair
+    ) throws InterruptedException {
+        final int count = this.strategies.size();
+        final int[][] pairs = new int[count * (count - 1) / 2][];
+        for (int first = 0, pair = 0; first < count; first++) {
+            for (int second = first + 1; second < count; second++) {
+                pairs[pair++] = new int[] {first, second};
+            }
+        }
+
+        final long games = gamesPerPair * pairs.length;
+        final AtomicLong nextGame = new AtomicLong();
+        final long[][] results = new long[pairs.length][3];
+        final String[] names = new String[count];
+        final LatencyHistogram[] latencies = new LatencyHistogram[count];
+        for (int i = 0; i < count; i++) {
+            latencies[i] = new LatencyHistogram();
+        }
+
+        final Thread[] workers = new Thread[this.threads];
+        final long start = System.nanoTime();
+
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Thread(() -> {
+                final GameBoard board = new GameBoard(this.layout);
+                final Strategy[] players = new Strategy[count];
+                for (int strategy = 0; strategy < count; strategy++) {
+                    players[strategy] = this.strategies.get(strategy).get();
+                    names[strategy] = players[strategy].getName();
+                }
+
+                final long[][] localResults = new long[pairs.length][3];
+                long first;
+
+                try {
+                    while ((first = nextGame.getAndAdd(BATCH_SIZE)) < games) {
+                        final long last = Math.min(games, first + BATCH_SIZE);
+
+                        for (long game = first; game < last; game++) {
+                            final int pair = (int) (game / gamesPerPair);
+                            final UserType starter = (game % gamesPerPair) % 2 == 0 ? UserType.USER : UserType.COMPUTER;
+                            final UserType winner = playGame(
+                                    board,
+                                    players,
+                                    latencies,
+                                    pairs[pair],
+                                    starter,
+                                    SelfPlayRunner.getGameSeed(this.seed, game)
+                            );
+
+                            // the first strategy of a pair always plays as the user
+                            localResults[pair][winner == UserType.USER ? 0 : winner == null ? 1 : 2]++;
+                        }
+                    }
+                } finally {
+                    SelfPlayRunner.closePlayers(players);
+                }
+
+                synchronized (results) {
+                    for (int pair = 0; pair < pairs.length; pair++) {
+                        for (int outcome = 0; outcome < 3; outcome++) {
+                            results[pair][outcome] += localResults[pair][outcome];
+                        }
+                    }
+                }
+            }, "tournament-" + i);
+            workers[i].start();
+        }
+
+        for (@NotNull final Thread worker : workers) {
+            worker.join();
+        }
+
+        return new TournamentResult(
+                names,
+                pairs,
+                results,
+                latencies,
+                gamesPerPair,
+                System.nanoTime() - start,
+                this.threads,
+                this.seed
+        );
+    }
+
+    /**
+     * Spielt ein einzelnes Spiel einer Paarung auf einem Spielfeld, welches vorher zurückgesetzt wird. Die erste
+     * {@link Strategy} der Paarung spielt als {@link UserType#USER Nutzer}, die zweite als
+     * {@link UserType#COMPUTER Computer}. Beide {@link Strategy Strategien} erhalten jeweils einen eigenen
+     * Zufallsgenerator, der vom Zufallsgenerator des Spiels abgespalten wird.
+     *
+     * @param board     Das Spielfeld, auf dem gespielt wird.
+     * @param players   Die Strategien aller Teilnehmer, anhand ihres Index.
+     * @param latencies Die Dauer aller Entscheidungen je {@link Strategy}, anhand ihres Index.
+     * @param pair      Die Indizes beider {@link Strategy Strategien} der Paarung.
+     * @param starter   Der {@link UserType Typ}, der den ersten Zug macht.
+     * @param seed      Der Startwert des Zufallsgenerators des Spiels.
+     *
+     * @return Der {@link UserType Typ}, der das Spiel gewonnen hat bzw. {@code null}, wenn es unentschieden ist.
+     */
+    @Nullable
+    private static UserType playGame(
+            @NotNull final GameBoard board,
+            @NotNull final Strategy @NotNull [] players,
+            @NotNull final LatencyHistogram @NotNull [] latencies,
+            final int @NotNull [] pair,
+            @NotNull final UserType starter,
+            final long seed
+    ) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        for (final int strategy : pair) {
+            players[strategy].startGame(random.split());
+        }
+
+        board.reset(starter);
+
+        while (!board.isOver()) {
+            final UserType mover = board.getTurn();
+            final int strategy = pair[mover == UserType.USER ? 0 : 1];
+
+            final long start = System.nanoTime();
+            final int move = players[strategy].getBestPlacement(board, mover);
+            latencies[strategy].recordSince(start);
+
+            board.make(move);
+        }
+
+        return board.getWinner();
+    }
+
+
+    //<editor-fold desc="main">
+
+    /**
+     * Startet ein Turnier ohne grafische Oberfläche zwischen mehreren {@link ComputerMode Modi} und gibt das Ergebnis
+     * auf der Konsole aus. Die Form des Spielfeldes wird wie beim Spiel selbst über System-Properties festgelegt, der
+     * Startwert über {@value SelfPlayRunner#SEED_PROPERTY_NAME} (sonst zufällig).
+     *
+     * @param args Die Anzahl an Spielen je Paarung, die durch Kommas getrennten Modi aller Teilnehmer und die Anzahl an
+     *             Threads (jeweils optional).
+     *
+     * @throws InterruptedException Wenn der Thread unterbrochen wird, während auf die Spiele gewartet wird.
+     */
+    public static void main(@NotNull final String @NotNull [] args) throws InterruptedException {
+        final long gamesPerPair = args.length > 0 ? Long.parseLong(args[0]) : 1_000;
+        final String modes = args.length > 1 ? args[1] : "heuristic,perfect_play,search";
+        final int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        final List<Supplier<? extends Strategy>> strategies = new ArrayList<>();
+        for (@NotNull final String mode : modes.split(",")) {
+            final ComputerMode computerMode = ComputerMode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+            strategies.add(() -> SelfPlayRunner.createPlayer(computerMode));
+        }
+
+        final BoardLayout layout = BoardLayout.getConfigured();
+        System.out.println(modes + " on " + layout.getSize() + "x" + layout.getSize() + " ("
+                + layout.getWinLength() + " in a row), " + gamesPerPair + " games per pair");
+        final long seed = Long.getLong(SelfPlayRunner.SEED_PROPERTY_NAME, new SplittableRandom().nextLong());
+        System.out.println(new TournamentRunner(layout, strategies, threads, seed).run(gamesPerPair));
+    }
+    //</editor-fold>
+
+}
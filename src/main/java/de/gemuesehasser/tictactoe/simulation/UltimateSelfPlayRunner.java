@@ -0,0 +1,107 @@
+package de.gemuesehasser.tictactoe.simulation;
+
+import de.gemuesehasser.tictactoe.ai.MonteCarloResult;
+import de.gemuesehasser.tictactoe.ai.MonteCarloSearch;
+import de.gemuesehasser.tictactoe.ai.SearchEngine;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.UltimateBoard;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+/**
+ * Der {@link UltimateSelfPlayRunner} lässt zwei {@link MonteCarloSearch Monte-Carlo-Suchen} ohne grafische Oberfläche
+ * Ultimate Tic-Tac-Toe gegeneinander spielen. Anders als beim {@link SelfPlayRunner} werden die Spiele nicht auf
+ * mehrere Threads verteilt, sondern jede einzelne Suche nutzt alle Threads, genau wie im Spiel selbst. Damit misst der
+ * {@link UltimateSelfPlayRunner} den Durchsatz an zufälligen Partien, den eine Maschine im Spiel erreicht.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class UltimateSelfPlayRunner {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Das Zeitbudget pro Zug in Millisekunden. */
+    private final long timeBudgetMillis;
+    /** Die Anzahl an Threads, auf die jede Suche verteilt wird. */
+    private final int threads;
+    //</editor-fold>
+
+
+    /**
+     * Spielt eine bestimmte Anzahl an Spielen und gibt das zusammengefasste Ergebnis zurück. Der erste Zug wechselt von
+     * Spiel zu Spiel zwischen beiden Suchen, die ihren Baum jeweils über alle Züge eines Spiels hinweg weiterverwenden.
+     *
+     * @param games Die Anzahl an Spielen, die gespielt werden sollen.
+     *
+     * @return Das zusammengefasste Ergebnis aller Spiele.
+     */
+    @NotNull
+    public UltimateSimulationResult run(@Range(from = 0, to = Long.MAX_VALUE) final long games) {
+        final MonteCarloSearch[] players = new MonteCarloSearch[UserType.values().length];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = new MonteCarloSearch(this.timeBudgetMillis, this.threads);
+        }
+
+        final UltimateBoard board = new UltimateBoard();
+        final long[] results = new long[UserType.values().length + 1];
+        long moves = 0;
+        long playouts = 0;
+        long reusedPlayouts = 0;
+        long searchNanos = 0;
+
+        for (long game = 0; game < games; game++) {
+            board.reset(game % 2 == 0 ? UserType.USER : UserType.COMPUTER);
+            for (@NotNull final MonteCarloSearch player : players) {
+                player.clear();
+            }
+
+            while (!board.getOutcome().isOver()) {
+                final MonteCarloResult result = players[board.getTurn().ordinal()].search(board);
+                board.place(result.getBestMove());
+
+                moves++;
+                playouts += result.getPlayouts();
+                reusedPlayouts += result.getReusedPlayouts();
+                searchNanos += result.getElapsedNanos();
+            }
+
+            final UserType winner = board.getOutcome().getWinner();
+            results[winner == null ? results.length - 1 : winner.ordinal()]++;
+        }
+
+        return new UltimateSimulationResult(
+                games,
+                results[UserType.USER.ordinal()],
+                results[results.length - 1],
+                results[UserType.COMPUTER.ordinal()],
+                moves,
+                playouts,
+                reusedPlayouts,
+                searchNanos,
+                this.threads
+        );
+    }
+
+
+    //<editor-fold desc="main">
+
+    /**
+     * Startet eine Simulation ohne grafische Oberfläche und gibt das Ergebnis auf der Konsole aus.
+     *
+     * @param args Die Anzahl an Spielen, das Zeitbudget pro Zug in Millisekunden und die Anzahl an Threads (jeweils
+     *             optional).
+     */
+    public static void main(@NotNull final String @NotNull [] args) {
+        final long games = args.length > 0 ? Long.parseLong(args[0]) : 10;
+        final long timeBudgetMillis = args.length > 1
+                ? Long.parseLong(args[1])
+                : Long.getLong(SearchEngine.TIME_BUDGET_PROPERTY_NAME, SearchEngine.DEFAULT_TIME_BUDGET_MILLIS);
+        final int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        System.out.println("ultimate tic-tac-toe, " + timeBudgetMillis + "ms per move, " + games + " games");
+        System.out.println(new UltimateSelfPlayRunner(timeBudgetMillis, threads).run(games));
+    }
+    //</editor-fold>
+
+}
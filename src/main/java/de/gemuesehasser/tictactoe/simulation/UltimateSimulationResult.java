@@ -0,0 +1,83 @@
+package de.gemuesehasser.tictactoe.simulation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ein {@link UltimateSimulationResult} fasst das Ergebnis aller Spiele zusammen, die der {@link UltimateSelfPlayRunner}
+ * gespielt hat. Neben den Siegen und Niederlagen aus Sicht des
+ * {@link de.gemuesehasser.tictactoe.constant.UserType#USER Nutzers} enthält es den Durchsatz an zufälligen Partien
+ * aller Suchen, anhand dessen die Maschinen für diesen Modus ausgewählt werden können.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class UltimateSimulationResult {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Anzahl aller gespielten Spiele. */
+    private final long games;
+    /** Die Anzahl der Spiele, die der Nutzer gewonnen hat. */
+    private final long wins;
+    /** Die Anzahl der Spiele, die unentschieden ausgegangen sind. */
+    private final long draws;
+    /** Die Anzahl der Spiele, die der Nutzer verloren hat. */
+    private final long losses;
+    /** Die Anzahl aller Züge, also aller Suchen. */
+    private final long moves;
+    /** Die Anzahl aller zufälligen Partien, die in allen Suchen gespielt wurden. */
+    private final long playouts;
+    /** Die Anzahl aller zufälligen Partien, die aus dem Baum der jeweils vorherigen Suche übernommen wurden. */
+    private final long reusedPlayouts;
+    /** Die Dauer aller Suchen in Nanosekunden. */
+    private final long searchNanos;
+    /** Die Anzahl an Threads, auf die jede Suche verteilt wurde. */
+    private final int threads;
+    //</editor-fold>
+
+
+    /**
+     * Gibt die Anzahl an zufälligen Partien pro Sekunde über alle Suchen zurück.
+     *
+     * @return Die Anzahl an zufälligen Partien pro Sekunde.
+     */
+    public long getPlayoutsPerSecond() {
+        return this.searchNanos == 0 ? this.playouts : this.playouts * TimeUnit.SECONDS.toNanos(1) / this.searchNanos;
+    }
+
+    /**
+     * Gibt den Anteil der zufälligen Partien zurück, mit dem jede Suche durch den übernommenen Baum bereits beginnt.
+     *
+     * @return Der Anteil der übernommenen Partien an allen Partien, die einer Suche zur Verfügung standen.
+     */
+    public double getReuseRate() {
+        final long total = this.playouts + this.reusedPlayouts;
+        return total == 0 ? 0 : (double) this.reusedPlayouts / total;
+    }
+
+    //<editor-fold desc="implementation">
+    @NotNull
+    @Override
+    public String toString() {
+        return String.format(
+                Locale.ROOT,
+                "games=%d wins=%d draws=%d losses=%d moves=%d threads=%d playouts=%d playouts/s=%d"
+                        + " playouts/s/thread=%d reused=%.1f%%",
+                this.games,
+                this.wins,
+                this.draws,
+                this.losses,
+                this.moves,
+                this.threads,
+                this.playouts,
+                getPlayoutsPerSecond(),
+                getPlayoutsPerSecond() / this.threads,
+                getReuseRate() * 100
+        );
+    }
+    //</editor-fold>
+
+}
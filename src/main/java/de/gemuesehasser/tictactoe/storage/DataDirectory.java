@@ -0,0 +1,46 @@
+package de.gemuesehasser.tictactoe.storage;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Das {@link DataDirectory} ist das Verzeichnis, in dem alle Daten dieser Anwendung dauerhaft abgespeichert werden. Es
+ * kann beim Starten mithilfe einer System-Property festgelegt werden und liegt ansonsten im Home-Verzeichnis des Nutzers.
+ */
+public final class DataDirectory {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Name der System-Property, mit der das Verzeichnis beim Starten festgelegt werden kann. */
+    @NotNull
+    public static final String PROPERTY_NAME = "tictactoe.dataDirectory";
+    /** Der Name des Verzeichnisses im Home-Verzeichnis des Nutzers, wenn kein Verzeichnis festgelegt wurde. */
+    @NotNull
+    private static final String DEFAULT_NAME = ".tictactoe";
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Instanzen dieser Klasse werden nicht benötigt.
+     */
+    private DataDirectory() {
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt das Verzeichnis zurück, welches mithilfe der System-Property {@value #PROPERTY_NAME} festgelegt wurde. Ist
+     * diese nicht gesetzt, wird das Verzeichnis {@value #DEFAULT_NAME} im Home-Verzeichnis des Nutzers zurückgegeben.
+     *
+     * @return Das Verzeichnis, in dem alle Daten dieser Anwendung abgespeichert werden.
+     */
+    @NotNull
+    public static Path getConfigured() {
+        final String directory = System.getProperty(PROPERTY_NAME);
+        return directory != null ? Paths.get(directory) : Paths.get(System.getProperty("user.home"), DEFAULT_NAME);
+    }
+
+}
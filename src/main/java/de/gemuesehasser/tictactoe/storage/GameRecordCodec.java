@@ -0,0 +1,360 @@
+package de.gemuesehasser.tictactoe.storage;
+
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Der {@link GameRecordCodec} beschreibt das binäre Format, in dem ein beendetes Spiel auf einem bestimmten
+ * {@link BoardLayout} abgespeichert wird. Jedes Spiel wird als Folge von Bits abgespeichert, deren Breite sich aus der
+ * Größe des Spielfeldes ergibt, und auf ganze Bytes aufgerundet:
+ *
+ * <ol>
+ *     <li>die Nummer des Spiels innerhalb seiner Simulation (8 Bytes, nur in einem
+ *     {@link #isNumbered() nummerierten} Format),</li>
+ *     <li>die Anzahl der Züge,</li>
+ *     <li>das Ergebnis (2 Bit: {@code 0} unentschieden, sonst Ordinalzahl des Gewinners + 1),</li>
+ *     <li>der {@link UserType Typ}, der den ersten Zug gemacht hat (1 Bit),</li>
+ *     <li>die Linie, mit der gewonnen wurde (nur bei einem Sieg; auf einem 3x3 Spielfeld die Ordinalzahl der
+ *     {@link de.gemuesehasser.tictactoe.constant.CombinationType Kombination}),</li>
+ *     <li>die Indizes aller belegten Felder in der Reihenfolge der Züge.</li>
+ * </ol>
+ *
+ * <p>Ein Spiel auf einem 3x3 Spielfeld belegt damit höchstens 6 Bytes (bzw. 14 Bytes mit Nummer). Die Bits werden
+ * innerhalb eines Bytes vom niedrigsten Bit an belegt.</p>
+ */
+@Getter
+public final class GameRecordCodec {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an Bits, mit denen das Ergebnis eines Spiels abgespeichert wird. */
+    private static final int OUTCOME_BITS = 2;
+    /** Die Anzahl an Bits, mit denen der {@link UserType Typ} abgespeichert wird, der den ersten Zug gemacht hat. */
+    private static final int STARTER_BITS = 1;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Form des Spielfeldes, auf dem die Spiele gespielt wurden. */
+    @NotNull
+    private final BoardLayout layout;
+    /** Die Anzahl an Bits, mit denen die Anzahl der Züge abgespeichert wird. */
+    private final int moveCountBits;
+    /** Die Anzahl an Bits, mit denen der Index eines Feldes abgespeichert wird. */
+    private final int cellBits;
+    /** Die Anzahl an Bits, mit denen der Index einer Linie abgespeichert wird. */
+    private final int lineBits;
+    /** Ob jedes Spiel mit seiner Nummer innerhalb seiner Simulation abgespeichert wird. */
+    private final boolean numbered;
+    /** Die Anzahl an Bytes, mit denen die Nummer eines Spiels vor den übrigen Bits abgespeichert wird. */
+    private final int gameBytes;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link GameRecordCodec} für Spiele auf einem bestimmten {@link BoardLayout}, die ohne ihre
+     * Nummer abgespeichert werden.
+     *
+     * @param layout Die Form des Spielfeldes, auf dem die Spiele gespielt wurden.
+     */
+    public GameRecordCodec(@NotNull final BoardLayout layout) {
+        this(layout, false);
+    }
+
+    /**
+     * Erzeugt einen neuen {@link GameRecordCodec} für Spiele auf einem bestimmten {@link BoardLayout}.
+     *
+     * @param layout   Die Form des Spielfeldes, auf dem die Spiele gespielt wurden.
+     * @param numbered Ob jedes Spiel mit seiner Nummer innerhalb seiner Simulation abgespeichert wird.
+     */
+    public GameRecordCodec(@NotNull final BoardLayout layout, final boolean numbered) {
+        this.layout = layout;
+        this.moveCountBits = getBits(layout.getCellCount() + 1);
+        this.cellBits = getBits(layout.getCellCount());
+        this.lineBits = getBits(layout.getLines().length);
+        this.numbered = numbered;
+        this.gameBytes = numbered ? Long.BYTES : 0;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt die Anzahl an Bytes zurück, die ein beendetes Spiel belegt.
+     *
+     * @param board Das Spielfeld des beendeten Spiels.
+     *
+     * @return Die Anzahl an Bytes, die das Spiel belegt.
+     */
+    public int getLength(@NotNull final GameBoard board) {
+        return getLength(board.getMoveCount(), board.getWinner() != null);
+    }
+
+    /**
+     * Gibt die Anzahl an Bytes zurück, die das Spiel an einer bestimmten Position belegt.
+     *
+     * @param buffer Der Puffer, in dem das Spiel abgespeichert ist.
+     * @param offset Die Position des Spiels im Puffer.
+     *
+     * @return Die Anzahl an Bytes, die das Spiel belegt.
+     */
+    public int getLength(@NotNull final ByteBuffer buffer, @Range(from = 0, to = Integer.MAX_VALUE) final int offset) {
+        return getLength(getMoveCount(buffer, offset), getWinner(buffer, offset) != null);
+    }
+
+    /**
+     * Gibt die Anzahl an Bytes zurück, die jedes Spiel mindestens belegt. Diese reichen aus, um die Länge eines Spiels
+     * zu bestimmen.
+     *
+     * @return Die Anzahl an Bytes, die jedes Spiel mindestens belegt.
+     */
+    public int getMinimumLength() {
+        return getLength(0, false);
+    }
+
+    /**
+     * Schreibt ein beendetes Spiel an die aktuelle Position eines Puffers und verschiebt die Position hinter das Spiel.
+     *
+     * @param board  Das Spielfeld des beendeten Spiels.
+     * @param buffer Der Puffer, in den das Spiel geschrieben wird.
+     *
+     * @throws IllegalStateException Wenn jedes Spiel mit seiner Nummer abgespeichert wird.
+     */
+    public void encode(@NotNull final GameBoard board, @NotNull final ByteBuffer buffer) {
+        if (this.numbered) throw new IllegalStateException("a numbered game record needs the number of the game");
+
+        encode(board, 0, buffer);
+    }
+
+    /**
+     * Schreibt ein beendetes Spiel mit seiner Nummer an die aktuelle Position eines Puffers und verschiebt die Position
+     * hinter das Spiel. Die Nummer wird nur in einem {@link #isNumbered() nummerierten} Format abgespeichert.
+     *
+     * @param board  Das Spielfeld des beendeten Spiels.
+     * @param game   Die Nummer des Spiels innerhalb seiner Simulation.
+     * @param buffer Der Puffer, in den das Spiel geschrieben wird.
+     */
+    public void encode(
+            @NotNull final GameBoard board,
+            @Range(from = 0, to = Long.MAX_VALUE) final long game,
+            @NotNull final ByteBuffer buffer
+    ) {
+        final int offset = buffer.position();
+        final int length = getLength(board);
+
+        for (int i = 0; i < length; i++) {
+            buffer.put(offset + i, (byte) 0);
+        }
+
+        if (this.numbered) buffer.putLong(offset, game);
+
+        final int start = offset + this.gameBytes;
+        final UserType winner = board.getWinner();
+        final UserType starter = board.getStarter();
+        int bit = 0;
+
+        bit = writeBits(buffer, start, bit, this.moveCountBits, board.getMoveCount());
+        bit = writeBits(buffer, start, bit, OUTCOME_BITS, winner == null ? 0 : winner.ordinal() + 1);
+        bit = writeBits(buffer, start, bit, STARTER_BITS, starter == null ? 0 : starter.ordinal());
+        if (winner != null) bit = writeBits(buffer, start, bit, this.lineBits, board.getWinLine());
+
+        for (int move = 0; move < board.getMoveCount(); move++) {
+            bit = writeBits(buffer, start, bit, this.cellBits, board.getMove(move));
+        }
+
+        buffer.position(offset + length);
+    }
+
+    /**
+     * Gibt die Anzahl der Züge des Spiels an einer bestimmten Position zurück.
+     *
+     * @param buffer Der Puffer, in dem das Spiel abgespeichert ist.
+     * @param offset Die Position des Spiels im Puffer.
+     *
+     * @return Die Anzahl der Züge des Spiels.
+     */
+    public int getMoveCount(@NotNull final ByteBuffer buffer, @Range(from = 0, to = Integer.MAX_VALUE) final int offset) {
+        return readField(buffer, offset, 0, this.moveCountBits);
+    }
+
+    /**
+     * Gibt die Nummer des Spiels an einer bestimmten Position innerhalb seiner Simulation zurück.
+     *
+     * @param buffer Der Puffer, in dem das Spiel abgespeichert ist.
+     * @param offset Die Position des Spiels im Puffer.
+     *
+     * @return Die Nummer des Spiels bzw. {@code -1}, wenn das Spiel ohne Nummer abgespeichert ist.
+     */
+    public long getGame(@NotNull final ByteBuffer buffer, @Range(from = 0, to = Integer.MAX_VALUE) final int offset) {
+        return this.numbered ? buffer.getLong(offset) : -1;
+    }
+
+    /**
+     * Gibt den Gewinner des Spiels an einer bestimmten Position zurück.
+     *
+     * @param buffer Der Puffer, in dem das Spiel abgespeichert ist.
+     * @param offset Die Position des Spiels im Puffer.
+     *
+     * @return Der {@link UserType Typ}, der das Spiel gewonnen hat bzw. {@code null}, wenn es unentschieden ist.
+     */
+    @Nullable
+    public UserType getWinner(@NotNull final ByteBuffer buffer, @Range(from = 0, to = Integer.MAX_VALUE) final int offset) {
+        final int outcome = readField(buffer, offset, this.moveCountBits, OUTCOME_BITS);
+        return outcome == 0 ? null : UserType.values()[outcome - 1];
+    }
+
+    /**
+     * Gibt den {@link UserType Typen} zurück, der im Spiel an einer bestimmten Position den ersten Zug gemacht hat.
+     *
+     * @param buffer Der Puffer, in dem das Spiel abgespeichert ist.
+     * @param offset Die Position des Spiels im Puffer.
+     *
+     * @return Der {@link UserType Typ}, der den ersten Zug gemacht hat.
+     */
+    @NotNull
+    public UserType getStarter(@NotNull final ByteBuffer buffer, @Range(from = 0, to = Integer.MAX_VALUE) final int offset) {
+        return UserType.values()[readField(buffer, offset, this.moveCountBits + OUTCOME_BITS, STARTER_BITS)];
+    }
+
+    /**
+     * Gibt den Index der Linie zurück, mit der das Spiel an einer bestimmten Position gewonnen wurde.
+     *
+     * @param buffer Der Puffer, in dem das Spiel abgespeichert ist.
+     * @param offset Die Position des Spiels im Puffer.
+     *
+     * @return Der Index der Linie, mit der gewonnen wurde bzw. {@code -1}, wenn das Spiel unentschieden ist.
+     */
+    public int getWinLine(@NotNull final ByteBuffer buffer, @Range(from = 0, to = Integer.MAX_VALUE) final int offset) {
+        if (getWinner(buffer, offset) == null) return -1;
+
+        return readField(buffer, offset, this.moveCountBits + OUTCOME_BITS + STARTER_BITS, this.lineBits);
+    }
+
+    /**
+     * Gibt den Index des Feldes zurück, welches im Spiel an einer bestimmten Position mit einem bestimmten Zug belegt
+     * wurde.
+     *
+     * @param buffer Der Puffer, in dem das Spiel abgespeichert ist.
+     * @param offset Die Position des Spiels im Puffer.
+     * @param move   Die Nummer des Zuges, beginnend bei {@code 0}.
+     *
+     * @return Der Index des Feldes, welches mit diesem Zug belegt wurde.
+     */
+    public int getMove(
+            @NotNull final ByteBuffer buffer,
+            @Range(from = 0, to = Integer.MAX_VALUE) final int offset,
+            @Range(from = 0, to = Integer.MAX_VALUE) final int move
+    ) {
+        final int headerBits = this.moveCountBits + OUTCOME_BITS + STARTER_BITS
+                + (getWinner(buffer, offset) == null ? 0 : this.lineBits);
+
+        return readField(buffer, offset, headerBits + move * this.cellBits, this.cellBits);
+    }
+
+    /**
+     * Gibt die Anzahl an Bytes zurück, die ein Spiel mit einer bestimmten Anzahl an Zügen belegt.
+     *
+     * @param moveCount Die Anzahl der Züge.
+     * @param won       Ob das Spiel gewonnen wurde und damit die Linie abgespeichert wird.
+     *
+     * @return Die Anzahl an Bytes, die das Spiel belegt.
+     */
+    private int getLength(final int moveCount, final boolean won) {
+        final int bits = this.moveCountBits + OUTCOME_BITS + STARTER_BITS + (won ? this.lineBits : 0)
+                + moveCount * this.cellBits;
+
+        return this.gameBytes + (bits + Byte.SIZE - 1) / Byte.SIZE;
+    }
+
+
+    /**
+     * Liest einen Wert mit einer bestimmten Anzahl an Bits aus dem Spiel an einer bestimmten Position. Die Position der
+     * Bits wird dabei hinter der Nummer des Spiels gezählt, sofern diese abgespeichert wird.
+     *
+     * @param buffer Der Puffer, in dem das Spiel abgespeichert ist.
+     * @param offset Die Position des Spiels im Puffer.
+     * @param bit    Die Position des ersten Bits relativ zu den Bits des Spiels.
+     * @param bits   Die Anzahl an Bits.
+     *
+     * @return Der gelesene Wert.
+     */
+    private int readField(@NotNull final ByteBuffer buffer, final int offset, final int bit, final int bits) {
+        return readBits(buffer, offset + this.gameBytes, bit, bits);
+    }
+
+
+    //<editor-fold desc="utility">
+
+    /**
+     * Gibt die Anzahl an Bits zurück, die benötigt werden, um alle Werte von {@code 0} bis {@code values - 1}
+     * darzustellen.
+     *
+     * @param values Die Anzahl der Werte.
+     *
+     * @return Die Anzahl an Bits, die benötigt werden.
+     */
+    private static int getBits(final int values) {
+        return Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(values - 1));
+    }
+
+    /**
+     * Schreibt einen Wert mit einer bestimmten Anzahl an Bits in einen Puffer, dessen Bytes an dieser Stelle noch leer
+     * sind.
+     *
+     * @param buffer Der Puffer, in den geschrieben wird.
+     * @param offset Die Position des Spiels im Puffer.
+     * @param bit    Die Position des ersten Bits relativ zum Spiel.
+     * @param bits   Die Anzahl an Bits.
+     * @param value  Der Wert, der geschrieben wird.
+     *
+     * @return Die Position des Bits hinter dem geschriebenen Wert.
+     */
+    private static int writeBits(
+            @NotNull final ByteBuffer buffer,
+            final int offset,
+            final int bit,
+            final int bits,
+            final int value
+    ) {
+        for (int i = 0; i < bits; i++) {
+            if ((value >>> i & 1) == 0) continue;
+
+            final int index = offset + (bit + i) / Byte.SIZE;
+            buffer.put(index, (byte) (buffer.get(index) | 1 << (bit + i) % Byte.SIZE));
+        }
+
+        return bit + bits;
+    }
+
+    /**
+     * Liest einen Wert mit einer bestimmten Anzahl an Bits aus einem Puffer.
+     *
+     * @param buffer Der Puffer, aus dem gelesen wird.
+     * @param offset Die Position des Spiels im Puffer.
+     * @param bit    Die Position des ersten Bits relativ zum Spiel.
+     * @param bits   Die Anzahl an Bits.
+     *
+     * @return Der gelesene Wert.
+     */
+    private static int readBits(@NotNull final ByteBuffer buffer, final int offset, final int bit, final int bits) {
+        final int first = offset + bit / Byte.SIZE;
+        final int shift = bit % Byte.SIZE;
+        final int bytes = (shift + bits + Byte.SIZE - 1) / Byte.SIZE;
+        long window = 0;
+
+        for (int i = 0; i < bytes; i++) {
+            window |= (buffer.get(first + i) & 0xFFL) << i * Byte.SIZE;
+        }
+
+        return (int) (window >>> shift) & (1 << bits) - 1;
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,187 @@
+package de.gemuesehasser.tictactoe.storage;
+
+import de.gemuesehasser.tictactoe.constant.CombinationType;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Ein {@link GameRecordCursor} zeigt beim Auslesen eines {@link GameRecordLog} auf ein einzelnes Spiel. Es wird für
+ * alle Spiele eines Segments derselbe {@link GameRecordCursor} genutzt, der lediglich weitergeschoben wird, sodass beim
+ * Auslesen keine Objekte je Spiel erzeugt werden. Ein {@link GameRecordCursor} ist daher nur innerhalb des Aufrufs
+ * gültig, dem er übergeben wird.
+ *
+ * <p>Stammt ein Spiel aus einem Log mit Startwert, lässt es sich mit {@link #getSeed()} und {@link #getGame()} über
+ * {@code new SelfPlayRunner(..., getSeed(), null).replay(getGame())} mit denselben Einstellungen erneut spielen.</p>
+ */
+public final class GameRecordCursor {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Das Format, in dem die Spiele des aktuellen Segments abgespeichert sind. */
+    @NotNull
+    private GameRecordCodec codec;
+    /** Der Puffer, in dem das aktuelle Segment abgebildet ist. */
+    @NotNull
+    private ByteBuffer buffer;
+    /** Die Position des aktuellen Spiels im Puffer. */
+    private int offset;
+    /** Der Startwert der Simulation, aus der das aktuelle Segment stammt. */
+    private long seed;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link GameRecordCursor}, der auf das erste Spiel in einem Puffer zeigt.
+     *
+     * @param codec  Das Format, in dem die Spiele abgespeichert sind.
+     * @param buffer Der Puffer, in dem die Spiele abgespeichert sind.
+     * @param offset Die Position des ersten Spiels im Puffer.
+     * @param seed   Der Startwert der Simulation, aus der die Spiele stammen.
+     */
+    GameRecordCursor(
+            @NotNull final GameRecordCodec codec,
+            @NotNull final ByteBuffer buffer,
+            @Range(from = 0, to = Integer.MAX_VALUE) final int offset,
+            final long seed
+    ) {
+        this.codec = codec;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.seed = seed;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Lässt diesen {@link GameRecordCursor} auf ein anderes Spiel zeigen.
+     *
+     * @param codec  Das Format, in dem das Spiel abgespeichert ist.
+     * @param buffer Der Puffer, in dem das Spiel abgespeichert ist.
+     * @param offset Die Position des Spiels im Puffer.
+     * @param seed   Der Startwert der Simulation, aus der die Spiele stammen.
+     */
+    void moveTo(
+            @NotNull final GameRecordCodec codec,
+            @NotNull final ByteBuffer buffer,
+            @Range(from = 0, to = Integer.MAX_VALUE) final int offset,
+            final long seed
+    ) {
+        this.codec = codec;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.seed = seed;
+    }
+
+    /**
+     * Gibt die Form des Spielfeldes zurück, auf dem das aktuelle Spiel gespielt wurde.
+     *
+     * @return Die Form des Spielfeldes.
+     */
+    @NotNull
+    public BoardLayout getLayout() {
+        return this.codec.getLayout();
+    }
+
+    /**
+     * Gibt zurück, ob das aktuelle Spiel aus einem Log mit Startwert stammt und mit seiner Nummer abgespeichert wurde.
+     *
+     * @return Wenn das Spiel mit seiner Nummer abgespeichert wurde {@code true}, ansonsten {@code false}.
+     */
+    public boolean isNumbered() {
+        return this.codec.isNumbered();
+    }
+
+    /**
+     * Gibt den Startwert der Simulation zurück, aus der das aktuelle Spiel stammt.
+     *
+     * @return Der Startwert der Simulation bzw. {@code 0}, wenn das Spiel nicht {@link #isNumbered() nummeriert} ist.
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Gibt die Nummer des aktuellen Spiels innerhalb seiner Simulation zurück.
+     *
+     * @return Die Nummer des Spiels bzw. {@code -1}, wenn das Spiel nicht {@link #isNumbered() nummeriert} ist.
+     */
+    public long getGame() {
+        return this.codec.getGame(this.buffer, this.offset);
+    }
+
+    /**
+     * Gibt die Anzahl der Züge des aktuellen Spiels zurück.
+     *
+     * @return Die Anzahl der Züge.
+     */
+    public int getMoveCount() {
+        return this.codec.getMoveCount(this.buffer, this.offset);
+    }
+
+    /**
+     * Gibt den Index des Feldes zurück, welches im aktuellen Spiel mit einem bestimmten Zug belegt wurde.
+     *
+     * @param move Die Nummer des Zuges, beginnend bei {@code 0}.
+     *
+     * @return Der Index des Feldes, welches mit diesem Zug belegt wurde.
+     */
+    public int getMove(@Range(from = 0, to = Integer.MAX_VALUE) final int move) {
+        return this.codec.getMove(this.buffer, this.offset, move);
+    }
+
+    /**
+     * Gibt den Gewinner des aktuellen Spiels zurück.
+     *
+     * @return Der {@link UserType Typ}, der das Spiel gewonnen hat bzw. {@code null}, wenn es unentschieden ist.
+     */
+    @Nullable
+    public UserType getWinner() {
+        return this.codec.getWinner(this.buffer, this.offset);
+    }
+
+    /**
+     * Gibt den {@link UserType Typen} zurück, der im aktuellen Spiel den ersten Zug gemacht hat.
+     *
+     * @return Der {@link UserType Typ}, der den ersten Zug gemacht hat.
+     */
+    @NotNull
+    public UserType getStarter() {
+        return this.codec.getStarter(this.buffer, this.offset);
+    }
+
+    /**
+     * Gibt den Index der Linie zurück, mit der das aktuelle Spiel gewonnen wurde.
+     *
+     * @return Der Index der Linie, mit der gewonnen wurde bzw. {@code -1}, wenn das Spiel unentschieden ist.
+     */
+    public int getWinLine() {
+        return this.codec.getWinLine(this.buffer, this.offset);
+    }
+
+    /**
+     * Gibt die {@link CombinationType Kombination} zurück, mit der das aktuelle Spiel gewonnen wurde.
+     *
+     * @return Die Kombination, mit der gewonnen wurde bzw. {@code null}, wenn das Spiel unentschieden ist oder nicht
+     *      auf einem klassischen 3x3 Spielfeld gespielt wurde.
+     */
+    @Nullable
+    public CombinationType getCombinationType() {
+        return CombinationType.getByLine(getLayout(), getWinLine());
+    }
+
+    /**
+     * Gibt die Anzahl an Bytes zurück, die das aktuelle Spiel belegt.
+     *
+     * @return Die Anzahl an Bytes, die das Spiel belegt.
+     */
+    int getLength() {
+        return this.codec.getLength(this.buffer, this.offset);
+    }
+
+}
@@ -0,0 +1,491 @@
+package de.gemuesehasser.tictactoe.storage;
+
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Das {@link GameRecordLog} schreibt beendete Spiele im Format des {@link GameRecordCodec} an das Ende eines
+ * segmentierten Logs, welches ausschließlich erweitert wird. Jedes Segment ist eine eigene Datei, die mit einem kurzen
+ * Header (Kennung, Größe des Spielfeldes und Anzahl an Feldern in einer Reihe) beginnt. Überschreitet ein Segment seine
+ * maximale Größe, wird ein neues Segment begonnen.
+ *
+ * <p>Ein Log, welches mit einem Startwert geöffnet wurde, schreibt stattdessen Segmente mit der Kennung
+ * {@link #SEEDED_MAGIC}, deren Header zusätzlich den Startwert der Simulation enthält. Jedes Spiel wird darin mit
+ * seiner Nummer innerhalb der Simulation abgespeichert, sodass sich jedes Spiel unabhängig von der Reihenfolge, in der
+ * die Threads ihre Spiele schreiben, seinem Zufallsgenerator zuordnen und wiederholen lässt.</p>
+ *
+ * <p>Spiele werden auf dem aufrufenden Thread nur kodiert und in eine Warteschlange gelegt. Ein eigener Thread schreibt
+ * alle Spiele, die sich in der Zwischenzeit angesammelt haben, mit einem einzigen Schreibzugriff (Group-Commit) und
+ * erzwingt optional danach einmalig das Schreiben auf die Festplatte. Der Aufrufer wartet also nie auf die Festplatte,
+ * kann aber über das zurückgegebene {@link CompletableFuture} erfahren, wann sein Spiel geschrieben wurde.</p>
+ */
+public final class GameRecordLog implements Closeable {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Kennung, mit der jedes Segment beginnt ("TTL1"). */
+    public static final int MAGIC = 0x54544C31;
+    /** Die Anzahl an Bytes, die der Header eines Segments belegt. */
+    public static final int HEADER_SIZE = 8;
+    /** Die Kennung, mit der jedes Segment mit Startwert und nummerierten Spielen beginnt ("TTL2"). */
+    public static final int SEEDED_MAGIC = 0x54544C32;
+    /** Die Anzahl an Bytes, die der Header eines Segments mit Startwert belegt. */
+    public static final int SEEDED_HEADER_SIZE = HEADER_SIZE + Long.BYTES;
+    /** Der Anfang des Namens jedes Segments. */
+    @NotNull
+    public static final String SEGMENT_PREFIX = "games-";
+    /** Das Ende des Namens jedes Segments. */
+    @NotNull
+    public static final String SEGMENT_SUFFIX = ".log";
+    /** Der Name des Verzeichnisses im {@link DataDirectory}, in dem die Segmente standardmäßig abgespeichert werden. */
+    @NotNull
+    public static final String DIRECTORY_NAME = "games";
+    /** Die maximale Größe eines Segments in Bytes, wenn keine andere festgelegt wurde. */
+    public static final long DEFAULT_SEGMENT_SIZE = 64L << 20;
+    /** Die maximale Anzahl an Spielen, die mit einem einzigen Schreibzugriff geschrieben werden. */
+    private static final int MAX_BATCH_SIZE = 4096;
+    /** Der Eintrag in der Warteschlange, durch den der Thread zum Schreiben beendet wird. */
+    @NotNull
+    private static final PendingRecord CLOSE = new PendingRecord(new byte[0], new CompletableFuture<>());
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Das Verzeichnis, in dem alle Segmente abgespeichert werden. */
+    @Getter
+    @NotNull
+    private final Path directory;
+    /** Das Format, in dem die Spiele abgespeichert werden. */
+    @Getter
+    @NotNull
+    private final GameRecordCodec codec;
+    /** Die maximale Größe eines Segments in Bytes. */
+    private final long segmentSize;
+    /** Ob nach jedem Schreibzugriff das Schreiben auf die Festplatte erzwungen wird. */
+    private final boolean sync;
+    /** Ob dieses Log mit einem Startwert geöffnet wurde und jedes Spiel mit seiner Nummer abspeichert. */
+    @Getter
+    private final boolean seeded;
+    /** Der Startwert der Simulation, die in dieses Log schreibt (nur relevant, wenn das Log {@link #seeded} ist). */
+    @Getter
+    private final long seed;
+    /** Die Warteschlange aller Spiele, die noch nicht geschrieben wurden. */
+    @NotNull
+    private final BlockingQueue<PendingRecord> queue = new LinkedBlockingQueue<>();
+    /** Der Thread, der die Spiele aus der Warteschlange schreibt. */
+    @NotNull
+    private final Thread writer;
+    /** Die Nummer des aktuellen Segments. */
+    private long segmentNumber;
+    /** Das aktuelle Segment, in das geschrieben wird ({@code null}, bis das erste Spiel geschrieben wird). */
+    @Nullable
+    private FileChannel segment;
+    /** Die Anzahl an Bytes, die das aktuelle Segment bereits belegt. */
+    private long segmentPosition;
+    /** Ob dieses Log bereits geschlossen wurde (wird nur unter der Sperre der {@link #queue} gelesen und verändert). */
+    private boolean closed;
+    /** Die Anzahl aller Spiele, die bereits geschrieben wurden. */
+    @Getter
+    private volatile long writtenRecords;
+    /** Die Anzahl aller Schreibzugriffe, mit denen die Spiele geschrieben wurden. */
+    @Getter
+    private volatile long writtenBatches;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Öffnet ein {@link GameRecordLog} in einem bestimmten Verzeichnis. Bestehende Segmente werden nicht verändert, die
+     * neuen Spiele werden in ein neues Segment geschrieben.
+     *
+     * @param directory   Das Verzeichnis, in dem alle Segmente abgespeichert werden.
+     * @param layout      Die Form des Spielfeldes, auf dem die Spiele gespielt werden.
+     * @param segmentSize Die maximale Größe eines Segments in Bytes.
+     * @param sync        Ob nach jedem Schreibzugriff das Schreiben auf die Festplatte erzwungen wird.
+     *
+     * @throws IOException Wenn das Verzeichnis nicht erstellt oder gelesen werden kann.
+     */
+    public GameRecordLog(
+            @NotNull final Path directory,
+            @NotNull final BoardLayout layout,
+            @Range(from = HEADER_SIZE + 1, to = Integer.MAX_VALUE) final long segmentSize,
+            final boolean sync
+    ) throws IOException {
+        this(directory, layout, segmentSize, sync, false, 0);
+    }
+
+    /**
+     * Öffnet ein {@link GameRecordLog} für eine Simulation mit einem bestimmten Startwert in einem bestimmten
+     * Verzeichnis. Der Startwert wird in den Header jedes neuen Segments geschrieben und jedes Spiel muss mit seiner
+     * Nummer {@link #append(GameBoard, long) geschrieben} werden.
+     *
+     * @param directory   Das Verzeichnis, in dem alle Segmente abgespeichert werden.
+     * @param layout      Die Form des Spielfeldes, auf dem die Spiele gespielt werden.
+     * @param segmentSize Die maximale Größe eines Segments in Bytes.
+     * @param sync        Ob nach jedem Schreibzugriff das Schreiben auf die Festplatte erzwungen wird.
+     * @param seed        Der Startwert der Simulation, die in dieses Log schreibt.
+     *
+     * @throws IOException Wenn das Verzeichnis nicht erstellt oder gelesen werden kann.
+     */
+    public GameRecordLog(
+            @NotNull final Path directory,
+            @NotNull final BoardLayout layout,
+            @Range(from = SEEDED_HEADER_SIZE + 1, to = Integer.MAX_VALUE) final long segmentSize,
+            final boolean sync,
+            final long seed
+    ) throws IOException {
+        this(directory, layout, segmentSize, sync, true, seed);
+    }
+
+    /**
+     * Öffnet ein {@link GameRecordLog} in einem bestimmten Verzeichnis und startet den Thread, der die Spiele schreibt.
+     *
+     * @param directory   Das Verzeichnis, in dem alle Segmente abgespeichert werden.
+     * @param layout      Die Form des Spielfeldes, auf dem die Spiele gespielt werden.
+     * @param segmentSize Die maximale Größe eines Segments in Bytes.
+     * @param sync        Ob nach jedem Schreibzugriff das Schreiben auf die Festplatte erzwungen wird.
+     * @param seeded      Ob der Startwert in jedes Segment und die Nummer in jedes Spiel geschrieben wird.
+     * @param seed        Der Startwert der Simulation, die in dieses Log schreibt.
+     *
+     * @throws IOException Wenn das Verzeichnis nicht erstellt oder gelesen werden kann.
+     */
+    private GameRecordLog(
+            @NotNull final Path directory,
+            @NotNull final BoardLayout layout,
+            final long segmentSize,
+            final boolean sync,
+            final boolean seeded,
+            final long seed
+    ) throws IOException {
+        this.directory = directory;
+        this.codec = new GameRecordCodec(layout, seeded);
+        this.segmentSize = segmentSize;
+        this.sync = sync;
+        this.seeded = seeded;
+        this.seed = seed;
+
+        Files.createDirectories(directory);
+        for (@NotNull final Path segmentPath : getSegments(directory)) {
+            this.segmentNumber = Math.max(this.segmentNumber, getSegmentNumber(segmentPath));
+        }
+
+        this.writer = new Thread(this::write, "game-record-log");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+    //</editor-fold>
+
+
+    /**
+     * Öffnet ein {@link GameRecordLog} im Verzeichnis {@value #DIRECTORY_NAME} des {@link DataDirectory}, welches beim
+     * Beenden der Anwendung automatisch geschlossen wird, damit keine Spiele aus der Warteschlange verloren gehen.
+     *
+     * @param layout Die Form des Spielfeldes, auf dem die Spiele gespielt werden.
+     *
+     * @return Das geöffnete {@link GameRecordLog}.
+     *
+     * @throws IOException Wenn das Verzeichnis nicht erstellt oder gelesen werden kann.
+     */
+    @NotNull
+    public static GameRecordLog openConfigured(@NotNull final BoardLayout layout) throws IOException {
+        final GameRecordLog log = new GameRecordLog(
+                DataDirectory.getConfigured().resolve(DIRECTORY_NAME),
+                layout,
+                DEFAULT_SEGMENT_SIZE,
+                false
+        );
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                log.close();
+            } catch (@NotNull final IOException e) {
+                e.printStackTrace();
+            }
+        }, "game-record-log-shutdown"));
+        return log;
+    }
+
+    /**
+     * Kodiert ein beendetes Spiel und legt es in die Warteschlange, aus der es beim nächsten Schreibzugriff geschrieben
+     * wird. Diese Methode blockiert nicht.
+     *
+     * @param board Das Spielfeld des beendeten Spiels.
+     *
+     * @return Ein {@link CompletableFuture}, welches abgeschlossen wird, sobald das Spiel geschrieben wurde.
+     *
+     * @throws IllegalStateException Wenn dieses Log bereits geschlossen wurde oder mit einem Startwert geöffnet wurde.
+     */
+    @NotNull
+    public CompletableFuture<Void> append(@NotNull final GameBoard board) {
+        if (this.seeded) throw new IllegalStateException("a seeded game record log needs the number of each game");
+
+        return append(board, 0);
+    }
+
+    /**
+     * Kodiert ein beendetes Spiel mit seiner Nummer innerhalb der Simulation und legt es in die Warteschlange, aus der
+     * es beim nächsten Schreibzugriff geschrieben wird. Die Nummer wird nur abgespeichert, wenn dieses Log mit einem
+     * Startwert geöffnet wurde. Diese Methode blockiert nicht.
+     *
+     * @param board Das Spielfeld des beendeten Spiels.
+     * @param game  Die Nummer des Spiels innerhalb der Simulation.
+     *
+     * @return Ein {@link CompletableFuture}, welches abgeschlossen wird, sobald das Spiel geschrieben wurde.
+     *
+     * @throws IllegalStateException Wenn dieses Log bereits geschlossen wurde.
+     */
+    @NotNull
+    public CompletableFuture<Void> append(
+            @NotNull final GameBoard board,
+            @Range(from = 0, to = Long.MAX_VALUE) final long game
+    ) {
+        final ByteBuffer buffer = ByteBuffer.allocate(this.codec.getLength(board));
+        this.codec.encode(board, game, buffer);
+
+        final PendingRecord record = new PendingRecord(buffer.array(), new CompletableFuture<>());
+
+        // check and enqueue atomically, otherwise close() could put CLOSE in front of this record
+        synchronized (this.queue) {
+            if (this.closed) throw new IllegalStateException("game record log is closed");
+            this.queue.add(record);
+        }
+        return record.future;
+    }
+
+    /**
+     * Schreibt alle Spiele, die sich noch in der Warteschlange befinden, und schließt anschließend das aktuelle Segment.
+     *
+     * @throws IOException Wenn das Segment nicht geschlossen werden kann.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this.queue) {
+            if (this.closed) return;
+
+            this.closed = true;
+            this.queue.add(CLOSE);
+        }
+
+        try {
+            this.writer.join();
+        } catch (@NotNull final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (this.segment != null) this.segment.close();
+    }
+
+    /**
+     * Schreibt die Spiele aus der Warteschlange, bis dieses Log geschlossen wird. Dabei werden alle Spiele, die sich in
+     * der Zwischenzeit angesammelt haben, mit einem einzigen Schreibzugriff geschrieben.
+     */
+    private void write() {
+        final List<PendingRecord> batch = new ArrayList<>();
+        boolean running = true;
+
+        while (running) {
+            try {
+                batch.add(this.queue.take());
+            } catch (@NotNull final InterruptedException e) {
+                return;
+            }
+
+            this.queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            running = !batch.remove(CLOSE);
+            if (batch.isEmpty()) continue;
+
+            try {
+                writeBatch(batch);
+                for (@NotNull final PendingRecord record : batch) {
+                    record.future.complete(null);
+                }
+            } catch (@NotNull final IOException e) {
+                for (@NotNull final PendingRecord record : batch) {
+                    record.future.completeExceptionally(new UncheckedIOException(e));
+                }
+            }
+
+            batch.clear();
+        }
+    }
+
+    /**
+     * Schreibt mehrere Spiele mit einem einzigen Schreibzugriff an das Ende des aktuellen Segments. Ist das Segment
+     * dafür zu voll, wird vorher ein neues Segment begonnen.
+     *
+     * @param batch Die Spiele, die geschrieben werden sollen.
+     *
+     * @throws IOException Wenn die Spiele nicht geschrieben werden können.
+     */
+    private void writeBatch(@NotNull final List<PendingRecord> batch) throws IOException {
+        int length = 0;
+        for (@NotNull final PendingRecord record : batch) {
+            length += record.data.length;
+        }
+
+        final int headerSize = this.seeded ? SEEDED_HEADER_SIZE : HEADER_SIZE;
+        if (this.segment == null || this.segmentPosition > headerSize && this.segmentPosition + length > this.segmentSize) {
+            startSegment();
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        for (@NotNull final PendingRecord record : batch) {
+            buffer.put(record.data);
+        }
+
+        writeFully(buffer);
+        if (this.sync) this.segment.force(false);
+
+        this.writtenRecords += batch.size();
+        this.writtenBatches++;
+    }
+
+    /**
+     * Schließt das aktuelle Segment und beginnt ein neues Segment, dessen Header sofort geschrieben wird.
+     *
+     * @throws IOException Wenn das Segment nicht erstellt werden kann.
+     */
+    private void startSegment() throws IOException {
+        if (this.segment != null) this.segment.close();
+
+        this.segmentNumber++;
+        this.segment = FileChannel.open(
+                this.directory.resolve(getSegmentName(this.segmentNumber)),
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE
+        );
+        this.segmentPosition = 0;
+
+        final ByteBuffer header = ByteBuffer.allocate(this.seeded ? SEEDED_HEADER_SIZE : HEADER_SIZE);
+        header.putInt(this.seeded ? SEEDED_MAGIC : MAGIC);
+        header.putShort((short) this.codec.getLayout().getSize());
+        header.putShort((short) this.codec.getLayout().getWinLength());
+        if (this.seeded) header.putLong(this.seed);
+        writeFully(header);
+    }
+
+    /**
+     * Schreibt den gesamten Inhalt eines gefüllten Puffers an das Ende des aktuellen Segments.
+     *
+     * @param buffer Der Puffer, dessen Inhalt (vom Anfang bis zur aktuellen Position) geschrieben wird.
+     *
+     * @throws IOException Wenn der Inhalt nicht geschrieben werden kann.
+     */
+    private void writeFully(@NotNull final ByteBuffer buffer) throws IOException {
+        assert this.segment != null;
+
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            this.segmentPosition += this.segment.write(buffer);
+        }
+    }
+
+
+    //<editor-fold desc="segments">
+
+    /**
+     * Gibt alle Segmente in einem Verzeichnis sortiert nach ihrer Nummer zurück.
+     *
+     * @param directory Das Verzeichnis, in dem die Segmente abgespeichert sind.
+     *
+     * @return Alle Segmente in dem Verzeichnis, sortiert nach ihrer Nummer.
+     *
+     * @throws IOException Wenn das Verzeichnis nicht gelesen werden kann.
+     */
+    @NotNull
+    public static List<Path> getSegments(@NotNull final Path directory) throws IOException {
+        final List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) return segments;
+
+        try (@NotNull final DirectoryStream<Path> stream = Files.newDirectoryStream(
+                directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX
+        )) {
+            for (@NotNull final Path segment : stream) {
+                segments.add(segment);
+            }
+        }
+
+        segments.sort((first, second) -> Long.compare(getSegmentNumber(first), getSegmentNumber(second)));
+        return segments;
+    }
+
+    /**
+     * Gibt den Namen eines Segments anhand seiner Nummer zurück.
+     *
+     * @param number Die Nummer des Segments.
+     *
+     * @return Der Name des Segments.
+     */
+    @NotNull
+    private static String getSegmentName(final long number) {
+        return String.format("%s%016d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Gibt die Nummer eines Segments anhand seines Namens zurück.
+     *
+     * @param segment Der Pfad des Segments.
+     *
+     * @return Die Nummer des Segments.
+     */
+    private static long getSegmentNumber(@NotNull final Path segment) {
+        final String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+    //</editor-fold>
+
+
+    //<editor-fold desc="PendingRecord">
+
+    /**
+     * Ein {@link PendingRecord} ist ein kodiertes Spiel, welches noch nicht geschrieben wurde.
+     */
+    private static final class PendingRecord {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Das kodierte Spiel. */
+        private final byte @NotNull [] data;
+        /** Das {@link CompletableFuture}, welches abgeschlossen wird, sobald das Spiel geschrieben wurde. */
+        @NotNull
+        private final CompletableFuture<Void> future;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt einen neuen {@link PendingRecord} für ein kodiertes Spiel.
+         *
+         * @param data   Das kodierte Spiel.
+         * @param future Das {@link CompletableFuture}, welches abgeschlossen wird, sobald das Spiel geschrieben wurde.
+         */
+        private PendingRecord(final byte @NotNull [] data, @NotNull final CompletableFuture<Void> future) {
+            this.data = data;
+            this.future = future;
+        }
+        //</editor-fold>
+    }
+    //</editor-fold>
+
+}
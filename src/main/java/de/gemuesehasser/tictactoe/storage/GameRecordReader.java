@@ -0,0 +1,143 @@
+package de.gemuesehasser.tictactoe.storage;
+
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.BoardLayout;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Der {@link GameRecordReader} liest alle Spiele, die mit einem {@link GameRecordLog} geschrieben wurden, in der
+ * Reihenfolge, in der sie geschrieben wurden. Jedes Segment wird dafür nur lesend in den Speicher abgebildet, sodass
+ * die Spiele ohne Kopie und ohne Objekte je Spiel direkt aus dem Cache des Betriebssystems gelesen werden. Ein
+ * unvollständiges Spiel am Ende eines Segments (z.B. nach einem Absturz während des Schreibens) wird ignoriert.
+ * Segmente mit und ohne Startwert (siehe {@link GameRecordLog#SEEDED_MAGIC}) können dabei gemischt gelesen werden.
+ */
+public final class GameRecordReader {
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Instanzen dieser Klasse werden nicht benötigt.
+     */
+    private GameRecordReader() {
+    }
+    //</editor-fold>
+
+
+    /**
+     * Übergibt alle Spiele aus allen Segmente eines Verzeichnisses nacheinander an einen Empfänger. Der übergebene
+     * {@link GameRecordCursor} ist nur innerhalb des jeweiligen Aufrufs gültig.
+     *
+     * @param directory Das Verzeichnis, in dem die Segmente abgespeichert sind.
+     * @param consumer  Der Empfänger, an den jedes Spiel übergeben wird.
+     *
+     * @return Die Anzahl aller gelesenen Spiele.
+     *
+     * @throws IOException Wenn ein Segment nicht gelesen werden kann oder keinen gültigen Header besitzt.
+     */
+    public static long forEach(
+            @NotNull final Path directory,
+            @NotNull final Consumer<GameRecordCursor> consumer
+    ) throws IOException {
+        GameRecordCursor cursor = null;
+        long records = 0;
+
+        for (@NotNull final Path segment : GameRecordLog.getSegments(directory)) {
+            try (@NotNull final FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                if (channel.size() < GameRecordLog.HEADER_SIZE) continue;
+                if (channel.size() > Integer.MAX_VALUE) throw new IOException("segment " + segment + " is too large");
+
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                final int magic = buffer.getInt(0);
+                final boolean seeded = magic == GameRecordLog.SEEDED_MAGIC;
+                if (magic != GameRecordLog.MAGIC && !seeded) throw new IOException("segment " + segment + " is invalid");
+                if (seeded && buffer.limit() < GameRecordLog.SEEDED_HEADER_SIZE) continue;
+
+                final BoardLayout layout = new BoardLayout(buffer.getShort(4), buffer.getShort(6));
+                final GameRecordCodec codec = new GameRecordCodec(layout, seeded);
+                final long seed = seeded ? buffer.getLong(GameRecordLog.HEADER_SIZE) : 0;
+                int offset = seeded ? GameRecordLog.SEEDED_HEADER_SIZE : GameRecordLog.HEADER_SIZE;
+
+                if (cursor == null) cursor = new GameRecordCursor(codec, buffer, offset, seed);
+
+                while (offset < buffer.limit()) {
+                    cursor.moveTo(codec, buffer, offset, seed);
+                    if (!isComplete(buffer, offset, codec)) break;
+
+                    consumer.accept(cursor);
+                    offset += cursor.getLength();
+                    records++;
+                }
+            }
+        }
+
+        return records;
+    }
+
+    /**
+     * Prüft, ob das Spiel an einer bestimmten Position vollständig im Puffer liegt.
+     *
+     * @param buffer Der Puffer, in dem das Spiel abgespeichert ist.
+     * @param offset Die Position des Spiels im Puffer.
+     * @param codec  Das Format, in dem das Spiel abgespeichert ist.
+     *
+     * @return Wenn das Spiel vollständig im Puffer liegt {@code true}, ansonsten {@code false}.
+     */
+    private static boolean isComplete(
+            @NotNull final ByteBuffer buffer,
+            final int offset,
+            @NotNull final GameRecordCodec codec
+    ) {
+        if (buffer.limit() - offset < codec.getMinimumLength()) return false;
+
+        return offset + codec.getLength(buffer, offset) <= buffer.limit();
+    }
+
+
+    //<editor-fold desc="main">
+
+    /**
+     * Liest alle Spiele aus einem Verzeichnis und gibt eine kurze Auswertung auf der Konsole aus.
+     *
+     * @param args Das Verzeichnis, in dem die Segmente abgespeichert sind (optional, ansonsten das Verzeichnis
+     *             {@value GameRecordLog#DIRECTORY_NAME} im {@link DataDirectory}).
+     *
+     * @throws IOException Wenn ein Segment nicht gelesen werden kann.
+     */
+    public static void main(@NotNull final String @NotNull [] args) throws IOException {
+        final Path directory = args.length > 0 ? Paths.get(args[0]) : DataDirectory.getConfigured().resolve(GameRecordLog.DIRECTORY_NAME);
+        final long[] outcomes = new long[UserType.values().length + 1];
+        final long[] moves = new long[1];
+        final long start = System.nanoTime();
+
+        final long games = forEach(directory, cursor -> {
+            final UserType winner = cursor.getWinner();
+            outcomes[winner == null ? UserType.values().length : winner.ordinal()]++;
+            moves[0] += cursor.getMoveCount();
+        });
+
+        final long elapsedNanos = Math.max(1, System.nanoTime() - start);
+        System.out.printf(
+                Locale.ROOT,
+                "%,d games (%,d user wins, %,d computer wins, %,d draws), %.2f moves per game, %,d games/s%n",
+                games,
+                outcomes[UserType.USER.ordinal()],
+                outcomes[UserType.COMPUTER.ordinal()],
+                outcomes[UserType.values().length],
+                games == 0 ? 0 : (double) moves[0] / games,
+                games * TimeUnit.SECONDS.toNanos(1) / elapsedNanos
+        );
+    }
+    //</editor-fold>
+
+}
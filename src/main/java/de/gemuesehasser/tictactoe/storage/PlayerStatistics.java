@@ -0,0 +1,101 @@
+package de.gemuesehasser.tictactoe.storage;
+
+import de.gemuesehasser.tictactoe.constant.GameValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+/**
+ * Die {@link PlayerStatistics} sind die unveränderlichen Statistiken eines einzelnen Spielers über alle seine beendeten
+ * Spiele. Nach jedem Spiel wird eine neue Instanz erzeugt, sodass eine Instanz jederzeit ohne Synchronisation gelesen
+ * und abgespeichert werden kann.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public final class PlayerStatistics {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Statistiken eines Spielers, der noch kein Spiel beendet hat. */
+    @NotNull
+    public static final PlayerStatistics EMPTY = new PlayerStatistics(0, 0, 0, 0, 0, 0);
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Anzahl an gewonnenen Spielen. */
+    private final long wins;
+    /** Die Anzahl an verlorenen Spielen. */
+    private final long losses;
+    /** Die Anzahl an unentschiedenen Spielen. */
+    private final long draws;
+    /**
+     * Die aktuelle Serie: positiv die Anzahl der zuletzt in Folge gewonnenen, negativ die Anzahl der zuletzt in Folge
+     * verlorenen Spiele und {@code 0} nach einem Unentschieden.
+     */
+    private final int currentStreak;
+    /** Die größte Anzahl an Spielen, die in Folge gewonnen wurden. */
+    private final int longestWinStreak;
+    /** Die Anzahl aller Züge beider Spieler in allen beendeten Spielen. */
+    private final long totalMoves;
+    //</editor-fold>
+
+
+    /**
+     * Gibt neue Statistiken zurück, in denen ein weiteres beendetes Spiel berücksichtigt wird.
+     *
+     * @param result Das Ergebnis des Spiels aus Sicht dieses Spielers.
+     * @param moves  Die Anzahl aller Züge beider Spieler in diesem Spiel.
+     *
+     * @return Die neuen Statistiken, in denen das Spiel berücksichtigt wird.
+     */
+    @NotNull
+    public PlayerStatistics withGame(
+            @NotNull final GameValue result,
+            @Range(from = 0, to = Integer.MAX_VALUE) final int moves
+    ) {
+        final int streak;
+        switch (result) {
+            case WIN:
+                streak = this.currentStreak > 0 ? this.currentStreak + 1 : 1;
+                break;
+            case LOSS:
+                streak = this.currentStreak < 0 ? this.currentStreak - 1 : -1;
+                break;
+            default:
+                streak = 0;
+                break;
+        }
+
+        return new PlayerStatistics(
+                this.wins + (result == GameValue.WIN ? 1 : 0),
+                this.losses + (result == GameValue.LOSS ? 1 : 0),
+                this.draws + (result == GameValue.DRAW ? 1 : 0),
+                streak,
+                Math.max(this.longestWinStreak, streak),
+                this.totalMoves + moves
+        );
+    }
+
+    /**
+     * Gibt die Anzahl aller beendeten Spiele zurück.
+     *
+     * @return Die Anzahl aller beendeten Spiele.
+     */
+    public long getGames() {
+        return this.wins + this.losses + this.draws;
+    }
+
+    /**
+     * Gibt die durchschnittliche Anzahl an Zügen pro Spiel zurück.
+     *
+     * @return Die durchschnittliche Anzahl an Zügen pro Spiel bzw. {@code 0}, wenn noch kein Spiel beendet wurde.
+     */
+    public double getAverageGameLength() {
+        final long games = getGames();
+        return games == 0 ? 0 : (double) this.totalMoves / games;
+    }
+
+}
@@ -0,0 +1,370 @@
+package de.gemuesehasser.tictactoe.storage;
+
+import de.gemuesehasser.tictactoe.constant.GameValue;
+import de.gemuesehasser.tictactoe.constant.UserType;
+import de.gemuesehasser.tictactoe.object.GameBoard;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Der {@link StatisticsStore} verwaltet die {@link PlayerStatistics Statistiken} aller Spieler anhand ihres Namens und
+ * speichert sie dauerhaft ab. Ein beendetes Spiel verändert nur die Statistiken im Speicher und wartet nie auf die
+ * Festplatte. Ein eigener Thread schreibt alle Statistiken in regelmäßigen Abständen (oder sobald sich genügend
+ * Änderungen angesammelt haben) gemeinsam in eine Datei.
+ *
+ * <p>Die Statistiken werden zuerst vollständig in eine temporäre Datei geschrieben, die anschließend atomar an die
+ * Stelle der alten Datei verschoben wird. Nach einem Absturz liegt also immer entweder der alte oder der neue Stand
+ * vollständig vor; eine übrig gebliebene temporäre Datei wird beim Öffnen verworfen. Eine Prüfsumme am Ende der Datei
+ * erkennt zusätzlich, wenn die Datei auf andere Weise beschädigt wurde.</p>
+ */
+public final class StatisticsStore implements Closeable {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Name der Datei im {@link DataDirectory}, in der die Statistiken standardmäßig abgespeichert werden. */
+    @NotNull
+    public static final String FILE_NAME = "statistics.dat";
+    /** Der Abstand in Millisekunden, in dem die Statistiken standardmäßig geschrieben werden. */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    /** Die Kennung, mit der jede Datei beginnt ("TTS1"). */
+    private static final int MAGIC = 0x54545331;
+    /** Die Endung der temporären Datei, in die die Statistiken vor dem Verschieben geschrieben werden. */
+    @NotNull
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    /** Die Anzahl an Änderungen, nach der die Statistiken vorzeitig geschrieben werden. */
+    private static final int FLUSH_THRESHOLD = 1024;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Alle Statistiken anhand des Namens des jeweiligen Spielers. */
+    @NotNull
+    private final Map<String, PlayerStatistics> statistics = new ConcurrentHashMap<>();
+    /** Die Datei, in der die Statistiken abgespeichert werden. */
+    @Getter
+    @NotNull
+    private final Path file;
+    /** Die temporäre Datei, in die die Statistiken vor dem Verschieben geschrieben werden. */
+    @NotNull
+    private final Path temporaryFile;
+    /** Der Thread, auf dem die Statistiken geschrieben werden. */
+    @NotNull
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "statistics-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** Die Anzahl an Änderungen, die noch nicht geschrieben wurden. */
+    @NotNull
+    private final AtomicLong pendingUpdates = new AtomicLong();
+    /** Die Anzahl, wie oft die Statistiken bereits geschrieben wurden. */
+    @Getter
+    private volatile long flushes;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Öffnet einen {@link StatisticsStore}, dessen Statistiken in einer bestimmten Datei abgespeichert werden. Bereits
+     * abgespeicherte Statistiken werden dabei geladen.
+     *
+     * @param file                Die Datei, in der die Statistiken abgespeichert werden.
+     * @param flushIntervalMillis Der Abstand in Millisekunden, in dem die Statistiken geschrieben werden.
+     *
+     * @throws IOException Wenn die Datei nicht gelesen werden kann oder beschädigt ist.
+     */
+    public StatisticsStore(
+            @NotNull final Path file,
+            @Range(from = 1, to = Long.MAX_VALUE) final long flushIntervalMillis
+    ) throws IOException {
+        this.file = file;
+        this.temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_SUFFIX);
+
+        recover();
+        this.writer.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+    //</editor-fold>
+
+
+    /**
+     * Öffnet einen {@link StatisticsStore} mit der Datei {@value #FILE_NAME} im {@link DataDirectory}, welcher beim
+     * Beenden der Anwendung automatisch geschlossen wird, damit keine Änderungen verloren gehen.
+     *
+     * @return Der geöffnete {@link StatisticsStore}.
+     *
+     * @throws IOException Wenn die Datei nicht gelesen werden kann oder beschädigt ist.
+     */
+    @NotNull
+    public static StatisticsStore openConfigured() throws IOException {
+        final StatisticsStore store = new StatisticsStore(
+                DataDirectory.getConfigured().resolve(FILE_NAME),
+                DEFAULT_FLUSH_INTERVAL_MILLIS
+        );
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                store.close();
+            } catch (@NotNull final IOException e) {
+                e.printStackTrace();
+            }
+        }, "statistics-shutdown"));
+        return store;
+    }
+
+    /**
+     * Gibt den Namen des Nutzers zurück, der diese Anwendung auf diesem Rechner gestartet hat.
+     *
+     * @return Der Name des lokalen Nutzers.
+     */
+    @NotNull
+    public static String getLocalPlayerName() {
+        return System.getProperty("user.name", "user");
+    }
+
+    /**
+     * Berücksichtigt ein beendetes Spiel in den Statistiken beider Spieler. Diese Methode blockiert nicht.
+     *
+     * @param board        Das Spielfeld des beendeten Spiels.
+     * @param userName     Der Name des Spielers, der als {@link UserType#USER Nutzer} gespielt hat.
+     * @param computerName Der Name des Spielers, der als {@link UserType#COMPUTER Computer} gespielt hat.
+     */
+    public void recordGame(
+            @NotNull final GameBoard board,
+            @NotNull final String userName,
+            @NotNull final String computerName
+    ) {
+        final GameValue userResult = board.getWinner() == null
+                ? GameValue.DRAW
+                : board.getWinner() == UserType.USER ? GameValue.WIN : GameValue.LOSS;
+
+        recordGame(userName, userResult, board.getMoveCount());
+        recordGame(computerName, userResult.negate(), board.getMoveCount());
+    }
+
+    /**
+     * Berücksichtigt ein beendetes Spiel in den Statistiken eines Spielers. Diese Methode blockiert nicht. Wurde dieser
+     * {@link StatisticsStore} bereits geschlossen, wird das Spiel nur noch im Speicher berücksichtigt.
+     *
+     * @param player Der Name des Spielers.
+     * @param result Das Ergebnis des Spiels aus Sicht des Spielers.
+     * @param moves  Die Anzahl aller Züge beider Spieler in diesem Spiel.
+     */
+    public void recordGame(
+            @NotNull final String player,
+            @NotNull final GameValue result,
+            @Range(from = 0, to = Integer.MAX_VALUE) final int moves
+    ) {
+        this.statistics.compute(
+                player,
+                (name, current) -> (current == null ? PlayerStatistics.EMPTY : current).withGame(result, moves)
+        );
+
+        if (this.pendingUpdates.incrementAndGet() != FLUSH_THRESHOLD) return;
+
+        try {
+            this.writer.execute(this::flushQuietly);
+        } catch (@NotNull final RejectedExecutionException ignored) {
+            // the store has been closed, so the change stays pending until flush() is called explicitly
+        }
+    }
+
+    /**
+     * Gibt die Statistiken eines Spielers zurück.
+     *
+     * @param player Der Name des Spielers.
+     *
+     * @return Die Statistiken des Spielers bzw. {@link PlayerStatistics#EMPTY}, wenn er noch kein Spiel beendet hat.
+     */
+    @NotNull
+    public PlayerStatistics getStatistics(@NotNull final String player) {
+        return this.statistics.getOrDefault(player, PlayerStatistics.EMPTY);
+    }
+
+    /**
+     * Gibt die Statistiken aller Spieler anhand ihres Namens zurück.
+     *
+     * @return Eine nicht veränderbare Ansicht auf die Statistiken aller Spieler.
+     */
+    @NotNull
+    public Map<String, PlayerStatistics> getAllStatistics() {
+        return Collections.unmodifiableMap(this.statistics);
+    }
+
+    /**
+     * Schreibt alle Statistiken sofort in die Datei, sofern es seit dem letzten Schreiben Änderungen gab. Diese Methode
+     * wartet auf die Festplatte und sollte daher nicht während eines Spiels aufgerufen werden.
+     *
+     * @throws IOException Wenn die Statistiken nicht geschrieben werden können.
+     */
+    public synchronized void flush() throws IOException {
+        final long updates = this.pendingUpdates.getAndSet(0);
+        if (updates == 0) return;
+
+        try {
+            write();
+            this.flushes++;
+        } catch (@NotNull final IOException e) {
+            this.pendingUpdates.addAndGet(updates);
+            throw e;
+        }
+    }
+
+    /**
+     * Beendet das regelmäßige Schreiben und schreibt alle noch ausstehenden Änderungen in die Datei.
+     *
+     * @throws IOException Wenn die Statistiken nicht geschrieben werden können.
+     */
+    @Override
+    public void close() throws IOException {
+        this.writer.shutdown();
+
+        try {
+            this.writer.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (@NotNull final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        flush();
+    }
+
+    /**
+     * Schreibt alle Statistiken auf dem Thread zum Schreiben. Schlägt das Schreiben fehl, bleiben die Änderungen
+     * ausstehend und werden beim nächsten Mal erneut geschrieben.
+     */
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (@NotNull final IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Schreibt alle Statistiken in die temporäre Datei, erzwingt das Schreiben auf die Festplatte und verschiebt die
+     * temporäre Datei anschließend atomar an die Stelle der eigentlichen Datei.
+     *
+     * @throws IOException Wenn die Statistiken nicht geschrieben werden können.
+     */
+    private void write() throws IOException {
+        final Path directory = this.file.toAbsolutePath().getParent();
+        if (directory != null) Files.createDirectories(directory);
+
+        try (@NotNull final FileChannel channel = FileChannel.open(
+                this.temporaryFile,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            final CRC32 checksum = new CRC32();
+            final OutputStream channelStream = Channels.newOutputStream(channel);
+            final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(channelStream, checksum)
+            ));
+
+            // players may be added while writing, so the count has to match a copy instead of the live map
+            final List<Map.Entry<String, PlayerStatistics>> entries = new ArrayList<>(this.statistics.entrySet());
+
+            output.writeInt(MAGIC);
+            output.writeInt(entries.size());
+
+            for (@NotNull final Map.Entry<String, PlayerStatistics> entry : entries) {
+                final PlayerStatistics playerStatistics = entry.getValue();
+
+                output.writeUTF(entry.getKey());
+                output.writeLong(playerStatistics.getWins());
+                output.writeLong(playerStatistics.getLosses());
+                output.writeLong(playerStatistics.getDraws());
+                output.writeInt(playerStatistics.getCurrentStreak());
+                output.writeInt(playerStatistics.getLongestWinStreak());
+                output.writeLong(playerStatistics.getTotalMoves());
+            }
+
+            output.flush();
+            new DataOutputStream(channelStream).writeLong(checksum.getValue());
+            channel.force(true);
+        }
+
+        Files.move(this.temporaryFile, this.file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        if (directory != null) forceDirectory(directory);
+    }
+
+    /**
+     * Stellt den zuletzt vollständig geschriebenen Stand der Statistiken wieder her. Eine übrig gebliebene temporäre
+     * Datei stammt von einem abgebrochenen Schreiben und wird verworfen.
+     *
+     * @throws IOException Wenn die Datei nicht gelesen werden kann oder beschädigt ist.
+     */
+    private void recover() throws IOException {
+        Files.deleteIfExists(this.temporaryFile);
+
+        final CRC32 checksum = new CRC32();
+        try (@NotNull final InputStream fileStream = new BufferedInputStream(Files.newInputStream(this.file))) {
+            final DataInputStream input = new DataInputStream(new CheckedInputStream(fileStream, checksum));
+            if (input.readInt() != MAGIC) throw new IOException(this.file + " is not a statistics file");
+
+            final int count = input.readInt();
+            for (int i = 0; i < count; i++) {
+                this.statistics.put(input.readUTF(), new PlayerStatistics(
+                        input.readLong(),
+                        input.readLong(),
+                        input.readLong(),
+                        input.readInt(),
+                        input.readInt(),
+                        input.readLong()
+                ));
+            }
+
+            final long expected = checksum.getValue();
+            if (new DataInputStream(fileStream).readLong() != expected) {
+                throw new IOException(this.file + " is corrupted");
+            }
+        } catch (@NotNull final NoSuchFileException e) {
+            // nothing has been written yet
+        }
+    }
+
+    /**
+     * Erzwingt das Schreiben eines Verzeichnisses auf die Festplatte, damit das Verschieben einer Datei auch nach einem
+     * Stromausfall erhalten bleibt. Nicht jedes Betriebssystem unterstützt dies, weshalb Fehler ignoriert werden.
+     *
+     * @param directory Das Verzeichnis, welches auf die Festplatte geschrieben wird.
+     */
+    private static void forceDirectory(@NotNull final Path directory) {
+        try (@NotNull final FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (@NotNull final IOException ignored) {
+            // not supported on every platform (e.g. windows)
+        }
+    }
+
+}